@@ -0,0 +1,151 @@
+/*
+ * Copyright (C) 2011  Christian Roesch
+ * 
+ * This file is part of crhcomponents.
+ * 
+ * crhcomponents is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * crhcomponents is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with crhcomponents.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.github.croesch.contents;
+
+import java.awt.event.ActionEvent;
+import java.awt.event.ActionListener;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import javax.swing.SwingUtilities;
+import javax.swing.Timer;
+
+import com.github.croesch.logging.Log;
+
+/**
+ * Validates the complete text of a {@link CContent} in the background. Checks are debounced: the text is only
+ * validated after the content hasn't changed for the configured delay. A running validation is cancelled when a new one
+ * is scheduled: it's interrupted, stops reading the text and doesn't deliver a result. Results are delivered to the
+ * content on the event dispatch thread.
+ * 
+ * @author croesch
+ * @since Date: Oct 18, 2026
+ */
+final class AsyncValidation implements ActionListener {
+
+  /** the content to validate */
+  private final CContent content;
+
+  /** the executor that performs the validation */
+  private final ExecutorService executor;
+
+  /** the timer that delays the validation until the content hasn't changed for a while */
+  private final Timer timer;
+
+  /** the currently running validation, {@code null} if there is none */
+  private Future<?> running = null;
+
+  /**
+   * Constructs the background validation of the given content.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param c the {@link CContent} to validate
+   * @param exec the {@link ExecutorService} that performs the validation
+   * @param delay the number of milliseconds the content has to be unchanged before it is validated
+   */
+  AsyncValidation(final CContent c, final ExecutorService exec, final int delay) {
+    this.content = c;
+    this.executor = exec;
+    this.timer = new Timer(Math.max(0, delay), this);
+    this.timer.setRepeats(false);
+  }
+
+  /**
+   * Schedules a validation of the content after the delay. Pending or running validations are cancelled.
+   * 
+   * @since Date: Oct 18, 2026
+   */
+  void schedule() {
+    cancel();
+    this.timer.restart();
+  }
+
+  /**
+   * Cancels pending or running validations.
+   * 
+   * @since Date: Oct 18, 2026
+   */
+  synchronized void cancel() {
+    this.timer.stop();
+    if (this.running != null) {
+      this.running.cancel(true);
+      this.running = null;
+    }
+  }
+
+  /**
+   * Invoked on the event dispatch thread when the delay is over. Takes a snapshot of the text and validates it in the
+   * background.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param e the event of the timer
+   */
+  @Override
+  public synchronized void actionPerformed(final ActionEvent e) {
+    final long revision = this.content.getRevision();
+    final CharSequence[] snapshot = new CharSequence[1];
+    this.content.render(new Runnable() {
+      @Override
+      public void run() {
+        snapshot[0] = AsyncValidation.this.content.getSnapshot();
+      }
+    });
+
+    this.running = this.executor.submit(new Runnable() {
+      @Override
+      public void run() {
+        if (Thread.currentThread().isInterrupted()) {
+          // cancelled before it started
+          return;
+        }
+        boolean valid;
+        final int abortedBefore = CContent.getAbortedChecks();
+        try {
+          valid = AsyncValidation.this.content.isValidText(BoundedCharSequence.interruptible(snapshot[0]));
+        } catch (final BoundedCharSequence.LimitExceededException ex) {
+          // cancelled while reading the text
+          return;
+        } catch (final RuntimeException ex) {
+          Log.error(ex);
+          valid = false;
+        }
+        if (!Thread.currentThread().isInterrupted()) {
+          deliver(revision, valid, abortedBefore != CContent.getAbortedChecks());
+        }
+      }
+    });
+  }
+
+  /**
+   * Delivers the result of a validation to the content on the event dispatch thread.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param revision the revision of the content that has been validated
+   * @param valid whether the validated text is valid
+   * @param timedOut whether the validation has been aborted, because it exceeded its limits
+   */
+  private void deliver(final long revision, final boolean valid, final boolean timedOut) {
+    SwingUtilities.invokeLater(new Runnable() {
+      @Override
+      public void run() {
+        AsyncValidation.this.content.validationFinished(revision, valid, timedOut);
+      }
+    });
+  }
+}
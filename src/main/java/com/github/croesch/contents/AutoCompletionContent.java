@@ -0,0 +1,207 @@
+/*
+ * Copyright (C) 2011  Christian Roesch
+ * 
+ * This file is part of crhcomponents.
+ * 
+ * crhcomponents is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * crhcomponents is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with crhcomponents.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.github.croesch.contents;
+
+import java.util.Collections;
+import java.util.List;
+
+import javax.swing.event.DocumentEvent;
+
+/**
+ * A content that knows the entries of a {@link CompletionIndex} that start with its text, ignoring the case. The range
+ * of these candidates is narrowed with each typed character and restored when characters at the end are removed, so
+ * that each keystroke only needs a binary search within the previous candidates.<br>
+ * The candidates are updated before the document listeners are informed, so listeners can show
+ * {@link #getCompletions(int)}.
+ * 
+ * @author croesch
+ * @since Date: Oct 18, 2026
+ */
+public class AutoCompletionContent extends CContent {
+
+  /** generated serial version UID */
+  private static final long serialVersionUID = -3546521896683950787L;
+
+  /** the index of the entries, {@code null} if it isn't available yet */
+  private transient CompletionIndex index = null;
+
+  /** the first candidate for each length of the prefix */
+  private int[] starts = new int[16];
+
+  /** the index after the last candidate for each length of the prefix */
+  private int[] ends = new int[16];
+
+  /** the length of the prefix whose candidates are known, <code>-1</code> if none are known */
+  private int depth = -1;
+
+  /** whether the text has to be an entry of the index to be valid */
+  private boolean completionRequired = false;
+
+  /**
+   * Sets the index of the entries to complete the text with. An index can be shared by several contents.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param idx the index of the entries, {@code null} if there are no entries
+   */
+  public final void setIndex(final CompletionIndex idx) {
+    this.index = idx;
+    this.depth = -1;
+    updateCandidates();
+    checkForErrors();
+  }
+
+  /**
+   * Returns the index of the entries to complete the text with.
+   * 
+   * @since Date: Oct 18, 2026
+   * @return the index of the entries, or {@code null} if there is none
+   */
+  public final CompletionIndex getIndex() {
+    return this.index;
+  }
+
+  /**
+   * Sets whether the text is only valid, if it equals an entry of the index, ignoring the case. Empty text is always
+   * valid.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param required {@code true}, if only entries of the index are valid
+   */
+  public final void setCompletionRequired(final boolean required) {
+    this.completionRequired = required;
+    checkForErrors();
+  }
+
+  /**
+   * Returns whether the text is only valid, if it equals an entry of the index.
+   * 
+   * @since Date: Oct 18, 2026
+   * @return {@code true}, if only entries of the index are valid
+   */
+  public final boolean isCompletionRequired() {
+    return this.completionRequired;
+  }
+
+  /**
+   * Returns the number of entries that start with the current text.
+   * 
+   * @since Date: Oct 18, 2026
+   * @return the number of candidates, {@code 0} if there is no index
+   */
+  public final int getCandidateCount() {
+    if (this.depth < 0) {
+      return 0;
+    }
+    return this.ends[this.depth] - this.starts[this.depth];
+  }
+
+  /**
+   * Returns the first entries that start with the current text.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param k the maximum number of entries to return
+   * @return the first <code>k</code> candidates in the order of the index
+   */
+  public final List<String> getCompletions(final int k) {
+    if (this.depth < 0) {
+      return Collections.emptyList();
+    }
+    return this.index.getEntries(this.starts[this.depth], this.ends[this.depth], k);
+  }
+
+  @Override
+  public final boolean isValidInput(final String text) {
+    return isValidInput((CharSequence) text);
+  }
+
+  @Override
+  public final boolean isValidInput(final CharSequence text) {
+    if (text == null || !isValidLength(text.length())) {
+      return false;
+    }
+    if (!this.completionRequired || text.length() == 0) {
+      return true;
+    }
+    final CompletionIndex idx = this.index;
+    return idx != null && idx.contains(text);
+  }
+
+  /**
+   * Updates the candidates for the current text. The candidates of the longest prefix of the text that are still known
+   * are narrowed character by character.
+   * 
+   * @since Date: Oct 18, 2026
+   */
+  private void updateCandidates() {
+    final CompletionIndex idx = this.index;
+    if (idx == null) {
+      this.depth = -1;
+      return;
+    }
+    final CharSequence text = getCharSequence();
+    if (this.depth < 0) {
+      this.depth = 0;
+      this.starts[0] = 0;
+      this.ends[0] = idx.size();
+    }
+    this.depth = Math.min(this.depth, text.length());
+    ensureCapacity(text.length() + 1);
+    for (int i = this.depth; i < text.length(); ++i) {
+      final char c = CompletionIndex.fold(text.charAt(i));
+      final int start = idx.narrowStart(this.starts[i], this.ends[i], i, c);
+      this.starts[i + 1] = start;
+      this.ends[i + 1] = idx.narrowEnd(start, this.ends[i], i, c);
+    }
+    this.depth = text.length();
+  }
+
+  /**
+   * Makes sure that the candidates of the given number of prefixes can be stored.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param size the number of prefixes
+   */
+  private void ensureCapacity(final int size) {
+    if (size > this.starts.length) {
+      final int newSize = Math.max(size, 2 * this.starts.length);
+      final int[] newStarts = new int[newSize];
+      final int[] newEnds = new int[newSize];
+      System.arraycopy(this.starts, 0, newStarts, 0, this.starts.length);
+      System.arraycopy(this.ends, 0, newEnds, 0, this.ends.length);
+      this.starts = newStarts;
+      this.ends = newEnds;
+    }
+  }
+
+  @Override
+  protected final void fireInsertUpdate(final DocumentEvent e) {
+    // the candidates of the text before the insertion stay valid
+    this.depth = Math.min(this.depth, e.getOffset());
+    updateCandidates();
+    super.fireInsertUpdate(e);
+  }
+
+  @Override
+  protected final void fireRemoveUpdate(final DocumentEvent e) {
+    // the candidates of the text before the removed characters stay valid
+    this.depth = Math.min(this.depth, e.getOffset());
+    updateCandidates();
+    super.fireRemoveUpdate(e);
+  }
+}
@@ -0,0 +1,176 @@
+/*
+ * Copyright (C) 2011  Christian Roesch
+ * 
+ * This file is part of crhcomponents.
+ * 
+ * crhcomponents is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * crhcomponents is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with crhcomponents.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.github.croesch.contents;
+
+/**
+ * A {@link CharSequence} that wraps another one and limits the number of characters that can be read from it and the
+ * time that can be spent reading. If one of the limits is exceeded or, if requested, the reading thread is interrupted,
+ * a {@link LimitExceededException} is thrown. This way a regular expression with catastrophic backtracking can be
+ * aborted, because each step of the matcher reads a character.
+ * 
+ * @author croesch
+ * @since Date: Oct 18, 2026
+ */
+final class BoundedCharSequence implements CharSequence {
+
+  /** the number of steps after which the time and the interruption are checked, because that isn't for free */
+  private static final int CLOCK_INTERVAL = 1024;
+
+  /** the wrapped characters */
+  private final CharSequence text;
+
+  /** the budget of this sequence, shared with its sub sequences */
+  private final Budget budget;
+
+  /**
+   * Constructs a {@link CharSequence} that limits reading the given characters.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param txt the characters to wrap
+   * @param maxSteps the maximum number of characters to read, <= 0 equals no maximum
+   * @param maxNanos the maximum number of nanoseconds to spend reading, <= 0 equals no maximum
+   */
+  BoundedCharSequence(final CharSequence txt, final long maxSteps, final long maxNanos) {
+    this(txt, new Budget(maxSteps, maxNanos, false));
+  }
+
+  /**
+   * Constructs a {@link CharSequence} that stops reading the given characters when the reading thread is interrupted.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param txt the characters to wrap
+   * @return the wrapped characters, that throw a {@link LimitExceededException} when the thread is interrupted
+   */
+  static BoundedCharSequence interruptible(final CharSequence txt) {
+    return new BoundedCharSequence(txt, new Budget(0, 0, true));
+  }
+
+  /**
+   * Constructs a {@link CharSequence} that limits reading the given characters with the given budget.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param txt the characters to wrap
+   * @param b the budget to use
+   */
+  private BoundedCharSequence(final CharSequence txt, final Budget b) {
+    this.text = txt;
+    this.budget = b;
+  }
+
+  @Override
+  public int length() {
+    return this.text.length();
+  }
+
+  @Override
+  public char charAt(final int index) {
+    this.budget.step();
+    return this.text.charAt(index);
+  }
+
+  @Override
+  public CharSequence subSequence(final int start, final int end) {
+    return new BoundedCharSequence(this.text.subSequence(start, end), this.budget);
+  }
+
+  @Override
+  public String toString() {
+    return this.text.toString();
+  }
+
+  /**
+   * The limits of reading and the steps already done.
+   * 
+   * @author croesch
+   * @since Date: Oct 18, 2026
+   */
+  private static final class Budget {
+
+    /** the maximum number of steps, <= 0 equals no maximum */
+    private final long maxSteps;
+
+    /** the value of {@link System#nanoTime()} when the time is over, only valid if {@link #timeLimited} */
+    private final long deadline;
+
+    /** whether the time is limited */
+    private final boolean timeLimited;
+
+    /** whether reading stops when the thread is interrupted */
+    private final boolean interruptible;
+
+    /** the number of steps already done */
+    private long steps = 0;
+
+    /**
+     * Constructs a budget with the given limits, the time starts now.
+     * 
+     * @since Date: Oct 18, 2026
+     * @param maxS the maximum number of steps, <= 0 equals no maximum
+     * @param maxNanos the maximum number of nanoseconds, <= 0 equals no maximum
+     * @param interrupt whether reading stops when the thread is interrupted
+     */
+    Budget(final long maxS, final long maxNanos, final boolean interrupt) {
+      this.maxSteps = maxS;
+      this.timeLimited = maxNanos > 0;
+      this.deadline = System.nanoTime() + maxNanos;
+      this.interruptible = interrupt;
+    }
+
+    /**
+     * Performs one step and checks the limits.
+     * 
+     * @since Date: Oct 18, 2026
+     * @throws LimitExceededException if one of the limits is exceeded or the thread has been interrupted
+     */
+    void step() throws LimitExceededException {
+      ++this.steps;
+      if (this.maxSteps > 0 && this.steps > this.maxSteps) {
+        throw new LimitExceededException("more than " + this.maxSteps + " steps");
+      }
+      if (this.timeLimited && this.steps % CLOCK_INTERVAL == 0 && System.nanoTime() - this.deadline > 0) {
+        throw new LimitExceededException("time is over after " + this.steps + " steps");
+      }
+      if (this.interruptible && this.steps % CLOCK_INTERVAL == 0 && Thread.currentThread().isInterrupted()) {
+        throw new LimitExceededException("interrupted after " + this.steps + " steps");
+      }
+    }
+  }
+
+  /**
+   * Thrown if reading a {@link BoundedCharSequence} exceeds one of its limits.
+   * 
+   * @author croesch
+   * @since Date: Oct 18, 2026
+   */
+  static final class LimitExceededException extends RuntimeException {
+
+    /** generated serial version UID */
+    private static final long serialVersionUID = 4385101637396548361L;
+
+    /**
+     * Constructs the exception with the given message.
+     * 
+     * @since Date: Oct 18, 2026
+     * @param message the description of the exceeded limit
+     */
+    LimitExceededException(final String message) {
+      super(message);
+    }
+  }
+}
@@ -18,13 +18,18 @@
  */
 package com.github.croesch.contents;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
 
+import javax.swing.SwingUtilities;
 import javax.swing.text.AttributeSet;
 import javax.swing.text.BadLocationException;
+import javax.swing.undo.CannotRedoException;
+import javax.swing.undo.CannotUndoException;
 
 import com.github.croesch.listener.ErrorListener;
+import com.github.croesch.logging.Log;
 
 /**
  * Standard content that allows every input.
@@ -43,6 +48,68 @@ public class CContent extends CDocument {
   /** maximum input length - == 0 equals infinity - is ensured to be greater or equal than zero */
   private int maxLength = 0;
 
+  /** stores for each class whether it overrides {@link #isValidInput(String)} and so defines its own rules */
+  private static final Map<Class<?>, Boolean> OWN_STRING_RULES = new ConcurrentHashMap<Class<?>, Boolean>();
+
+  /** stores for each class whether it overrides {@link #isValidInput(CharSequence)} and so defines its own rules */
+  private static final Map<Class<?>, Boolean> OWN_SEQUENCE_RULES = new ConcurrentHashMap<Class<?>, Boolean>();
+
+  /** the validity calculated by the last check, {@code null} if there was no check yet */
+  private Boolean lastValidity = null;
+
+  /** the length of the document when {@link #lastValidity} was calculated */
+  private int lastValidityLength = 0;
+
+  /** the number of edits begun with {@link #beginEdit()} but not yet ended */
+  private int editDepth = 0;
+
+  /** whether the content has changed during the current edit, so that it has to be checked when the edit ends */
+  private boolean checkPending = false;
+
+  /** the revision of the content, incremented with each check - to detect outdated results of background checks */
+  private long revision = 0;
+
+  /** the validation in the background, {@code null} if the content is validated synchronously */
+  private transient AsyncValidation asyncValidation = null;
+
+  /** the cache to look up the results of complete checks, {@code null} if results aren't cached */
+  private transient ValidationCache validationCache = null;
+
+  /** the additional rules the text has to fulfill, {@code null} if there are none */
+  private transient Validator validator = null;
+
+  /** the rules of this content and the attached validator ordered by their cost, {@code null} without validator */
+  private transient ValidatorChain checks = null;
+
+  /** the number of checks each thread has aborted - to detect results that mustn't be cached or have to be reported */
+  private static final ThreadLocal<int[]> ABORTED_CHECKS = new ThreadLocal<int[]>();
+
+  /** the log of changes to undo and redo, {@code null} if changes aren't recorded */
+  private transient UndoLog undoLog = null;
+
+  /** whether a change is currently undone or redone, so that it mustn't be recorded */
+  private transient boolean replaying = false;
+
+  /**
+   * Constructs a content with the default storage for its text.
+   * 
+   * @since Date: Oct 18, 2026
+   */
+  public CContent() {
+    super();
+  }
+
+  /**
+   * Constructs a content that stores its text in the given storage, i.e. a {@link PieceTableContent} for very large
+   * texts. The rules of validation are the same for each storage.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param storage the storage for the text of the content
+   */
+  public CContent(final Content storage) {
+    super(storage);
+  }
+
   /**
    * Whether the content would be valid with this input.
    * 
@@ -53,31 +120,359 @@ public class CContent extends CDocument {
    * @throws BadLocationException if the given {@code offs} is invalid
    */
   protected final boolean isValidInput(final int offs, final String str) throws BadLocationException {
+    if (offs < 0 || offs > getLength()) {
+      throw new BadLocationException(str, offs);
+    }
+    if (str != null) {
+      // try to decide only with the inserted text
+      final Boolean valid = validateChange(offs, 0, str, getLength() + str.length(), getLength());
+      if (valid != null) {
+        return valid.booleanValue();
+      }
+    }
     // create new text and check if this would be valid.
     final String newText = getText(0, offs) + str + getText(offs, getLength() - offs);
-    return isValidInput(newText);
+    return isValidText(newText);
+  }
+
+  /**
+   * Calculates whether the content would be valid after the given change, only by looking at the change and the
+   * validity before the change. This allows to validate each keystroke without reading the whole text of the document.
+   * <br>
+   * Returns {@code null}, if the validity cannot be calculated from the change. Then the complete text will be checked
+   * with {@link #isValidInput(CharSequence)}. Subclasses that override one of the <code>isValidInput</code> methods
+   * should override this method, too, if their rules can be checked incrementally - otherwise the complete text will be
+   * checked.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param wasValid whether the content was valid before the change
+   * @param offs the offset of the change
+   * @param removedLength the number of characters that are removed at {@code offs}
+   * @param inserted the text that is inserted at {@code offs}, may be {@code null} if nothing is inserted
+   * @param newLength the length of the content after the change
+   * @return {@link Boolean#TRUE}, if the content would be valid after the change,<br>
+   *         {@link Boolean#FALSE}, if the content would be invalid after the change or<br>
+   *         {@code null}, if the validity cannot be calculated without the complete text.
+   */
+  protected Boolean isValidChange(final boolean wasValid,
+                                  final int offs,
+                                  final int removedLength,
+                                  final String inserted,
+                                  final int newLength) {
+    if (hasOwnInputRules()) {
+      // the subclass has rules we don't know, so we can't decide
+      return null;
+    }
+    return Boolean.valueOf(isValidLength(newLength));
+  }
+
+  /**
+   * Returns whether a content with the given length wouldn't exceed the maximum input length.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param length the length of the content to check
+   * @return {@code true}, if there is no maximum input length or the length doesn't exceed it
+   */
+  protected final boolean isValidLength(final int length) {
+    return getMaximumInputLength() <= 0 || length <= getMaximumInputLength();
+  }
+
+  /**
+   * Returns whether the class of this content overrides one of the methods {@link #isValidInput(String)} and
+   * {@link #isValidInput(CharSequence)}.
+   * 
+   * @since Date: Oct 18, 2026
+   * @return {@code true}, if the class of this content defines its own rules
+   */
+  private boolean hasOwnInputRules() {
+    return overridesIsValidInput(OWN_STRING_RULES, String.class)
+           || overridesIsValidInput(OWN_SEQUENCE_RULES, CharSequence.class);
+  }
+
+  /**
+   * Returns whether the class of this content overrides the method <code>isValidInput</code> with the given parameter
+   * type. The result is stored in the given cache, so that reflection is used only once per class.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param cache the {@link Map} that stores the result for each class
+   * @param paramType the type of the parameter of the method
+   * @return {@code true}, if the class of this content overrides the method
+   */
+  private boolean overridesIsValidInput(final Map<Class<?>, Boolean> cache, final Class<?> paramType) {
+    final Class<?> clazz = getClass();
+    Boolean own = cache.get(clazz);
+    if (own == null) {
+      try {
+        own = Boolean.valueOf(clazz.getMethod("isValidInput", paramType).getDeclaringClass() != CContent.class);
+      } catch (final NoSuchMethodException e) {
+        // can't happen, the method is public - but be safe and expect own rules
+        own = Boolean.TRUE;
+      }
+      cache.put(clazz, own);
+    }
+    return own.booleanValue();
+  }
+
+  /**
+   * Asks {@link #isValidChange(boolean, int, int, String, int)} whether the content is valid after the given change, if
+   * the validity before the change is known.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param offs the offset of the change
+   * @param removedLength the number of characters that are removed at {@code offs}
+   * @param inserted the text that is inserted at {@code offs}, may be {@code null}
+   * @param newLength the length of the content after the change
+   * @param oldLength the length of the content before the change
+   * @return the validity after the change or {@code null} if it has to be calculated with the complete text
+   */
+  private Boolean validateChange(final int offs,
+                                 final int removedLength,
+                                 final String inserted,
+                                 final int newLength,
+                                 final int oldLength) {
+    // the length check detects changes we haven't seen (i.e. undo), so that we don't trust an old state
+    if (this.lastValidity == null || this.lastValidityLength != oldLength) {
+      return null;
+    }
+    final ValidatorChain chain = this.checks;
+    if (chain == null) {
+      return isValidChange(this.lastValidity.booleanValue(), offs, removedLength, inserted, newLength);
+    }
+    return chain.isValidChange(this.lastValidity.booleanValue(), offs, removedLength, inserted, newLength);
   }
 
   @Override
   public final boolean isValid() {
-    try {
-      return isValidInput(getText(0, getLength()));
-    } catch (final BadLocationException e) {
-      return false;
+    return isValidText(getCharSequence());
+  }
+
+  /**
+   * Whether the given text is valid, by the rules of this content and by the attached {@link Validator}. The rules are
+   * checked ordered by their cost, so that the rules of this content are skipped if a cheaper rule already failed.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param text the text to check
+   * @return {@code true}, if the given text is valid
+   */
+  final boolean isValidText(final CharSequence text) {
+    final ValidatorChain chain = this.checks;
+    if (chain == null) {
+      return isValidByOwnRules(text);
+    }
+    return chain.isValid(text);
+  }
+
+  /**
+   * Returns the estimated cost of checking the complete text with the rules of this content, relative to the costs of
+   * the attached {@link Validator}. The rules of this content are checked after all cheaper rules of the validator.
+   * <br>
+   * By default contents that only check the length have constant costs, others have linear costs.
+   * 
+   * @since Date: Oct 18, 2026
+   * @return the cost of the rules of this content
+   * @see Validator#getCost()
+   */
+  protected int getValidationCost() {
+    if (hasOwnInputRules()) {
+      return Validators.COST_LINEAR;
+    }
+    return Validators.COST_CONSTANT;
+  }
+
+  /**
+   * Whether the given text is valid by the rules of this content. Uses the result of the {@link ValidationCache}, if
+   * one is set and the content provides a {@link #getValidationKey()}, and stores the result of the check otherwise.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param text the text to check
+   * @return {@code true}, if the given text is valid
+   */
+  private boolean isValidByOwnRules(final CharSequence text) {
+    final ValidationCache cache = this.validationCache;
+    final Object key = getValidationKey();
+    if (cache == null || key == null) {
+      return checkOwnRules(text);
+    }
+    final Boolean cached = cache.get(key, text);
+    if (cached != null) {
+      return cached.booleanValue();
+    }
+    final int abortedBefore = getAbortedChecks();
+    final boolean valid = checkOwnRules(text);
+    if (abortedBefore == getAbortedChecks()) {
+      // results of aborted checks are only a guess, so they aren't stored
+      cache.put(key, text, valid);
+    }
+    return valid;
+  }
+
+  /**
+   * Checks the given text with {@link #checkInput(CharSequence)} and counts the check, if it has been aborted.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param text the text to check
+   * @return whether the given text is valid, or {@link #isValidIfTimedOut()} if the check has been aborted
+   */
+  private boolean checkOwnRules(final CharSequence text) {
+    final Boolean valid = checkInput(text);
+    if (valid == null) {
+      int[] count = ABORTED_CHECKS.get();
+      if (count == null) {
+        count = new int[1];
+        ABORTED_CHECKS.set(count);
+      }
+      ++count[0];
+      return isValidIfTimedOut();
+    }
+    return valid.booleanValue();
+  }
+
+  /**
+   * Returns the number of checks of the rules of contents that the current thread has aborted.
+   * 
+   * @since Date: Oct 18, 2026
+   * @return the number of aborted checks of the current thread
+   */
+  static int getAbortedChecks() {
+    final int[] count = ABORTED_CHECKS.get();
+    if (count == null) {
+      return 0;
+    }
+    return count[0];
+  }
+
+  /**
+   * Checks the given text with the rules of this content, to update the error state. In contrast to
+   * {@link #isValidInput(CharSequence)} the result tells whether the check has been aborted, because it exceeded its
+   * limits - then the error listeners are informed with {@link ErrorListener#validationTimedOut()}.<br>
+   * By default the check is never aborted and the result of {@link #isValidInput(CharSequence)} is returned.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param text the text to check
+   * @return whether the given text is valid, or {@code null} if the check has been aborted
+   */
+  protected Boolean checkInput(final CharSequence text) {
+    return Boolean.valueOf(isValidInput(text));
+  }
+
+  /**
+   * Whether the content is treated as valid, if the check of its rules has been aborted because it exceeded its limits.
+   * 
+   * @since Date: Oct 18, 2026
+   * @return {@code true}, if the content is valid when the check has been aborted, by default {@code false}
+   * @see #checkInput(CharSequence)
+   */
+  protected boolean isValidIfTimedOut() {
+    return false;
+  }
+
+  /**
+   * Returns an object that identifies the rules of this content, for example the regular expression. Contents with
+   * equal keys have to give the same result for each text, because they share their results in a
+   * {@link ValidationCache}. The rules must not change while the key is used, so a new key has to be returned after
+   * the rules have changed.<br>
+   * By default there is no key and results aren't cached, because checking the length is cheap.
+   * 
+   * @since Date: Oct 18, 2026
+   * @return the key of the rules of this content, or {@code null} if results of this content mustn't be cached
+   * @see #setValidationCache(ValidationCache)
+   */
+  protected Object getValidationKey() {
+    return null;
+  }
+
+  /**
+   * Attaches additional rules to this content. The text is only valid, if it fulfills the rules of this content and
+   * the given {@link Validator}. Several rules can be combined with a {@link ValidatorChain}.<br>
+   * The rules of this content and the validator are checked ordered by their cost. Changes are only checked without the
+   * complete text, if the validator is an {@link IncrementalValidator}. The results of the validator aren't stored in
+   * the {@link ValidationCache}, because the validator may change its rules. If it does, {@link #checkForErrors()} has
+   * to be called, because the validity of the current text is used to check the following changes.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param v the additional rules, {@code null} to remove them
+   */
+  public final void setValidator(final Validator v) {
+    this.validator = v;
+    if (v == null) {
+      this.checks = null;
+    } else {
+      this.checks = new ValidatorChain(new OwnRules(), v);
     }
+    checkForErrors();
+  }
+
+  /**
+   * Returns the additional rules of this content.
+   * 
+   * @since Date: Oct 18, 2026
+   * @return the attached {@link Validator}, or {@code null} if there is none
+   * @see #setValidator(Validator)
+   */
+  public final Validator getValidator() {
+    return this.validator;
+  }
+
+  /**
+   * Sets the cache that stores the results of complete checks of this content. One cache can be shared by several
+   * contents, so that each distinct text is only checked once for the same rules. Only contents that provide a
+   * {@link #getValidationKey()} use the cache.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param cache the cache to use, {@code null} to check each text again
+   */
+  public final void setValidationCache(final ValidationCache cache) {
+    this.validationCache = cache;
+  }
+
+  /**
+   * Returns the cache that stores the results of complete checks of this content.
+   * 
+   * @since Date: Oct 18, 2026
+   * @return the cache of this content, or {@code null} if results aren't cached
+   * @see #setValidationCache(ValidationCache)
+   */
+  public final ValidationCache getValidationCache() {
+    return this.validationCache;
   }
 
   @Override
   public boolean isValidInput(final String text) {
-    return text != null && (getMaximumInputLength() <= 0 || text.length() <= getMaximumInputLength());
+    return text != null && isValidLength(text.length());
+  }
+
+  /**
+   * {@inheritDoc}<br>
+   * If a subclass only overrides {@link #isValidInput(String)}, the characters are copied into a {@link String} and
+   * passed to that method.
+   */
+  @Override
+  public boolean isValidInput(final CharSequence text) {
+    if (text == null) {
+      return false;
+    }
+    if (overridesIsValidInput(OWN_STRING_RULES, String.class)) {
+      // the subclass has rules we don't know, so pass the text to them
+      return isValidInput(text.toString());
+    }
+    return isValidLength(text.length());
   }
 
   /** the list of listeners that listens on changes of the error state */
-  private final List<ErrorListener> listeners = new ArrayList<ErrorListener>();
+  private final ErrorListenerList listeners = new ErrorListenerList();
 
   /** whether listeners should be informed on changes of the error state */
   private boolean notifyErrors = true;
 
+  /** whether changes of the error state within one event of the event dispatch thread are coalesced */
+  private boolean coalesceErrors = false;
+
+  /** the state of error the listeners have been informed about */
+  private boolean deliveredError = false;
+
+  /** whether the delivery of coalesced changes of the error state is scheduled */
+  private boolean deliveryScheduled = false;
+
   /**
    * Sets whether {@link ErrorListener}s are informed about error changes
    * 
@@ -98,6 +493,34 @@ public class CContent extends CDocument {
     return this.notifyErrors;
   }
 
+  /**
+   * Sets whether changes of the error state are coalesced. If so, the {@link ErrorListener}s aren't informed directly,
+   * but after the current event of the event dispatch thread has been processed, and only if the final state differs
+   * from the state they know. So toggling the state several times within one event results in at most one
+   * notification.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param coalesce whether changes of the error state should be coalesced
+   */
+  public final void setErrorsCoalescing(final boolean coalesce) {
+    this.coalesceErrors = coalesce;
+    if (!coalesce) {
+      // deliver a pending change directly
+      deliverErrorState();
+    }
+  }
+
+  /**
+   * Whether changes of the error state are coalesced.
+   * 
+   * @since Date: Oct 18, 2026
+   * @return {@code true}, if {@link ErrorListener}s are informed only about the final state after the current event
+   * @see #setErrorsCoalescing(boolean)
+   */
+  public final boolean isErrorsCoalescing() {
+    return this.coalesceErrors;
+  }
+
   /**
    * Add listeners to this document
    * 
@@ -107,8 +530,8 @@ public class CContent extends CDocument {
   public final void addErrorListeners(final ErrorListener ... listener) {
     for (final ErrorListener e : listener) {
       if (!this.listeners.contains(e)) {
-        // to inform the listener about the initial state
-        e.errorStateChanged(this.error);
+        // to inform the listener about the initial state - the same as the other listeners know
+        e.errorStateChanged(this.deliveredError);
         this.listeners.add(e);
       }
     }
@@ -162,14 +585,491 @@ public class CContent extends CDocument {
    * @since Date: Jan 13, 2011
    */
   public final void checkForErrors() {
-    if (this.error == isValid() && isErrorsNotifying()) {
+    ++this.revision;
+    if (isInEdit()) {
+      // the validity is unknown until the edit ends
+      this.lastValidity = null;
+      this.checkPending = true;
+    } else {
+      checkCompletely();
+    }
+  }
+
+  /**
+   * Checks for errors after the given change and if the state has changed it informs the error listeners. If possible
+   * the validity is calculated only with the change, otherwise the complete text is checked.<br>
+   * During an edit the listeners aren't informed and the complete text isn't checked, this is done when the edit ends.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param offs the offset of the change
+   * @param removedLength the number of characters that have been removed at {@code offs}
+   * @param inserted the text that has been inserted at {@code offs}, may be {@code null}
+   */
+  private void checkForErrors(final int offs, final int removedLength, final String inserted) {
+    ++this.revision;
+    final int newLength = getLength();
+    int oldLength = newLength + removedLength;
+    if (inserted != null) {
+      oldLength -= inserted.length();
+    }
+
+    final Boolean valid = validateChange(offs, removedLength, inserted, newLength, oldLength);
+    if (isInEdit()) {
+      // remember the state (or that it's unknown) and inform the listeners when the edit ends
+      this.lastValidity = valid;
+      this.lastValidityLength = newLength;
+      this.checkPending = true;
+    } else if (valid == null) {
+      checkCompletely();
+    } else {
+      updateErrorState(valid.booleanValue());
+    }
+  }
+
+  /**
+   * Checks the complete text for errors. If the content is validated asynchronously, the check is scheduled and the
+   * error state is updated when it has finished. Otherwise the content is checked directly.
+   * 
+   * @since Date: Oct 18, 2026
+   */
+  private void checkCompletely() {
+    if (this.asyncValidation == null) {
+      final int abortedBefore = getAbortedChecks();
+      final boolean valid = isValid();
+      if (abortedBefore != getAbortedChecks()) {
+        fireValidationTimedOut();
+      }
+      updateErrorState(valid);
+    } else {
+      // the validity is unknown until the background check has finished
+      this.lastValidity = null;
+      this.asyncValidation.schedule();
+    }
+  }
+
+  /**
+   * Sets whether the complete text of this content is checked in the background, so that expensive rules don't block
+   * the event dispatch thread. Changes that can be checked with {@link #isValidChange(boolean, int, int, String, int)}
+   * are still checked directly.<br>
+   * The text is checked after it hasn't changed for the given delay. Checks of outdated text are cancelled and their
+   * results are ignored. The error listeners are informed on the event dispatch thread.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param executor the {@link ExecutorService} to perform the checks, {@code null} to check synchronously again
+   * @param delay the number of milliseconds the text has to be unchanged, before it is checked
+   */
+  public final void setAsynchronousValidation(final ExecutorService executor, final int delay) {
+    if (this.asyncValidation != null) {
+      this.asyncValidation.cancel();
+      this.asyncValidation = null;
+    }
+    if (executor != null) {
+      this.asyncValidation = new AsyncValidation(this, executor, delay);
+    }
+  }
+
+  /**
+   * Whether the complete text of this content is checked in the background.
+   * 
+   * @since Date: Oct 18, 2026
+   * @return {@code true}, if the content is validated asynchronously
+   * @see #setAsynchronousValidation(ExecutorService, int)
+   */
+  public final boolean isValidatingAsynchronously() {
+    return this.asyncValidation != null;
+  }
+
+  /**
+   * Returns the complete text to check it in the background. If the storage supports it, the text isn't copied.
+   * 
+   * @since Date: Oct 18, 2026
+   * @return the current text of this content, that isn't affected by later changes
+   */
+  final CharSequence getSnapshot() {
+    if (getContent() instanceof PieceTableContent) {
+      try {
+        return ((PieceTableContent) getContent()).getSnapshot(0, getLength());
+      } catch (final BadLocationException e) {
+        Log.error(e);
+      }
+    }
+    return getText();
+  }
+
+  /**
+   * Returns the current revision of this content, that changes with each check.
+   * 
+   * @since Date: Oct 18, 2026
+   * @return the current revision of this content
+   */
+  final long getRevision() {
+    return this.revision;
+  }
+
+  /**
+   * Invoked on the event dispatch thread when a check in the background has finished. Updates the error state, if the
+   * checked text is still the current one. During an edit the result is dropped and the text is checked again when the
+   * edit ends, even if it hasn't changed.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param rev the revision of this content that has been checked
+   * @param valid whether the checked text is valid
+   * @param timedOut whether the check has been aborted, because it exceeded its limits
+   */
+  final void validationFinished(final long rev, final boolean valid, final boolean timedOut) {
+    if (rev != this.revision) {
+      return;
+    }
+    if (isInEdit()) {
+      // the listeners mustn't be informed now, so check again when the edit ends
+      this.checkPending = true;
+      return;
+    }
+    if (timedOut) {
+      fireValidationTimedOut();
+    }
+    updateErrorState(valid);
+  }
+
+  /**
+   * Stores the given validity and if the error state has changed it informs the error listeners.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param valid whether the content is currently valid
+   */
+  private void updateErrorState(final boolean valid) {
+    if (this.asyncValidation != null) {
+      // the state is known now, so a background check is obsolete
+      this.asyncValidation.cancel();
+    }
+    this.lastValidity = Boolean.valueOf(valid);
+    this.lastValidityLength = getLength();
+
+    if (this.error == valid && isErrorsNotifying()) {
       // the error state has changed and we should notify the listeners
 
       // update the error state
       this.error = !this.error;
       // inform the listeners
-      for (final ErrorListener l : this.listeners) {
-        l.errorStateChanged(this.error);
+      if (isErrorsCoalescing()) {
+        scheduleErrorStateDelivery();
+      } else {
+        deliverErrorState();
+      }
+    }
+  }
+
+  /**
+   * Schedules the delivery of the error state to the listeners after the current event of the event dispatch thread, if
+   * it isn't scheduled yet.
+   * 
+   * @since Date: Oct 18, 2026
+   */
+  private void scheduleErrorStateDelivery() {
+    if (!this.deliveryScheduled) {
+      this.deliveryScheduled = true;
+      SwingUtilities.invokeLater(new Runnable() {
+        @Override
+        public void run() {
+          CContent.this.deliveryScheduled = false;
+          deliverErrorState();
+        }
+      });
+    }
+  }
+
+  /**
+   * Informs the listeners about the current error state, if it differs from the state they know.
+   * 
+   * @since Date: Oct 18, 2026
+   */
+  private void deliverErrorState() {
+    if (this.deliveredError != this.error) {
+      this.deliveredError = this.error;
+      for (final ErrorListener l : this.listeners.getListeners()) {
+        l.errorStateChanged(this.deliveredError);
+      }
+    }
+  }
+
+  /**
+   * Begins an edit of this content. Until the edit is ended with {@link #endEdit()}, the content isn't validated
+   * completely and the error listeners aren't informed. When the edit ends, the content is checked once, so that the
+   * listeners see at most one change of the error state. Edits can be nested, only the end of the outermost edit
+   * performs the check.
+   * 
+   * @since Date: Oct 18, 2026
+   * @see #endEdit()
+   * @see #runBatch(Runnable)
+   */
+  public final void beginEdit() {
+    ++this.editDepth;
+  }
+
+  /**
+   * Ends an edit begun with {@link #beginEdit()}. If this ends the outermost edit and the content has changed, the
+   * content is checked for errors and the error listeners are informed.
+   * 
+   * @since Date: Oct 18, 2026
+   * @throws IllegalStateException if there is no edit to end
+   * @see #beginEdit()
+   */
+  public final void endEdit() throws IllegalStateException {
+    if (this.editDepth == 0) {
+      throw new IllegalStateException("There is no edit to end.");
+    }
+    try {
+      if (this.editDepth == 1) {
+        finishEdit();
+      }
+    } finally {
+      --this.editDepth;
+    }
+
+    if (this.editDepth == 0 && this.undoLog != null) {
+      this.undoLog.closeGroup();
+    }
+    if (this.editDepth == 0 && this.checkPending) {
+      this.checkPending = false;
+      if (this.lastValidity == null || this.lastValidityLength != getLength()) {
+        // the changes couldn't be checked incrementally, so check the complete text once
+        checkCompletely();
+      } else {
+        updateErrorState(this.lastValidity.booleanValue());
+      }
+    }
+  }
+
+  /**
+   * Runs the given {@link Runnable} within an edit of this content, so that the content is checked only once after it
+   * has run.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param r the {@link Runnable} that modifies this content
+   * @see #beginEdit()
+   * @see #endEdit()
+   */
+  public final void runBatch(final Runnable r) {
+    beginEdit();
+    try {
+      r.run();
+    } finally {
+      endEdit();
+    }
+  }
+
+  /**
+   * Enables the built-in undo of this content. Consecutive typing or deleting of single characters is recorded as one
+   * run that is undone at once, the changes of an edit (see {@link #beginEdit()}) are undone together. If the records
+   * use more than the given number of bytes, the oldest records are discarded. Changing the limit discards all
+   * records.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param maxBytes the maximum number of bytes used by the records, a value less than {@code 1} disables the built-in
+   *        undo
+   */
+  public final void setUndoLimit(final long maxBytes) {
+    if (maxBytes < 1) {
+      this.undoLog = null;
+    } else {
+      this.undoLog = new UndoLog(maxBytes);
+    }
+  }
+
+  /**
+   * Returns the maximum number of bytes used by the records of the built-in undo.
+   * 
+   * @since Date: Oct 18, 2026
+   * @return the maximum number of bytes, or {@code 0} if the built-in undo is disabled
+   * @see #setUndoLimit(long)
+   */
+  public final long getUndoLimit() {
+    if (this.undoLog == null) {
+      return 0;
+    }
+    return this.undoLog.getLimit();
+  }
+
+  /**
+   * Whether there is a change that can be undone with {@link #undo()}.
+   * 
+   * @since Date: Oct 18, 2026
+   * @return {@code true}, if there is a change to undo
+   */
+  public final boolean canUndo() {
+    return this.undoLog != null && this.undoLog.canUndo();
+  }
+
+  /**
+   * Whether there is a change that can be redone with {@link #redo()}.
+   * 
+   * @since Date: Oct 18, 2026
+   * @return {@code true}, if there is a change to redo
+   */
+  public final boolean canRedo() {
+    return this.undoLog != null && this.undoLog.canRedo();
+  }
+
+  /**
+   * Undoes the last change of this content. The characters are restored within one edit, so that the content is
+   * checked only once. Subclasses aren't asked to modify the restored characters, but are notified with
+   * {@link #textRestored()}.
+   * 
+   * @since Date: Oct 18, 2026
+   * @throws CannotUndoException if there is no change to undo
+   * @see #setUndoLimit(long)
+   */
+  public final void undo() throws CannotUndoException {
+    if (!canUndo()) {
+      throw new CannotUndoException();
+    }
+    replay(true);
+  }
+
+  /**
+   * Redoes the last undone change of this content. The characters are restored within one edit, so that the content is
+   * checked only once. Subclasses aren't asked to modify the restored characters, but are notified with
+   * {@link #textRestored()}.
+   * 
+   * @since Date: Oct 18, 2026
+   * @throws CannotRedoException if there is no change to redo
+   * @see #setUndoLimit(long)
+   */
+  public final void redo() throws CannotRedoException {
+    if (!canRedo()) {
+      throw new CannotRedoException();
+    }
+    replay(false);
+  }
+
+  /**
+   * Discards all changes recorded to undo and redo.
+   * 
+   * @since Date: Oct 18, 2026
+   */
+  public final void discardAllEdits() {
+    if (this.undoLog != null) {
+      this.undoLog.clear();
+    }
+  }
+
+  /**
+   * Undoes or redoes the next group of changes within one edit.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param undo {@code true} to undo the last change, {@code false} to redo the last undone change
+   */
+  private void replay(final boolean undo) {
+    final UndoLog log = this.undoLog;
+    beginEdit();
+    this.replaying = true;
+    try {
+      boolean more = true;
+      while (more) {
+        final UndoLog.Record r;
+        if (undo) {
+          r = log.nextUndo();
+          more = log.hasMoreUndoInGroup();
+        } else {
+          r = log.nextRedo();
+          more = log.hasMoreRedoInGroup();
+        }
+        // undoing an insertion removes the characters, undoing a removal inserts them
+        if (r.isInsert() == undo) {
+          final String text = r.getText();
+          super.remove(r.getOffset(), text.length());
+          checkForErrors(r.getOffset(), text.length(), null);
+        } else {
+          super.insertString(r.getOffset(), r.getText(), null);
+          checkForErrors(r.getOffset(), 0, r.getText());
+        }
+      }
+      textRestored();
+    } catch (final BadLocationException e) {
+      // the text has been modified without being recorded
+      Log.error(e);
+      log.clear();
+    } finally {
+      this.replaying = false;
+      endEdit();
+    }
+  }
+
+  /**
+   * Invoked after {@link #undo()} or {@link #redo()} restored characters of this document, within the same edit. The
+   * characters are restored without {@link #insertString(int, String, AttributeSet)} and
+   * {@link #remove(int, int)}, so subclasses that keep a model of their text have to rebuild it from the text here.
+   * Changes of the text made by this method aren't recorded.
+   * 
+   * @since Date: Oct 18, 2026
+   */
+  protected void textRestored() {
+    // the text is the only state of this content
+  }
+
+  @Override
+  protected void insertUpdate(final DefaultDocumentEvent chng, final AttributeSet attr) {
+    super.insertUpdate(chng, attr);
+    record(true, chng);
+  }
+
+  @Override
+  protected void removeUpdate(final DefaultDocumentEvent chng) {
+    // invoked before the characters are removed
+    record(false, chng);
+    super.removeUpdate(chng);
+  }
+
+  /**
+   * Records the given change in the log of the built-in undo, if it is enabled and the change isn't a replay.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param insert whether characters have been inserted, otherwise they are removed
+   * @param chng the change of the document
+   */
+  private void record(final boolean insert, final DefaultDocumentEvent chng) {
+    if (this.undoLog == null || this.replaying || chng.getLength() == 0) {
+      return;
+    }
+    try {
+      this.undoLog.record(insert, chng.getOffset(), getText(chng.getOffset(), chng.getLength()), isInEdit());
+    } catch (final BadLocationException e) {
+      // can't happen, the change is within the document
+      Log.error(e);
+      this.undoLog.clear();
+    }
+  }
+
+  /**
+   * Whether there is an edit of this content that hasn't ended yet.
+   * 
+   * @since Date: Oct 18, 2026
+   * @return {@code true}, if {@link #beginEdit()} has been called more often than {@link #endEdit()}
+   */
+  public final boolean isInEdit() {
+    return this.editDepth > 0;
+  }
+
+  /**
+   * Invoked when the outermost edit ends, before the content is checked for errors. Subclasses can perform work here
+   * that they skipped during the edit. Does nothing by default.
+   * 
+   * @since Date: Oct 18, 2026
+   */
+  protected void finishEdit() {
+    // nothing to do by default
+  }
+
+  /**
+   * Informs the error listeners that the validation has been aborted, because it exceeded its limits.
+   * 
+   * @since Date: Oct 18, 2026
+   * @see ErrorListener#validationTimedOut()
+   */
+  private void fireValidationTimedOut() {
+    if (isErrorsNotifying()) {
+      for (final ErrorListener l : this.listeners.getListeners()) {
+        l.validationTimedOut();
       }
     }
   }
@@ -180,19 +1080,58 @@ public class CContent extends CDocument {
       throw new BadLocationException(str, offs);
     }
     super.insertString(offs, str, a);
-    checkForErrors();
+    checkForErrors(offs, 0, str);
   }
 
   @Override
   public void remove(final int offs, final int len) throws BadLocationException {
     super.remove(offs, len);
-    checkForErrors();
+    checkForErrors(offs, Math.max(0, len), null);
   }
 
   @Override
   public void replace(final int offset, final int length, final String text, final AttributeSet attrs)
                                                                                                       throws BadLocationException {
-    super.replace(offset, length, text, attrs);
-    checkForErrors();
+    // the removal and the insertion are checked together
+    beginEdit();
+    try {
+      super.replace(offset, length, text, attrs);
+    } finally {
+      endEdit();
+    }
+  }
+
+  /**
+   * The rules of this content as a {@link Validator}, so that they can be ordered by their cost together with the
+   * attached validator.
+   * 
+   * @author croesch
+   * @since Date: Oct 18, 2026
+   */
+  private final class OwnRules implements IncrementalValidator {
+
+    @Override
+    public boolean isValid(final CharSequence text) {
+      return isValidByOwnRules(text);
+    }
+
+    @Override
+    public Boolean isValidChange(final boolean wasValid,
+                                 final int offs,
+                                 final int removedLength,
+                                 final String inserted,
+                                 final int newLength) {
+      return CContent.this.isValidChange(wasValid, offs, removedLength, inserted, newLength);
+    }
+
+    @Override
+    public int getCost() {
+      return getValidationCost();
+    }
+
+    @Override
+    public String toString() {
+      return CContent.this.getClass().getSimpleName();
+    }
   }
 }
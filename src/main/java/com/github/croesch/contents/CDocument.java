@@ -31,6 +31,25 @@ public abstract class CDocument extends PlainDocument {
   /** generated serial version UID */
   private static final long serialVersionUID = -4847569004597891757L;
 
+  /**
+   * Constructs a document with the default storage for its text.
+   * 
+   * @since Date: Oct 18, 2026
+   */
+  protected CDocument() {
+    super();
+  }
+
+  /**
+   * Constructs a document that stores its text in the given storage.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param c the storage for the text of the document
+   */
+  protected CDocument(final Content c) {
+    super(c);
+  }
+
   /**
    * Calculates whether the content is currently valid
    * 
@@ -48,6 +67,32 @@ public abstract class CDocument extends PlainDocument {
    */
   public abstract boolean isValidInput(final String text);
 
+  /**
+   * Calculates whether the given {@link CharSequence} would be a valid content. In contrast to
+   * {@link #isValidInput(String)} the text doesn't have to be copied into a {@link String}, so it can be used with the
+   * view returned by {@link #getCharSequence()}.<br>
+   * By default the characters are copied into a {@link String} and passed to {@link #isValidInput(String)}. Subclasses
+   * should override this method, if they can check the characters without copying them.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param text the characters to check, {@code null} will return {@code false}
+   * @return {@code true}, if {@code text} is a valid content
+   */
+  public boolean isValidInput(final CharSequence text) {
+    return text != null && isValidInput(text.toString());
+  }
+
+  /**
+   * Returns a read-only view of the complete text of this document. The characters are read directly from the storage
+   * of this document, so no copy of the text is created. The view is only valid until the document is modified.
+   * 
+   * @since Date: Oct 18, 2026
+   * @return a {@link CharSequence} that contains the current text of this document
+   */
+  public final CharSequence getCharSequence() {
+    return new DocumentCharSequence(this, 0, getLength());
+  }
+
   /**
    * Returns the complete text of this document or null if an exception occurred
    * 
@@ -0,0 +1,292 @@
+/*
+ * Copyright (C) 2011  Christian Roesch
+ * 
+ * This file is part of crhcomponents.
+ * 
+ * crhcomponents is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * crhcomponents is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with crhcomponents.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.github.croesch.contents;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/**
+ * An immutable index of entries to complete input, i.e. customer names. The entries are sorted ignoring their case, so
+ * that all entries starting with a prefix form a range that is found by binary search. An index can be shared by
+ * several {@link AutoCompletionContent}s and threads.<br>
+ * Building an index of many entries takes a while, so it should be built with
+ * {@link #buildInBackground(Collection, ExecutorService)} instead of on the event dispatch thread.
+ * 
+ * @author croesch
+ * @since Date: Oct 18, 2026
+ */
+public final class CompletionIndex {
+
+  /** the entries, sorted by their keys */
+  private final String[] entries;
+
+  /** the keys of the entries, each character folded to ignore the case */
+  private final String[] keys;
+
+  /**
+   * Constructs an index of the given sorted entries.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param e the entries, sorted by their keys
+   * @param k the keys of the entries
+   */
+  private CompletionIndex(final String[] e, final String[] k) {
+    this.entries = e;
+    this.keys = k;
+  }
+
+  /**
+   * Builds the index of the given entries. Entries that are equal are stored only once.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param values the entries of the index
+   * @return the index of the given entries
+   * @throws IllegalArgumentException if the entries are {@code null} or contain {@code null}
+   */
+  public static CompletionIndex build(final Collection<? extends CharSequence> values) throws IllegalArgumentException {
+    if (values == null) {
+      throw new IllegalArgumentException(">null< is not allowed.");
+    }
+    final String[][] pairs = new String[values.size()][];
+    int i = 0;
+    for (final CharSequence value : values) {
+      if (value == null) {
+        throw new IllegalArgumentException(">null< is not allowed.");
+      }
+      final String entry = value.toString();
+      pairs[i++] = new String[] { fold(entry), entry };
+    }
+    Arrays.sort(pairs, new Comparator<String[]>() {
+      @Override
+      public int compare(final String[] o1, final String[] o2) {
+        final int result = o1[0].compareTo(o2[0]);
+        if (result != 0) {
+          return result;
+        }
+        return o1[1].compareTo(o2[1]);
+      }
+    });
+
+    int size = 0;
+    for (int j = 0; j < pairs.length; ++j) {
+      if (size == 0 || !pairs[j][1].equals(pairs[size - 1][1])) {
+        pairs[size++] = pairs[j];
+      }
+    }
+    final String[] k = new String[size];
+    final String[] e = new String[size];
+    for (int j = 0; j < size; ++j) {
+      k[j] = pairs[j][0];
+      e[j] = pairs[j][1];
+    }
+    return new CompletionIndex(e, k);
+  }
+
+  /**
+   * Builds the index of the given entries with the given executor, so that i.e. the event dispatch thread isn't
+   * blocked. The entries mustn't be modified until the index is built.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param values the entries of the index
+   * @param executor the executor that builds the index
+   * @return the future result, the index of the given entries
+   */
+  public static Future<CompletionIndex> buildInBackground(final Collection<? extends CharSequence> values,
+                                                          final ExecutorService executor) {
+    return executor.submit(new Callable<CompletionIndex>() {
+      @Override
+      public CompletionIndex call() {
+        return build(values);
+      }
+    });
+  }
+
+  /**
+   * Returns the given character with its case folded, so that characters differing only in their case are equal.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param c the character to fold
+   * @return the folded character
+   */
+  static char fold(final char c) {
+    // like String#CASE_INSENSITIVE_ORDER
+    return Character.toLowerCase(Character.toUpperCase(c));
+  }
+
+  /**
+   * Returns the given text with each character folded.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param text the text to fold
+   * @return the folded text
+   */
+  private static String fold(final String text) {
+    final char[] chars = new char[text.length()];
+    for (int i = 0; i < chars.length; ++i) {
+      chars[i] = fold(text.charAt(i));
+    }
+    return new String(chars);
+  }
+
+  /**
+   * Returns the number of entries of this index.
+   * 
+   * @since Date: Oct 18, 2026
+   * @return the number of entries
+   */
+  public int size() {
+    return this.entries.length;
+  }
+
+  /**
+   * Returns the entry at the given index.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param index the index of the entry in the sorted order
+   * @return the entry
+   */
+  public String get(final int index) {
+    return this.entries[index];
+  }
+
+  /**
+   * Returns the first entries that start with the given prefix, ignoring the case.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param prefix the prefix the entries have to start with
+   * @param k the maximum number of entries to return
+   * @return the first <code>k</code> entries starting with the prefix, in the sorted order of this index
+   */
+  public List<String> getCompletions(final CharSequence prefix, final int k) {
+    int start = 0;
+    int end = size();
+    for (int i = 0; i < prefix.length() && start < end; ++i) {
+      final char c = fold(prefix.charAt(i));
+      final int newStart = narrowStart(start, end, i, c);
+      end = narrowEnd(newStart, end, i, c);
+      start = newStart;
+    }
+    return getEntries(start, end, k);
+  }
+
+  /**
+   * Whether the given text is an entry of this index, ignoring the case.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param text the text to look for
+   * @return {@code true}, if an entry equals the text, ignoring the case
+   */
+  public boolean contains(final CharSequence text) {
+    final List<String> candidates = getCompletions(text, 1);
+    // an entry equal to the prefix is the first entry of the range
+    return !candidates.isEmpty() && candidates.get(0).length() == text.length();
+  }
+
+  /**
+   * Returns the entries of the given range.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param start the index of the first entry
+   * @param end the index after the last entry
+   * @param k the maximum number of entries to return
+   * @return the first <code>k</code> entries of the range
+   */
+  List<String> getEntries(final int start, final int end, final int k) {
+    final int count = Math.min(Math.max(0, k), end - start);
+    if (count <= 0) {
+      return Collections.emptyList();
+    }
+    final List<String> range = Arrays.asList(this.entries).subList(start, start + count);
+    return Collections.unmodifiableList(new ArrayList<String>(range));
+  }
+
+  /**
+   * Returns the first entry of the given range, whose key has the given character at the given position. All keys of
+   * the range have to share the same characters before the position.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param from the index of the first entry of the range
+   * @param to the index after the last entry of the range
+   * @param position the position of the character in the keys
+   * @param c the folded character
+   * @return the index of the first entry with the character, or of the first greater entry
+   */
+  int narrowStart(final int from, final int to, final int position, final char c) {
+    int low = from;
+    int high = to;
+    while (low < high) {
+      final int mid = (low + high) >>> 1;
+      if (compareAt(this.keys[mid], position, c) < 0) {
+        low = mid + 1;
+      } else {
+        high = mid;
+      }
+    }
+    return low;
+  }
+
+  /**
+   * Returns the index after the last entry of the given range, whose key has the given character at the given
+   * position. All keys of the range have to share the same characters before the position.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param from the index of the first entry of the range
+   * @param to the index after the last entry of the range
+   * @param position the position of the character in the keys
+   * @param c the folded character
+   * @return the index after the last entry with the character
+   */
+  int narrowEnd(final int from, final int to, final int position, final char c) {
+    int low = from;
+    int high = to;
+    while (low < high) {
+      final int mid = (low + high) >>> 1;
+      if (compareAt(this.keys[mid], position, c) <= 0) {
+        low = mid + 1;
+      } else {
+        high = mid;
+      }
+    }
+    return low;
+  }
+
+  /**
+   * Compares the character of the given key at the given position with the given character.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param key the key of an entry
+   * @param position the position of the character in the key
+   * @param c the folded character
+   * @return a negative number if the key is shorter or its character is less, zero if the characters are equal, a
+   *         positive number otherwise
+   */
+  private static int compareAt(final String key, final int position, final char c) {
+    if (key.length() <= position) {
+      return -1;
+    }
+    return key.charAt(position) - c;
+  }
+}
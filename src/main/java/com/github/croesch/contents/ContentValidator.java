@@ -0,0 +1,197 @@
+/*
+ * Copyright (C) 2011  Christian Roesch
+ * 
+ * This file is part of crhcomponents.
+ * 
+ * crhcomponents is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * crhcomponents is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with crhcomponents.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.github.croesch.contents;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/**
+ * Checks plain {@link CharSequence}s with {@link Validator}s, without any document. This allows to use the rules of
+ * the contents without Swing, i.e. to check imported records on a server.<br>
+ * Many values can be checked at once, the result is a {@link BitSet} where each set bit marks an invalid value.
+ * 
+ * @author croesch
+ * @since Date: Oct 18, 2026
+ */
+public final class ContentValidator {
+
+  /** the minimum number of values checked by one task of a parallel check */
+  private static final int MIN_CHUNK_SIZE = 256;
+
+  /** the number of tasks per processor, so that the work is balanced if some values take longer */
+  private static final int CHUNKS_PER_PROCESSOR = 4;
+
+  /** the rules the values have to fulfill */
+  private final Validator rules;
+
+  /**
+   * Constructs a validator that checks values with the given rules. Several rules can be combined with a
+   * {@link ValidatorChain}.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param validator the rules the values have to fulfill
+   * @throws IllegalArgumentException if the given rules are {@code null}
+   */
+  public ContentValidator(final Validator validator) throws IllegalArgumentException {
+    if (validator == null) {
+      throw new IllegalArgumentException(">null< is not allowed.");
+    }
+    this.rules = validator;
+  }
+
+  /**
+   * Returns the rules the values have to fulfill.
+   * 
+   * @since Date: Oct 18, 2026
+   * @return the rules of this validator
+   */
+  public Validator getValidator() {
+    return this.rules;
+  }
+
+  /**
+   * Whether the given value is valid.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param value the value to check, {@code null} will return {@code false}
+   * @return {@code true}, if the value fulfills the rules
+   */
+  public boolean isValid(final CharSequence value) {
+    return value != null && this.rules.isValid(value);
+  }
+
+  /**
+   * Checks all given values one after another.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param values the values to check
+   * @return a set containing the index of each invalid value
+   */
+  public BitSet validate(final Iterable<? extends CharSequence> values) {
+    final BitSet failures = new BitSet();
+    int i = 0;
+    for (final CharSequence value : values) {
+      if (!isValid(value)) {
+        failures.set(i);
+      }
+      ++i;
+    }
+    return failures;
+  }
+
+  /**
+   * Checks all given values one after another.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param values the values to check
+   * @return a set containing the index of each invalid value
+   */
+  public BitSet validate(final CharSequence ... values) {
+    return validate(Arrays.asList(values));
+  }
+
+  /**
+   * Checks the given values in parallel. The values are divided into chunks that are checked by the given executor.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param values the values to check, should allow fast random access
+   * @param executor the executor that checks the chunks
+   * @return a set containing the index of each invalid value
+   * @throws InterruptedException if the current thread has been interrupted while waiting for the results
+   */
+  public BitSet validateParallel(final List<? extends CharSequence> values, final ExecutorService executor)
+                                                                                                           throws InterruptedException {
+    final int size = values.size();
+    final int chunks = Runtime.getRuntime().availableProcessors() * CHUNKS_PER_PROCESSOR;
+    final int chunkSize = Math.max(MIN_CHUNK_SIZE, (size + chunks - 1) / chunks);
+
+    final List<Callable<BitSet>> tasks = new ArrayList<Callable<BitSet>>();
+    for (int start = 0; start < size; start += chunkSize) {
+      final int from = start;
+      final int to = Math.min(size, start + chunkSize);
+      tasks.add(new Callable<BitSet>() {
+        @Override
+        public BitSet call() {
+          // each task has its own set, so the tasks don't have to synchronize
+          final BitSet failures = new BitSet();
+          for (int i = from; i < to; ++i) {
+            if (!isValid(values.get(i))) {
+              failures.set(i - from);
+            }
+          }
+          return failures;
+        }
+      });
+    }
+
+    final BitSet failures = new BitSet(size);
+    int offset = 0;
+    for (final Future<BitSet> future : executor.invokeAll(tasks)) {
+      final BitSet chunk = getResult(future);
+      for (int i = chunk.nextSetBit(0); i >= 0; i = chunk.nextSetBit(i + 1)) {
+        failures.set(offset + i);
+      }
+      offset += chunkSize;
+    }
+    return failures;
+  }
+
+  /**
+   * Checks the given values in parallel. The values are divided into chunks that are checked by the given executor.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param values the values to check
+   * @param executor the executor that checks the chunks
+   * @return a set containing the index of each invalid value
+   * @throws InterruptedException if the current thread has been interrupted while waiting for the results
+   */
+  public BitSet validateParallel(final CharSequence[] values, final ExecutorService executor)
+                                                                                             throws InterruptedException {
+    return validateParallel(Arrays.asList(values), executor);
+  }
+
+  /**
+   * Returns the result of the given completed task.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param future the completed task
+   * @return the failures of the chunk of the task
+   * @throws InterruptedException if the current thread has been interrupted
+   */
+  private static BitSet getResult(final Future<BitSet> future) throws InterruptedException {
+    try {
+      return future.get();
+    } catch (final ExecutionException e) {
+      // a rule failed, so pass its exception to the caller
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      if (e.getCause() instanceof Error) {
+        throw (Error) e.getCause();
+      }
+      throw new IllegalStateException(e.getCause());
+    }
+  }
+}
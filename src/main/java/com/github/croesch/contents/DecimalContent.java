@@ -0,0 +1,82 @@
+/*
+ * Copyright (C) 2011  Christian Roesch
+ * 
+ * This file is part of crhcomponents.
+ * 
+ * crhcomponents is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * crhcomponents is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with crhcomponents.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.github.croesch.contents;
+
+/**
+ * A content that contains a decimal number with a fixed maximum number of digits after the separator, i.e. an amount.
+ * The value is stored as unscaled <code>long</code>, so <code>12.5</code> with scale two has the value
+ * <code>1250</code>.
+ * 
+ * @author croesch
+ * @since Date: Oct 18, 2026
+ */
+public class DecimalContent extends NumberContent {
+
+  /** generated serial version UID */
+  private static final long serialVersionUID = -4388457213052797045L;
+
+  /**
+   * Constructs a content for decimal numbers with a dot as separator.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param scale the maximum number of digits after the separator
+   * @throws IllegalArgumentException if the scale is negative or too large for a <code>long</code>
+   */
+  public DecimalContent(final int scale) throws IllegalArgumentException {
+    super(scale, '.');
+  }
+
+  /**
+   * Constructs a content for decimal numbers.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param scale the maximum number of digits after the separator
+   * @param separator the decimal separator, i.e. from {@link java.text.DecimalFormatSymbols#getDecimalSeparator()}
+   * @throws IllegalArgumentException if the scale is negative or too large for a <code>long</code>
+   */
+  public DecimalContent(final int scale, final char separator) throws IllegalArgumentException {
+    super(scale, separator);
+  }
+
+  /**
+   * Constructs a content for decimal numbers, that stores its text in the given storage.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param scale the maximum number of digits after the separator
+   * @param separator the decimal separator
+   * @param storage the storage for the text of the content
+   * @throws IllegalArgumentException if the scale is negative or too large for a <code>long</code>
+   */
+  public DecimalContent(final int scale, final char separator, final Content storage) throws IllegalArgumentException {
+    super(scale, separator, storage);
+  }
+
+  /**
+   * Returns the unscaled value of the current text, that is the number multiplied with <code>10^scale</code>. The value
+   * is parsed when the text changes, so calling this method doesn't cost anything.
+   * 
+   * @since Date: Oct 18, 2026
+   * @return the unscaled value of the content, or {@code 0} if the text isn't a number
+   * @see #getScale()
+   * @see #hasValue()
+   */
+  public final long getUnscaledValue() {
+    return getParsedValue();
+  }
+}
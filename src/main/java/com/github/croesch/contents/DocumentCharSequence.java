@@ -0,0 +1,124 @@
+/*
+ * Copyright (C) 2011  Christian Roesch
+ * 
+ * This file is part of crhcomponents.
+ * 
+ * crhcomponents is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * crhcomponents is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with crhcomponents.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.github.croesch.contents;
+
+import javax.swing.text.BadLocationException;
+import javax.swing.text.Document;
+import javax.swing.text.Segment;
+
+/**
+ * A read-only {@link CharSequence} that reads the characters directly from the content of a {@link Document}, without
+ * copying the text. The characters are fetched as {@link Segment}s with partial return, so each access only reads the
+ * storage of the document up to its gap.<br>
+ * The view is only valid as long as the document isn't modified.
+ * 
+ * @author croesch
+ * @since Date: Oct 18, 2026
+ */
+final class DocumentCharSequence implements CharSequence {
+
+  /** the document to read the characters from */
+  private final Document document;
+
+  /** the offset in the document of the first character of this sequence */
+  private final int start;
+
+  /** the number of characters of this sequence */
+  private final int length;
+
+  /** the segment that contains the characters last read from the document */
+  private final Segment segment = new Segment();
+
+  /** the offset in the document of the first character in the {@link #segment} */
+  private int segmentStart = 0;
+
+  /**
+   * Constructs a view of the given part of the {@link Document}.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param doc the {@link Document} to read the characters from
+   * @param offs the offset in the document of the first character of this sequence
+   * @param len the number of characters of this sequence
+   */
+  DocumentCharSequence(final Document doc, final int offs, final int len) {
+    if (doc == null) {
+      throw new IllegalArgumentException(">null< is not allowed.");
+    }
+    if (offs < 0 || len < 0 || offs + len > doc.getLength()) {
+      throw new IndexOutOfBoundsException("invalid range: >" + offs + "< - >" + (offs + len) + "<");
+    }
+    this.document = doc;
+    this.start = offs;
+    this.length = len;
+    this.segment.setPartialReturn(true);
+  }
+
+  @Override
+  public int length() {
+    return this.length;
+  }
+
+  @Override
+  public char charAt(final int index) {
+    if (index < 0 || index >= this.length) {
+      throw new IndexOutOfBoundsException("index: >" + index + "<");
+    }
+    final int offs = this.start + index;
+    if (offs < this.segmentStart || offs >= this.segmentStart + this.segment.count) {
+      // the character isn't in the current segment, so fetch the segment that starts with it
+      readSegment(offs);
+    }
+    return this.segment.array[this.segment.offset + offs - this.segmentStart];
+  }
+
+  /**
+   * Reads the characters from the given offset up to the end of this sequence into the {@link #segment}. Because of
+   * the partial return, the segment may contain less characters, but never copies the storage of the document.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param offs the offset in the document of the first character to read
+   */
+  private void readSegment(final int offs) {
+    try {
+      this.document.getText(offs, this.start + this.length - offs, this.segment);
+    } catch (final BadLocationException e) {
+      // only possible if the document has been modified
+      throw new IndexOutOfBoundsException(e.getMessage());
+    }
+    this.segmentStart = offs;
+  }
+
+  @Override
+  public CharSequence subSequence(final int begin, final int end) {
+    if (begin < 0 || end > this.length || begin > end) {
+      throw new IndexOutOfBoundsException("invalid range: >" + begin + "< - >" + end + "<");
+    }
+    return new DocumentCharSequence(this.document, this.start + begin, end - begin);
+  }
+
+  @Override
+  public String toString() {
+    try {
+      return this.document.getText(this.start, this.length);
+    } catch (final BadLocationException e) {
+      // only possible if the document has been modified
+      throw new IndexOutOfBoundsException(e.getMessage());
+    }
+  }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright (C) 2011  Christian Roesch
+ * 
+ * This file is part of crhcomponents.
+ * 
+ * crhcomponents is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * crhcomponents is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with crhcomponents.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.github.croesch.contents;
+
+import java.io.Serializable;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import com.github.croesch.listener.ErrorListener;
+
+/**
+ * The registry of {@link ErrorListener}s of a content. Checking for duplicates is done in constant time and listeners
+ * are dispatched from an array snapshot, that is only rebuilt after the registry has changed. So listeners can add or
+ * remove listeners while they are informed.
+ * 
+ * @author croesch
+ * @since Date: Oct 18, 2026
+ */
+final class ErrorListenerList implements Serializable {
+
+  /** generated serial version UID */
+  private static final long serialVersionUID = -2287311860815364458L;
+
+  /** an empty array of listeners */
+  private static final ErrorListener[] NO_LISTENERS = new ErrorListener[0];
+
+  /** the registered listeners in the order they have been added */
+  private final Set<ErrorListener> listeners = new LinkedHashSet<ErrorListener>();
+
+  /** the registered listeners as array, {@code null} if the registry has changed since it has been created */
+  private transient ErrorListener[] snapshot = NO_LISTENERS;
+
+  /**
+   * Returns whether the given listener is registered.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param l the listener to look for
+   * @return {@code true}, if the listener is registered
+   */
+  synchronized boolean contains(final ErrorListener l) {
+    return this.listeners.contains(l);
+  }
+
+  /**
+   * Registers the given listener, if it isn't registered yet.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param l the listener to add
+   */
+  synchronized void add(final ErrorListener l) {
+    if (this.listeners.add(l)) {
+      this.snapshot = null;
+    }
+  }
+
+  /**
+   * Removes the given listener from the registry.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param l the listener to remove
+   */
+  synchronized void remove(final ErrorListener l) {
+    if (this.listeners.remove(l)) {
+      this.snapshot = null;
+    }
+  }
+
+  /**
+   * Returns the registered listeners. The returned array mustn't be modified, it is shared until the registry changes.
+   * 
+   * @since Date: Oct 18, 2026
+   * @return the registered listeners in the order they have been added
+   */
+  synchronized ErrorListener[] getListeners() {
+    if (this.snapshot == null) {
+      this.snapshot = this.listeners.toArray(new ErrorListener[this.listeners.size()]);
+    }
+    return this.snapshot;
+  }
+}
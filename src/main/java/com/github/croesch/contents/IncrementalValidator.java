@@ -0,0 +1,47 @@
+/*
+ * Copyright (C) 2011  Christian Roesch
+ * 
+ * This file is part of crhcomponents.
+ * 
+ * crhcomponents is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * crhcomponents is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with crhcomponents.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.github.croesch.contents;
+
+/**
+ * A rule that can decide whether a text is still valid after a change, only by looking at the change. A
+ * {@link CContent} with such a rule attached doesn't need to read its complete text on each keystroke.
+ * 
+ * @author croesch
+ * @since Date: Oct 18, 2026
+ * @see CContent#setValidator(Validator)
+ */
+public interface IncrementalValidator extends Validator {
+
+  /**
+   * Calculates whether the text fulfills this rule after the given change, only by looking at the change.<br>
+   * If the content was valid before the change, the text fulfilled this rule. Otherwise it is unknown whether the text
+   * fulfilled this rule, because another rule may have failed.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param wasValid whether the content was valid before the change
+   * @param offs the offset of the change
+   * @param removedLength the number of characters that are removed at {@code offs}
+   * @param inserted the text that is inserted at {@code offs}, may be {@code null} if nothing is inserted
+   * @param newLength the length of the text after the change
+   * @return {@link Boolean#TRUE}, if the text would fulfill this rule after the change,<br>
+   *         {@link Boolean#FALSE}, if the text wouldn't fulfill this rule after the change or<br>
+   *         {@code null}, if it cannot be calculated without the complete text.
+   */
+  Boolean isValidChange(boolean wasValid, int offs, int removedLength, String inserted, int newLength);
+}
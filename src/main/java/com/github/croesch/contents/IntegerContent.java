@@ -0,0 +1,63 @@
+/*
+ * Copyright (C) 2011  Christian Roesch
+ * 
+ * This file is part of crhcomponents.
+ * 
+ * crhcomponents is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * crhcomponents is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with crhcomponents.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.github.croesch.contents;
+
+/**
+ * A content that contains an integer, i.e. a quantity. The text may start with a minus sign followed by digits and has
+ * to fit into a <code>long</code>.
+ * 
+ * @author croesch
+ * @since Date: Oct 18, 2026
+ */
+public class IntegerContent extends NumberContent {
+
+  /** generated serial version UID */
+  private static final long serialVersionUID = 5212436079858713418L;
+
+  /**
+   * Constructs a content for integers.
+   * 
+   * @since Date: Oct 18, 2026
+   */
+  public IntegerContent() {
+    super(0, '.');
+  }
+
+  /**
+   * Constructs a content for integers, that stores its text in the given storage.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param storage the storage for the text of the content
+   */
+  public IntegerContent(final Content storage) {
+    super(0, '.', storage);
+  }
+
+  /**
+   * Returns the value of the current text. The value is parsed when the text changes, so calling this method doesn't
+   * cost anything.
+   * 
+   * @since Date: Oct 18, 2026
+   * @return the value of the content, or {@code 0} if the text isn't a number
+   * @see #hasValue()
+   */
+  public final long getLongValue() {
+    return getParsedValue();
+  }
+}
@@ -0,0 +1,272 @@
+/*
+ * Copyright (C) 2011  Christian Roesch
+ * 
+ * This file is part of crhcomponents.
+ * 
+ * crhcomponents is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * crhcomponents is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with crhcomponents.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.github.croesch.contents;
+
+import javax.swing.event.DocumentEvent;
+
+/**
+ * A content that contains a number. The number is parsed directly from the document each time the text changes, so
+ * reading its value doesn't cost anything. The validity of each change is taken from this parsed state, so the text
+ * is read only once per change. An empty text is valid, but has no value.
+ * 
+ * @author croesch
+ * @since Date: Oct 18, 2026
+ * @see IntegerContent
+ * @see DecimalContent
+ */
+public abstract class NumberContent extends CContent {
+
+  /** generated serial version UID */
+  private static final long serialVersionUID = -1873012935581735226L;
+
+  /** the base of the numbers */
+  private static final int RADIX = 10;
+
+  /** the maximum number of digits after the separator */
+  private final int scale;
+
+  /** the decimal separator */
+  private final char separator;
+
+  /** the unscaled value of the current text, {@code 0} if the text isn't a number */
+  private long value = 0;
+
+  /** whether the current text is a number */
+  private boolean numeric = false;
+
+  /** whether the current text starts with a minus sign, only known if the text is a number */
+  private boolean negative = false;
+
+  /** the number of digits after the separator of the current text or {@code -1} if there is no separator */
+  private int fractionDigits = -1;
+
+  /** the length of the text that has been parsed */
+  private int parsedLength = 0;
+
+  /** receives the results of the parser */
+  private final long[] parsed = new long[2];
+
+  /**
+   * Constructs a content for numbers with the given scale.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param s the maximum number of digits after the separator, {@code 0} for integers
+   * @param sep the decimal separator
+   * @throws IllegalArgumentException if the scale is negative or too large for a <code>long</code>
+   */
+  NumberContent(final int s, final char sep) throws IllegalArgumentException {
+    super();
+    this.scale = checkScale(s);
+    this.separator = sep;
+  }
+
+  /**
+   * Constructs a content for numbers with the given scale, that stores its text in the given storage.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param s the maximum number of digits after the separator, {@code 0} for integers
+   * @param sep the decimal separator
+   * @param storage the storage for the text of the content
+   * @throws IllegalArgumentException if the scale is negative or too large for a <code>long</code>
+   */
+  NumberContent(final int s, final char sep, final Content storage) throws IllegalArgumentException {
+    super(storage);
+    this.scale = checkScale(s);
+    this.separator = sep;
+  }
+
+  /**
+   * Returns the given scale, if it is valid.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param s the scale to check
+   * @return the given scale
+   * @throws IllegalArgumentException if the scale is negative or too large for a <code>long</code>
+   */
+  private static int checkScale(final int s) throws IllegalArgumentException {
+    if (s < 0 || s > NumberParser.MAX_SCALE) {
+      throw new IllegalArgumentException("invalid scale: >" + s + "<");
+    }
+    return s;
+  }
+
+  /**
+   * Returns the maximum number of digits after the decimal separator.
+   * 
+   * @since Date: Oct 18, 2026
+   * @return the scale of the number, {@code 0} for integers
+   */
+  public final int getScale() {
+    return this.scale;
+  }
+
+  /**
+   * Returns the character that separates the integer part from the fraction.
+   * 
+   * @since Date: Oct 18, 2026
+   * @return the decimal separator
+   */
+  public final char getDecimalSeparator() {
+    return this.separator;
+  }
+
+  /**
+   * Whether the current text is a number.
+   * 
+   * @since Date: Oct 18, 2026
+   * @return {@code true}, if the content has a value, {@code false} if the text is empty or invalid
+   */
+  public final boolean hasValue() {
+    return this.numeric;
+  }
+
+  /**
+   * Returns the unscaled value of the current text, that is the number multiplied with <code>10^scale</code>.
+   * 
+   * @since Date: Oct 18, 2026
+   * @return the unscaled value, or {@code 0} if the text isn't a number
+   */
+  final long getParsedValue() {
+    return this.value;
+  }
+
+  @Override
+  public final boolean isValidInput(final String text) {
+    return isValidInput((CharSequence) text);
+  }
+
+  @Override
+  public final boolean isValidInput(final CharSequence text) {
+    return text != null
+           && isValidLength(text.length())
+           && (text.length() == 0 || NumberParser.isNumber(text, this.scale, this.separator));
+  }
+
+  /**
+   * {@inheritDoc}<br>
+   * The state of the text is known from parsing its value. If the text has already changed, the parsed state is the
+   * result. Otherwise the change is checked against the parsed state: inserting and removing digits is decided without
+   * reading the text, other changes are checked with the complete text.
+   */
+  @Override
+  protected final Boolean isValidChange(final boolean wasValid,
+                                        final int offs,
+                                        final int removedLength,
+                                        final String inserted,
+                                        final int newLength) {
+    if (!isValidLength(newLength)) {
+      return Boolean.FALSE;
+    }
+    if (this.parsedLength == newLength && getLength() == newLength) {
+      // the value has already been parsed from the changed text
+      return Boolean.valueOf(newLength == 0 || this.numeric);
+    }
+    if (this.parsedLength != getLength() || this.parsedLength == newLength || !this.numeric && this.parsedLength > 0) {
+      return null;
+    }
+    return isValidDigitChange(offs, removedLength, inserted, newLength);
+  }
+
+  /**
+   * Calculates whether the current number is still valid, if the given digits are inserted and removed. Only the sign,
+   * the position of the separator and the number of digits of the current number are used.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param offs the offset of the change
+   * @param removedLength the number of characters that are removed at {@code offs}
+   * @param inserted the text that is inserted at {@code offs}, may be {@code null} if nothing is inserted
+   * @param newLength the length of the content after the change
+   * @return the validity after the change or {@code null} if it has to be calculated with the complete text
+   */
+  private Boolean isValidDigitChange(final int offs,
+                                     final int removedLength,
+                                     final String inserted,
+                                     final int newLength) {
+    if (newLength == 0) {
+      return Boolean.TRUE;
+    }
+    final int signLength = this.negative ? 1 : 0;
+    final int separatorIndex = this.fractionDigits < 0 ? -1 : this.parsedLength - this.fractionDigits - 1;
+    if (offs < signLength && (removedLength > 0 || inserted != null)
+        || separatorIndex >= 0 && offs <= separatorIndex && separatorIndex < offs + removedLength) {
+      // the sign or the separator is changed
+      return null;
+    }
+    if (inserted != null) {
+      for (int i = 0; i < inserted.length(); ++i) {
+        final char c = inserted.charAt(i);
+        if (Character.digit(c, RADIX) < 0) {
+          if (c != '-' && c != this.separator) {
+            return Boolean.FALSE;
+          }
+          return null;
+        }
+      }
+    }
+
+    final int insertedLength = newLength - this.parsedLength + removedLength;
+    int integerDigits = (separatorIndex < 0 ? this.parsedLength : separatorIndex) - signLength;
+    int fraction = Math.max(0, this.fractionDigits);
+    if (separatorIndex >= 0 && offs > separatorIndex) {
+      fraction += insertedLength - removedLength;
+    } else {
+      integerDigits += insertedLength - removedLength;
+    }
+    if (integerDigits == 0 || fraction > this.scale) {
+      return Boolean.FALSE;
+    }
+    if (integerDigits + this.scale <= NumberParser.MAX_SCALE) {
+      // each scaled number with at most 18 digits fits into a long
+      return Boolean.TRUE;
+    }
+    return null;
+  }
+
+  /**
+   * Parses the current text, so that the value is up to date when the listeners are informed about the change.
+   * 
+   * @since Date: Oct 18, 2026
+   */
+  private void updateValue() {
+    final CharSequence text = getCharSequence();
+    this.parsedLength = text.length();
+    this.numeric = text.length() > 0 && NumberParser.parse(text, this.scale, this.separator, this.parsed);
+    if (this.numeric) {
+      this.value = this.parsed[0];
+      this.fractionDigits = (int) this.parsed[1];
+      this.negative = text.charAt(0) == '-';
+    } else {
+      this.value = 0;
+      this.fractionDigits = -1;
+      this.negative = false;
+    }
+  }
+
+  @Override
+  protected final void fireInsertUpdate(final DocumentEvent e) {
+    updateValue();
+    super.fireInsertUpdate(e);
+  }
+
+  @Override
+  protected final void fireRemoveUpdate(final DocumentEvent e) {
+    updateValue();
+    super.fireRemoveUpdate(e);
+  }
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright (C) 2011  Christian Roesch
+ * 
+ * This file is part of crhcomponents.
+ * 
+ * crhcomponents is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * crhcomponents is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with crhcomponents.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.github.croesch.contents;
+
+/**
+ * Parses numbers directly from a {@link CharSequence}, without creating {@link String}s or throwing exceptions. A
+ * number consists of an optional minus sign, at least one digit and, if a scale is given, an optional decimal
+ * separator followed by at most <code>scale</code> digits. A separator without following digits is allowed, so that
+ * the text is valid while the number is typed. The value is returned as unscaled <code>long</code>, i.e.
+ * <code>-1.5</code> with scale two is <code>-150</code>.
+ * 
+ * @author croesch
+ * @since Date: Oct 18, 2026
+ */
+final class NumberParser {
+
+  /** the maximum scale, so that a number with one digit before the separator fits into a <code>long</code> */
+  static final int MAX_SCALE = 18;
+
+  /** the powers of ten that fit into a <code>long</code> */
+  private static final long[] POWERS_OF_TEN = new long[MAX_SCALE + 1];
+
+  static {
+    POWERS_OF_TEN[0] = 1;
+    for (int i = 1; i < POWERS_OF_TEN.length; ++i) {
+      POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10;
+    }
+  }
+
+  /** the base of the numbers */
+  private static final int RADIX = 10;
+
+  /**
+   * Hidden constructor.
+   * 
+   * @since Date: Oct 18, 2026
+   */
+  private NumberParser() {
+    throw new AssertionError("Invocation of utility class constructor.");
+  }
+
+  /**
+   * Whether the given text is a number that fits into a <code>long</code> when it is scaled.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param text the text to check
+   * @param scale the maximum number of digits after the separator, {@code 0} for integers
+   * @param separator the decimal separator
+   * @return {@code true}, if the text can be parsed with {@link #parse(CharSequence, int, char, long[])}
+   */
+  static boolean isNumber(final CharSequence text, final int scale, final char separator) {
+    return parse(text, scale, separator, null);
+  }
+
+  /**
+   * Checks and parses the given text in one pass, if it is a number that fits into a <code>long</code> when it is
+   * scaled.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param text the text to parse
+   * @param scale the maximum number of digits after the separator, {@code 0} for integers
+   * @param separator the decimal separator
+   * @param result an array of at least two elements that receives the value of the text multiplied with
+   *        <code>10^scale</code> and the number of digits after the separator or <code>-1</code>, if there is no
+   *        separator. The array is only filled, if the text is a number. May be {@code null}.
+   * @return {@code true}, if the text is a number
+   */
+  static boolean parse(final CharSequence text, final int scale, final char separator, final long[] result) {
+    if (scale < 0 || scale > MAX_SCALE) {
+      return false;
+    }
+    final int length = text.length();
+    int i = 0;
+    final boolean negative = length > 0 && text.charAt(0) == '-';
+    if (negative) {
+      ++i;
+    }
+    // accumulate negatively, so that Long.MIN_VALUE can be parsed
+    final long limit = negative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+    long value = 0;
+    int digits = 0;
+    int fractionDigits = -1;
+    for (; i < length; ++i) {
+      final char c = text.charAt(i);
+      if (c == separator && scale > 0 && fractionDigits < 0 && digits > 0) {
+        fractionDigits = 0;
+        continue;
+      }
+      final int digit = Character.digit(c, RADIX);
+      if (digit < 0 || fractionDigits >= scale) {
+        return false;
+      }
+      if (value < (limit + digit) / RADIX) {
+        return false;
+      }
+      value = value * RADIX - digit;
+      ++digits;
+      if (fractionDigits >= 0) {
+        ++fractionDigits;
+      }
+    }
+    if (digits == 0) {
+      return false;
+    }
+    // the value has to fit into a long after it has been scaled
+    final long factor = POWERS_OF_TEN[scale - Math.max(0, fractionDigits)];
+    if (value < limit / factor) {
+      return false;
+    }
+    if (result != null) {
+      value *= factor;
+      if (negative) {
+        result[0] = value;
+      } else {
+        result[0] = -value;
+      }
+      result[1] = fractionDigits;
+    }
+    return true;
+  }
+}
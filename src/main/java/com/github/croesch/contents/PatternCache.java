@@ -0,0 +1,92 @@
+/*
+ * Copyright (C) 2011  Christian Roesch
+ * 
+ * This file is part of crhcomponents.
+ * 
+ * crhcomponents is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * crhcomponents is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with crhcomponents.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.github.croesch.contents;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * A utility class that caches compiled {@link Pattern}s, so that contents sharing the same regular expression don't
+ * compile it again. The cache is shared by all contents and bounded, the least recently used pattern is removed first.
+ * 
+ * @author croesch
+ * @since Date: Oct 18, 2026
+ */
+final class PatternCache {
+
+  /** the maximum number of patterns stored in the cache */
+  private static final int MAX_SIZE = 128;
+
+  /** the cached patterns with the regular expression as key, ordered by their last access */
+  private static final Map<String, Pattern> PATTERNS = new LinkedHashMap<String, Pattern>(16, 0.75f, true) {
+    /** generated serial version UID */
+    private static final long serialVersionUID = -3106640420935451380L;
+
+    @Override
+    protected boolean removeEldestEntry(final Map.Entry<String, Pattern> eldest) {
+      return size() > MAX_SIZE;
+    }
+  };
+
+  /**
+   * Hide constructor of utility class.
+   * 
+   * @since Date: Oct 18, 2026
+   */
+  private PatternCache() {
+    throw new AssertionError("Invocation of utility class constructor.");
+  }
+
+  /**
+   * Returns the compiled {@link Pattern} of the given regular expression. If it is not yet in the cache, it will be
+   * compiled and stored.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param regex the regular expression to fetch the compiled pattern for
+   * @return the compiled {@link Pattern} of the given regular expression
+   * @throws java.util.regex.PatternSyntaxException if the expression's syntax is invalid
+   */
+  static Pattern getPattern(final String regex) {
+    Pattern pattern;
+    synchronized (PATTERNS) {
+      pattern = PATTERNS.get(regex);
+    }
+    if (pattern == null) {
+      // compile outside of the lock, in the worst case the pattern is compiled twice
+      pattern = Pattern.compile(regex);
+      synchronized (PATTERNS) {
+        PATTERNS.put(regex, pattern);
+      }
+    }
+    return pattern;
+  }
+
+  /**
+   * Returns the number of patterns currently stored in the cache.
+   * 
+   * @since Date: Oct 18, 2026
+   * @return the number of cached patterns
+   */
+  static int size() {
+    synchronized (PATTERNS) {
+      return PATTERNS.size();
+    }
+  }
+}
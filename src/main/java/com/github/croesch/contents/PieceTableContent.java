@@ -0,0 +1,987 @@
+/*
+ * Copyright (C) 2011  Christian Roesch
+ * 
+ * This file is part of crhcomponents.
+ * 
+ * crhcomponents is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * crhcomponents is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with crhcomponents.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.github.croesch.contents;
+
+import java.io.Serializable;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+
+import javax.swing.text.AbstractDocument;
+import javax.swing.text.BadLocationException;
+import javax.swing.text.Position;
+import javax.swing.text.Segment;
+import javax.swing.undo.AbstractUndoableEdit;
+import javax.swing.undo.CannotRedoException;
+import javax.swing.undo.CannotUndoException;
+import javax.swing.undo.UndoableEdit;
+
+/**
+ * A storage for the text of a {@link CContent}, made for very large texts. Pass it to
+ * {@link CContent#CContent(javax.swing.text.AbstractDocument.Content)} to use it instead of the default storage.<br>
+ * The characters are never moved: inserted text is appended to a buffer and the text is described by a sequence of
+ * pieces of that buffer. The pieces are stored in a balanced tree, so that inserting and removing text takes
+ * logarithmic time, wherever it happens. The tree is never modified, each change creates new nodes only along the
+ * changed path. So a {@link #getSnapshot(int, int)} of the text is created in constant time and stays valid while the
+ * content is changed, i.e. to check the text in the background.<br>
+ * Removed text isn't freed from the buffer, so the memory grows with all text ever inserted.
+ * 
+ * @author croesch
+ * @since Date: Oct 18, 2026
+ */
+public class PieceTableContent implements AbstractDocument.Content, Serializable {
+
+  /** generated serial version UID */
+  private static final long serialVersionUID = 3394271843021485370L;
+
+  /** the characters of all inserted text, only appended to */
+  private char[] buffer = new char[16];
+
+  /** the number of used characters of the buffer */
+  private int used = 0;
+
+  /** the root of the tree of pieces that describe the text */
+  private Node root = null;
+
+  /** the state of the generator for the priorities of the nodes */
+  private int seed = 0x2545F491;
+
+  /** the minimum number of records that triggers removing the records of collected positions */
+  private static final int MIN_PURGE_THRESHOLD = 16;
+
+  /** the length of the virtual gap between the positions, large enough to never be filled */
+  private static final long GAP_LENGTH = Long.MAX_VALUE / 4;
+
+  /**
+   * the records of the positions that track changes, sorted by their offsets, created lazily. Like the marks of
+   * {@link javax.swing.text.GapContent}, the records behind a virtual gap store their offset plus the length of the
+   * gap. The gap is moved to each change, so a change only updates the records between the previous change and itself
+   * instead of all records behind it.
+   */
+  private transient List<PosRec> marks;
+
+  /** the offset of the virtual gap: records before it store their offset */
+  private transient int gapStart;
+
+  /** the length of the virtual gap: records behind it store their offset plus this length */
+  private transient long gapLength;
+
+  /** the number of records that triggers removing the records of collected positions */
+  private transient int purgeThreshold;
+
+  /**
+   * Constructs a content that contains only the implied line break, like every content of a document.
+   * 
+   * @since Date: Oct 18, 2026
+   */
+  public PieceTableContent() {
+    this.root = new Node(append("\n"), 1, nextPriority(), null, null);
+  }
+
+  @Override
+  public int length() {
+    return total(this.root);
+  }
+
+  @Override
+  public UndoableEdit insertString(final int where, final String str) throws BadLocationException {
+    if (where < 0 || where >= length()) {
+      throw new BadLocationException("Invalid location", length());
+    }
+    insert(where, str);
+    if (this.marks != null) {
+      updateMarksForInsert(where, str.length());
+    }
+    return new InsertUndo(where, str.length());
+  }
+
+  @Override
+  public UndoableEdit remove(final int where, final int nitems) throws BadLocationException {
+    if (where < 0 || nitems < 0 || where + nitems >= length()) {
+      throw new BadLocationException("Invalid range", length());
+    }
+    final UndoableEdit edit = new RemoveUndo(where, getString(where, nitems));
+    delete(where, nitems);
+    if (this.marks != null) {
+      updateMarksForRemove(where, nitems);
+    }
+    return edit;
+  }
+
+  @Override
+  public String getString(final int where, final int len) throws BadLocationException {
+    checkRange(where, len);
+    final char[] chars = new char[len];
+    copy(this.root, 0, where, where + len, this.buffer, chars);
+    return new String(chars);
+  }
+
+  /**
+   * {@inheritDoc}<br>
+   * If the range lies within one piece, or if the segment allows partial returns, the segment references the buffer
+   * of this content directly, otherwise the characters are copied.
+   */
+  @Override
+  public void getChars(final int where, final int len, final Segment txt) throws BadLocationException {
+    checkRange(where, len);
+    if (len > 0) {
+      final Cursor c = new Cursor();
+      c.locate(this.root, where);
+      final int available = c.end - where;
+      if (available >= len || txt.isPartialReturn()) {
+        txt.array = this.buffer;
+        txt.offset = c.bufferStart + where - c.start;
+        txt.count = Math.min(len, available);
+        return;
+      }
+    }
+    final char[] chars = new char[len];
+    copy(this.root, 0, where, where + len, this.buffer, chars);
+    txt.array = chars;
+    txt.offset = 0;
+    txt.count = len;
+  }
+
+  @Override
+  public Position createPosition(final int offset) throws BadLocationException {
+    if (this.marks == null) {
+      this.marks = new ArrayList<PosRec>();
+      this.gapStart = 0;
+      this.gapLength = GAP_LENGTH;
+      this.purgeThreshold = MIN_PURGE_THRESHOLD;
+    }
+    if (this.marks.size() >= this.purgeThreshold) {
+      removeUnusedMarks();
+    }
+    final long raw = toRaw(offset);
+    final StickyPosition pos = new StickyPosition(raw);
+    // behind all records at the same offset
+    this.marks.add(indexOfRaw(raw + 1), pos.rec);
+    return pos;
+  }
+
+  /**
+   * Returns an unmodifiable view of the given range of the text. The view isn't affected by later changes of this
+   * content and can be read by any thread. It is created in constant time, without copying the text.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param where the offset of the first character
+   * @param len the number of characters
+   * @return the characters of the given range
+   * @throws BadLocationException if the given range isn't part of the content
+   */
+  public final CharSequence getSnapshot(final int where, final int len) throws BadLocationException {
+    checkRange(where, len);
+    return new Snapshot(this.root, this.buffer, where, len);
+  }
+
+  /**
+   * Returns the number of pieces the text consists of. Text typed at one position is appended to the same piece.
+   * 
+   * @since Date: Oct 18, 2026
+   * @return the number of pieces of the text
+   */
+  public final int getPieceCount() {
+    return count(this.root);
+  }
+
+  /**
+   * Checks whether the given range is part of the content.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param where the offset of the first character
+   * @param len the number of characters
+   * @throws BadLocationException if the given range isn't part of the content
+   */
+  private void checkRange(final int where, final int len) throws BadLocationException {
+    if (where < 0 || len < 0 || where + len > length()) {
+      throw new BadLocationException("Invalid location", length());
+    }
+  }
+
+  /**
+   * Inserts the given text into the tree of pieces.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param where the offset to insert the text at
+   * @param str the text to insert
+   */
+  private void insert(final int where, final String str) {
+    if (str.length() == 0) {
+      return;
+    }
+    final Node[] parts = split(this.root, where);
+    Node left = parts[0];
+    if (left != null && last(left).start + last(left).length == this.used) {
+      // the last inserted text ends here, so the piece can simply grow
+      append(str);
+      left = extendLast(left, str.length());
+    } else {
+      left = merge(left, new Node(append(str), str.length(), nextPriority(), null, null));
+    }
+    this.root = merge(left, parts[1]);
+  }
+
+  /**
+   * Removes the given range from the tree of pieces.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param where the offset of the first character to remove
+   * @param nitems the number of characters to remove
+   */
+  private void delete(final int where, final int nitems) {
+    if (nitems == 0) {
+      return;
+    }
+    final Node[] parts = split(this.root, where);
+    this.root = merge(parts[0], split(parts[1], nitems)[1]);
+  }
+
+  /**
+   * Appends the given text to the buffer.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param str the text to append
+   * @return the offset of the text in the buffer
+   */
+  private int append(final String str) {
+    if (this.used + str.length() > this.buffer.length) {
+      // the old buffer stays untouched, so that snapshots can still read it
+      final char[] newBuffer = new char[Math.max(2 * this.buffer.length, this.used + str.length())];
+      System.arraycopy(this.buffer, 0, newBuffer, 0, this.used);
+      this.buffer = newBuffer;
+    }
+    final int start = this.used;
+    str.getChars(0, str.length(), this.buffer, start);
+    this.used += str.length();
+    return start;
+  }
+
+  /**
+   * Returns a new random priority for a node, that keeps the tree balanced.
+   * 
+   * @since Date: Oct 18, 2026
+   * @return the priority of a new node
+   */
+  private int nextPriority() {
+    // xorshift
+    this.seed ^= this.seed << 13;
+    this.seed ^= this.seed >>> 17;
+    this.seed ^= this.seed << 5;
+    return this.seed;
+  }
+
+  /**
+   * Returns the number of characters described by the given tree.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param n the root of the tree, may be {@code null}
+   * @return the length of the text of the tree
+   */
+  private static int total(final Node n) {
+    if (n == null) {
+      return 0;
+    }
+    return n.total;
+  }
+
+  /**
+   * Returns the number of nodes of the given tree.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param n the root of the tree, may be {@code null}
+   * @return the number of pieces of the tree
+   */
+  private static int count(final Node n) {
+    if (n == null) {
+      return 0;
+    }
+    return count(n.left) + 1 + count(n.right);
+  }
+
+  /**
+   * Returns the node of the last piece of the given tree.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param n the root of the tree, not {@code null}
+   * @return the node describing the end of the text
+   */
+  private static Node last(final Node n) {
+    Node node = n;
+    while (node.right != null) {
+      node = node.right;
+    }
+    return node;
+  }
+
+  /**
+   * Returns a copy of the given tree, where the last piece is longer.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param n the root of the tree, not {@code null}
+   * @param add the number of characters to add to the last piece
+   * @return the root of the new tree
+   */
+  private static Node extendLast(final Node n, final int add) {
+    if (n.right == null) {
+      return new Node(n.start, n.length + add, n.priority, n.left, null);
+    }
+    return new Node(n.start, n.length, n.priority, n.left, extendLast(n.right, add));
+  }
+
+  /**
+   * Splits the given tree into the tree of the first characters and the tree of the remaining characters. The given
+   * tree isn't modified.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param n the root of the tree, may be {@code null}
+   * @param pos the number of characters of the first tree
+   * @return an array with the root of the first tree and the root of the second tree
+   */
+  private static Node[] split(final Node n, final int pos) {
+    if (n == null) {
+      return new Node[] { null, null };
+    }
+    final int leftTotal = total(n.left);
+    if (pos <= leftTotal) {
+      final Node[] parts = split(n.left, pos);
+      parts[1] = new Node(n.start, n.length, n.priority, parts[1], n.right);
+      return parts;
+    }
+    if (pos >= leftTotal + n.length) {
+      final Node[] parts = split(n.right, pos - leftTotal - n.length);
+      parts[0] = new Node(n.start, n.length, n.priority, n.left, parts[0]);
+      return parts;
+    }
+    // the position is inside of this piece, so it is divided
+    final int k = pos - leftTotal;
+    return new Node[] { new Node(n.start, k, n.priority, n.left, null),
+                       new Node(n.start + k, n.length - k, n.priority, null, n.right) };
+  }
+
+  /**
+   * Joins the given trees, the text of the first tree followed by the text of the second tree. The given trees aren't
+   * modified.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param a the root of the first tree, may be {@code null}
+   * @param b the root of the second tree, may be {@code null}
+   * @return the root of the joined tree
+   */
+  private static Node merge(final Node a, final Node b) {
+    if (a == null) {
+      return b;
+    }
+    if (b == null) {
+      return a;
+    }
+    if (a.priority > b.priority) {
+      return new Node(a.start, a.length, a.priority, a.left, merge(a.right, b));
+    }
+    return new Node(b.start, b.length, b.priority, merge(a, b.left), b.right);
+  }
+
+  /**
+   * Copies the characters of the given range of the tree into the given array.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param n the root of the (sub)tree, may be {@code null}
+   * @param base the offset of the first character of the (sub)tree in the text
+   * @param from the offset of the first character to copy
+   * @param to the offset after the last character to copy
+   * @param buf the buffer the pieces refer to
+   * @param dst the array to copy the characters into, starting with the character at {@code from}
+   */
+  private static void copy(final Node n, final int base, final int from, final int to, final char[] buf,
+                           final char[] dst) {
+    if (n == null || to <= base || from >= base + n.total) {
+      return;
+    }
+    final int pieceStart = base + total(n.left);
+    final int pieceEnd = pieceStart + n.length;
+    copy(n.left, base, from, to, buf, dst);
+    final int s = Math.max(from, pieceStart);
+    final int e = Math.min(to, pieceEnd);
+    if (s < e) {
+      System.arraycopy(buf, n.start + s - pieceStart, dst, s - from, e - s);
+    }
+    copy(n.right, pieceEnd, from, to, buf, dst);
+  }
+
+  /**
+   * Moves the positions behind the given offset, after text has been inserted.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param offset the offset of the inserted text
+   * @param length the length of the inserted text
+   */
+  private void updateMarksForInsert(final int offset, final int length) {
+    // positions at zero stay at the beginning
+    moveGap(Math.max(1, offset));
+    // filling the gap moves all records behind it
+    this.gapStart += length;
+    this.gapLength -= length;
+  }
+
+  /**
+   * Moves the positions behind the given offset, after text has been removed.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param offset the offset of the removed text
+   * @param length the length of the removed text
+   */
+  private void updateMarksForRemove(final int offset, final int length) {
+    moveGap(offset);
+    // the positions in the removed range move to its beginning
+    final long newGapLength = this.gapLength + length;
+    final int end = indexOfRaw(toRaw(offset + length + 1));
+    for (int i = indexOfRaw(toRaw(offset)); i < end; ++i) {
+      this.marks.get(i).raw = offset + newGapLength;
+    }
+    // widening the gap moves all records behind it
+    this.gapLength = newGapLength;
+  }
+
+  /**
+   * Moves the virtual gap to the given offset. Only the records between the current and the new offset of the gap are
+   * updated.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param offset the new offset of the gap
+   */
+  private void moveGap(final int offset) {
+    if (offset < this.gapStart) {
+      // the records between the offset and the gap are now behind the gap
+      final int end = indexOfRaw(this.gapStart);
+      for (int i = indexOfRaw(offset); i < end; ++i) {
+        this.marks.get(i).raw += this.gapLength;
+      }
+    } else if (offset > this.gapStart) {
+      // the records between the gap and the offset are now before the gap
+      final int end = indexOfRaw(offset + this.gapLength);
+      for (int i = indexOfRaw(this.gapStart + this.gapLength); i < end; ++i) {
+        this.marks.get(i).raw -= this.gapLength;
+      }
+    }
+    this.gapStart = offset;
+  }
+
+  /**
+   * Returns the value stored in a record for the given offset.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param offset the offset of a position
+   * @return the offset, plus the length of the gap if the offset is behind the gap
+   */
+  private long toRaw(final int offset) {
+    if (offset < this.gapStart) {
+      return offset;
+    }
+    return offset + this.gapLength;
+  }
+
+  /**
+   * Returns the offset of the position of the given record.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param rec the record of a position
+   * @return the offset of the position
+   */
+  private int getOffset(final PosRec rec) {
+    if (rec.raw < this.gapStart) {
+      return (int) rec.raw;
+    }
+    return (int) (rec.raw - this.gapLength);
+  }
+
+  /**
+   * Returns the index of the first record that stores at least the given value, by a binary search.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param raw the value stored in a record
+   * @return the index of the first record whose value isn't less than the given one, or the number of records
+   */
+  private int indexOfRaw(final long raw) {
+    int low = 0;
+    int high = this.marks.size();
+    while (low < high) {
+      final int mid = (low + high) >>> 1;
+      if (this.marks.get(mid).raw < raw) {
+        low = mid + 1;
+      } else {
+        high = mid;
+      }
+    }
+    return low;
+  }
+
+  /**
+   * Removes the records of positions that have been collected. Called when the number of records has doubled, so that
+   * the cost is spread over the created positions.
+   * 
+   * @since Date: Oct 18, 2026
+   */
+  private void removeUnusedMarks() {
+    final Iterator<PosRec> it = this.marks.iterator();
+    while (it.hasNext()) {
+      if (it.next().isUnused()) {
+        it.remove();
+      }
+    }
+    this.purgeThreshold = Math.max(MIN_PURGE_THRESHOLD, 2 * this.marks.size());
+  }
+
+  /**
+   * Returns the offsets of the positions in the given range, so that they can be restored after the range has been
+   * removed and inserted again.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param offset the offset of the range
+   * @param length the length of the range
+   * @return the records of the positions and their offsets, or {@code null} if there are no positions
+   */
+  private List<UndoPosRef> getPositionsInRange(final int offset, final int length) {
+    if (this.marks == null) {
+      return null;
+    }
+    final List<UndoPosRef> positions = new ArrayList<UndoPosRef>();
+    final int end = indexOfRaw(toRaw(offset + length + 1));
+    for (int i = indexOfRaw(toRaw(offset)); i < end; ++i) {
+      final PosRec mark = this.marks.get(i);
+      if (!mark.isUnused()) {
+        positions.add(new UndoPosRef(mark, getOffset(mark)));
+      }
+    }
+    return positions;
+  }
+
+  /**
+   * Restores the offsets of the given positions.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param positions the records and offsets returned by {@link #getPositionsInRange(int, int)}
+   */
+  private void restorePositions(final List<UndoPosRef> positions) {
+    if (positions == null || positions.isEmpty()) {
+      return;
+    }
+    for (final UndoPosRef p : positions) {
+      p.rec.raw = toRaw(p.location);
+    }
+    // the restored records are usually still in order, then sorting doesn't move anything
+    Collections.sort(this.marks, PosRec.ORDER);
+  }
+
+  /**
+   * A piece of the text and the root of a subtree. Nodes are never modified.
+   * 
+   * @author croesch
+   * @since Date: Oct 18, 2026
+   */
+  private static final class Node implements Serializable {
+
+    /** generated serial version UID */
+    private static final long serialVersionUID = -2870377826408146427L;
+
+    /** the offset of the piece in the buffer */
+    private final int start;
+
+    /** the length of the piece */
+    private final int length;
+
+    /** the priority of the node, higher priorities are nearer to the root */
+    private final int priority;
+
+    /** the subtree of the text before this piece */
+    private final Node left;
+
+    /** the subtree of the text after this piece */
+    private final Node right;
+
+    /** the length of the text of the subtree */
+    private final int total;
+
+    /**
+     * Constructs a node.
+     * 
+     * @since Date: Oct 18, 2026
+     * @param s the offset of the piece in the buffer
+     * @param len the length of the piece
+     * @param p the priority of the node
+     * @param l the subtree of the text before this piece
+     * @param r the subtree of the text after this piece
+     */
+    Node(final int s, final int len, final int p, final Node l, final Node r) {
+      this.start = s;
+      this.length = len;
+      this.priority = p;
+      this.left = l;
+      this.right = r;
+      this.total = total(l) + len + total(r);
+    }
+  }
+
+  /**
+   * Finds the piece that contains a character.
+   * 
+   * @author croesch
+   * @since Date: Oct 18, 2026
+   */
+  private static final class Cursor {
+
+    /** the offset of the found piece in the text */
+    private int start = 0;
+
+    /** the offset after the found piece in the text */
+    private int end = 0;
+
+    /** the offset of the found piece in the buffer */
+    private int bufferStart = 0;
+
+    /**
+     * Finds the piece of the given tree that contains the given character.
+     * 
+     * @since Date: Oct 18, 2026
+     * @param root the root of the tree
+     * @param pos the offset of the character in the text, must be part of the tree
+     */
+    void locate(final Node root, final int pos) {
+      Node n = root;
+      int base = 0;
+      while (true) {
+        final int leftTotal = total(n.left);
+        if (pos < base + leftTotal) {
+          n = n.left;
+        } else if (pos < base + leftTotal + n.length) {
+          this.start = base + leftTotal;
+          this.end = this.start + n.length;
+          this.bufferStart = n.start;
+          return;
+        } else {
+          base += leftTotal + n.length;
+          n = n.right;
+        }
+      }
+    }
+  }
+
+  /**
+   * An unmodifiable view of a range of the text, that holds the tree and the buffer of the time it was created.
+   * 
+   * @author croesch
+   * @since Date: Oct 18, 2026
+   */
+  private static final class Snapshot implements CharSequence {
+
+    /** the root of the tree when the snapshot was created */
+    private final Node root;
+
+    /** the buffer when the snapshot was created */
+    private final char[] buffer;
+
+    /** the offset of the first character in the text */
+    private final int from;
+
+    /** the number of characters */
+    private final int length;
+
+    /** the piece of the last read character, to read following characters without searching the tree */
+    private final Cursor cursor = new Cursor();
+
+    /**
+     * Constructs a view of the given range.
+     * 
+     * @since Date: Oct 18, 2026
+     * @param r the root of the tree
+     * @param buf the buffer the pieces refer to
+     * @param f the offset of the first character in the text
+     * @param len the number of characters
+     */
+    Snapshot(final Node r, final char[] buf, final int f, final int len) {
+      this.root = r;
+      this.buffer = buf;
+      this.from = f;
+      this.length = len;
+    }
+
+    @Override
+    public int length() {
+      return this.length;
+    }
+
+    @Override
+    public char charAt(final int index) {
+      if (index < 0 || index >= this.length) {
+        throw new IndexOutOfBoundsException("index: " + index + ", length: " + this.length);
+      }
+      final int pos = this.from + index;
+      if (pos < this.cursor.start || pos >= this.cursor.end) {
+        this.cursor.locate(this.root, pos);
+      }
+      return this.buffer[this.cursor.bufferStart + pos - this.cursor.start];
+    }
+
+    @Override
+    public CharSequence subSequence(final int start, final int end) {
+      if (start < 0 || end > this.length || start > end) {
+        throw new IndexOutOfBoundsException("start: " + start + ", end: " + end + ", length: " + this.length);
+      }
+      return new Snapshot(this.root, this.buffer, this.from + start, end - start);
+    }
+
+    @Override
+    public String toString() {
+      final char[] chars = new char[this.length];
+      copy(this.root, 0, this.from, this.from + this.length, this.buffer, chars);
+      return new String(chars);
+    }
+  }
+
+  /**
+   * The record of a position that holds its offset, separated from the position, so that the position can be
+   * collected if it isn't used anymore.
+   * 
+   * @author croesch
+   * @since Date: Oct 18, 2026
+   */
+  private static final class PosRec {
+
+    /** orders the records by their stored values, so by the offsets of their positions */
+    static final Comparator<PosRec> ORDER = new Comparator<PosRec>() {
+      @Override
+      public int compare(final PosRec r1, final PosRec r2) {
+        if (r1.raw < r2.raw) {
+          return -1;
+        }
+        if (r1.raw > r2.raw) {
+          return 1;
+        }
+        return 0;
+      }
+    };
+
+    /** the offset of the position, plus the length of the gap if the position is behind the gap */
+    private long raw;
+
+    /** the position, to detect that it isn't used anymore */
+    private final WeakReference<Position> owner;
+
+    /**
+     * Constructs the record of the given position.
+     * 
+     * @since Date: Oct 18, 2026
+     * @param r the offset of the position, plus the length of the gap if the position is behind the gap
+     * @param pos the position
+     */
+    PosRec(final long r, final Position pos) {
+      this.raw = r;
+      this.owner = new WeakReference<Position>(pos);
+    }
+
+    /**
+     * Whether the position has been collected.
+     * 
+     * @since Date: Oct 18, 2026
+     * @return {@code true}, if the record can be removed
+     */
+    boolean isUnused() {
+      return this.owner.get() == null;
+    }
+  }
+
+  /**
+   * The offset a position had before the text around it has been removed.
+   * 
+   * @author croesch
+   * @since Date: Oct 18, 2026
+   */
+  private static final class UndoPosRef {
+
+    /** the record of the position */
+    private final PosRec rec;
+
+    /** the offset to restore */
+    private final int location;
+
+    /**
+     * Remembers the current offset of the given position.
+     * 
+     * @since Date: Oct 18, 2026
+     * @param r the record of the position
+     * @param l the current offset of the position
+     */
+    UndoPosRef(final PosRec r, final int l) {
+      this.rec = r;
+      this.location = l;
+    }
+  }
+
+  /**
+   * A position that moves with the changes of the content.
+   * 
+   * @author croesch
+   * @since Date: Oct 18, 2026
+   */
+  private final class StickyPosition implements Position {
+
+    /** the record that holds the offset */
+    private final PosRec rec;
+
+    /**
+     * Constructs a position with the given record value.
+     * 
+     * @since Date: Oct 18, 2026
+     * @param raw the initial offset, plus the length of the gap if the position is behind the gap
+     */
+    StickyPosition(final long raw) {
+      this.rec = new PosRec(raw, this);
+    }
+
+    @Override
+    public int getOffset() {
+      return PieceTableContent.this.getOffset(this.rec);
+    }
+
+    @Override
+    public String toString() {
+      return Integer.toString(getOffset());
+    }
+  }
+
+  /**
+   * The edit to undo an insertion.
+   * 
+   * @author croesch
+   * @since Date: Oct 18, 2026
+   */
+  private final class InsertUndo extends AbstractUndoableEdit {
+
+    /** generated serial version UID */
+    private static final long serialVersionUID = -1386302151620522592L;
+
+    /** the offset of the inserted text */
+    private final int offset;
+
+    /** the length of the inserted text */
+    private final int length;
+
+    /** the inserted text, only known after the edit has been undone */
+    private String string;
+
+    /** the positions in the range of the inserted text, only known after the edit has been undone */
+    private List<UndoPosRef> positions;
+
+    /**
+     * Constructs the edit of the given insertion.
+     * 
+     * @since Date: Oct 18, 2026
+     * @param o the offset of the inserted text
+     * @param len the length of the inserted text
+     */
+    InsertUndo(final int o, final int len) {
+      this.offset = o;
+      this.length = len;
+    }
+
+    @Override
+    public void undo() throws CannotUndoException {
+      super.undo();
+      try {
+        this.positions = getPositionsInRange(this.offset, this.length);
+        this.string = getString(this.offset, this.length);
+        remove(this.offset, this.length);
+      } catch (final BadLocationException e) {
+        throw new CannotUndoException();
+      }
+    }
+
+    @Override
+    public void redo() throws CannotRedoException {
+      super.redo();
+      try {
+        insertString(this.offset, this.string);
+        this.string = null;
+        restorePositions(this.positions);
+        this.positions = null;
+      } catch (final BadLocationException e) {
+        throw new CannotRedoException();
+      }
+    }
+  }
+
+  /**
+   * The edit to undo a removal.
+   * 
+   * @author croesch
+   * @since Date: Oct 18, 2026
+   */
+  private final class RemoveUndo extends AbstractUndoableEdit {
+
+    /** generated serial version UID */
+    private static final long serialVersionUID = 7001498839187232312L;
+
+    /** the offset of the removed text */
+    private final int offset;
+
+    /** the removed text */
+    private final String string;
+
+    /** the positions in the range of the removed text */
+    private List<UndoPosRef> positions;
+
+    /**
+     * Constructs the edit of the given removal.
+     * 
+     * @since Date: Oct 18, 2026
+     * @param o the offset of the removed text
+     * @param str the removed text
+     */
+    RemoveUndo(final int o, final String str) {
+      this.offset = o;
+      this.string = str;
+      this.positions = getPositionsInRange(o, str.length());
+    }
+
+    @Override
+    public void undo() throws CannotUndoException {
+      super.undo();
+      try {
+        insertString(this.offset, this.string);
+        restorePositions(this.positions);
+        this.positions = null;
+      } catch (final BadLocationException e) {
+        throw new CannotUndoException();
+      }
+    }
+
+    @Override
+    public void redo() throws CannotRedoException {
+      super.redo();
+      try {
+        this.positions = getPositionsInRange(this.offset, this.string.length());
+        remove(this.offset, this.string.length());
+      } catch (final BadLocationException e) {
+        throw new CannotRedoException();
+      }
+    }
+  }
+}
@@ -18,6 +18,8 @@
  */
 package com.github.croesch.contents;
 
+import java.util.Arrays;
+
 /**
  * This is a document to define a regular expression for its content
  * 
@@ -32,6 +34,24 @@ public class RegexContent extends CContent {
   /** the regular expression for the content, that should be matched */
   private String regularExpression;
 
+  /** the rule that matches the text with the current settings - created lazily */
+  private transient volatile RegexValidator rule;
+
+  /** whether input that isn't matched yet, but could be by appending characters, is valid */
+  private boolean acceptingPrefixes = false;
+
+  /** the maximum number of characters the matcher may read for one check, <= 0 equals infinity */
+  private long maxMatchingSteps = 0;
+
+  /** the maximum number of microseconds the matcher may spend for one check, <= 0 equals infinity */
+  private long maxMatchingTime = 0;
+
+  /** whether the content is valid if the matching has been aborted */
+  private boolean validIfTimedOut = false;
+
+  /** the key of the current rules for the {@link ValidationCache} - created lazily */
+  private transient Object validationKey;
+
   /**
    * Constructs a document with the given regular expression
    * 
@@ -42,6 +62,19 @@ public class RegexContent extends CContent {
     setRegularExpression(regex);
   }
 
+  /**
+   * Constructs a document with the given regular expression, that stores its text in the given storage.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param regex initial regular expression
+   * @param storage the storage for the text of the content
+   * @see CContent#CContent(javax.swing.text.AbstractDocument.Content)
+   */
+  public RegexContent(final String regex, final Content storage) {
+    super(storage);
+    setRegularExpression(regex);
+  }
+
   /**
    * The current regular expression
    * 
@@ -59,12 +92,170 @@ public class RegexContent extends CContent {
    * @param regex the regular expression to set
    */
   public final void setRegularExpression(final String regex) {
+    // compile now to fail early, the pattern is shared with the rule
+    PatternCache.getPattern(regex);
+    this.rule = null;
     this.regularExpression = regex;
+    this.validationKey = null;
     checkForErrors();
   }
 
+  /**
+   * Returns whether input that doesn't match the regular expression is valid, if it could match by appending more
+   * characters.
+   * 
+   * @since Date: Oct 18, 2026
+   * @return {@code true}, if prefixes of matching input are valid
+   */
+  public final boolean isAcceptingPrefixes() {
+    return this.acceptingPrefixes;
+  }
+
+  /**
+   * Sets whether input that doesn't match the regular expression is valid, if it could match by appending more
+   * characters. This allows to accept partially typed input, i.e. <code>12</code> for <code>[0-9]{4}</code>.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param accept {@code true}, if prefixes of matching input should be valid
+   */
+  public final void setAcceptingPrefixes(final boolean accept) {
+    this.acceptingPrefixes = accept;
+    this.rule = null;
+    this.validationKey = null;
+    checkForErrors();
+  }
+
+  /**
+   * The maximum number of characters the matcher may read for one check. Each step of the matcher reads a character,
+   * so this limits the backtracking of the regular expression.
+   * 
+   * @since Date: Oct 18, 2026
+   * @return the maximum number of steps, or {@code 0} if there is no maximum
+   */
+  public final long getMaximumMatchingSteps() {
+    return this.maxMatchingSteps;
+  }
+
+  /**
+   * Sets the maximum number of characters the matcher may read for one check, <= 0 equals no maximum. If the matcher
+   * exceeds it, the matching is aborted and the content is treated as defined by {@link #setValidIfTimedOut(boolean)}.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param max the maximum number of steps, or {@code 0} for no maximum
+   */
+  public final void setMaximumMatchingSteps(final long max) {
+    this.maxMatchingSteps = Math.max(0, max);
+    this.rule = null;
+  }
+
+  /**
+   * The maximum time the matcher may spend for one check.
+   * 
+   * @since Date: Oct 18, 2026
+   * @return the maximum number of microseconds, or {@code 0} if there is no maximum
+   */
+  public final long getMaximumMatchingTime() {
+    return this.maxMatchingTime;
+  }
+
+  /**
+   * Sets the maximum time the matcher may spend for one check, <= 0 equals no maximum. If the matcher exceeds it, the
+   * matching is aborted and the content is treated as defined by {@link #setValidIfTimedOut(boolean)}.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param micros the maximum number of microseconds, or {@code 0} for no maximum
+   */
+  public final void setMaximumMatchingTime(final long micros) {
+    this.maxMatchingTime = Math.max(0, micros);
+    this.rule = null;
+  }
+
+  /**
+   * Whether the content is treated as valid, if the matching has been aborted because it exceeded its limits.
+   * 
+   * @since Date: Oct 18, 2026
+   * @return {@code true}, if the content is valid when the matching has been aborted
+   */
+  @Override
+  public final boolean isValidIfTimedOut() {
+    return this.validIfTimedOut;
+  }
+
+  /**
+   * Sets whether the content is treated as valid, if the matching has been aborted because it exceeded its limits.
+   * Default is {@code false}.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param valid {@code true}, if the content should be valid when the matching has been aborted
+   * @see #setMaximumMatchingSteps(long)
+   * @see #setMaximumMatchingTime(long)
+   */
+  public final void setValidIfTimedOut(final boolean valid) {
+    this.validIfTimedOut = valid;
+  }
+
+  /**
+   * {@inheritDoc}<br>
+   * Contents with the same regular expression share their results, if they also agree on accepting prefixes.
+   */
+  @Override
+  protected final Object getValidationKey() {
+    Object key = this.validationKey;
+    if (key == null) {
+      key = Arrays.asList(RegexContent.class, this.regularExpression, Boolean.valueOf(this.acceptingPrefixes));
+      this.validationKey = key;
+    }
+    return key;
+  }
+
+  @Override
+  protected final int getValidationCost() {
+    return Validators.COST_REGEX;
+  }
+
   @Override
   public final boolean isValidInput(final String text) {
-    return text.matches(getRegularExpression());
+    return isValidInput((CharSequence) text);
+  }
+
+  /**
+   * {@inheritDoc}<br>
+   * If the matching has been aborted, the result of {@link #isValidIfTimedOut()} is returned.
+   */
+  @Override
+  public final boolean isValidInput(final CharSequence text) {
+    final Boolean valid = matches(text);
+    if (valid == null) {
+      // the matching has been aborted, so we don't know the real state
+      return isValidIfTimedOut();
+    }
+    return valid.booleanValue();
+  }
+
+  @Override
+  protected final Boolean checkInput(final CharSequence text) {
+    return matches(text);
+  }
+
+  /**
+   * Matches the given text with the regular expression, within the limits of matching.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param text the characters to match
+   * @return whether the text is valid or {@code null} if the matching has been aborted because it exceeded its limits
+   */
+  private Boolean matches(final CharSequence text) {
+    if (text == null) {
+      return Boolean.FALSE;
+    }
+    RegexValidator r = this.rule;
+    if (r == null) {
+      r = new RegexValidator(PatternCache.getPattern(this.regularExpression),
+                             this.acceptingPrefixes,
+                             this.maxMatchingSteps,
+                             this.maxMatchingTime);
+      this.rule = r;
+    }
+    return r.matches(text);
   }
 }
@@ -0,0 +1,151 @@
+/*
+ * Copyright (C) 2011  Christian Roesch
+ * 
+ * This file is part of crhcomponents.
+ * 
+ * crhcomponents is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * crhcomponents is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with crhcomponents.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.github.croesch.contents;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * A rule that matches the text with a regular expression. The matching can be limited in steps and time, to abort
+ * regular expressions with catastrophic backtracking. Used by {@link RegexContent} and
+ * {@link Validators#regex(String)}.
+ * 
+ * @author croesch
+ * @since Date: Oct 18, 2026
+ */
+final class RegexValidator implements Validator {
+
+  /** the number of nanoseconds of a microsecond */
+  private static final long MICROS_TO_NANOS = 1000L;
+
+  /** the compiled regular expression */
+  private final Pattern pattern;
+
+  /** whether texts that could match by appending characters are valid */
+  private final boolean acceptingPrefixes;
+
+  /** the maximum number of characters the matcher may read for one check, <= 0 equals infinity */
+  private final long maxSteps;
+
+  /** the maximum number of nanoseconds the matcher may spend for one check, <= 0 equals infinity */
+  private final long maxNanos;
+
+  /** the matcher of each thread, reset for each check */
+  private final MatcherCache matchers;
+
+  /**
+   * Constructs a rule with the given regular expression, that matches without limits.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param p the compiled regular expression
+   * @param prefixes whether texts that could match by appending characters are valid
+   */
+  RegexValidator(final Pattern p, final boolean prefixes) {
+    this(p, prefixes, 0, 0);
+  }
+
+  /**
+   * Constructs a rule with the given regular expression and limits of matching.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param p the compiled regular expression
+   * @param prefixes whether texts that could match by appending characters are valid
+   * @param steps the maximum number of characters the matcher may read for one check, <= 0 equals infinity
+   * @param micros the maximum number of microseconds the matcher may spend for one check, <= 0 equals infinity
+   */
+  RegexValidator(final Pattern p, final boolean prefixes, final long steps, final long micros) {
+    this.pattern = p;
+    this.acceptingPrefixes = prefixes;
+    this.maxSteps = Math.max(0, steps);
+    this.maxNanos = Math.max(0, micros) * MICROS_TO_NANOS;
+    this.matchers = new MatcherCache(p);
+  }
+
+  /**
+   * Matches the given text with the regular expression, within the limits of matching.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param text the characters to match, not {@code null}
+   * @return whether the text is valid or {@code null} if the matching has been aborted because it exceeded its limits
+   */
+  Boolean matches(final CharSequence text) {
+    CharSequence input = text;
+    if (this.maxSteps > 0 || this.maxNanos > 0) {
+      input = new BoundedCharSequence(text, this.maxSteps, this.maxNanos);
+    }
+
+    final Matcher matcher = this.matchers.get().reset(input);
+    try {
+      // if the matcher hit the end of the input, more input could lead to a match
+      return Boolean.valueOf(matcher.matches() || this.acceptingPrefixes && matcher.hitEnd());
+    } catch (final BoundedCharSequence.LimitExceededException e) {
+      return null;
+    } finally {
+      // don't keep a reference to the text
+      matcher.reset("");
+    }
+  }
+
+  /**
+   * {@inheritDoc}<br>
+   * A text is invalid, if the matching has been aborted because it exceeded its limits.
+   */
+  @Override
+  public boolean isValid(final CharSequence text) {
+    return Boolean.TRUE.equals(matches(text));
+  }
+
+  @Override
+  public int getCost() {
+    return Validators.COST_REGEX;
+  }
+
+  @Override
+  public String toString() {
+    return "regex[" + this.pattern.pattern() + "]";
+  }
+
+  /**
+   * Creates a {@link Matcher} of the regular expression for each thread, so that the rule can be checked by several
+   * threads at the same time without creating a matcher for each check.
+   * 
+   * @author croesch
+   * @since Date: Oct 18, 2026
+   */
+  private static final class MatcherCache extends ThreadLocal<Matcher> {
+
+    /** the compiled regular expression */
+    private final Pattern pattern;
+
+    /**
+     * Constructs the matchers of the given regular expression.
+     * 
+     * @since Date: Oct 18, 2026
+     * @param p the compiled regular expression
+     */
+    MatcherCache(final Pattern p) {
+      this.pattern = p;
+    }
+
+    @Override
+    protected Matcher initialValue() {
+      return this.pattern.matcher("");
+    }
+  }
+}
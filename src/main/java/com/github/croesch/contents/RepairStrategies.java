@@ -0,0 +1,193 @@
+/*
+ * Copyright (C) 2011  Christian Roesch
+ * 
+ * This file is part of crhcomponents.
+ * 
+ * crhcomponents is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * crhcomponents is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with crhcomponents.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.github.croesch.contents;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Locale;
+
+/**
+ * Provides the common {@link RepairStrategy}s.
+ * 
+ * @author croesch
+ * @since Date: Oct 18, 2026
+ */
+public final class RepairStrategies {
+
+  /** the strategy that cuts off what doesn't fit into the maximum length of the content */
+  private static final RepairStrategy TRUNCATE = new RepairStrategy() {
+    @Override
+    public String repair(final CContent content, final int offs, final String str) {
+      final int max = content.getMaximumInputLength();
+      if (max <= 0 || content.getLength() + str.length() <= max) {
+        return str;
+      }
+      return str.substring(0, Math.max(0, max - content.getLength()));
+    }
+
+    @Override
+    public String toString() {
+      return "truncate";
+    }
+  };
+
+  /**
+   * Hidden constructor.
+   * 
+   * @since Date: Oct 18, 2026
+   */
+  private RepairStrategies() {
+    throw new AssertionError("Invocation of utility class constructor.");
+  }
+
+  /**
+   * Returns the strategy that cuts off the end of the inserted text, so that the content doesn't exceed its
+   * {@link CContent#getMaximumInputLength()}.
+   * 
+   * @since Date: Oct 18, 2026
+   * @return the strategy that truncates the inserted text
+   */
+  public static RepairStrategy truncate() {
+    return TRUNCATE;
+  }
+
+  /**
+   * Returns the strategy that removes all characters from the inserted text that aren't allowed.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param allowed the characters that are allowed
+   * @return the strategy that strips disallowed characters
+   * @throws IllegalArgumentException if the given characters are {@code null}
+   */
+  public static RepairStrategy strip(final CharSequence allowed) throws IllegalArgumentException {
+    if (allowed == null) {
+      throw new IllegalArgumentException(">null< is not allowed.");
+    }
+    final BitSet chars = new BitSet();
+    for (int i = 0; i < allowed.length(); ++i) {
+      chars.set(allowed.charAt(i));
+    }
+    return new RepairStrategy() {
+      @Override
+      public String repair(final CContent content, final int offs, final String str) {
+        StringBuilder sb = null;
+        for (int i = 0; i < str.length(); ++i) {
+          final char c = str.charAt(i);
+          if (!chars.get(c)) {
+            if (sb == null) {
+              // copy only if there is something to strip
+              sb = new StringBuilder(str.length()).append(str, 0, i);
+            }
+          } else if (sb != null) {
+            sb.append(c);
+          }
+        }
+        return sb == null ? str : sb.toString();
+      }
+
+      @Override
+      public String toString() {
+        return "strip" + chars;
+      }
+    };
+  }
+
+  /**
+   * Returns the strategy that converts the inserted text to upper case.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param locale the locale that defines the rules of conversion
+   * @return the strategy that converts to upper case
+   * @throws IllegalArgumentException if the given locale is {@code null}
+   */
+  public static RepairStrategy upperCase(final Locale locale) throws IllegalArgumentException {
+    if (locale == null) {
+      throw new IllegalArgumentException(">null< is not allowed.");
+    }
+    return new RepairStrategy() {
+      @Override
+      public String repair(final CContent content, final int offs, final String str) {
+        return str.toUpperCase(locale);
+      }
+
+      @Override
+      public String toString() {
+        return "upperCase[" + locale + "]";
+      }
+    };
+  }
+
+  /**
+   * Returns the strategy that converts the inserted text to lower case.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param locale the locale that defines the rules of conversion
+   * @return the strategy that converts to lower case
+   * @throws IllegalArgumentException if the given locale is {@code null}
+   */
+  public static RepairStrategy lowerCase(final Locale locale) throws IllegalArgumentException {
+    if (locale == null) {
+      throw new IllegalArgumentException(">null< is not allowed.");
+    }
+    return new RepairStrategy() {
+      @Override
+      public String repair(final CContent content, final int offs, final String str) {
+        return str.toLowerCase(locale);
+      }
+
+      @Override
+      public String toString() {
+        return "lowerCase[" + locale + "]";
+      }
+    };
+  }
+
+  /**
+   * Returns the strategy that applies the given strategies one after another. Strategies that shorten the text, like
+   * {@link #truncate()}, should be the last ones.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param strategies the strategies to apply in the given order
+   * @return the strategy combining the given strategies
+   * @throws IllegalArgumentException if one of the given strategies is {@code null}
+   */
+  public static RepairStrategy chain(final RepairStrategy ... strategies) throws IllegalArgumentException {
+    final RepairStrategy[] copy = strategies.clone();
+    for (final RepairStrategy s : copy) {
+      if (s == null) {
+        throw new IllegalArgumentException(">null< is not allowed.");
+      }
+    }
+    return new RepairStrategy() {
+      @Override
+      public String repair(final CContent content, final int offs, final String str) {
+        String text = str;
+        for (final RepairStrategy s : copy) {
+          text = s.repair(content, offs, text);
+        }
+        return text;
+      }
+
+      @Override
+      public String toString() {
+        return "chain" + Arrays.toString(copy);
+      }
+    };
+  }
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright (C) 2011  Christian Roesch
+ * 
+ * This file is part of crhcomponents.
+ * 
+ * crhcomponents is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * crhcomponents is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with crhcomponents.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.github.croesch.contents;
+
+/**
+ * Transforms text before it is inserted into a {@link RepairableContent}, so that the content doesn't have to be
+ * repaired after the insertion. Implementations have to be stateless or thread safe, so that they can be shared by
+ * several contents.
+ * 
+ * @author croesch
+ * @since Date: Oct 18, 2026
+ * @see RepairStrategies
+ * @see RepairableContent#setRepairStrategy(RepairStrategy)
+ */
+public interface RepairStrategy {
+
+  /**
+   * Returns the text that should be inserted instead of the given text.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param content the content the text is inserted into, still without the text
+   * @param offs the offset the text is inserted at
+   * @param str the text to insert, not {@code null}
+   * @return the repaired text to insert, the given text if nothing has to be repaired
+   */
+  String repair(CContent content, int offs, String str);
+}
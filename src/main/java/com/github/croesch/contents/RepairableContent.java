@@ -21,6 +21,8 @@ package com.github.croesch.contents;
 import javax.swing.text.AttributeSet;
 import javax.swing.text.BadLocationException;
 
+import com.github.croesch.logging.Log;
+
 /**
  * Provides methods to repair its content and to repair it automatically
  * 
@@ -35,6 +37,29 @@ public class RepairableContent extends CContent {
   /** if the content is auto reparable - default: {@code false} */
   private boolean autoRepair = false;
 
+  /** the strategy that repairs text before it is inserted, {@code null} if the content is repaired afterwards */
+  private transient RepairStrategy strategy = null;
+
+  /**
+   * Constructs a content with the default storage for its text.
+   * 
+   * @since Date: Oct 18, 2026
+   */
+  public RepairableContent() {
+    super();
+  }
+
+  /**
+   * Constructs a content that stores its text in the given storage.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param storage the storage for the text of the content
+   * @see CContent#CContent(javax.swing.text.AbstractDocument.Content)
+   */
+  public RepairableContent(final Content storage) {
+    super(storage);
+  }
+
   /**
    * Repairs the content
    * 
@@ -59,6 +84,20 @@ public class RepairableContent extends CContent {
     return isAutoRepairContent() || super.isValidInput(text);
   }
 
+  @Override
+  public final boolean isValidInput(final CharSequence text) {
+    return isAutoRepairContent() || super.isValidInput(text);
+  }
+
+  @Override
+  protected final Boolean isValidChange(final boolean wasValid,
+                                        final int offs,
+                                        final int removedLength,
+                                        final String inserted,
+                                        final int newLength) {
+    return Boolean.valueOf(isAutoRepairContent() || isValidLength(newLength));
+  }
+
   /**
    * @since Date: Jan 13, 2011
    * @return {@code true}, if it repairs its content automatically
@@ -77,10 +116,55 @@ public class RepairableContent extends CContent {
     this.autoRepair = auto;
   }
 
+  /**
+   * Sets the strategy that repairs text before it is inserted, if the content is repaired automatically. So each
+   * insertion changes the document only once, instead of inserting the text and removing what is too much afterwards.
+   * <br>
+   * If the repaired text still exceeds the maximum length, the content is repaired after the insertion as before.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param s the strategy to repair inserted text, {@code null} to only repair after the insertion
+   * @see RepairStrategies
+   */
+  public final void setRepairStrategy(final RepairStrategy s) {
+    this.strategy = s;
+  }
+
+  /**
+   * Returns the strategy that repairs text before it is inserted.
+   * 
+   * @since Date: Oct 18, 2026
+   * @return the strategy to repair inserted text, or {@code null} if the content is only repaired afterwards
+   * @see #setRepairStrategy(RepairStrategy)
+   */
+  public final RepairStrategy getRepairStrategy() {
+    return this.strategy;
+  }
+
+  /**
+   * {@inheritDoc}<br>
+   * Repairs the content once, if it is repaired automatically, because repairing is skipped during an edit.
+   */
   @Override
-  public final void insertString(final int offs, final String str, final AttributeSet a) throws BadLocationException {
-    super.insertString(offs, str, a);
+  protected final void finishEdit() {
     if (isAutoRepairContent()) {
+      try {
+        repair();
+      } catch (final BadLocationException e) {
+        Log.error(e);
+      }
+    }
+  }
+
+  @Override
+  public final void insertString(final int offs, final String str, final AttributeSet a) throws BadLocationException {
+    final RepairStrategy s = this.strategy;
+    if (str != null && s != null && isAutoRepairContent()) {
+      super.insertString(offs, s.repair(this, offs, str), a);
+    } else {
+      super.insertString(offs, str, a);
+    }
+    if (isAutoRepairContent() && !isInEdit()) {
       repair();
     }
   }
@@ -88,7 +172,7 @@ public class RepairableContent extends CContent {
   @Override
   public final void remove(final int offs, final int len) throws BadLocationException {
     super.remove(offs, len);
-    if (isAutoRepairContent()) {
+    if (isAutoRepairContent() && !isInEdit()) {
       repair();
     }
   }
@@ -97,7 +181,7 @@ public class RepairableContent extends CContent {
   public final void replace(final int offset, final int length, final String text, final AttributeSet attrs)
                                                                                                             throws BadLocationException {
     super.replace(offset, length, text, attrs);
-    if (isAutoRepairContent()) {
+    if (isAutoRepairContent() && !isInEdit()) {
       repair();
     }
   }
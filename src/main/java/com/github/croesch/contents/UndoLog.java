@@ -0,0 +1,338 @@
+/*
+ * Copyright (C) 2011  Christian Roesch
+ * 
+ * This file is part of crhcomponents.
+ * 
+ * crhcomponents is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * crhcomponents is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with crhcomponents.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.github.croesch.contents;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * The log of the changes of a {@link CContent} to undo and redo them. Consecutive typing or deleting of single
+ * characters is coalesced into one record that stores the characters of the run, instead of one edit per keystroke.
+ * The memory used by the records is estimated and limited, the oldest records are discarded first.<br>
+ * The changes recorded during one edit of the content form a group that is undone and redone at once.
+ * 
+ * @author croesch
+ * @since Date: Oct 18, 2026
+ */
+final class UndoLog {
+
+  /** the estimated number of bytes used by a record without its characters */
+  static final int RECORD_OVERHEAD = 64;
+
+  /**
+   * A recorded insertion or removal of characters.
+   * 
+   * @author croesch
+   * @since Date: Oct 18, 2026
+   */
+  static final class Record {
+
+    /** whether the characters have been inserted, otherwise they have been removed */
+    private final boolean insert;
+
+    /** the offset of the characters in the document */
+    private int offset;
+
+    /** the inserted or removed characters */
+    private final StringBuilder text;
+
+    /** whether the record was created by a single character, so that following single characters can be added */
+    private final boolean coalescing;
+
+    /** whether the record belongs to the same group as the record before it */
+    private final boolean linked;
+
+    /**
+     * Constructs a record of the given change.
+     * 
+     * @since Date: Oct 18, 2026
+     * @param ins whether the characters have been inserted
+     * @param offs the offset of the characters
+     * @param str the characters
+     * @param link whether the record belongs to the group of the record before it
+     */
+    Record(final boolean ins, final int offs, final String str, final boolean link) {
+      this.insert = ins;
+      this.offset = offs;
+      this.text = new StringBuilder(str);
+      this.coalescing = str.length() == 1 && !link;
+      this.linked = link;
+    }
+
+    /**
+     * Returns whether the characters have been inserted.
+     * 
+     * @since Date: Oct 18, 2026
+     * @return {@code true}, if the characters have been inserted, {@code false} if they have been removed
+     */
+    boolean isInsert() {
+      return this.insert;
+    }
+
+    /**
+     * Returns the offset of the characters in the document.
+     * 
+     * @since Date: Oct 18, 2026
+     * @return the offset of the characters
+     */
+    int getOffset() {
+      return this.offset;
+    }
+
+    /**
+     * Returns the inserted or removed characters.
+     * 
+     * @since Date: Oct 18, 2026
+     * @return the characters of this record
+     */
+    String getText() {
+      return this.text.toString();
+    }
+
+    /**
+     * Returns whether the record belongs to the same group as the record before it.
+     * 
+     * @since Date: Oct 18, 2026
+     * @return {@code true}, if it has to be undone and redone together with the record before it
+     */
+    boolean isLinked() {
+      return this.linked;
+    }
+
+    /**
+     * Adds the given single character to this record, if it continues the run of this record.
+     * 
+     * @since Date: Oct 18, 2026
+     * @param ins whether the character has been inserted
+     * @param offs the offset of the character
+     * @param c the character
+     * @return {@code true}, if the character has been added
+     */
+    boolean coalesce(final boolean ins, final int offs, final char c) {
+      if (!this.coalescing || ins != this.insert) {
+        return false;
+      }
+      if (this.insert ? offs == this.offset + this.text.length() : offs == this.offset) {
+        // typing, or deleting forward
+        this.text.append(c);
+        return true;
+      }
+      if (!this.insert && offs + 1 == this.offset) {
+        // deleting backward
+        this.text.insert(0, c);
+        this.offset = offs;
+        return true;
+      }
+      return false;
+    }
+
+    /**
+     * Returns the estimated number of bytes used by this record.
+     * 
+     * @since Date: Oct 18, 2026
+     * @return the estimated size of this record
+     */
+    long getWeight() {
+      return RECORD_OVERHEAD + 2L * this.text.length();
+    }
+  }
+
+  /** the maximum number of bytes used by the records */
+  private final long limit;
+
+  /** the records to undo, the newest last */
+  private final Deque<Record> undoRecords = new ArrayDeque<Record>();
+
+  /** the records to redo, the next one to redo last */
+  private final Deque<Record> redoRecords = new ArrayDeque<Record>();
+
+  /** the estimated number of bytes used by all records */
+  private long weight = 0;
+
+  /** whether the next record of the current edit belongs to the group of the previous record */
+  private boolean groupOpen = false;
+
+  /**
+   * Constructs a log that uses at most the given number of bytes.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param maxBytes the maximum number of bytes used by the records
+   */
+  UndoLog(final long maxBytes) {
+    this.limit = maxBytes;
+  }
+
+  /**
+   * Returns the maximum number of bytes used by the records.
+   * 
+   * @since Date: Oct 18, 2026
+   * @return the limit of this log
+   */
+  long getLimit() {
+    return this.limit;
+  }
+
+  /**
+   * Returns the estimated number of bytes used by the records.
+   * 
+   * @since Date: Oct 18, 2026
+   * @return the estimated size of this log
+   */
+  long getWeight() {
+    return this.weight;
+  }
+
+  /**
+   * Records the given change of the content. All records to redo are discarded.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param insert whether the characters have been inserted, otherwise they have been removed
+   * @param offs the offset of the characters
+   * @param str the characters
+   * @param inEdit whether the change is made during an edit of the content
+   */
+  void record(final boolean insert, final int offs, final String str, final boolean inEdit) {
+    clearRedo();
+    final boolean link = inEdit && this.groupOpen;
+    this.groupOpen = inEdit;
+    final Record last = this.undoRecords.peekLast();
+    if (!link && str.length() == 1 && last != null && last.coalesce(insert, offs, str.charAt(0))) {
+      this.weight += 2;
+    } else {
+      final Record r = new Record(insert, offs, str, link);
+      this.undoRecords.addLast(r);
+      this.weight += r.getWeight();
+    }
+    evict();
+  }
+
+  /**
+   * Ends the group of the current edit, so that the next change starts a new group.
+   * 
+   * @since Date: Oct 18, 2026
+   */
+  void closeGroup() {
+    this.groupOpen = false;
+  }
+
+  /**
+   * Discards the oldest groups of records, until the records use at most the maximum number of bytes.
+   * 
+   * @since Date: Oct 18, 2026
+   */
+  private void evict() {
+    while (this.weight > this.limit && !this.undoRecords.isEmpty()) {
+      this.weight -= this.undoRecords.removeFirst().getWeight();
+      while (!this.undoRecords.isEmpty() && this.undoRecords.peekFirst().isLinked()) {
+        this.weight -= this.undoRecords.removeFirst().getWeight();
+      }
+    }
+  }
+
+  /**
+   * Discards all records to redo.
+   * 
+   * @since Date: Oct 18, 2026
+   */
+  private void clearRedo() {
+    while (!this.redoRecords.isEmpty()) {
+      this.weight -= this.redoRecords.removeLast().getWeight();
+    }
+  }
+
+  /**
+   * Discards all records.
+   * 
+   * @since Date: Oct 18, 2026
+   */
+  void clear() {
+    this.undoRecords.clear();
+    this.redoRecords.clear();
+    this.weight = 0;
+    this.groupOpen = false;
+  }
+
+  /**
+   * Whether there is a record to undo.
+   * 
+   * @since Date: Oct 18, 2026
+   * @return {@code true}, if there is a record to undo
+   */
+  boolean canUndo() {
+    return !this.undoRecords.isEmpty();
+  }
+
+  /**
+   * Whether there is a record to redo.
+   * 
+   * @since Date: Oct 18, 2026
+   * @return {@code true}, if there is a record to redo
+   */
+  boolean canRedo() {
+    return !this.redoRecords.isEmpty();
+  }
+
+  /**
+   * Moves the next record to undo into the records to redo. The records of a group are returned one after another,
+   * starting with the newest.
+   * 
+   * @since Date: Oct 18, 2026
+   * @return the record to undo
+   */
+  Record nextUndo() {
+    this.groupOpen = false;
+    final Record r = this.undoRecords.removeLast();
+    this.redoRecords.addLast(r);
+    return r;
+  }
+
+  /**
+   * Whether the last returned record to undo has been linked to the next record to undo.
+   * 
+   * @since Date: Oct 18, 2026
+   * @return {@code true}, if the group to undo has more records
+   */
+  boolean hasMoreUndoInGroup() {
+    return this.redoRecords.peekLast().isLinked() && !this.undoRecords.isEmpty();
+  }
+
+  /**
+   * Moves the next record to redo into the records to undo. The records of a group are returned one after another,
+   * starting with the oldest.
+   * 
+   * @since Date: Oct 18, 2026
+   * @return the record to redo
+   */
+  Record nextRedo() {
+    this.groupOpen = false;
+    final Record r = this.redoRecords.removeLast();
+    this.undoRecords.addLast(r);
+    return r;
+  }
+
+  /**
+   * Whether the next record to redo belongs to the group of the last returned record to redo.
+   * 
+   * @since Date: Oct 18, 2026
+   * @return {@code true}, if the group to redo has more records
+   */
+  boolean hasMoreRedoInGroup() {
+    return !this.redoRecords.isEmpty() && this.redoRecords.peekLast().isLinked();
+  }
+}
@@ -0,0 +1,361 @@
+/*
+ * Copyright (C) 2011  Christian Roesch
+ * 
+ * This file is part of crhcomponents.
+ * 
+ * crhcomponents is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * crhcomponents is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with crhcomponents.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.github.croesch.contents;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A bounded cache of validation results that can be shared by several {@link CContent}s and threads. A result is
+ * stored for the rules of a content, as returned by {@link CContent#getValidationKey()}, and the validated text. So
+ * contents with the same rules reuse the results for texts that have been validated before.<br>
+ * The cache is divided into segments, each with its own lock. If a segment exceeds its part of the maximum number of
+ * entries or the maximum weight, the least recently used entries are removed. The weight of an entry is the length of
+ * its text.
+ * 
+ * @author croesch
+ * @since Date: Oct 18, 2026
+ */
+public final class ValidationCache {
+
+  /** the number of segments of the cache */
+  private static final int SEGMENTS = 16;
+
+  /** the segments that store the entries */
+  private final Segment[] segments = new Segment[SEGMENTS];
+
+  /** the number of lookups that found a result */
+  private final AtomicLong hits = new AtomicLong();
+
+  /** the number of lookups that found no result */
+  private final AtomicLong misses = new AtomicLong();
+
+  /** the number of entries removed to keep the limits */
+  private final AtomicLong evictions = new AtomicLong();
+
+  /**
+   * Constructs a cache with the given limits.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param maxEntries the maximum number of results to store
+   * @param maxWeight the maximum number of characters of all validated texts together
+   * @throws IllegalArgumentException if one of the limits is less than one
+   */
+  public ValidationCache(final int maxEntries, final long maxWeight) throws IllegalArgumentException {
+    if (maxEntries < 1 || maxWeight < 1) {
+      throw new IllegalArgumentException("limits must be positive: >" + maxEntries + "<, >" + maxWeight + "<");
+    }
+    for (int i = 0; i < SEGMENTS; ++i) {
+      // distribute the limits, so that each segment can store at least one entry
+      this.segments[i] = new Segment(Math.max(1, maxEntries / SEGMENTS), Math.max(1, maxWeight / SEGMENTS));
+    }
+  }
+
+  /**
+   * Returns the stored result for the given rules and text.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param rules the object that identifies the rules the text has been validated with
+   * @param text the validated text, isn't copied for the lookup
+   * @return {@link Boolean#TRUE} or {@link Boolean#FALSE} if a result is stored, {@code null} otherwise
+   */
+  Boolean get(final Object rules, final CharSequence text) {
+    final Key key = new Key(rules, text);
+    final Boolean valid = segmentFor(key).get(key);
+    if (valid == null) {
+      this.misses.incrementAndGet();
+    } else {
+      this.hits.incrementAndGet();
+    }
+    return valid;
+  }
+
+  /**
+   * Stores the result for the given rules and text.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param rules the object that identifies the rules the text has been validated with
+   * @param text the validated text, is copied to be stored
+   * @param valid whether the text is valid
+   */
+  void put(final Object rules, final CharSequence text, final boolean valid) {
+    final Key key = new Key(rules, text.toString());
+    this.evictions.addAndGet(segmentFor(key).put(key, Boolean.valueOf(valid)));
+  }
+
+  /**
+   * Returns the segment that stores the given key.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param key the key to find the segment for
+   * @return the segment that stores the key
+   */
+  private Segment segmentFor(final Key key) {
+    // spread the bits of the hash, so that similar hashes don't end in the same segment
+    final int h = key.hashCode() ^ (key.hashCode() >>> 16);
+    return this.segments[h & (SEGMENTS - 1)];
+  }
+
+  /**
+   * Returns the number of lookups that found a stored result.
+   * 
+   * @since Date: Oct 18, 2026
+   * @return the number of cache hits
+   */
+  public long getHitCount() {
+    return this.hits.get();
+  }
+
+  /**
+   * Returns the number of lookups that found no stored result.
+   * 
+   * @since Date: Oct 18, 2026
+   * @return the number of cache misses
+   */
+  public long getMissCount() {
+    return this.misses.get();
+  }
+
+  /**
+   * Returns the number of results that have been removed to keep the limits of this cache.
+   * 
+   * @since Date: Oct 18, 2026
+   * @return the number of evictions
+   */
+  public long getEvictionCount() {
+    return this.evictions.get();
+  }
+
+  /**
+   * Returns the number of stored results.
+   * 
+   * @since Date: Oct 18, 2026
+   * @return the number of entries in this cache
+   */
+  public int size() {
+    int size = 0;
+    for (final Segment s : this.segments) {
+      size += s.size();
+    }
+    return size;
+  }
+
+  /**
+   * Returns the number of characters of all stored texts.
+   * 
+   * @since Date: Oct 18, 2026
+   * @return the weight of this cache
+   */
+  public long getWeight() {
+    long weight = 0;
+    for (final Segment s : this.segments) {
+      weight += s.getWeight();
+    }
+    return weight;
+  }
+
+  /**
+   * Removes all stored results. The statistics aren't reset.
+   * 
+   * @since Date: Oct 18, 2026
+   */
+  public void clear() {
+    for (final Segment s : this.segments) {
+      s.clear();
+    }
+  }
+
+  @Override
+  public String toString() {
+    return "ValidationCache[size=" + size() + ", weight=" + getWeight() + ", hits=" + getHitCount() + ", misses="
+           + getMissCount() + ", evictions=" + getEvictionCount() + "]";
+  }
+
+  /**
+   * The key of an entry, the rules and the text. A key for a lookup may contain any {@link CharSequence}, a stored key
+   * contains a {@link String}.
+   * 
+   * @author croesch
+   * @since Date: Oct 18, 2026
+   */
+  private static final class Key {
+
+    /** the object that identifies the rules */
+    private final Object rules;
+
+    /** the validated text */
+    private final CharSequence text;
+
+    /** the hash code of this key */
+    private final int hash;
+
+    /**
+     * Constructs a key of the given rules and text.
+     * 
+     * @since Date: Oct 18, 2026
+     * @param r the object that identifies the rules
+     * @param t the validated text
+     */
+    Key(final Object r, final CharSequence t) {
+      this.rules = r;
+      this.text = t;
+      // the same hash as String#hashCode(), but without copying the characters
+      int h = 0;
+      for (int i = 0; i < t.length(); ++i) {
+        h = 31 * h + t.charAt(i);
+      }
+      this.hash = 31 * r.hashCode() + h;
+    }
+
+    /**
+     * Returns the weight of this key.
+     * 
+     * @since Date: Oct 18, 2026
+     * @return the number of characters of the text
+     */
+    int getWeight() {
+      return this.text.length();
+    }
+
+    @Override
+    public int hashCode() {
+      return this.hash;
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+      if (this == obj) {
+        return true;
+      }
+      if (!(obj instanceof Key)) {
+        return false;
+      }
+      final Key other = (Key) obj;
+      if (this.hash != other.hash || this.text.length() != other.text.length() || !this.rules.equals(other.rules)) {
+        return false;
+      }
+      for (int i = 0; i < this.text.length(); ++i) {
+        if (this.text.charAt(i) != other.text.charAt(i)) {
+          return false;
+        }
+      }
+      return true;
+    }
+  }
+
+  /**
+   * A part of the cache with its own lock and limits.
+   * 
+   * @author croesch
+   * @since Date: Oct 18, 2026
+   */
+  private static final class Segment {
+
+    /** the entries ordered by their last access */
+    private final Map<Key, Boolean> entries = new LinkedHashMap<Key, Boolean>(16, 0.75f, true);
+
+    /** the maximum number of entries */
+    private final int maxEntries;
+
+    /** the maximum weight */
+    private final long maxWeight;
+
+    /** the weight of all entries */
+    private long weight = 0;
+
+    /**
+     * Constructs a segment with the given limits.
+     * 
+     * @since Date: Oct 18, 2026
+     * @param maxE the maximum number of entries
+     * @param maxW the maximum weight
+     */
+    Segment(final int maxE, final long maxW) {
+      this.maxEntries = maxE;
+      this.maxWeight = maxW;
+    }
+
+    /**
+     * Returns the result stored for the given key.
+     * 
+     * @since Date: Oct 18, 2026
+     * @param key the key to look for
+     * @return the stored result or {@code null}
+     */
+    synchronized Boolean get(final Key key) {
+      return this.entries.get(key);
+    }
+
+    /**
+     * Stores the given result and removes the least recently used entries, until the limits are kept.
+     * 
+     * @since Date: Oct 18, 2026
+     * @param key the key to store
+     * @param valid the result to store
+     * @return the number of removed entries
+     */
+    synchronized int put(final Key key, final Boolean valid) {
+      if (this.entries.put(key, valid) == null) {
+        this.weight += key.getWeight();
+      }
+
+      int evicted = 0;
+      final Iterator<Key> it = this.entries.keySet().iterator();
+      while ((this.entries.size() > this.maxEntries || this.weight > this.maxWeight) && it.hasNext()) {
+        final Key eldest = it.next();
+        it.remove();
+        this.weight -= eldest.getWeight();
+        ++evicted;
+      }
+      return evicted;
+    }
+
+    /**
+     * Returns the number of entries.
+     * 
+     * @since Date: Oct 18, 2026
+     * @return the number of entries in this segment
+     */
+    synchronized int size() {
+      return this.entries.size();
+    }
+
+    /**
+     * Returns the weight of all entries.
+     * 
+     * @since Date: Oct 18, 2026
+     * @return the weight of this segment
+     */
+    synchronized long getWeight() {
+      return this.weight;
+    }
+
+    /**
+     * Removes all entries.
+     * 
+     * @since Date: Oct 18, 2026
+     */
+    synchronized void clear() {
+      this.entries.clear();
+      this.weight = 0;
+    }
+  }
+}
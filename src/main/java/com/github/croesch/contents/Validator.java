@@ -0,0 +1,52 @@
+/*
+ * Copyright (C) 2011  Christian Roesch
+ * 
+ * This file is part of crhcomponents.
+ * 
+ * crhcomponents is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * crhcomponents is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with crhcomponents.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.github.croesch.contents;
+
+/**
+ * A rule that decides whether a text is valid. Rules can be attached to a {@link CContent} with
+ * {@link CContent#setValidator(Validator)} and can be combined with a {@link ValidatorChain}. Implementations have to
+ * be thread safe, because the content may be validated in the background.
+ * 
+ * @author croesch
+ * @since Date: Oct 18, 2026
+ * @see Validators
+ */
+public interface Validator {
+
+  /**
+   * Whether the given text is valid.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param text the text to check, not {@code null}
+   * @return {@code true}, if the text fulfills this rule
+   */
+  boolean isValid(CharSequence text);
+
+  /**
+   * Returns the estimated cost of a check, relative to the costs of the other rules. A {@link ValidatorChain} checks
+   * cheaper rules first, so that expensive rules are skipped if a cheap rule already failed.
+   * 
+   * @since Date: Oct 18, 2026
+   * @return the cost of this rule, cheap rules have low values
+   * @see Validators#COST_CONSTANT
+   * @see Validators#COST_LINEAR
+   * @see Validators#COST_REGEX
+   */
+  int getCost();
+}
@@ -0,0 +1,285 @@
+/*
+ * Copyright (C) 2011  Christian Roesch
+ * 
+ * This file is part of crhcomponents.
+ * 
+ * crhcomponents is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * crhcomponents is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with crhcomponents.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.github.croesch.contents;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A {@link Validator} that combines several rules. A text is valid, if it fulfills all rules. The rules are checked
+ * ordered by their {@link Validator#getCost()}, cheap rules first, and the check stops with the first rule that fails.
+ * <br>
+ * For each rule the chain counts how often it has been checked, how often it failed and how much time it needed, so
+ * that it can be found out which rule dominates the validation.<br>
+ * A change can be checked without the complete text, if all rules are {@link IncrementalValidator}s.
+ * 
+ * @author croesch
+ * @since Date: Oct 18, 2026
+ */
+public final class ValidatorChain implements IncrementalValidator {
+
+  /** the rules ordered by their cost, replaced on each change so that checks don't need a lock */
+  private volatile Rule[] rules = new Rule[0];
+
+  /**
+   * Constructs a chain of the given rules.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param validators the rules to combine
+   */
+  public ValidatorChain(final Validator ... validators) {
+    for (final Validator v : validators) {
+      add(v);
+    }
+  }
+
+  /**
+   * Adds the given rule to this chain. It is checked after all rules that are cheaper or have the same cost.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param validator the rule to add
+   * @throws IllegalArgumentException if the given rule is {@code null}
+   */
+  public synchronized void add(final Validator validator) throws IllegalArgumentException {
+    if (validator == null) {
+      throw new IllegalArgumentException(">null< is not allowed.");
+    }
+    final Rule[] old = this.rules;
+    final Rule[] newRules = new Rule[old.length + 1];
+    int i = 0;
+    while (i < old.length && old[i].validator.getCost() <= validator.getCost()) {
+      newRules[i] = old[i];
+      ++i;
+    }
+    newRules[i] = new Rule(validator);
+    System.arraycopy(old, i, newRules, i + 1, old.length - i);
+    this.rules = newRules;
+  }
+
+  /**
+   * Removes the given rule from this chain.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param validator the rule to remove
+   * @return {@code true}, if the rule has been part of this chain
+   */
+  public synchronized boolean remove(final Validator validator) {
+    final Rule[] old = this.rules;
+    for (int i = 0; i < old.length; ++i) {
+      if (old[i].validator == validator) {
+        final Rule[] newRules = new Rule[old.length - 1];
+        System.arraycopy(old, 0, newRules, 0, i);
+        System.arraycopy(old, i + 1, newRules, i, old.length - i - 1);
+        this.rules = newRules;
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Returns the rules of this chain in the order they are checked.
+   * 
+   * @since Date: Oct 18, 2026
+   * @return a new list containing the rules of this chain
+   */
+  public List<Validator> getValidators() {
+    final Rule[] current = this.rules;
+    final List<Validator> list = new ArrayList<Validator>(current.length);
+    for (final Rule r : current) {
+      list.add(r.validator);
+    }
+    return list;
+  }
+
+  @Override
+  public boolean isValid(final CharSequence text) {
+    for (final Rule r : this.rules) {
+      final long start = System.nanoTime();
+      final boolean valid = r.validator.isValid(text);
+      r.nanos.addAndGet(System.nanoTime() - start);
+      r.invocations.incrementAndGet();
+      if (!valid) {
+        r.failures.incrementAndGet();
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * {@inheritDoc}<br>
+   * The change is invalid, if one of the rules decides that it is invalid. It can only be decided that the change is
+   * valid, if all rules are {@link IncrementalValidator}s and decide that it is valid. These checks aren't counted in
+   * the statistics of the rules.
+   */
+  @Override
+  public Boolean isValidChange(final boolean wasValid,
+                               final int offs,
+                               final int removedLength,
+                               final String inserted,
+                               final int newLength) {
+    boolean known = true;
+    for (final Rule r : this.rules) {
+      if (r.validator instanceof IncrementalValidator) {
+        final Boolean valid = ((IncrementalValidator) r.validator).isValidChange(wasValid,
+                                                                                offs,
+                                                                                removedLength,
+                                                                                inserted,
+                                                                                newLength);
+        if (valid == null) {
+          known = false;
+        } else if (!valid.booleanValue()) {
+          return Boolean.FALSE;
+        }
+      } else {
+        known = false;
+      }
+    }
+    if (known) {
+      return Boolean.TRUE;
+    }
+    return null;
+  }
+
+  /**
+   * {@inheritDoc}<br>
+   * The cost of a chain is the sum of the costs of its rules.
+   */
+  @Override
+  public int getCost() {
+    int cost = 0;
+    for (final Rule r : this.rules) {
+      cost += r.validator.getCost();
+    }
+    return cost;
+  }
+
+  /**
+   * Returns how often the given rule has been checked.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param validator the rule of this chain
+   * @return the number of invocations of the rule
+   * @throws IllegalArgumentException if the given rule isn't part of this chain
+   */
+  public long getInvocationCount(final Validator validator) throws IllegalArgumentException {
+    return getRule(validator).invocations.get();
+  }
+
+  /**
+   * Returns how often the given rule decided that a text is invalid.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param validator the rule of this chain
+   * @return the number of failed checks of the rule
+   * @throws IllegalArgumentException if the given rule isn't part of this chain
+   */
+  public long getFailureCount(final Validator validator) throws IllegalArgumentException {
+    return getRule(validator).failures.get();
+  }
+
+  /**
+   * Returns the time the given rule needed for all its checks.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param validator the rule of this chain
+   * @return the number of nanoseconds the rule spent checking texts
+   * @throws IllegalArgumentException if the given rule isn't part of this chain
+   */
+  public long getTotalTime(final Validator validator) throws IllegalArgumentException {
+    return getRule(validator).nanos.get();
+  }
+
+  /**
+   * Resets the statistics of all rules of this chain.
+   * 
+   * @since Date: Oct 18, 2026
+   */
+  public void resetStatistics() {
+    for (final Rule r : this.rules) {
+      r.invocations.set(0);
+      r.failures.set(0);
+      r.nanos.set(0);
+    }
+  }
+
+  /**
+   * Returns the entry of the given rule.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param validator the rule to find
+   * @return the entry containing the rule and its statistics
+   * @throws IllegalArgumentException if the given rule isn't part of this chain
+   */
+  private Rule getRule(final Validator validator) throws IllegalArgumentException {
+    for (final Rule r : this.rules) {
+      if (r.validator == validator) {
+        return r;
+      }
+    }
+    throw new IllegalArgumentException(">" + validator + "< is not part of this chain.");
+  }
+
+  @Override
+  public String toString() {
+    final StringBuilder sb = new StringBuilder("ValidatorChain[");
+    final Rule[] current = this.rules;
+    for (int i = 0; i < current.length; ++i) {
+      if (i > 0) {
+        sb.append(", ");
+      }
+      sb.append(current[i].validator).append(": invocations=").append(current[i].invocations.get())
+        .append(", failures=").append(current[i].failures.get()).append(", nanos=").append(current[i].nanos.get());
+    }
+    return sb.append(']').toString();
+  }
+
+  /**
+   * A rule of the chain with its statistics.
+   * 
+   * @author croesch
+   * @since Date: Oct 18, 2026
+   */
+  private static final class Rule {
+
+    /** the rule */
+    private final Validator validator;
+
+    /** the number of checks */
+    private final AtomicLong invocations = new AtomicLong();
+
+    /** the number of failed checks */
+    private final AtomicLong failures = new AtomicLong();
+
+    /** the time spent checking in nanoseconds */
+    private final AtomicLong nanos = new AtomicLong();
+
+    /**
+     * Constructs the entry of the given rule.
+     * 
+     * @since Date: Oct 18, 2026
+     * @param v the rule
+     */
+    Rule(final Validator v) {
+      this.validator = v;
+    }
+  }
+}
@@ -0,0 +1,232 @@
+/*
+ * Copyright (C) 2011  Christian Roesch
+ * 
+ * This file is part of crhcomponents.
+ * 
+ * crhcomponents is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * crhcomponents is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with crhcomponents.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.github.croesch.contents;
+
+import java.util.BitSet;
+
+/**
+ * Provides the common {@link Validator}s.
+ * 
+ * @author croesch
+ * @since Date: Oct 18, 2026
+ */
+public final class Validators {
+
+  /** the cost of rules that don't depend on the length of the text */
+  public static final int COST_CONSTANT = 0;
+
+  /** the cost of rules that look at each character once */
+  public static final int COST_LINEAR = 10;
+
+  /** the cost of rules that match a regular expression */
+  public static final int COST_REGEX = 100;
+
+  /**
+   * Hidden constructor.
+   * 
+   * @since Date: Oct 18, 2026
+   */
+  private Validators() {
+    throw new AssertionError("Invocation of utility class constructor.");
+  }
+
+  /**
+   * Returns a rule that accepts texts with a length in the given bounds.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param min the minimum number of characters
+   * @param max the maximum number of characters, <= 0 equals infinity
+   * @return the rule that checks the length of the text
+   */
+  public static Validator length(final int min, final int max) {
+    return new LengthValidator(min, max);
+  }
+
+  /**
+   * Returns a rule that accepts texts matching the given regular expression.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param regex the regular expression the complete text has to match
+   * @return the rule that matches the text
+   * @throws IllegalArgumentException if the given regular expression is {@code null}
+   */
+  public static Validator regex(final String regex) throws IllegalArgumentException {
+    return regex(regex, false);
+  }
+
+  /**
+   * Returns a rule that accepts texts matching the given regular expression, like a {@link RegexContent}.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param regex the regular expression the complete text has to match
+   * @param acceptingPrefixes whether texts that could match by appending characters are valid
+   * @return the rule that matches the text
+   * @throws IllegalArgumentException if the given regular expression is {@code null}
+   * @see RegexContent#setAcceptingPrefixes(boolean)
+   */
+  public static Validator regex(final String regex, final boolean acceptingPrefixes) throws IllegalArgumentException {
+    if (regex == null) {
+      throw new IllegalArgumentException(">null< is not allowed.");
+    }
+    return new RegexValidator(PatternCache.getPattern(regex), acceptingPrefixes);
+  }
+
+  /**
+   * Returns a rule that accepts texts only consisting of the given characters.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param allowed the characters that are allowed
+   * @return the rule that checks each character of the text
+   * @throws IllegalArgumentException if the given characters are {@code null}
+   */
+  public static Validator charset(final CharSequence allowed) throws IllegalArgumentException {
+    if (allowed == null) {
+      throw new IllegalArgumentException(">null< is not allowed.");
+    }
+    final BitSet chars = new BitSet();
+    for (int i = 0; i < allowed.length(); ++i) {
+      chars.set(allowed.charAt(i));
+    }
+    return new CharsetValidator(chars);
+  }
+
+  /**
+   * A rule that checks the length of the text.
+   * 
+   * @author croesch
+   * @since Date: Oct 18, 2026
+   */
+  private static final class LengthValidator implements IncrementalValidator {
+
+    /** the minimum length */
+    private final int min;
+
+    /** the maximum length, <= 0 equals infinity */
+    private final int max;
+
+    /**
+     * Constructs a rule with the given bounds.
+     * 
+     * @since Date: Oct 18, 2026
+     * @param mi the minimum length
+     * @param ma the maximum length, <= 0 equals infinity
+     */
+    LengthValidator(final int mi, final int ma) {
+      this.min = mi;
+      this.max = ma;
+    }
+
+    @Override
+    public boolean isValid(final CharSequence text) {
+      return isValidLength(text.length());
+    }
+
+    @Override
+    public Boolean isValidChange(final boolean wasValid,
+                                 final int offs,
+                                 final int removedLength,
+                                 final String inserted,
+                                 final int newLength) {
+      return Boolean.valueOf(isValidLength(newLength));
+    }
+
+    /**
+     * Whether the given length is in the bounds of this rule.
+     * 
+     * @since Date: Oct 18, 2026
+     * @param length the length of the text
+     * @return {@code true}, if the length is in the bounds
+     */
+    private boolean isValidLength(final int length) {
+      return length >= this.min && (this.max <= 0 || length <= this.max);
+    }
+
+    @Override
+    public int getCost() {
+      return COST_CONSTANT;
+    }
+
+    @Override
+    public String toString() {
+      return "length[" + this.min + ", " + this.max + "]";
+    }
+  }
+
+  /**
+   * A rule that checks whether each character of the text is allowed.
+   * 
+   * @author croesch
+   * @since Date: Oct 18, 2026
+   */
+  private static final class CharsetValidator implements IncrementalValidator {
+
+    /** the allowed characters */
+    private final BitSet chars;
+
+    /**
+     * Constructs a rule with the given characters.
+     * 
+     * @since Date: Oct 18, 2026
+     * @param c the allowed characters, mustn't be modified afterwards
+     */
+    CharsetValidator(final BitSet c) {
+      this.chars = c;
+    }
+
+    @Override
+    public boolean isValid(final CharSequence text) {
+      for (int i = 0; i < text.length(); ++i) {
+        if (!this.chars.get(text.charAt(i))) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    /**
+     * {@inheritDoc}<br>
+     * If the text was valid before, only the inserted characters have to be checked. Otherwise removing characters may
+     * have made the text valid, so it has to be checked completely.
+     */
+    @Override
+    public Boolean isValidChange(final boolean wasValid,
+                                 final int offs,
+                                 final int removedLength,
+                                 final String inserted,
+                                 final int newLength) {
+      if (inserted != null && !isValid(inserted)) {
+        return Boolean.FALSE;
+      }
+      if (wasValid) {
+        return Boolean.TRUE;
+      }
+      return null;
+    }
+
+    @Override
+    public int getCost() {
+      return COST_LINEAR;
+    }
+
+    @Override
+    public String toString() {
+      return "charset" + this.chars;
+    }
+  }
+}
@@ -19,19 +19,28 @@
 package com.github.croesch.contents.date;
 
 import java.text.DateFormat;
-import java.util.ArrayList;
 import java.util.Calendar;
-import java.util.List;
 import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
- * A utility class that is able to create the editors for a date of a specific locale.
+ * A utility class that is able to compute the layout of the dates of a specific locale.
  * 
  * @author croesch
  * @since Date: Jul 3, 2011
  */
 final class DateComposition {
 
+  /** the layout of ISO-formatted dates, used if the date of a locale cannot be parsed */
+  private static final String DEFAULT_LAYOUT = "3-1-2";
+
+  /**
+   * the layouts of the dates of each locale: the order of day, month and year, each represented by its
+   * {@link DatePart#getMarker()}, and the separating characters between them
+   */
+  private static final ConcurrentMap<Locale, String> LAYOUTS = new ConcurrentHashMap<Locale, String>();
+
   /**
    * Hide constructor of utility class.
    * 
@@ -43,41 +52,45 @@ final class DateComposition {
   }
 
   /**
-   * Returns a list of editors that can edit a date from the given locale, the initial value will be the current date.
+   * Computes the layouts of the dates of the given locales, so that the first contents for these locales are created
+   * faster.
    * 
-   * @author croesch
-   * @since Date: Jul 3, 2011
-   * @param l the locale to fetch the {@link IDateLazyPartEditor}s from
-   * @param mode the {@link DateContent.MODE} for the editors
-   * @return a {@link List} of {@link IDateLazyPartEditor} that are able to edit a date of the given locale, if the date
-   *         of the locale cannot be parsed correctly then it returns a list of editors that are able to edit YYYY-MM-DD
-   *         date.
+   * @since Date: Oct 18, 2026
+   * @param locales the locales whose layouts to compute
    */
-  static List<IDateLazyPartEditor> getComposition(final Locale l, final DateContent.MODE mode) {
-    return getComposition(l, mode, -1, -1, -1);
+  static void warmUp(final Locale ... locales) {
+    for (final Locale l : locales) {
+      getLayout(l);
+    }
   }
 
   /**
-   * Returns a list of editors that can edit a date from the given locale, the initial value is read from the
-   * parameters.
+   * Returns the layout of the dates of the given locale. It is computed only once for each locale.
    * 
-   * @author croesch
-   * @since Date: Jul 5, 2011
-   * @param loc the locale to fetch the {@link IDateLazyPartEditor}s from
-   * @param mode the {@link DateContent.MODE} for the editors
-   * @param day the initial day value to pass to the editor
-   * @param month the initial month value to pass to the editor
-   * @param year the initial year value to pass to the editor
-   * @return a {@link List} of {@link IDateLazyPartEditor} that are able to edit a date of the given locale, if the date
-   *         of the locale cannot be parsed correctly then it returns a list of editors that are able to edit YYYY-MM-DD
-   *         date.
+   * @since Date: Oct 18, 2026
+   * @param loc the locale to fetch the layout of dates from
+   * @return the order of day, month and year, each represented by its {@link DatePart#getMarker()}, and the separating
+   *         characters between them
    */
-  static List<IDateLazyPartEditor> getComposition(final Locale loc,
-                                                  final DateContent.MODE mode,
-                                                  final int day,
-                                                  final int month,
-                                                  final int year) {
+  static String getLayout(final Locale loc) {
+    String layout = LAYOUTS.get(loc);
+    if (layout == null) {
+      layout = computeLayout(loc);
+      // computing it twice at the same time doesn't matter, the results are equal
+      LAYOUTS.putIfAbsent(loc, layout);
+    }
+    return layout;
+  }
 
+  /**
+   * Computes the layout of the dates of the given locale.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param loc the locale to fetch the layout of dates from
+   * @return the order of day, month and year, each represented by one marker, and the separating characters between
+   *         them. If the date of the locale cannot be parsed correctly then it returns the layout of YYYY-MM-DD dates.
+   */
+  private static String computeLayout(final Locale loc) {
     final int testYear = 3333;
     final int testMonth = 11;
     final int testDay = 22;
@@ -86,31 +99,24 @@ final class DateComposition {
 
     // TODO #13 joda-time
     if (!formatted.contains("22") || !formatted.contains("11") || !formatted.contains("33")) {
-      return createDefaultEditorList(day, month, year);
+      return DEFAULT_LAYOUT;
     }
 
-    return getEditorListOfFormattedDate(new ArrayList<IDateLazyPartEditor>(), formatted, day, month, year);
-  }
-
-  /**
-   * Constructs the default list of editors for a date. The editors are some to edit ISO-formatted dates.
-   * 
-   * @since Date: Nov 30, 2011
-   * @param day the initial value of the day
-   * @param month the initial value of the month
-   * @param year the initial value of the year
-   * @return the {@link List} that contains the editors to edit ISO-formatted dates.
-   */
-  private static List<IDateLazyPartEditor> createDefaultEditorList(final int day, final int month, final int year) {
-    final List<IDateLazyPartEditor> list = new ArrayList<IDateLazyPartEditor>();
-
-    list.add(new DateLazyYearEditor(year));
-    list.add(new DateSepEditor("-"));
-    list.add(new DateLazyMonEditor(month));
-    list.add(new DateSepEditor("-"));
-    list.add(new DateLazyDayEditor(day));
-
-    return list;
+    // each part of the date is represented by its first digit, the other digits of the part are skipped
+    final StringBuilder layout = new StringBuilder(formatted.length());
+    final boolean[] found = new boolean[DatePart.values().length];
+    for (int i = 0; i < formatted.length(); ++i) {
+      final char c = formatted.charAt(i);
+      final DatePart part = DatePart.forMarker(c);
+      if (part == null) {
+        // a separating character
+        layout.append(c);
+      } else if (!found[part.ordinal()]) {
+        layout.append(c);
+        found[part.ordinal()] = true;
+      }
+    }
+    return layout.toString();
   }
 
   /**
@@ -131,53 +137,4 @@ final class DateComposition {
 
     return df.format(cal.getTime());
   }
-
-  /**
-   * Recursively creates a list of editors that are able to edit the given formatted date.
-   * 
-   * @author croesch
-   * @since Date: Jul 3, 2011
-   * @param list the {@link List} of editors previously converted
-   * @param formatted the {@link String} that contains the formatted date (day=22, month=11, year=3333)
-   * @param day the initial day to pass to the editor
-   * @param month the initial month to pass to the editor
-   * @param year the initial year to pass to the editor
-   * @return a {@link List} of {@link IDateLazyPartEditor} that are able to edit a date as the given formatted one.
-   */
-  private static List<IDateLazyPartEditor> getEditorListOfFormattedDate(final List<IDateLazyPartEditor> list,
-                                                                        final String formatted,
-                                                                        final int day,
-                                                                        final int month,
-                                                                        final int year) {
-    if (formatted == null || formatted.length() == 0) {
-      // stop condition, we have no more text to convert into editors
-      return list;
-    }
-
-    // contains the string for the following iteration
-    String nextFormatted;
-    if (formatted.startsWith("2")) {
-      // the current part to convert into an editor is the day part
-      list.add(new DateLazyDayEditor(day));
-      // remove day information from the string for following iterations
-      nextFormatted = formatted.replaceAll("2", "");
-    } else if (formatted.startsWith("1")) {
-      // the current part to convert into an editor is the month part
-      list.add(new DateLazyMonEditor(month));
-      // remove month information from the string for following iterations
-      nextFormatted = formatted.replaceAll("1", "");
-    } else if (formatted.startsWith("3")) {
-      // the current part to convert into an editor is the year part
-      list.add(new DateLazyYearEditor(year));
-      // remove year information from the string for following iterations
-      nextFormatted = formatted.replaceAll("3", "");
-    } else {
-      // the current part to convert into an editor is a separating part
-      list.add(new DateSepEditor(formatted.substring(0, 1)));
-      // remove the character converted into an editor from the string for following iterations
-      nextFormatted = formatted.substring(1);
-    }
-    // recursively convert the rest of the string and return the full generated list
-    return getEditorListOfFormattedDate(list, nextFormatted, day, month, year);
-  }
 }
@@ -18,17 +18,26 @@
  */
 package com.github.croesch.contents.date;
 
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.Reader;
+import java.nio.charset.Charset;
 import java.util.Date;
-import java.util.HashMap;
 import java.util.Locale;
-import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 
 import javax.swing.text.JTextComponent;
 
 import com.github.croesch.contents.CContent;
+import com.github.croesch.logging.Log;
+import com.github.croesch.util.DayClock;
 
 /**
  * Superclass for all date documents in this library.
@@ -41,6 +50,9 @@ public abstract class DateContent extends CContent {
   /** the name of the config file for the special characters */
   private static final String DATECHARS_CFG_FILE = "datechars.cfg";
 
+  /** the encoding of the files that contain the definition of the special characters */
+  private static final Charset DATECHARS_CHARSET = Charset.forName("UTF-8");
+
   /** generated */
   private static final long serialVersionUID = 6501226934436567798L;
 
@@ -81,8 +93,41 @@ public abstract class DateContent extends CContent {
     /* AUTO */;
   }
 
-  /** the map of special characters fetched from the config file */
-  private static Map<String, DateSpecialChar> specialCharsMap;
+  /**
+   * Holds the special characters fetched from the config file. They are read when the first content is created, the
+   * class loader ensures that this happens only once without locking the following creations. The table can be
+   * swapped later on, all contents look it up for each key without locking.
+   * 
+   * @author croesch
+   * @since Date: Oct 18, 2026
+   */
+  private static final class SpecialChars {
+
+    /** the table of special characters fetched from the config file */
+    private static final AtomicReference<DateSpecialCharTable> TABLE =
+        new AtomicReference<DateSpecialCharTable>(readSpecialChars());
+
+    /**
+     * Hide constructor of holder class.
+     * 
+     * @since Date: Oct 18, 2026
+     */
+    private SpecialChars() {
+      throw new AssertionError("Invocation of utility class constructor.");
+    }
+  }
+
+  /**
+   * Prepares the creation of {@link DateContent}s for the given locales. The format of the dates of each locale is
+   * analysed only once, so calling this i.e. before filling a table with many date cells avoids the delay when the
+   * first contents are created.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param locales the {@link Locale}s whose date formats to analyse
+   */
+  public static void warmUp(final Locale ... locales) {
+    DateComposition.warmUp(locales);
+  }
 
   /**
    * Creates a new instance of this {@link DateContent}. Will instantiate the specific subclass and return it.
@@ -94,25 +139,118 @@ public abstract class DateContent extends CContent {
    * @return an instance of {@link DateContent} that is able to edit a date of the given locale in the given mode.
    */
   public static DateContent createDateContent(final MODE mode, final JTextComponent tf, final Locale loc) {
-    return new DateLazyContent(tf, loc, getSpecialCharsMap());
+    return createDateContent(mode, tf, loc, DayClock.system());
   }
 
   /**
-   * Returns the map of special characters.
+   * Creates a new instance of this {@link DateContent}, that reads the current day from the given clock. Will
+   * instantiate the specific subclass and return it.
    * 
-   * @since Date: Sep 8, 2011
-   * @return a map of {@link String}s as keys and {@link DateSpecialChar}s to enter with the key.
+   * @since Date: Oct 18, 2026
+   * @param mode the edit mode for the {@link DateContent} to create
+   * @param tf the text field that is the owner of the {@link DateContent}
+   * @param loc the {@link Locale} to fetch the date format from.
+   * @param clock the clock that returns the current day, can be shared by many contents
+   * @return an instance of {@link DateContent} that is able to edit a date of the given locale in the given mode.
+   * @throws IllegalArgumentException if the given clock is <code>null</code>
    */
-  private static synchronized Map<String, DateSpecialChar> getSpecialCharsMap() {
-    if (specialCharsMap == null) {
-      // fetch the input stream for the configuration file
-      final InputStream configFileStream = DateContent.class.getClassLoader().getResourceAsStream(DATECHARS_CFG_FILE);
-      final Reader configFileReader = new InputStreamReader(configFileStream);
+  public static DateContent createDateContent(final MODE mode,
+                                              final JTextComponent tf,
+                                              final Locale loc,
+                                              final DayClock clock) throws IllegalArgumentException {
+    if (clock == null) {
+      throw new IllegalArgumentException(">null< is not allowed.");
+    }
+    return new DateLazyContent(tf, loc, SpecialChars.TABLE, clock);
+  }
+
+  /**
+   * Returns the reference to the special characters shared by all {@link DateContent}s created by
+   * {@link #createDateContent(MODE, JTextComponent, Locale)}.
+   * 
+   * @since Date: Oct 18, 2026
+   * @return the reference to the shared table of special characters, that is swapped if the config is reloaded
+   */
+  static AtomicReference<DateSpecialCharTable> getSharedSpecialChars() {
+    return SpecialChars.TABLE;
+  }
 
-      specialCharsMap = DateSpecialCharInterpreter.createFrom(configFileReader).getSpecialCharsMap();
+  /**
+   * Replaces the special characters of all {@link DateContent}s created by
+   * {@link #createDateContent(MODE, JTextComponent, Locale)} with the ones defined in the given file. The file has to
+   * have the syntax of the default config file and is read as UTF-8. If it can't be read completely, the current
+   * special characters are kept.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param file the file that contains the definition of the special characters
+   * @return <code>true</code>, if the special characters have been replaced
+   * @throws IllegalArgumentException if the given file is <code>null</code>
+   */
+  public static boolean loadSpecialChars(final File file) throws IllegalArgumentException {
+    if (file == null) {
+      throw new IllegalArgumentException(">null< is not allowed.");
     }
-    return new HashMap<String, DateSpecialChar>(specialCharsMap);
 
+    final Reader reader;
+    try {
+      // a new decoder reports malformed input instead of replacing it
+      reader = new InputStreamReader(new FileInputStream(file), DATECHARS_CHARSET.newDecoder());
+    } catch (final FileNotFoundException e) {
+      Log.error(e);
+      return false;
+    }
+    try {
+      SpecialChars.TABLE.set(DateSpecialCharTable.of(DateSpecialCharInterpreter.readFrom(reader).getSpecialCharsMap()));
+      return true;
+    } catch (final IOException e) {
+      Log.error(e);
+      return false;
+    } finally {
+      try {
+        reader.close();
+      } catch (final IOException e) {
+        Log.error(e);
+      }
+    }
+  }
+
+  /**
+   * Watches the given file and replaces the special characters of all {@link DateContent}s created by
+   * {@link #createDateContent(MODE, JTextComponent, Locale)} with the ones defined in the file, whenever it changes.
+   * The file is loaded immediately and then checked periodically by the given executor; cancel the returned future to
+   * stop watching.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param file the file that contains the definition of the special characters
+   * @param executor the executor to check the file with
+   * @param period the time between two checks of the file
+   * @param unit the unit of the period
+   * @return the future that represents the watching of the file
+   * @throws IllegalArgumentException if one of the given arguments is <code>null</code>
+   * @see #loadSpecialChars(File)
+   */
+  public static ScheduledFuture<?> watchSpecialChars(final File file,
+                                                     final ScheduledExecutorService executor,
+                                                     final long period,
+                                                     final TimeUnit unit) throws IllegalArgumentException {
+    if (file == null || executor == null || unit == null) {
+      throw new IllegalArgumentException(">null< is not allowed.");
+    }
+    return executor.scheduleWithFixedDelay(new DateSpecialCharWatcher(file), 0, period, unit);
+  }
+
+  /**
+   * Reads the table of special characters from the config file.
+   * 
+   * @since Date: Sep 8, 2011
+   * @return the table of the special characters to enter with their keys.
+   */
+  private static DateSpecialCharTable readSpecialChars() {
+    // fetch the input stream for the configuration file
+    final InputStream configFileStream = DateContent.class.getClassLoader().getResourceAsStream(DATECHARS_CFG_FILE);
+    final Reader configFileReader = new InputStreamReader(configFileStream, DATECHARS_CHARSET);
+
+    return DateSpecialCharTable.of(DateSpecialCharInterpreter.createFrom(configFileReader).getSpecialCharsMap());
   }
 
   /**
@@ -181,4 +319,24 @@ public abstract class DateContent extends CContent {
    * @see #getDateWithoutTime()
    */
   public abstract Date getDateWithoutTimeOrNull();
+
+  /**
+   * Returns the date that is represented by the current value of the date field as the number of days from 1970-01-01.
+   * In contrast to {@link #getDate()} no {@link Date} or {@link java.util.Calendar} has to be created.
+   * 
+   * @since Date: Oct 18, 2026
+   * @return the number of days from 1970-01-01 to the date currently present in the date field
+   * @see com.github.croesch.util.EpochDay
+   */
+  public abstract long getEpochDay();
+
+  /**
+   * Sets the date to edit as the number of days from 1970-01-01.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param epochDay the number of days from 1970-01-01 to the date to edit
+   * @see #setDate(Date)
+   * @see com.github.croesch.util.EpochDay
+   */
+  public abstract void setEpochDay(long epochDay);
 }
@@ -18,18 +18,20 @@
  */
 package com.github.croesch.contents.date;
 
-import java.util.Calendar;
 import java.util.Date;
-import java.util.GregorianCalendar;
-import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.TimeZone;
+import java.util.concurrent.atomic.AtomicReference;
 
 import javax.swing.text.AttributeSet;
 import javax.swing.text.BadLocationException;
 import javax.swing.text.JTextComponent;
+import javax.swing.text.Segment;
 
 import com.github.croesch.logging.Log;
+import com.github.croesch.util.DayClock;
+import com.github.croesch.util.EpochDay;
 
 /**
  * {@link DateContent.MODE#LAZY} implementation of {@link DateContent}.
@@ -42,21 +44,23 @@ class DateLazyContent extends DateContent {
   /** generated */
   private static final long serialVersionUID = 530985421120602593L;
 
-  //TODO save also: which one is the year-, month- and day-editor.. (wrapper object)
-  /** list of editors that will edit the different parts of the date */
-  private List<IDateLazyPartEditor> editors;
+  /** the date with the rules how characters are entered */
+  private final DateLazyValue value;
+
+  /** the clock that returns the current day, i.e. for the special characters */
+  private final DayClock clock;
 
   /** text component to set the cursor */
   private final JTextComponent textComponent;
 
-  /** the locale of the date content */
-  private final Locale locale;
+  /** the table that contains all available special characters, can be swapped while the content is in use */
+  private final AtomicReference<DateSpecialCharTable> specialCharacters;
 
-  /** the map that contains all available special characters */
-  private final Map<String, DateSpecialChar> specialCharactersMap;
+  /** the characters of the date, filled by the parts - to avoid building a new text for each keystroke */
+  private transient char[] dateChars = null;
 
-  /** instance to avoid masses of calendar instances */
-  private final Calendar calendar = new GregorianCalendar();
+  /** the segment to read the current text of the document without copying it */
+  private transient Segment segment = null;
 
   /**
    * Creates a new {@link DateLazyContent} that gives special support for date values. The given text component is used
@@ -70,206 +74,194 @@ class DateLazyContent extends DateContent {
    *        enter to get a special date
    */
   public DateLazyContent(final JTextComponent tc, final Locale loc, final Map<String, DateSpecialChar> specialCharsMap) {
-    this.specialCharactersMap = specialCharsMap;
+    this(tc, loc, new AtomicReference<DateSpecialCharTable>(DateSpecialCharTable.of(specialCharsMap)),
+         DayClock.system());
+  }
+
+  /**
+   * Creates a new {@link DateLazyContent} that gives special support for date values. The given text component is used
+   * to set the cursor to the correct position. The locale is used to fetch the format for the date.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param tc the text component for this document
+   * @param loc the locale to fetch the date format from
+   * @param specialChars the reference to the table that contains all special characters, shared by all contents
+   * @param dayClock the clock that returns the current day
+   */
+  DateLazyContent(final JTextComponent tc,
+                  final Locale loc,
+                  final AtomicReference<DateSpecialCharTable> specialChars,
+                  final DayClock dayClock) {
+    this.specialCharacters = specialChars;
+    this.clock = dayClock;
     this.textComponent = tc;
-    this.locale = loc;
-    this.editors = DateComposition.getComposition(this.locale, MODE.LAZY);
+    // the initial value is the current date
+    final long today = this.clock.today();
+    this.value = new DateLazyValue(DateComposition.getLayout(loc), today, today);
   }
 
   @Override
-  public final void insertString(int offs, final String str, final AttributeSet a) throws BadLocationException {
+  public final void insertString(final int offs, final String str, final AttributeSet a) throws BadLocationException {
     // perform insertion into our really good date field :)
     if (str != null && str.length() > 0) {
-      // we are sure that we have something to insert
-      if (str.length() == 1) {
-        // it's a single character ..
-        performInsert(offs, str.charAt(0), a);
-      } else {
-        // there are several characters to insert
-        for (int i = 0; i < str.length(); ++i) {
-          // insert them on by one
-          if (this.textComponent != null) {
-            // if we have a text field (normal case)
-            insertString(offs, str.substring(i, i + 1), a);
-            // update the new offset to the new caret position
-            offs = this.textComponent.getCaretPosition();
-          } else {
-            // if we have no textfield (unusual), we increment the offset by one per character
-            insertString(offs + i, str.substring(i, i + 1), a);
-          }
+      // we are sure that we have something to insert, so enter all characters and render the date once
+      boolean changed = false;
+      int caret = -1;
+      int pos = offs;
+      for (int i = 0; i < str.length(); ++i) {
+        final char c = str.charAt(i);
+        /*
+         * if we have no textfield (unusual), we increment the offset by one per character, otherwise we continue at the
+         * position where the cursor would be after the previous character
+         */
+        final int at;
+        if (this.textComponent != null) {
+          at = pos;
+        } else {
+          at = offs + i;
         }
-      }
-    }
-  }
 
-  /**
-   * Performs the insertion of a single character.
-   * 
-   * @author croesch
-   * @since Date: Jul 4, 2011
-   * @param offs the offset where to insert basically
-   * @param c the single character to insert
-   * @param a the {@link AttributeSet}.
-   * @throws BadLocationException if inserted on an invalid position
-   */
-  private void performInsert(int offs, final char c, final AttributeSet a) throws BadLocationException {
-
-    boolean inserted = false;
-    // the starting position of the current editor
-    int startPos = 0;
-    for (final IDateLazyPartEditor editor : this.editors) {
-      // iterate over our editors .. and find the correct one to insert the character
-
-      if (offs - editor.getSize() < 0) {
-        // we have the editor that belongs to our offset, so try to insert
-        final int z = editor.enterValue(c, offs);
-        if (z == -1) {
-          // the editor refused to insert the character
-          // maybe there is another editor in the list that is able to insert the value
-          offs = editor.getSize();
+        final int next = this.value.insert(at, c);
+        if (next >= 0) {
+          pos = next;
+          caret = next;
+          changed = true;
         } else {
-          // the editor has inserted our character, so update the text representation (GUI)
-          // simply, remove all and paste our generated text
-          remove(0, getLength());
-          super.insertString(0, getDateContent(), a);
-
-          if (this.textComponent != null) {
-            /*
-             * the cursor position is the position where to insert the character (offs+startPos) + z (the number of
-             * characters written)
-             */
-            this.textComponent.setCaretPosition(offs + startPos + z);
-          }
-          inserted = true;
-          // we can end here
-          break;
+          /*
+           * we were not able to insert this character, so maybe we have a special char. Don't care about null being
+           * return from the get-method, because this is no problem for the method that tries to enter the special
+           * character
+           */
+          changed |= this.value.enter(this.specialCharacters.get().get(c), this.clock.today());
         }
       }
 
-      // decrease the offs in the next editor
-      offs -= editor.getSize();
-      // and store the decreased value in startPos, so the original offs = (offs+startPos)
-      startPos += editor.getSize();
+      if (changed) {
+        // update the text representation (GUI)
+        renderDate(a);
+        if (this.textComponent != null && caret >= 0) {
+          this.textComponent.setCaretPosition(caret);
+        }
+      }
     }
+  }
 
-    // we were not able to insert this character, so maybe we have a special char
-    if (!inserted) {
-      /*
-       * Don't care about null being return from the get-method, because this is no problem for the method that tries to
-       * enter the special character
-       */
-      performEnterOfSpecialChar(a, this.specialCharactersMap.get(String.valueOf(c)));
+  @Override
+  public final String getDateContent() {
+    final int length = fillDateChars();
+    return new String(this.dateChars, 0, length);
+  }
+
+  /**
+   * Fills the characters of the date with the current values of the date.
+   * 
+   * @since Date: Oct 18, 2026
+   * @return the number of characters of the date
+   */
+  private int fillDateChars() {
+    if (this.dateChars == null) {
+      this.dateChars = new char[this.value.getLength()];
     }
+    return this.value.getChars(this.dateChars);
   }
 
   /**
-   * Performs to enter the given special character. Will do nothing, if the given special character is <code>null</code>
+   * Updates the text of the document to the current date. Only the characters between the unchanged beginning and the
+   * unchanged end of the text are replaced, and the replacement is checked once.<br>
+   * A replacement fires two {@link javax.swing.event.DocumentEvent}s on purpose: one for removing the old characters
+   * and one for inserting the new ones. Swing has no event for replacing text, even <code>replace</code> removes and
+   * inserts. Listeners see the shorter text between the two events, so they should read the date after the insertion.
+   * Both changes happen within one edit, so the content is checked once and the changes are undone together.
    * 
-   * @since Date: Sep 8, 2011
+   * @since Date: Oct 18, 2026
    * @param a the {@link AttributeSet} to enter text in the field
-   * @param sc the special character to enter, can be <code>null</code>
    * @throws BadLocationException if something went wrong
    */
-  private synchronized void performEnterOfSpecialChar(final AttributeSet a, final DateSpecialChar sc)
-                                                                                                     throws BadLocationException {
-    // do nothing if the special character is null
-    if (sc != null) {
-      int year = 1, month = 1, day = 1;
-      for (final IDateLazyPartEditor e : this.editors) {
-        if (e instanceof DateLazyYearEditor) {
-          year = Integer.parseInt(e.getValue());
-        } else if (e instanceof DateLazyMonEditor) {
-          month = Integer.parseInt(e.getValue());
-        } else if (e instanceof DateLazyDayEditor) {
-          day = Integer.parseInt(e.getValue());
-        }
-      }
+  private void renderDate(final AttributeSet a) throws BadLocationException {
+    final int newLength = fillDateChars();
+    final int oldLength = getLength();
+    if (this.segment == null) {
+      this.segment = new Segment();
+    }
+    this.segment.setPartialReturn(false);
+    getText(0, oldLength, this.segment);
 
-      this.calendar.setTimeInMillis(System.currentTimeMillis());
-      // perform the update of the current date with values fetched from special char
-      year = calculateNewValue(year, this.calendar.get(Calendar.YEAR), sc.getYearValue(), sc.getYearValueType());
-      month = calculateNewValue(month, this.calendar.get(Calendar.MONTH) + 1, sc.getMonthValue(),
-                                sc.getMonthValueType()) - 1;
-      day = calculateNewValue(day, this.calendar.get(Calendar.DAY_OF_MONTH), sc.getDayValue(), sc.getDayValueType());
-
-      // calculate valid date from special char
-      this.calendar.set(year, month, day);
-      // set the calculated date
-      setDate(this.calendar.getTime());
-      // insert the date into the text field
-      remove(0, getLength());
-      super.insertString(0, getDateContent(), a);
+    final char[] old = this.segment.array;
+    final int oldOffset = this.segment.offset;
+    int start = 0;
+    final int maxCommon = Math.min(oldLength, newLength);
+    while (start < maxCommon && old[oldOffset + start] == this.dateChars[start]) {
+      ++start;
+    }
+    int oldEnd = oldLength;
+    int newEnd = newLength;
+    while (oldEnd > start && newEnd > start && old[oldOffset + oldEnd - 1] == this.dateChars[newEnd - 1]) {
+      --oldEnd;
+      --newEnd;
+    }
+    if (oldEnd == start && newEnd == start) {
+      // the text is already up to date
+      return;
+    }
+
+    // the insertion bypasses insertString(), that would enter the characters into the date again
+    beginEdit();
+    try {
+      if (oldEnd > start) {
+        remove(start, oldEnd - start);
+      }
+      if (newEnd > start) {
+        super.insertString(start, new String(this.dateChars, start, newEnd - start), a);
+      }
+    } finally {
+      endEdit();
     }
   }
 
+  @Override
+  public final long getEpochDay() {
+    return this.value.getEpochDay();
+  }
+
   /**
-   * Calculates the new value based on the given data.
+   * Returns the year of the date, as it has been entered.
    * 
-   * @since Date: Sep 8, 2011
-   * @param curVal the current value of the field
-   * @param todayVal the value of the field in todays date
-   * @param value the value for the field fetched from special character
-   * @param type the type of the value fetched from the special character
-   * @return the calculated new value
+   * @since Date: Oct 18, 2026
+   * @return the year of the date
    */
-  private int calculateNewValue(final int curVal, final int todayVal, final int value, final ModificationType type) {
-    switch (type) {
-      case CONSTANT:
-        return value;
-      case OFFSET:
-        return todayVal + value;
-      default: //increment
-        return curVal + value;
-    }
+  final int getYear() {
+    return this.value.getYear();
   }
 
-  @Override
-  public final String getDateContent() {
-    final StringBuilder sb = new StringBuilder();
-    for (final IDateLazyPartEditor e : this.editors) {
-      sb.append(e.getValue());
-    }
-    return sb.toString();
+  /**
+   * Returns the month of the date, as it has been entered. It might be an invalid month like <code>0</code>.
+   * 
+   * @since Date: Oct 18, 2026
+   * @return the month of the date (1=January)
+   */
+  final int getMonth() {
+    return this.value.getMonth();
   }
 
   /**
-   * Returns a {@link Calendar} object that contains the year, month and day values fetched from the editors.
+   * Returns the day of the month of the date, as it has been entered. It might be an invalid day like the 31st of
+   * February.
    * 
-   * @since Date: Sep 11, 2011
-   * @return a {@link Calendar} object, containing year, month and day fetched from editors.
+   * @since Date: Oct 18, 2026
+   * @return the day of the month
    */
-  private Calendar getCalendarWithCurrentValues() {
-    final Calendar cal = new GregorianCalendar();
-    int day = 1;
-    int month = 1;
-    int year = 1;
-    for (final IDateLazyPartEditor e : this.editors) {
-      if (e instanceof DateLazyYearEditor) {
-        year = Integer.parseInt(e.getValue());
-      } else if (e instanceof DateLazyMonEditor) {
-        month = Integer.parseInt(e.getValue()) - 1;
-      } else if (e instanceof DateLazyDayEditor) {
-        day = Integer.parseInt(e.getValue());
-      }
-    }
-
-    cal.set(year, month, day);
-    return cal;
+  final int getDay() {
+    return this.value.getDay();
   }
 
   @Override
   public final Date getDateWithoutTime() {
-    final Calendar cal = getCalendarWithCurrentValues();
-    cal.set(Calendar.HOUR_OF_DAY, 0);
-    cal.set(Calendar.MINUTE, 0);
-    cal.set(Calendar.SECOND, 0);
-    cal.set(Calendar.MILLISECOND, 0);
-    return cal.getTime();
+    return EpochDay.toDate(getEpochDay(), 0, this.clock.getZone());
   }
 
   @Override
   public Date getDateWithoutTimeOrNull() {
-    if (getText() == null || getText().equals("")) {
+    if (getLength() == 0) {
       return null;
     }
     return getDateWithoutTime();
@@ -277,12 +269,14 @@ class DateLazyContent extends DateContent {
 
   @Override
   public final Date getDate() {
-    return getCalendarWithCurrentValues().getTime();
+    // the entered date with the current time
+    final TimeZone zone = this.clock.getZone();
+    return EpochDay.toDate(getEpochDay(), EpochDay.getMillisOfDay(this.clock.currentTimeMillis(), zone), zone);
   }
 
   @Override
   public final Date getDateOrNull() {
-    if (getText() == null || getText().equals("")) {
+    if (getLength() == 0) {
       return null;
     }
     return getDate();
@@ -290,15 +284,38 @@ class DateLazyContent extends DateContent {
 
   @Override
   public final void setDate(final Date d) {
+    setEpochDay(EpochDay.fromDate(d, this.clock.getZone()));
+  }
+
+  /**
+   * {@inheritDoc}<br>
+   * The date is read from the restored text, so that the next character is entered into the restored date.
+   */
+  @Override
+  protected final void textRestored() {
+    if (getLength() == 0) {
+      // an empty field has no date to read
+      return;
+    }
+    if (this.segment == null) {
+      this.segment = new Segment();
+    }
     try {
-      remove(0, getLength());
+      this.segment.setPartialReturn(false);
+      getText(0, getLength(), this.segment);
+      this.value.setText(this.segment);
     } catch (final BadLocationException e) {
       Log.error(e);
     }
+  }
 
-    final Calendar cal = new GregorianCalendar();
-    cal.setTime(d);
-    this.editors = DateComposition.getComposition(this.locale, MODE.LAZY, cal.get(Calendar.DAY_OF_MONTH),
-                                                  cal.get(Calendar.MONTH) + 1, cal.get(Calendar.YEAR));
+  @Override
+  public final void setEpochDay(final long epochDay) {
+    try {
+      remove(0, getLength());
+    } catch (final BadLocationException e) {
+      Log.error(e);
+    }
+    this.value.setEpochDay(epochDay, this.clock.today());
   }
 }
@@ -0,0 +1,314 @@
+/*
+ * Copyright (C) 2011  Christian Roesch
+ * 
+ * This file is part of crhcomponents.
+ * 
+ * crhcomponents is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * crhcomponents is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with crhcomponents.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.github.croesch.contents.date;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.text.ParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Parses dates from the same input a user types into a date field in {@link DateContent.MODE#LAZY}, without any
+ * document. So i.e. "15" is the 15th of the month of the reference day, and special characters like "+" modify the
+ * reference day. This allows to interpret imported records on a server.<br>
+ * An input is parsed as if it is typed at the beginning of a field that contains the reference day. It is invalid, if
+ * it contains a character that can be entered neither into the date nor as special character, or if the result isn't
+ * an existing date.<br>
+ * The parser is thread-safe, many values can be parsed at once. The result of parsing many values contains the dates
+ * in a primitive array and a {@link BitSet} where each set bit marks an invalid input.
+ * 
+ * @author croesch
+ * @since Date: Oct 18, 2026
+ */
+public final class DateLazyParser {
+
+  /** the minimum number of values parsed by one task of a parallel parse */
+  private static final int MIN_CHUNK_SIZE = 256;
+
+  /** the number of tasks per processor, so that the work is balanced if some values take longer */
+  private static final int CHUNKS_PER_PROCESSOR = 4;
+
+  /** the layout of the dates, as returned by {@link DateComposition#getLayout(Locale)} */
+  private final String layout;
+
+  /** the table that contains all available special characters */
+  private final AtomicReference<DateSpecialCharTable> specialCharacters;
+
+  /**
+   * Constructs a parser for dates of the given locale, that knows the special characters of the config file - the
+   * same as the {@link DateContent}s created by {@link DateContent#createDateContent(DateContent.MODE,
+   * javax.swing.text.JTextComponent, Locale)}.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param loc the locale to fetch the date format from
+   * @throws IllegalArgumentException if the given locale is <code>null</code>
+   */
+  public DateLazyParser(final Locale loc) throws IllegalArgumentException {
+    this(loc, DateContent.getSharedSpecialChars());
+  }
+
+  /**
+   * Constructs a parser for dates of the given locale, that knows the special characters defined by the given reader.
+   * The definition has to have the syntax of the default config file.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param loc the locale to fetch the date format from
+   * @param specialChars the {@link Reader} that contains the definition of the special characters, it isn't closed
+   * @throws IOException if the definition of the special characters can't be read
+   * @throws IllegalArgumentException if one of the given arguments is <code>null</code>
+   * @see DateContent#loadSpecialChars(java.io.File)
+   */
+  public DateLazyParser(final Locale loc, final Reader specialChars) throws IOException, IllegalArgumentException {
+    this(loc, DateSpecialCharInterpreter.readFrom(specialChars).getSpecialCharsMap());
+  }
+
+  /**
+   * Constructs a parser for dates of the given locale, that knows the given special characters.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param loc the locale to fetch the date format from
+   * @param specialCharsMap the map of {@link String}s and {@link DateSpecialChar} that contains all possible keys to
+   *        enter to get a special date
+   * @throws IllegalArgumentException if one of the given arguments is <code>null</code>
+   */
+  DateLazyParser(final Locale loc, final Map<String, DateSpecialChar> specialCharsMap) throws IllegalArgumentException {
+    this(loc, new AtomicReference<DateSpecialCharTable>(DateSpecialCharTable.of(specialCharsMap)));
+  }
+
+  /**
+   * Constructs a parser for dates of the given locale, that knows the given special characters.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param loc the locale to fetch the date format from
+   * @param specialChars the reference to the table that contains all special characters
+   * @throws IllegalArgumentException if the given locale is <code>null</code>
+   */
+  private DateLazyParser(final Locale loc, final AtomicReference<DateSpecialCharTable> specialChars)
+                                                                                                    throws IllegalArgumentException {
+    if (loc == null) {
+      throw new IllegalArgumentException(">null< is not allowed.");
+    }
+    this.layout = DateComposition.getLayout(loc);
+    this.specialCharacters = specialChars;
+  }
+
+  /**
+   * Parses the given input.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param input the input to parse, as it would be typed into a date field
+   * @param referenceDay the number of days from 1970-01-01 to the day the input is relative to
+   * @return the number of days from 1970-01-01 to the parsed date
+   * @throws ParseException if the input isn't valid, the error offset is the index of the first character that
+   *         couldn't be entered or the length of the input, if the result isn't an existing date
+   */
+  public long parse(final CharSequence input, final long referenceDay) throws ParseException {
+    final DateLazyValue value = new DateLazyValue(this.layout, referenceDay, referenceDay);
+    final int error = parse(value, value.getFields(), this.specialCharacters.get(), input, referenceDay);
+    if (error >= 0) {
+      throw new ParseException("invalid date >" + input + "<", error);
+    }
+    return value.getEpochDay();
+  }
+
+  /**
+   * Parses all given inputs one after another.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param inputs the inputs to parse, as they would be typed into a date field
+   * @param referenceDay the number of days from 1970-01-01 to the day the inputs are relative to
+   * @return the parsed dates and the index of each invalid input
+   */
+  public DateParseResult parseAll(final Iterable<? extends CharSequence> inputs, final long referenceDay) {
+    final DateSpecialCharTable table = this.specialCharacters.get();
+    final DateLazyValue value = new DateLazyValue(this.layout, referenceDay, referenceDay);
+    final int reference = value.getFields();
+
+    long[] days = new long[MIN_CHUNK_SIZE];
+    final BitSet failures = new BitSet();
+    int size = 0;
+    for (final CharSequence input : inputs) {
+      if (size == days.length) {
+        days = Arrays.copyOf(days, size * 2);
+      }
+      if (parse(value, reference, table, input, referenceDay) < 0) {
+        days[size] = value.getEpochDay();
+      } else {
+        failures.set(size);
+      }
+      ++size;
+    }
+    return new DateParseResult(Arrays.copyOf(days, size), failures);
+  }
+
+  /**
+   * Parses all given inputs one after another.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param inputs the inputs to parse, as they would be typed into a date field
+   * @param referenceDay the number of days from 1970-01-01 to the day the inputs are relative to
+   * @return the parsed dates and the index of each invalid input
+   */
+  public DateParseResult parseAll(final CharSequence[] inputs, final long referenceDay) {
+    return parseAll(Arrays.asList(inputs), referenceDay);
+  }
+
+  /**
+   * Parses the given inputs in parallel. The inputs are divided into chunks that are parsed by the given executor.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param inputs the inputs to parse, should allow fast random access
+   * @param referenceDay the number of days from 1970-01-01 to the day the inputs are relative to
+   * @param executor the executor that parses the chunks
+   * @return the parsed dates and the index of each invalid input
+   * @throws InterruptedException if the current thread has been interrupted while waiting for the results
+   */
+  public DateParseResult parseParallel(final List<? extends CharSequence> inputs,
+                                       final long referenceDay,
+                                       final ExecutorService executor) throws InterruptedException {
+    final int size = inputs.size();
+    final int chunks = Runtime.getRuntime().availableProcessors() * CHUNKS_PER_PROCESSOR;
+    final int chunkSize = Math.max(MIN_CHUNK_SIZE, (size + chunks - 1) / chunks);
+    // all chunks use the same special characters, even if they are swapped meanwhile
+    final DateSpecialCharTable table = this.specialCharacters.get();
+    // each task writes its own range of the array, the executor publishes it when the task is completed
+    final long[] days = new long[size];
+
+    final List<Callable<BitSet>> tasks = new ArrayList<Callable<BitSet>>();
+    for (int start = 0; start < size; start += chunkSize) {
+      final int from = start;
+      final int to = Math.min(size, start + chunkSize);
+      tasks.add(new Callable<BitSet>() {
+        @Override
+        public BitSet call() {
+          // each task has its own value and set, so the tasks don't have to synchronize
+          final DateLazyValue value = new DateLazyValue(DateLazyParser.this.layout, referenceDay, referenceDay);
+          final int reference = value.getFields();
+          final BitSet failures = new BitSet();
+          for (int i = from; i < to; ++i) {
+            if (parse(value, reference, table, inputs.get(i), referenceDay) < 0) {
+              days[i] = value.getEpochDay();
+            } else {
+              failures.set(i - from);
+            }
+          }
+          return failures;
+        }
+      });
+    }
+
+    final BitSet failures = new BitSet(size);
+    int offset = 0;
+    for (final Future<BitSet> future : executor.invokeAll(tasks)) {
+      final BitSet chunk = getResult(future);
+      for (int i = chunk.nextSetBit(0); i >= 0; i = chunk.nextSetBit(i + 1)) {
+        failures.set(offset + i);
+      }
+      offset += chunkSize;
+    }
+    return new DateParseResult(days, failures);
+  }
+
+  /**
+   * Parses the given inputs in parallel. The inputs are divided into chunks that are parsed by the given executor.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param inputs the inputs to parse
+   * @param referenceDay the number of days from 1970-01-01 to the day the inputs are relative to
+   * @param executor the executor that parses the chunks
+   * @return the parsed dates and the index of each invalid input
+   * @throws InterruptedException if the current thread has been interrupted while waiting for the results
+   */
+  public DateParseResult parseParallel(final CharSequence[] inputs,
+                                       final long referenceDay,
+                                       final ExecutorService executor) throws InterruptedException {
+    return parseParallel(Arrays.asList(inputs), referenceDay, executor);
+  }
+
+  /**
+   * Enters the given input into the given value, as if it is typed at the beginning of a date field. The cursor
+   * follows each entered character, special characters don't move it.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param value the value to enter the input into
+   * @param reference the values of the reference day, as returned by {@link DateLazyValue#getFields()}
+   * @param table the special characters that can be entered
+   * @param input the input to enter
+   * @param referenceDay the number of days from 1970-01-01 to the day the input is relative to
+   * @return <code>-1</code>, if the value contains a valid date, otherwise the index of the first character that
+   *         couldn't be entered or the length of the input if the result isn't an existing date
+   */
+  private static int parse(final DateLazyValue value,
+                           final int reference,
+                           final DateSpecialCharTable table,
+                           final CharSequence input,
+                           final long referenceDay) {
+    if (input == null || input.length() == 0) {
+      return 0;
+    }
+    value.setFields(reference);
+    int pos = 0;
+    for (int i = 0; i < input.length(); ++i) {
+      final char c = input.charAt(i);
+      final int next = value.insert(pos, c);
+      if (next >= 0) {
+        pos = next;
+      } else if (!value.enter(table.get(c), referenceDay)) {
+        return i;
+      }
+    }
+    if (!value.isExistingDate()) {
+      return input.length();
+    }
+    return -1;
+  }
+
+  /**
+   * Returns the result of the given completed task.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param future the completed task
+   * @return the failures of the chunk of the task
+   * @throws InterruptedException if the current thread has been interrupted
+   */
+  private static BitSet getResult(final Future<BitSet> future) throws InterruptedException {
+    try {
+      return future.get();
+    } catch (final ExecutionException e) {
+      // parsing failed unexpectedly, so pass its exception to the caller
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      if (e.getCause() instanceof Error) {
+        throw (Error) e.getCause();
+      }
+      throw new IllegalStateException(e.getCause());
+    }
+  }
+}
@@ -0,0 +1,341 @@
+/*
+ * Copyright (C) 2011  Christian Roesch
+ * 
+ * This file is part of crhcomponents.
+ * 
+ * crhcomponents is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * crhcomponents is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with crhcomponents.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.github.croesch.contents.date;
+
+import java.io.Serializable;
+
+import com.github.croesch.util.EpochDay;
+
+/**
+ * The date edited by the lazy date mode, together with the rules how characters are entered. This is the engine of
+ * {@link DateLazyContent} without any document, so it can also be used to parse dates without Swing. Instances are
+ * not thread-safe.
+ * 
+ * @author croesch
+ * @since Date: Oct 18, 2026
+ */
+final class DateLazyValue implements Serializable {
+
+  /** generated serial version UID */
+  private static final long serialVersionUID = 7316598472245510263L;
+
+  /**
+   * the layout of the date: the order of day, month and year, each represented by its {@link DatePart#getMarker()},
+   * and the separating characters between them - shared by all values of the same locale
+   */
+  private final String layout;
+
+  /** the values of the date as <code>yyyymmdd</code>, edited by the {@link DatePart}s */
+  private int fields;
+
+  /**
+   * Constructs a new value with the given layout and date.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param l the layout of the date, as returned by {@link DateComposition#getLayout(java.util.Locale)}
+   * @param epochDay the number of days from 1970-01-01 to the date to edit
+   * @param today the number of days from 1970-01-01 to the current date
+   */
+  DateLazyValue(final String l, final long epochDay, final long today) {
+    this.layout = l;
+    setEpochDay(epochDay, today);
+  }
+
+  /**
+   * Returns the values of the date as <code>yyyymmdd</code>.
+   * 
+   * @since Date: Oct 18, 2026
+   * @return the values of the date as <code>yyyymmdd</code>
+   */
+  int getFields() {
+    return this.fields;
+  }
+
+  /**
+   * Sets the values of the date.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param f the values of the date as <code>yyyymmdd</code>, as returned by {@link #getFields()}
+   */
+  void setFields(final int f) {
+    this.fields = f;
+  }
+
+  /**
+   * Sets the date to edit. If the year of the date can't be edited it's replaced by the current year.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param epochDay the number of days from 1970-01-01 to the date to edit
+   * @param today the number of days from 1970-01-01 to the current date
+   */
+  void setEpochDay(final long epochDay, final long today) {
+    int result = DatePart.DAY.with(0, EpochDay.getDayOfMonth(epochDay));
+    result = DatePart.MONTH.with(result, EpochDay.getMonth(epochDay));
+    final int year = EpochDay.getYear(epochDay);
+    if (DatePart.YEAR.isValid(year)) {
+      this.fields = DatePart.YEAR.with(result, year);
+    } else {
+      this.fields = DatePart.YEAR.with(result, EpochDay.getYear(today));
+    }
+  }
+
+  /**
+   * Returns the date, invalid values like the 31st of February are moved to the following month.
+   * 
+   * @since Date: Oct 18, 2026
+   * @return the number of days from 1970-01-01 to the date
+   */
+  long getEpochDay() {
+    return EpochDay.of(getYear(), getMonth(), getDay());
+  }
+
+  /**
+   * Returns whether the entered values describe an existing date.
+   * 
+   * @since Date: Oct 18, 2026
+   * @return <code>true</code>, if the date exists, <code>false</code> for dates like the 31st of February
+   */
+  boolean isExistingDate() {
+    final long epochDay = getEpochDay();
+    return EpochDay.getDayOfMonth(epochDay) == getDay() && EpochDay.getMonth(epochDay) == getMonth()
+           && EpochDay.getYear(epochDay) == getYear();
+  }
+
+  /**
+   * Returns the year of the date, as it has been entered.
+   * 
+   * @since Date: Oct 18, 2026
+   * @return the year of the date
+   */
+  int getYear() {
+    return DatePart.YEAR.get(this.fields);
+  }
+
+  /**
+   * Returns the month of the date, as it has been entered. It might be an invalid month like <code>0</code>.
+   * 
+   * @since Date: Oct 18, 2026
+   * @return the month of the date (1=January)
+   */
+  int getMonth() {
+    return DatePart.MONTH.get(this.fields);
+  }
+
+  /**
+   * Returns the day of the month of the date, as it has been entered. It might be an invalid day like the 31st of
+   * February.
+   * 
+   * @since Date: Oct 18, 2026
+   * @return the day of the month
+   */
+  int getDay() {
+    return DatePart.DAY.get(this.fields);
+  }
+
+  /**
+   * Enters a single character into the date.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param position the position in the text of the date where to insert the character basically
+   * @param c the single character to insert
+   * @return the position of the cursor after the character has been inserted, or <code>-1</code> if no part was able
+   *         to insert the character
+   */
+  int insert(final int position, final char c) {
+    int offs = position;
+    // the starting position of the current part
+    int startPos = 0;
+    for (int i = 0; i < this.layout.length(); ++i) {
+      // iterate over the parts of our layout .. and find the correct one to insert the character
+      final DatePart part = DatePart.forMarker(this.layout.charAt(i));
+      final int size = getSize(part);
+
+      if (offs - size < 0) {
+        // we have the part that belongs to our offset, so try to insert
+        final int z;
+        if (part == null) {
+          // a separating character can only be entered as it is
+          if (offs >= 0 && c == this.layout.charAt(i)) {
+            z = 1;
+          } else {
+            z = -1;
+          }
+        } else {
+          z = part.getAdvance(c, offs);
+        }
+
+        if (z == -1) {
+          // the part refused to insert the character
+          // maybe there is another part in the layout that is able to insert the value
+          offs = size;
+        } else {
+          if (part != null) {
+            this.fields = part.enter(this.fields, c, offs);
+          }
+          /*
+           * the cursor position is the position where to insert the character (offs+startPos) + z (the number of
+           * characters written)
+           */
+          return offs + startPos + z;
+        }
+      }
+
+      // decrease the offs in the next part
+      offs -= size;
+      // and store the decreased value in startPos, so the original offs = (offs+startPos)
+      startPos += size;
+    }
+    return -1;
+  }
+
+  /**
+   * Enters the given special character into the date. Will do nothing, if the given special character is
+   * <code>null</code>.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param sc the special character to enter, can be <code>null</code>
+   * @param today the number of days from 1970-01-01 to the current date
+   * @return {@code true}, if the special character has been entered
+   */
+  boolean enter(final DateSpecialChar sc, final long today) {
+    // do nothing if the special character is null
+    if (sc == null) {
+      return false;
+    }
+    final int current = this.fields;
+
+    // perform the update of the current date with values fetched from special char
+    final int year = calculateNewValue(DatePart.YEAR.get(current), EpochDay.getYear(today), sc.getYearValue(),
+                                       sc.getYearValueType());
+    final int month = calculateNewValue(DatePart.MONTH.get(current), EpochDay.getMonth(today), sc.getMonthValue(),
+                                        sc.getMonthValueType());
+    final int day = calculateNewValue(DatePart.DAY.get(current), EpochDay.getDayOfMonth(today), sc.getDayValue(),
+                                      sc.getDayValueType());
+
+    // calculate valid date from special char and set it
+    setEpochDay(EpochDay.of(year, month, day), today);
+    return true;
+  }
+
+  /**
+   * Calculates the new value based on the given data.
+   * 
+   * @since Date: Sep 8, 2011
+   * @param curVal the current value of the field
+   * @param todayVal the value of the field in todays date
+   * @param value the value for the field fetched from special character
+   * @param type the type of the value fetched from the special character
+   * @return the calculated new value
+   */
+  private static int calculateNewValue(final int curVal, final int todayVal, final int value,
+                                       final ModificationType type) {
+    switch (type) {
+      case CONSTANT:
+        return value;
+      case OFFSET:
+        return todayVal + value;
+      default: //increment
+        return curVal + value;
+    }
+  }
+
+  /**
+   * Returns the number of characters of the text of the date.
+   * 
+   * @since Date: Oct 18, 2026
+   * @return the number of characters of the date
+   */
+  int getLength() {
+    int length = 0;
+    for (int i = 0; i < this.layout.length(); ++i) {
+      length += getSize(DatePart.forMarker(this.layout.charAt(i)));
+    }
+    return length;
+  }
+
+  /**
+   * Copies the characters of the date into the given array.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param dst the array to copy the characters into, must have at least {@link #getLength()} elements
+   * @return the number of characters of the date
+   */
+  int getChars(final char[] dst) {
+    int pos = 0;
+    for (int i = 0; i < this.layout.length(); ++i) {
+      final DatePart part = DatePart.forMarker(this.layout.charAt(i));
+      if (part == null) {
+        dst[pos++] = this.layout.charAt(i);
+      } else {
+        part.getChars(this.fields, dst, pos);
+        pos += part.getSize();
+      }
+    }
+    return pos;
+  }
+
+  /**
+   * Sets the date to the one shown by the given text, that has the format written by {@link #getChars(char[])}.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param text the text of a date
+   * @return <code>true</code>, if the date has been set, <code>false</code> if the text hasn't the format of the date
+   */
+  boolean setText(final CharSequence text) {
+    if (text.length() != getLength()) {
+      return false;
+    }
+    int result = this.fields;
+    int pos = 0;
+    for (int i = 0; i < this.layout.length(); ++i) {
+      final DatePart part = DatePart.forMarker(this.layout.charAt(i));
+      if (part == null) {
+        if (text.charAt(pos++) != this.layout.charAt(i)) {
+          return false;
+        }
+      } else {
+        int partValue = 0;
+        for (int end = pos + part.getSize(); pos < end; ++pos) {
+          final char c = text.charAt(pos);
+          if (c < '0' || c > '9') {
+            return false;
+          }
+          partValue = partValue * 10 + c - '0';
+        }
+        result = part.with(result, partValue);
+      }
+    }
+    this.fields = result;
+    return true;
+  }
+
+  /**
+   * Returns the number of characters of the given part of the layout.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param part the part of the date, {@code null} for a separating character
+   * @return the number of characters of the part
+   */
+  private static int getSize(final DatePart part) {
+    if (part == null) {
+      return 1;
+    }
+    return part.getSize();
+  }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright (C) 2011  Christian Roesch
+ * 
+ * This file is part of crhcomponents.
+ * 
+ * crhcomponents is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * crhcomponents is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with crhcomponents.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.github.croesch.contents.date;
+
+import java.util.BitSet;
+
+/**
+ * The result of parsing many dates at once with a {@link DateLazyParser}. It contains the parsed dates as number of
+ * days from 1970-01-01 and a set that marks the inputs that couldn't be parsed. The dates are kept in a primitive
+ * array, so no object is created per date.
+ * 
+ * @author croesch
+ * @since Date: Oct 18, 2026
+ */
+public final class DateParseResult {
+
+  /** the parsed dates, as number of days from 1970-01-01 - <code>0</code> for inputs that couldn't be parsed */
+  private final long[] epochDays;
+
+  /** the index of each input that couldn't be parsed */
+  private final BitSet errors;
+
+  /**
+   * Constructs a new result of the given dates and errors.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param days the parsed dates, as number of days from 1970-01-01
+   * @param failures the index of each input that couldn't be parsed
+   */
+  DateParseResult(final long[] days, final BitSet failures) {
+    this.epochDays = days;
+    this.errors = failures;
+  }
+
+  /**
+   * Returns the number of parsed inputs.
+   * 
+   * @since Date: Oct 18, 2026
+   * @return the number of inputs, valid or not
+   */
+  public int size() {
+    return this.epochDays.length;
+  }
+
+  /**
+   * Returns whether the input with the given index has been parsed successfully.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param index the index of the input
+   * @return <code>true</code>, if the input is a valid date
+   */
+  public boolean isValid(final int index) {
+    return !this.errors.get(index);
+  }
+
+  /**
+   * Returns the date parsed from the input with the given index.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param index the index of the input
+   * @return the number of days from 1970-01-01 to the parsed date, <code>0</code> if the input couldn't be parsed
+   * @throws ArrayIndexOutOfBoundsException if the index is negative or not lower than {@link #size()}
+   */
+  public long getEpochDay(final int index) throws ArrayIndexOutOfBoundsException {
+    return this.epochDays[index];
+  }
+
+  /**
+   * Returns the parsed dates. The array isn't copied, so changes of the array are visible to this result.
+   * 
+   * @since Date: Oct 18, 2026
+   * @return the number of days from 1970-01-01 to each parsed date, <code>0</code> for inputs that couldn't be parsed
+   */
+  public long[] getEpochDays() {
+    return this.epochDays;
+  }
+
+  /**
+   * Returns the set that contains the index of each input that couldn't be parsed. The set isn't copied, so changes of
+   * the set are visible to this result.
+   * 
+   * @since Date: Oct 18, 2026
+   * @return the index of each invalid input
+   */
+  public BitSet getErrors() {
+    return this.errors;
+  }
+}
@@ -0,0 +1,319 @@
+/*
+ * Copyright (C) 2011  Christian Roesch
+ * 
+ * This file is part of crhcomponents.
+ * 
+ * crhcomponents is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * crhcomponents is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with crhcomponents.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.github.croesch.contents.date;
+
+/**
+ * The parts of a date. Each part knows how to enter characters into its value, that is stored together with the values
+ * of the other parts in one <code>int</code> as <code>yyyymmdd</code>. The parts don't have a state, so they are shared
+ * by all date contents.
+ * 
+ * @author croesch
+ * @since Date: Oct 18, 2026
+ */
+enum DatePart {
+
+  /** the day of the month, two digits from 01 to 31 */
+  DAY('2', 2, 1, 31) {
+    @Override
+    int getAdvance(final char c, final int position) {
+      // in the day field 0-3 are valid on both positions, 4-9 only on the second
+      return getTwoDigitAdvance(c, position, '3');
+    }
+
+    @Override
+    int enter(final int fields, final char c, final int position) {
+      return enterTwoDigits(fields, c, position, '3');
+    }
+  },
+
+  /** the month, two digits from 01 to 12 */
+  MONTH('1', 2, 100, 12) {
+    @Override
+    int getAdvance(final char c, final int position) {
+      // in the month field 0-1 are valid on both positions, 2-9 only on the second
+      return getTwoDigitAdvance(c, position, '1');
+    }
+
+    @Override
+    int enter(final int fields, final char c, final int position) {
+      return enterTwoDigits(fields, c, position, '1');
+    }
+  },
+
+  /** the year, four digits */
+  YEAR('3', 4, 10000, 9999) {
+    @Override
+    int getAdvance(final char c, final int position) {
+      if (isDigit(c) && position >= 0 && position < 4) {
+        return 1;
+      }
+      return -1;
+    }
+
+    @Override
+    int enter(final int fields, final char c, final int position) {
+      /*
+       * The characters won't be written from the left to the right! Each character will be pushed from the right into
+       * the year-value. Example: Inserting 1,2,3,4 will result in XXX1, 1912, 1123, 1234
+       */
+      final int value = get(fields);
+      final int digit = c - '0';
+      switch (position) {
+        case 0:
+          // replace the right character
+          return with(fields, value / 10 * 10 + digit);
+        case 1:
+          // change the century to 20 if decade < 40, to 19 otherwise - and push the character from the right
+          final int century;
+          if (value % 10 <= 3) {
+            century = 20;
+          } else {
+            century = 19;
+          }
+          return with(fields, century * 100 + value % 10 * 10 + digit);
+        case 2:
+          // set the left character to one and push the character from the right
+          return with(fields, 1000 + value % 100 * 10 + digit);
+        default:
+          // push the character from the right
+          return with(fields, value % 1000 * 10 + digit);
+      }
+    }
+  };
+
+  /** the character that represents this part in the layout of a date */
+  private final char marker;
+
+  /** the number of characters of this part */
+  private final int size;
+
+  /** the factor of the value of this part in the <code>yyyymmdd</code> value */
+  private final int factor;
+
+  /** the highest valid value of this part */
+  private final int highest;
+
+  /** the value that is greater than the values of this part, <code>10^size</code> */
+  private final int limit;
+
+  /**
+   * Constructs a part of a date.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param m the character that represents this part in the layout of a date
+   * @param s the number of characters of this part
+   * @param f the factor of the value of this part in the <code>yyyymmdd</code> value
+   * @param h the highest valid value of this part
+   */
+  private DatePart(final char m, final int s, final int f, final int h) {
+    this.marker = m;
+    this.size = s;
+    this.factor = f;
+    this.highest = h;
+    int l = 1;
+    for (int i = 0; i < s; ++i) {
+      l *= 10;
+    }
+    this.limit = l;
+  }
+
+  /**
+   * Returns the part represented by the given character in the layout of a date.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param c the character of the layout
+   * @return the part represented by the character, or {@code null} if it's a separating character
+   */
+  static DatePart forMarker(final char c) {
+    if (c == DAY.marker) {
+      return DAY;
+    }
+    if (c == MONTH.marker) {
+      return MONTH;
+    }
+    if (c == YEAR.marker) {
+      return YEAR;
+    }
+    return null;
+  }
+
+  /**
+   * Returns the character that represents this part in the layout of a date.
+   * 
+   * @since Date: Oct 18, 2026
+   * @return the character of the layout
+   */
+  final char getMarker() {
+    return this.marker;
+  }
+
+  /**
+   * Returns the number of characters of this part.
+   * 
+   * @since Date: Oct 18, 2026
+   * @return the number of characters
+   */
+  final int getSize() {
+    return this.size;
+  }
+
+  /**
+   * Returns the value of this part.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param fields the values of the date as <code>yyyymmdd</code>
+   * @return the value of this part
+   */
+  final int get(final int fields) {
+    return fields / this.factor % this.limit;
+  }
+
+  /**
+   * Returns the values of the date with the given value of this part.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param fields the values of the date as <code>yyyymmdd</code>
+   * @param value the new value of this part, between <code>0</code> and <code>10^size - 1</code>
+   * @return the values of the date as <code>yyyymmdd</code>
+   */
+  final int with(final int fields, final int value) {
+    return fields + (value - get(fields)) * this.factor;
+  }
+
+  /**
+   * Returns the values of the date with the given value of this part. If the value is less or equal than zero or
+   * greater than the highest valid value, the value of this part of the given default date is used.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param fields the values of the date as <code>yyyymmdd</code>
+   * @param value the new value of this part
+   * @param defaults the values of the default date as <code>yyyymmdd</code>
+   * @return the values of the date as <code>yyyymmdd</code>
+   */
+  final int withValid(final int fields, final int value, final int defaults) {
+    if (!isValid(value)) {
+      return with(fields, get(defaults));
+    }
+    return with(fields, value);
+  }
+
+  /**
+   * Returns whether the given value is a valid value of this part.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param value the value to check
+   * @return {@code true}, if the value is greater than zero and not greater than the highest valid value
+   */
+  final boolean isValid(final int value) {
+    return value > 0 && value <= this.highest;
+  }
+
+  /**
+   * Copies the digits of this part into the given array.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param fields the values of the date as <code>yyyymmdd</code>
+   * @param dst the array to copy the digits into
+   * @param dstBegin the index of the array where the first digit is stored
+   */
+  final void getChars(final int fields, final char[] dst, final int dstBegin) {
+    int value = get(fields);
+    for (int i = dstBegin + this.size - 1; i >= dstBegin; --i) {
+      dst[i] = (char) ('0' + value % 10);
+      value /= 10;
+    }
+  }
+
+  /**
+   * Returns whether the given character can be entered at the given position and how far the cursor should be moved.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param c the single character to enter
+   * @param position the position to enter the character at
+   * @return <code>-1</code>, if the given character cannot be entered<br>
+   *         the number of characters written / the cursor should be moved
+   */
+  abstract int getAdvance(char c, int position);
+
+  /**
+   * Enters the given character at the given position. The character must be accepted by
+   * {@link #getAdvance(char, int)}.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param fields the values of the date as <code>yyyymmdd</code>
+   * @param c the single character to enter
+   * @param position the position to enter the character at
+   * @return the values of the date as <code>yyyymmdd</code> after the character has been entered
+   */
+  abstract int enter(int fields, char c, int position);
+
+  /**
+   * Returns how far the cursor should be moved when entering the given character into a part of two digits.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param c the single character to enter
+   * @param position the position to enter the character at
+   * @param highestFirst the highest digit that is valid on the first position
+   * @return <code>-1</code>, if the given character cannot be entered<br>
+   *         <code>2</code>, if the character is only valid on the second position but entered on the first<br>
+   *         <code>1</code> otherwise
+   */
+  static int getTwoDigitAdvance(final char c, final int position, final char highestFirst) {
+    if (!isDigit(c) || position < 0 || position > 1) {
+      return -1;
+    }
+    if (c > highestFirst && position == 0) {
+      // the character is only valid on the second position, so it changes two characters
+      return 2;
+    }
+    return 1;
+  }
+
+  /**
+   * Enters the given character into this part of two digits.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param fields the values of the date as <code>yyyymmdd</code>
+   * @param c the single character to enter
+   * @param position the position to enter the character at
+   * @param highestFirst the highest digit that is valid on the first position
+   * @return the values of the date as <code>yyyymmdd</code> after the character has been entered
+   */
+  final int enterTwoDigits(final int fields, final char c, final int position, final char highestFirst) {
+    final int value = get(fields);
+    final int digit = c - '0';
+    if (position == 0 && c <= highestFirst) {
+      // change the first character
+      return with(fields, digit * 10 + value % 10);
+    }
+    // change the second character
+    return with(fields, value / 10 * 10 + digit);
+  }
+
+  /**
+   * Returns whether the given character is a digit from <code>0</code> to <code>9</code>.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param c the character to check
+   * @return {@code true}, if the character is a digit
+   */
+  static boolean isDigit(final char c) {
+    return c >= '0' && c <= '9';
+  }
+}
@@ -18,6 +18,8 @@
  */
 package com.github.croesch.contents.date;
 
+import java.io.Serializable;
+
 /**
  * Container that stores the values of a definition of a special char. Represents the values given by a single < line >
  * defined in {@link DateSpecialCharInterpreter}.
@@ -26,7 +28,10 @@ package com.github.croesch.contents.date;
  * @since Date: Apr 5, 2011
  * @see DateSpecialCharInterpreter
  */
-final class DateSpecialChar {
+final class DateSpecialChar implements Serializable {
+
+  /** generated serial version UID */
+  private static final long serialVersionUID = 4087461129035113590L;
 
   /** the special character to access this definition */
   private final char specialChar;
@@ -49,30 +49,64 @@ import com.github.croesch.logging.Log;
  */
 final class DateSpecialCharInterpreter {
 
+  /** the number of fields a < definition > contains after its < key > */
+  private static final int FIELD_COUNT = 3;
+
+  /** the < sep > between the fields of a < definition > */
+  private static final char SEPARATOR = '|';
+
+  /** the radix of a < value > */
+  private static final int RADIX = 10;
+
   /** the map that contains the definitions found in the input stream */
   private final Map<String, DateSpecialChar> specialCharsMap = new HashMap<String, DateSpecialChar>();
 
   /**
-   * Constructs a new {@link DateSpecialCharInterpreter} with the definition given by the given {@link BufferedReader}.
+   * Constructs a new {@link DateSpecialCharInterpreter} without any definitions.
    * 
    * @author croesch
    * @since Date: Apr 5, 2011
+   */
+  private DateSpecialCharInterpreter() {
+    // the definitions are added by read(BufferedReader)
+  }
+
+  /**
+   * Reads the definitions given by the given {@link BufferedReader} and stores them in the map of this interpreter.
+   * 
+   * @since Date: Oct 18, 2026
    * @param in the {@link BufferedReader} to read the definitions from
+   * @throws IOException if the reader fails, the definitions read until then are kept
+   */
+  private void read(final BufferedReader in) throws IOException {
+    String line;
+    while ((line = in.readLine()) != null) {
+      // remove leading/trailing whitespaces and comments, then parse what's left in a single pass
+      final DateSpecialChar specialChar = parseLine(stripComment(line.trim()));
+      if (specialChar != null) {
+        this.specialCharsMap.put(String.valueOf(specialChar.getChar()), specialChar);
+      }
+    }
+  }
+
+  /**
+   * Constructs a new {@link DateSpecialCharInterpreter}. The given {@link Reader} should contain the special characters
+   * configuration to interpret.
+   * 
+   * @since Date: Nov 30, 2011
+   * @param reader the {@link Reader} that contains the configuration of the special characters
+   * @return the interpreter containing the information read from the given reader
    * @throws IllegalArgumentException if the given reader is <code>null</code>
+   * @see #readFrom(Reader)
    */
-  private DateSpecialCharInterpreter(final BufferedReader in) throws IllegalArgumentException {
+  static DateSpecialCharInterpreter createFrom(final Reader reader) throws IllegalArgumentException {
+    if (reader == null) {
+      throw new IllegalArgumentException(">null< is not allowed.");
+    }
 
+    final DateSpecialCharInterpreter interpreter = new DateSpecialCharInterpreter();
     try {
-      // read the file
-      String line;
-      while ((line = in.readLine()) != null) {
-        // remove comments and leading/trailing whitespaces
-        line = removeComments(line.trim());
-        // if line without comments is valid, add it..
-        if (isCorrectConfigurationLine(line)) {
-          addLine(line);
-        }
-      }
+      interpreter.read(new BufferedReader(reader));
     } catch (final IOException e) {
       /*
        * We don't want the caller to notice an IO-Error, because this might be not relevant. The date field should
@@ -81,125 +115,152 @@ final class DateSpecialCharInterpreter {
        */
       Log.error(e);
     }
+    return interpreter;
   }
 
   /**
-   * Constructs a new {@link DateSpecialCharInterpreter}. The given {@link Reader} should contain the special characters
-   * configuration to interpret.
+   * Constructs a new {@link DateSpecialCharInterpreter} from the given {@link Reader}, like
+   * {@link #createFrom(Reader)}, but reports a failure of the reader to the caller instead of returning the
+   * definitions that have been read until then.
    * 
-   * @since Date: Nov 30, 2011
+   * @since Date: Oct 18, 2026
    * @param reader the {@link Reader} that contains the configuration of the special characters
    * @return the interpreter containing the information read from the given reader
+   * @throws IOException if the reader fails
+   * @throws IllegalArgumentException if the given reader is <code>null</code>
    */
-  static DateSpecialCharInterpreter createFrom(final Reader reader) {
+  static DateSpecialCharInterpreter readFrom(final Reader reader) throws IOException, IllegalArgumentException {
     if (reader == null) {
       throw new IllegalArgumentException(">null< is not allowed.");
     }
 
-    return new DateSpecialCharInterpreter(new BufferedReader(reader));
+    final DateSpecialCharInterpreter interpreter = new DateSpecialCharInterpreter();
+    interpreter.read(new BufferedReader(reader));
+    return interpreter;
   }
 
   /**
-   * Returns whether the given {@link String} is a correct line for configuration.
+   * Removes the comment of the given line, together with the blanks in front of it.
    * 
-   * @since Date: Nov 30, 2011
-   * @param line the {@link String} to test, if it's a correct configuration entry
-   * @return <code>true</code>, if the {@link String} is a valid configuration entry
-   */
-  private boolean isCorrectConfigurationLine(final String line) {
-    return line.matches(".(\\|([oic]-?[0-9]+)?){3,3}");
-  }
-
-  /**
-   * Removes comments in the given line.
-   * 
-   * @since Date: Nov 30, 2011
+   * @since Date: Oct 18, 2026
    * @param line the line that could contain a comment
-   * @return the line without comments.
+   * @return the line without comment.
    */
-  private String removeComments(final String line) {
-    return line.replaceFirst("[ \t]*#.*", "");
+  private static String stripComment(final String line) {
+    int end = line.indexOf('#');
+    if (end < 0) {
+      return line;
+    }
+    while (end > 0 && isBlank(line.charAt(end - 1))) {
+      --end;
+    }
+    return line.substring(0, end);
   }
 
   /**
-   * Returns the type of the value, given by the {@link String}.<br>
-   * <b>Note:</b> The string mustn't contain any invalid value, ensure that it contains < type > < value >!
+   * Returns whether the given character is a < blank >.
    * 
-   * @author croesch
-   * @since Date: Apr 5, 2011
-   * @param s the string that contains < type > < value >
-   * @return the enum that represents the < type >
-   * @throws IllegalArgumentException if the < type > is unknown
+   * @since Date: Oct 18, 2026
+   * @param c the character to test
+   * @return <code>true</code>, if the character is a space or a tab
    */
-  private ModificationType getValueType(final String s) throws IllegalArgumentException {
-    return ModificationType.typeOfUniqueChar(s.charAt(0));
+  private static boolean isBlank(final char c) {
+    return c == ' ' || c == '\t';
   }
 
   /**
-   * Returns the < value >, given by the {@link String}.<br>
-   * <b>Note:</b> The string mustn't contain any invalid value, ensure that it contains < type > < value >!
+   * Parses the given {@link String} that should contain a < definition > without comment. Omitted < type > < value >
+   * pairs are replaced with an increment by zero.
    * 
-   * @author croesch
-   * @since Date: Apr 5, 2011
-   * @param s the string that contains < type > < value >
-   * @return the int that represents the < value >
+   * @since Date: Oct 18, 2026
+   * @param line the {@link String} to parse
+   * @return the special character defined by the line or <code>null</code>, if the line isn't a valid < definition >
    */
-  private int getValue(final String s) {
-    return Integer.valueOf(s.substring(1)).intValue();
+  static DateSpecialChar parseLine(final String line) {
+    final ModificationType[] types = new ModificationType[FIELD_COUNT];
+    final int[] values = new int[FIELD_COUNT];
+
+    // the key is followed by exactly three fields
+    int pos = 1;
+    for (int i = 0; i < FIELD_COUNT; ++i) {
+      pos = parseField(line, pos, types, values, i);
+      if (pos < 0) {
+        return null;
+      }
+    }
+    if (pos != line.length()) {
+      return null;
+    }
+    return new DateSpecialChar(line.charAt(0), types[0], values[0], types[1], values[1], types[2], values[2]);
   }
 
   /**
-   * Splits the given {@link String} that is expected to be < line > and returns an array that contains the values
-   * splitted by the < sep >. Empty values are replaced with default values.<br>
-   * <b>Note:</b> The string mustn't contain any invalid value, ensure that it contains < line >!
+   * Parses the field that starts at the given position of the line: a < sep > optionally followed by < type > <
+   * value >. The result is stored at the given index of the arrays.
    * 
-   * @author croesch
-   * @since Date: Apr 5, 2011
-   * @param line the {@link String} that contains < line >
-   * @return an array that contains the parts of the < line > splitted by the < sep >. Optional values that are omitted
-   *         are replaced with default values.
+   * @since Date: Oct 18, 2026
+   * @param line the line that contains the field
+   * @param start the position of the < sep > that starts the field
+   * @param types the array to store the < type > of the field in
+   * @param values the array to store the < value > of the field in
+   * @param index the index of the field
+   * @return the position behind the field or <code>-1</code>, if the field isn't valid
    */
-  private String[] splitLine(final String line) {
-    // initialize default values (default, increment current value by zero)
-    final String defaultValue = ModificationType.INCREMENT.uniqueCharacter() + "0";
-    final String[] splitted = new String[] { "", defaultValue, defaultValue, defaultValue };
-
-    // is ensured to return exactly four values, because the given string must be a valid < line >
-    final String[] tmpArray = line.split("\\|");
-    for (int i = 0; i < tmpArray.length; ++i) {
-      // copy each value that is not empty
-      if (tmpArray[i] != null && !tmpArray[i].trim().equals("")) {
-        splitted[i] = tmpArray[i];
+  private static int parseField(final String line,
+                                final int start,
+                                final ModificationType[] types,
+                                final int[] values,
+                                final int index) {
+    final int length = line.length();
+    if (start >= length || line.charAt(start) != SEPARATOR) {
+      return -1;
+    }
+    int pos = start + 1;
+    if (pos == length || line.charAt(pos) == SEPARATOR) {
+      // omitted value, so increment the current value by zero
+      types[index] = ModificationType.INCREMENT;
+      values[index] = 0;
+      return pos;
+    }
+
+    types[index] = getType(line.charAt(pos++));
+    if (types[index] == null) {
+      return -1;
+    }
+    final boolean negative = pos < length && line.charAt(pos) == '-';
+    if (negative) {
+      ++pos;
+    }
+    final long limit = negative ? -(long) Integer.MIN_VALUE : Integer.MAX_VALUE;
+    final int firstDigit = pos;
+    long value = 0;
+    while (pos < length && line.charAt(pos) >= '0' && line.charAt(pos) <= '9') {
+      value = value * RADIX + (line.charAt(pos++) - '0');
+      if (value > limit) {
+        return -1;
       }
     }
-    return splitted;
+    if (pos == firstDigit) {
+      return -1;
+    }
+    values[index] = (int) (negative ? -value : value);
+    return pos;
   }
 
   /**
-   * Adds the given {@link String} that is expected to be < line > to the internal map of definitions.<br>
-   * <b>Note:</b> The string mustn't contain any invalid value, ensure that it contains < line >!
+   * Returns the {@link ModificationType} described by the given < type > character.
    * 
-   * @author croesch
-   * @since Date: Apr 5, 2011
-   * @param line the {@link String} that contains < line >
+   * @since Date: Oct 18, 2026
+   * @param c the character that should describe a < type >
+   * @return the described {@link ModificationType} or <code>null</code>, if the character is no < type >
    */
-  private void addLine(final String line) {
-    // parse the line
-    final String[] arr = splitLine(line);
-
-    final String yearPartOfDefinition = arr[1];
-    final String monthPartOfDefinition = arr[2];
-    final String dayPartOfDefinition = arr[3];
-    // construct the special character
-    final DateSpecialChar specialChar = new DateSpecialChar(line.charAt(0),
-                                                            getValueType(yearPartOfDefinition),
-                                                            getValue(yearPartOfDefinition),
-                                                            getValueType(monthPartOfDefinition),
-                                                            getValue(monthPartOfDefinition),
-                                                            getValueType(dayPartOfDefinition),
-                                                            getValue(dayPartOfDefinition));
-    // put the special character into the map of special characters
-    this.specialCharsMap.put(line.substring(0, 1), specialChar);
+  private static ModificationType getType(final char c) {
+    for (final ModificationType t : ModificationType.values()) {
+      if (t.uniqueCharacter() == c) {
+        return t;
+      }
+    }
+    return null;
   }
 
   /**
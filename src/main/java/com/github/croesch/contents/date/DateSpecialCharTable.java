@@ -0,0 +1,137 @@
+/*
+ * Copyright (C) 2011  Christian Roesch
+ * 
+ * This file is part of crhcomponents.
+ * 
+ * crhcomponents is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * crhcomponents is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with crhcomponents.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.github.croesch.contents.date;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * An immutable table of special characters, that is shared by all date contents. The special characters are looked up
+ * directly by the typed character, ASCII characters by the index of an array, other characters by a binary search. So
+ * no object has to be created to look up a character.
+ * 
+ * @author croesch
+ * @since Date: Oct 18, 2026
+ * @see DateSpecialChar
+ */
+final class DateSpecialCharTable implements Serializable {
+
+  /** generated serial version UID */
+  private static final long serialVersionUID = -2230843418318618716L;
+
+  /** the number of characters looked up by index */
+  private static final int ASCII = 128;
+
+  /** the table without any special characters */
+  static final DateSpecialCharTable EMPTY = new DateSpecialCharTable(new DateSpecialChar[ASCII], new char[0],
+                                                                     new DateSpecialChar[0]);
+
+  /** the special characters of the ASCII characters, indexed by the character */
+  private final DateSpecialChar[] ascii;
+
+  /** the other characters that have a special character, sorted */
+  private final char[] otherKeys;
+
+  /** the special characters of the other characters, in the order of {@link #otherKeys} */
+  private final DateSpecialChar[] otherChars;
+
+  /**
+   * Constructs a table with the given special characters.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param a the special characters of the ASCII characters, indexed by the character
+   * @param keys the other characters that have a special character, sorted
+   * @param others the special characters of the other characters
+   */
+  private DateSpecialCharTable(final DateSpecialChar[] a, final char[] keys, final DateSpecialChar[] others) {
+    this.ascii = a;
+    this.otherKeys = keys;
+    this.otherChars = others;
+  }
+
+  /**
+   * Creates a table with the special characters of the given map.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param map the map of {@link String}s that contain a single character and the {@link DateSpecialChar} to enter with
+   *        that character
+   * @return the table of the special characters of the map
+   * @throws IllegalArgumentException if the map is {@code null}
+   */
+  static DateSpecialCharTable of(final Map<String, DateSpecialChar> map) throws IllegalArgumentException {
+    if (map == null) {
+      throw new IllegalArgumentException(">null< is not allowed.");
+    }
+    final DateSpecialChar[] a = new DateSpecialChar[ASCII];
+    char[] keys = new char[map.size()];
+    int count = 0;
+    for (final Map.Entry<String, DateSpecialChar> entry : map.entrySet()) {
+      if (entry.getKey() != null && entry.getKey().length() == 1 && entry.getValue() != null) {
+        final char c = entry.getKey().charAt(0);
+        if (c < ASCII) {
+          a[c] = entry.getValue();
+        } else {
+          keys[count++] = c;
+        }
+      }
+    }
+    keys = Arrays.copyOf(keys, count);
+    Arrays.sort(keys);
+    final DateSpecialChar[] others = new DateSpecialChar[count];
+    for (int i = 0; i < count; ++i) {
+      others[i] = map.get(String.valueOf(keys[i]));
+    }
+    return new DateSpecialCharTable(a, keys, others);
+  }
+
+  /**
+   * Returns the special character to enter with the given character.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param c the typed character
+   * @return the special character to enter, or {@code null} if the character isn't a special character
+   */
+  DateSpecialChar get(final char c) {
+    if (c < ASCII) {
+      return this.ascii[c];
+    }
+    final int index = Arrays.binarySearch(this.otherKeys, c);
+    if (index < 0) {
+      return null;
+    }
+    return this.otherChars[index];
+  }
+
+  /**
+   * Returns the number of special characters of this table.
+   * 
+   * @since Date: Oct 18, 2026
+   * @return the number of special characters
+   */
+  int size() {
+    int size = this.otherKeys.length;
+    for (final DateSpecialChar sc : this.ascii) {
+      if (sc != null) {
+        ++size;
+      }
+    }
+    return size;
+  }
+}
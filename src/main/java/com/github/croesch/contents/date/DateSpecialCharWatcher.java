@@ -0,0 +1,66 @@
+/*
+ * Copyright (C) 2011  Christian Roesch
+ * 
+ * This file is part of crhcomponents.
+ * 
+ * crhcomponents is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * crhcomponents is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with crhcomponents.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.github.croesch.contents.date;
+
+import java.io.File;
+
+/**
+ * Checks a file that contains the definition of special characters for changes and loads it, if it has been changed
+ * since the last check. Each run of this watcher checks the file once, so it's meant to be scheduled periodically.
+ * 
+ * @author croesch
+ * @since Date: Oct 18, 2026
+ * @see DateContent#watchSpecialChars(File, java.util.concurrent.ScheduledExecutorService, long,
+ *      java.util.concurrent.TimeUnit)
+ */
+final class DateSpecialCharWatcher implements Runnable {
+
+  /** the file to watch */
+  private final File file;
+
+  /** the modification time of the file when it has been loaded the last time */
+  private long lastModified = -1;
+
+  /** the length of the file when it has been loaded the last time */
+  private long length = -1;
+
+  /**
+   * Constructs a new {@link DateSpecialCharWatcher} for the given file.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param f the file that contains the definition of the special characters
+   */
+  DateSpecialCharWatcher(final File f) {
+    this.file = f;
+  }
+
+  @Override
+  public void run() {
+    // a missing file has no modification time, it's loaded as soon as it exists
+    final long modified = this.file.lastModified();
+    final long size = this.file.length();
+    if (modified == 0 || (modified == this.lastModified && size == this.length)) {
+      return;
+    }
+    if (DateContent.loadSpecialChars(this.file)) {
+      this.lastModified = modified;
+      this.length = size;
+    }
+  }
+}
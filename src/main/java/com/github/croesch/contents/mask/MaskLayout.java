@@ -0,0 +1,311 @@
+/*
+ * Copyright (C) 2011  Christian Roesch
+ * 
+ * This file is part of crhcomponents.
+ * 
+ * crhcomponents is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * crhcomponents is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with crhcomponents.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.github.croesch.contents.mask;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The layout of a {@link MaskedContent}: a fixed sequence of slots, each edited by a {@link SlotEditor}. Layouts are
+ * immutable and can be shared, each content creates its own editors from the layout.<br>
+ * Layouts can be described with a pattern, see {@link #parse(String)}, or created for a locale by a {@link Factory},
+ * see {@link #getLayout(Factory, Locale)}. Both are cached, so each layout is only created once.
+ * 
+ * @author croesch
+ * @since Date: Oct 18, 2026
+ */
+public final class MaskLayout implements Serializable {
+
+  /** generated serial version UID */
+  private static final long serialVersionUID = 1652458307787411286L;
+
+  /** the layouts of the parsed patterns */
+  private static final Map<String, MaskLayout> PATTERNS = new ConcurrentHashMap<String, MaskLayout>();
+
+  /** the layouts created by the factories for the locales */
+  private static final Map<List<Object>, MaskLayout> LOCALIZED = new ConcurrentHashMap<List<Object>, MaskLayout>();
+
+  /** the editors of the slots, used to create new editors */
+  private final SlotEditor[] slots;
+
+  /** the offset of each slot in the text */
+  private final int[] starts;
+
+  /** the number of characters of all slots */
+  private final int length;
+
+  /**
+   * Creates layouts for locales, i.e. the format of phone numbers of a country.
+   * 
+   * @author croesch
+   * @since Date: Oct 18, 2026
+   */
+  public interface Factory {
+
+    /**
+     * Creates the layout for the given locale.
+     * 
+     * @since Date: Oct 18, 2026
+     * @param locale the locale to create the layout for
+     * @return the layout for the given locale
+     */
+    MaskLayout createLayout(Locale locale);
+  }
+
+  /**
+   * Constructs a layout of the given slots.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param editors the editors of the slots, in the order they appear in the text
+   * @throws IllegalArgumentException if there are no slots or one of them is {@code null}
+   */
+  public MaskLayout(final SlotEditor ... editors) throws IllegalArgumentException {
+    if (editors.length == 0) {
+      throw new IllegalArgumentException("a layout needs at least one slot");
+    }
+    this.slots = editors.clone();
+    this.starts = new int[this.slots.length];
+    int offset = 0;
+    for (int i = 0; i < this.slots.length; ++i) {
+      if (this.slots[i] == null) {
+        throw new IllegalArgumentException(">null< is not allowed.");
+      }
+      this.starts[i] = offset;
+      offset += this.slots[i].getSize();
+    }
+    this.length = offset;
+  }
+
+  /**
+   * Returns the layout described by the given pattern. Each character of the pattern describes a character of the
+   * text:
+   * <ul>
+   * <li><code>#</code> a digit</li>
+   * <li><code>A</code> a letter, converted to upper case</li>
+   * <li><code>*</code> a letter or a digit</li>
+   * <li><code>\</code> the following character is fixed</li>
+   * <li>any other character is fixed</li>
+   * </ul>
+   * Following characters of the same kind form one slot. For example <code>##:##</code> describes a time and
+   * <code>AA## #### ####</code> the beginning of an IBAN.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param pattern the pattern of the layout
+   * @return the layout described by the pattern
+   * @throws IllegalArgumentException if the pattern is {@code null}, empty or ends with a single <code>\</code>
+   */
+  public static MaskLayout parse(final String pattern) throws IllegalArgumentException {
+    if (pattern == null) {
+      throw new IllegalArgumentException(">null< is not allowed.");
+    }
+    MaskLayout layout = PATTERNS.get(pattern);
+    if (layout == null) {
+      layout = createLayout(pattern);
+      PATTERNS.put(pattern, layout);
+    }
+    return layout;
+  }
+
+  /**
+   * Creates the layout described by the given pattern.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param pattern the pattern of the layout
+   * @return the layout described by the pattern
+   * @throws IllegalArgumentException if the pattern is empty or ends with a single <code>\</code>
+   * @see #parse(String)
+   */
+  private static MaskLayout createLayout(final String pattern) throws IllegalArgumentException {
+    final List<SlotEditor> editors = new ArrayList<SlotEditor>();
+    final StringBuilder literal = new StringBuilder();
+    int i = 0;
+    while (i < pattern.length()) {
+      final char c = pattern.charAt(i);
+      if (c == '#' || c == 'A' || c == '*') {
+        if (literal.length() > 0) {
+          editors.add(SlotEditors.literal(literal.toString()));
+          literal.setLength(0);
+        }
+        int size = 0;
+        while (i < pattern.length() && pattern.charAt(i) == c) {
+          ++size;
+          ++i;
+        }
+        editors.add(createSlot(c, size));
+      } else {
+        if (c == '\\') {
+          ++i;
+          if (i == pattern.length()) {
+            throw new IllegalArgumentException("pattern ends with escape character: >" + pattern + "<");
+          }
+        }
+        literal.append(pattern.charAt(i));
+        ++i;
+      }
+    }
+    if (literal.length() > 0) {
+      editors.add(SlotEditors.literal(literal.toString()));
+    }
+    return new MaskLayout(editors.toArray(new SlotEditor[editors.size()]));
+  }
+
+  /**
+   * Creates the editor for the given symbol of a pattern.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param symbol the symbol of the pattern
+   * @param size the number of characters of the slot
+   * @return the editor of the slot
+   */
+  private static SlotEditor createSlot(final char symbol, final int size) {
+    switch (symbol) {
+      case '#':
+        return SlotEditors.digits(size);
+      case 'A':
+        return SlotEditors.letters(size);
+      default:
+        return SlotEditors.alphanumerics(size);
+    }
+  }
+
+  /**
+   * Returns the layout the given factory creates for the given locale. Each layout is created only once and then
+   * returned from the cache.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param factory the factory that creates the layout
+   * @param locale the locale to create the layout for
+   * @return the layout for the given locale
+   * @throws IllegalArgumentException if one of the arguments is {@code null} or the factory returns {@code null}
+   */
+  public static MaskLayout getLayout(final Factory factory, final Locale locale) throws IllegalArgumentException {
+    if (factory == null || locale == null) {
+      throw new IllegalArgumentException(">null< is not allowed.");
+    }
+    final List<Object> key = Arrays.<Object> asList(factory, locale);
+    MaskLayout layout = LOCALIZED.get(key);
+    if (layout == null) {
+      layout = factory.createLayout(locale);
+      if (layout == null) {
+        throw new IllegalArgumentException("no layout for >" + locale + "<");
+      }
+      LOCALIZED.put(key, layout);
+    }
+    return layout;
+  }
+
+  /**
+   * Returns the number of characters of the text of this layout.
+   * 
+   * @since Date: Oct 18, 2026
+   * @return the number of characters of all slots
+   */
+  public int getLength() {
+    return this.length;
+  }
+
+  /**
+   * Returns the number of slots of this layout.
+   * 
+   * @since Date: Oct 18, 2026
+   * @return the number of slots
+   */
+  public int getSlotCount() {
+    return this.slots.length;
+  }
+
+  /**
+   * Returns the offset of the given slot in the text.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param slot the index of the slot
+   * @return the offset of the first character of the slot
+   */
+  public int getSlotStart(final int slot) {
+    return this.starts[slot];
+  }
+
+  /**
+   * Returns the slot that contains the character at the given offset.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param offset the offset of the character in the text
+   * @return the index of the slot, or <code>-1</code> if the offset is outside of the text
+   */
+  public int getSlotAt(final int offset) {
+    if (offset < 0 || offset >= this.length) {
+      return -1;
+    }
+    final int index = Arrays.binarySearch(this.starts, offset);
+    if (index >= 0) {
+      return index;
+    }
+    // the offset is inside of the slot before the insertion point
+    return -index - 2;
+  }
+
+  /**
+   * Creates new editors for all slots, for a new content.
+   * 
+   * @since Date: Oct 18, 2026
+   * @return the new editors, in the order of the slots
+   */
+  SlotEditor[] createEditors() {
+    final SlotEditor[] editors = new SlotEditor[this.slots.length];
+    for (int i = 0; i < editors.length; ++i) {
+      editors[i] = this.slots[i].newInstance();
+    }
+    return editors;
+  }
+
+  /**
+   * Whether the given text is a complete value of this layout.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param text the text to check
+   * @return {@code true}, if the text has the length of this layout and each slot is complete
+   */
+  public boolean isValid(final CharSequence text) {
+    if (text == null || text.length() != this.length) {
+      return false;
+    }
+    for (int i = 0; i < this.slots.length; ++i) {
+      if (!this.slots[i].isValid(text, this.starts[i])) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public String toString() {
+    final StringBuilder sb = new StringBuilder();
+    for (final SlotEditor slot : createEditors()) {
+      for (int i = 0; i < slot.getSize(); ++i) {
+        sb.append(slot.charAt(i));
+      }
+    }
+    return sb.toString();
+  }
+}
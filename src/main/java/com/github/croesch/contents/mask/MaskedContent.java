@@ -0,0 +1,336 @@
+/*
+ * Copyright (C) 2011  Christian Roesch
+ * 
+ * This file is part of crhcomponents.
+ * 
+ * crhcomponents is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * crhcomponents is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with crhcomponents.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.github.croesch.contents.mask;
+
+import javax.swing.text.AttributeSet;
+import javax.swing.text.BadLocationException;
+import javax.swing.text.JTextComponent;
+import javax.swing.text.Segment;
+
+import com.github.croesch.contents.CContent;
+import com.github.croesch.logging.Log;
+
+/**
+ * A content with a fixed layout, i.e. for phone numbers, IBANs, times or postal codes. The text always has the length
+ * of its {@link MaskLayout}, characters that haven't been entered are shown as {@link SlotEditors#PLACEHOLDER}.<br>
+ * Each typed character is passed to the {@link SlotEditor} of the slot at the cursor. Only the characters the editor
+ * changed are replaced in the document, and the validity is known from the editors, so the text doesn't have to be
+ * checked again for each key.
+ * 
+ * @author croesch
+ * @since Date: Oct 18, 2026
+ */
+public class MaskedContent extends CContent {
+
+  /** generated serial version UID */
+  private static final long serialVersionUID = 2750398717012593416L;
+
+  /** the layout of the content */
+  private final MaskLayout layout;
+
+  /** the editors of the slots */
+  private final SlotEditor[] editors;
+
+  /** text component to set the cursor, may be {@code null} */
+  private final JTextComponent textComponent;
+
+  /** whether the document is currently updated with the characters of the editors */
+  private boolean rendering = false;
+
+  /** the segment to read the current characters of a slot, created lazily */
+  private transient Segment segment;
+
+  /**
+   * Constructs a content with the given layout.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param l the layout of the content
+   * @throws IllegalArgumentException if the layout is {@code null}
+   */
+  public MaskedContent(final MaskLayout l) throws IllegalArgumentException {
+    this(l, null);
+  }
+
+  /**
+   * Constructs a content with the given layout. The given text component is used to set the cursor behind the entered
+   * characters.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param l the layout of the content
+   * @param tc the text component for this document, may be {@code null}
+   * @throws IllegalArgumentException if the layout is {@code null}
+   */
+  public MaskedContent(final MaskLayout l, final JTextComponent tc) throws IllegalArgumentException {
+    if (l == null) {
+      throw new IllegalArgumentException(">null< is not allowed.");
+    }
+    this.layout = l;
+    this.editors = l.createEditors();
+    this.textComponent = tc;
+
+    this.rendering = true;
+    try {
+      super.insertString(0, l.toString(), null);
+    } catch (final BadLocationException e) {
+      Log.error(e);
+    } finally {
+      this.rendering = false;
+    }
+  }
+
+  /**
+   * Returns the layout of this content.
+   * 
+   * @since Date: Oct 18, 2026
+   * @return the layout of this content
+   */
+  public final MaskLayout getLayout() {
+    return this.layout;
+  }
+
+  /**
+   * Returns the current value of the given slot.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param slot the index of the slot
+   * @return the characters of the slot, containing {@link SlotEditors#PLACEHOLDER}s if it isn't complete
+   */
+  public final String getSlotValue(final int slot) {
+    final SlotEditor editor = this.editors[slot];
+    final char[] chars = new char[editor.getSize()];
+    for (int i = 0; i < chars.length; ++i) {
+      chars[i] = editor.charAt(i);
+    }
+    return String.valueOf(chars);
+  }
+
+  /**
+   * Whether all slots are complete.
+   * 
+   * @since Date: Oct 18, 2026
+   * @return {@code true}, if all characters have been entered
+   */
+  public final boolean isComplete() {
+    for (final SlotEditor editor : this.editors) {
+      if (!editor.isComplete()) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public final boolean isValidInput(final String text) {
+    return isValidInput((CharSequence) text);
+  }
+
+  @Override
+  public final boolean isValidInput(final CharSequence text) {
+    return text != null && isValidLength(text.length()) && this.layout.isValid(text);
+  }
+
+  /**
+   * {@inheritDoc}<br>
+   * While the document is updated with the characters of the editors, the validity is known from the editors.
+   */
+  @Override
+  protected final Boolean isValidChange(final boolean wasValid,
+                                        final int offs,
+                                        final int removedLength,
+                                        final String inserted,
+                                        final int newLength) {
+    if (this.rendering) {
+      return Boolean.valueOf(isValidLength(newLength) && isComplete());
+    }
+    return null;
+  }
+
+  @Override
+  public final void insertString(final int offs, final String str, final AttributeSet a) throws BadLocationException {
+    if (this.rendering) {
+      super.insertString(offs, str, a);
+      return;
+    }
+    if (offs < 0 || offs > getLength()) {
+      throw new BadLocationException(str, offs);
+    }
+    if (str == null || str.length() == 0) {
+      return;
+    }
+
+    // several characters (i.e. pasted text) are checked only once
+    int caret = offs;
+    beginEdit();
+    try {
+      for (int i = 0; i < str.length(); ++i) {
+        final int next = enter(caret, str.charAt(i));
+        if (next >= 0) {
+          caret = next;
+        }
+      }
+    } finally {
+      endEdit();
+    }
+    if (this.textComponent != null) {
+      this.textComponent.setCaretPosition(caret);
+    }
+  }
+
+  /**
+   * Enters the given character at the given offset. If the slot at the offset refuses the character, the following
+   * slots are tried at their beginning, so that i.e. a separator can be skipped.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param offs the offset to enter the character at
+   * @param c the character to enter
+   * @return the offset behind the entered character, or <code>-1</code> if no slot accepted the character
+   * @throws BadLocationException if the document couldn't be updated
+   */
+  private int enter(final int offs, final char c) throws BadLocationException {
+    int slot = this.layout.getSlotAt(offs);
+    if (slot < 0) {
+      return -1;
+    }
+    int position = offs - this.layout.getSlotStart(slot);
+    int written = this.editors[slot].enterValue(c, position);
+    while (written < 0 && slot + 1 < this.editors.length) {
+      ++slot;
+      position = 0;
+      written = this.editors[slot].enterValue(c, position);
+    }
+    if (written < 0) {
+      return -1;
+    }
+    render(slot);
+    return this.layout.getSlotStart(slot) + position + written;
+  }
+
+  @Override
+  public final void remove(final int offs, final int len) throws BadLocationException {
+    if (this.rendering) {
+      super.remove(offs, len);
+      return;
+    }
+    if (offs < 0 || len < 0 || offs + len > getLength()) {
+      throw new BadLocationException("invalid range", offs);
+    }
+    if (len == 0) {
+      return;
+    }
+
+    // the characters are replaced by placeholders, the layout stays the same
+    beginEdit();
+    try {
+      final int first = this.layout.getSlotAt(offs);
+      final int last = this.layout.getSlotAt(offs + len - 1);
+      for (int i = offs; i < offs + len; ++i) {
+        final int slot = this.layout.getSlotAt(i);
+        this.editors[slot].clear(i - this.layout.getSlotStart(slot));
+      }
+      for (int slot = first; slot <= last; ++slot) {
+        render(slot);
+      }
+    } finally {
+      endEdit();
+    }
+    if (this.textComponent != null) {
+      this.textComponent.setCaretPosition(offs);
+    }
+  }
+
+  /**
+   * {@inheritDoc}<br>
+   * The editors are filled with the restored characters. If an editor doesn't accept them, the document is updated with
+   * the characters of the editor, so that the text always shows the state of the editors.
+   */
+  @Override
+  protected final void textRestored() {
+    try {
+      if (getLength() != this.layout.getLength()) {
+        // the text doesn't fit to the layout, so start again with an empty mask
+        this.rendering = true;
+        try {
+          replace(0, getLength(), this.layout.toString(), null);
+        } finally {
+          this.rendering = false;
+        }
+      }
+      if (this.segment == null) {
+        this.segment = new Segment();
+      }
+      for (int slot = 0; slot < this.editors.length; ++slot) {
+        final SlotEditor editor = this.editors[slot];
+        final int start = this.layout.getSlotStart(slot);
+        getText(start, editor.getSize(), this.segment);
+        final String restored = this.segment.toString();
+        for (int i = 0; i < editor.getSize(); ++i) {
+          editor.clear(i);
+        }
+        for (int i = 0; i < editor.getSize(); ++i) {
+          if (restored.charAt(i) != SlotEditors.PLACEHOLDER) {
+            editor.enterValue(restored.charAt(i), i);
+          }
+        }
+        render(slot);
+      }
+    } catch (final BadLocationException e) {
+      Log.error(e);
+    }
+  }
+
+  /**
+   * Updates the document with the characters of the given slot. Only the range of characters that differ is replaced.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param slot the index of the slot to update
+   * @throws BadLocationException if the document couldn't be updated
+   */
+  private void render(final int slot) throws BadLocationException {
+    final SlotEditor editor = this.editors[slot];
+    final int start = this.layout.getSlotStart(slot);
+    if (this.segment == null) {
+      this.segment = new Segment();
+    }
+    getText(start, editor.getSize(), this.segment);
+
+    int first = 0;
+    while (first < editor.getSize() && editor.charAt(first) == this.segment.charAt(first)) {
+      ++first;
+    }
+    if (first == editor.getSize()) {
+      // nothing has changed
+      return;
+    }
+    int last = editor.getSize() - 1;
+    while (editor.charAt(last) == this.segment.charAt(last)) {
+      --last;
+    }
+
+    final char[] chars = new char[last - first + 1];
+    for (int i = 0; i < chars.length; ++i) {
+      chars[i] = editor.charAt(first + i);
+    }
+    this.rendering = true;
+    try {
+      replace(start + first, chars.length, String.valueOf(chars), null);
+    } finally {
+      this.rendering = false;
+    }
+  }
+}
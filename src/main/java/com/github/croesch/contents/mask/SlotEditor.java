@@ -0,0 +1,94 @@
+/*
+ * Copyright (C) 2011  Christian Roesch
+ * 
+ * This file is part of crhcomponents.
+ * 
+ * crhcomponents is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * crhcomponents is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with crhcomponents.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.github.croesch.contents.mask;
+
+/**
+ * The editor of one slot of a {@link MaskLayout}, i.e. the digits of an area code or a separator. A slot has a fixed
+ * number of characters, that are changed in place while the user types.
+ * 
+ * @author croesch
+ * @since Date: Oct 18, 2026
+ * @see SlotEditors
+ */
+public interface SlotEditor {
+
+  /**
+   * Returns the number of characters of this slot.
+   * 
+   * @since Date: Oct 18, 2026
+   * @return the number of characters that this editor is editing
+   */
+  int getSize();
+
+  /**
+   * Returns the current character at the given position of this slot.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param position the position in this slot, at least zero and less than {@link #getSize()}
+   * @return the current character at the given position
+   */
+  char charAt(int position);
+
+  /**
+   * Performs to enter the given character into this slot. The editor may change any of its characters.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param c the single character to enter
+   * @param position the position to enter the character at
+   * @return <code>-1</code>, if the given character cannot be inserted<br>
+   *         the number of characters written / the cursor should be moved
+   */
+  int enterValue(char c, int position);
+
+  /**
+   * Removes the character at the given position, so that the slot isn't complete anymore. Slots that can't be changed
+   * ignore this.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param position the position of the character to remove
+   */
+  void clear(int position);
+
+  /**
+   * Whether all characters of this slot have been entered.
+   * 
+   * @since Date: Oct 18, 2026
+   * @return {@code true}, if the current value of this slot is complete
+   */
+  boolean isComplete();
+
+  /**
+   * Whether the given text contains a complete value of this slot at the given offset.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param text the text to check, contains at least {@link #getSize()} characters after the offset
+   * @param offset the offset of the slot in the text
+   * @return {@code true}, if this slot would be complete with the characters of the given text
+   */
+  boolean isValid(CharSequence text, int offset);
+
+  /**
+   * Creates a new editor of the same kind, without any entered characters. Each content needs its own editors, because
+   * they store the entered characters.
+   * 
+   * @since Date: Oct 18, 2026
+   * @return a new editor of this kind
+   */
+  SlotEditor newInstance();
+}
@@ -0,0 +1,291 @@
+/*
+ * Copyright (C) 2011  Christian Roesch
+ * 
+ * This file is part of crhcomponents.
+ * 
+ * crhcomponents is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * crhcomponents is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with crhcomponents.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.github.croesch.contents.mask;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * Provides the common {@link SlotEditor}s.
+ * 
+ * @author croesch
+ * @since Date: Oct 18, 2026
+ */
+public final class SlotEditors {
+
+  /** the character that is shown for characters that haven't been entered yet */
+  public static final char PLACEHOLDER = '_';
+
+  /** the digits */
+  private static final String DIGITS = "0123456789";
+
+  /** the upper case letters */
+  private static final String LETTERS = "ABCDEFGHIJKLMNOPQRSTUVWXYZ";
+
+  /**
+   * Hidden constructor.
+   * 
+   * @since Date: Oct 18, 2026
+   */
+  private SlotEditors() {
+    throw new AssertionError("Invocation of utility class constructor.");
+  }
+
+  /**
+   * Returns an editor for a fixed text, i.e. a separator. It only accepts the character it already contains at the
+   * given position, so that typing the separator moves the cursor behind it.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param text the fixed text of the slot
+   * @return the editor of the fixed text
+   * @throws IllegalArgumentException if the text is {@code null} or empty
+   */
+  public static SlotEditor literal(final String text) throws IllegalArgumentException {
+    if (text == null || text.length() == 0) {
+      throw new IllegalArgumentException("invalid literal: >" + text + "<");
+    }
+    return new LiteralEditor(text);
+  }
+
+  /**
+   * Returns an editor for the given number of digits.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param size the number of digits
+   * @return the editor of the digits
+   * @throws IllegalArgumentException if the size is less than one
+   */
+  public static SlotEditor digits(final int size) throws IllegalArgumentException {
+    return chars(size, DIGITS);
+  }
+
+  /**
+   * Returns an editor for the given number of letters. Lower case letters are converted to upper case.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param size the number of letters
+   * @return the editor of the letters
+   * @throws IllegalArgumentException if the size is less than one
+   */
+  public static SlotEditor letters(final int size) throws IllegalArgumentException {
+    return chars(size, LETTERS);
+  }
+
+  /**
+   * Returns an editor for the given number of letters or digits. Lower case letters are converted to upper case.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param size the number of characters
+   * @return the editor of the letters and digits
+   * @throws IllegalArgumentException if the size is less than one
+   */
+  public static SlotEditor alphanumerics(final int size) throws IllegalArgumentException {
+    return chars(size, LETTERS + DIGITS);
+  }
+
+  /**
+   * Returns an editor for the given number of characters. If a character isn't allowed, but its upper case form is,
+   * the upper case form is entered.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param size the number of characters
+   * @param allowed the characters that are allowed
+   * @return the editor of the characters
+   * @throws IllegalArgumentException if the size is less than one or the allowed characters are {@code null}
+   */
+  public static SlotEditor chars(final int size, final CharSequence allowed) throws IllegalArgumentException {
+    if (size < 1 || allowed == null) {
+      throw new IllegalArgumentException("invalid slot: >" + size + "<, >" + allowed + "<");
+    }
+    final BitSet chars = new BitSet();
+    for (int i = 0; i < allowed.length(); ++i) {
+      chars.set(allowed.charAt(i));
+    }
+    return new CharEditor(size, chars);
+  }
+
+  /**
+   * The editor of a fixed text.
+   * 
+   * @author croesch
+   * @since Date: Oct 18, 2026
+   */
+  private static final class LiteralEditor implements SlotEditor, Serializable {
+
+    /** generated serial version UID */
+    private static final long serialVersionUID = -6151282417541911530L;
+
+    /** the fixed text - won't change */
+    private final String value;
+
+    /**
+     * Constructs the editor of the given text.
+     * 
+     * @since Date: Oct 18, 2026
+     * @param text the fixed text
+     */
+    LiteralEditor(final String text) {
+      this.value = text;
+    }
+
+    @Override
+    public int getSize() {
+      return this.value.length();
+    }
+
+    @Override
+    public char charAt(final int position) {
+      return this.value.charAt(position);
+    }
+
+    @Override
+    public int enterValue(final char c, final int position) {
+      // you can only enter a character if it is the one at the given position
+      if (position >= 0 && position < getSize() && c == this.value.charAt(position)) {
+        return 1;
+      }
+      return -1;
+    }
+
+    @Override
+    public void clear(final int position) {
+      // the text is fixed
+    }
+
+    @Override
+    public boolean isComplete() {
+      return true;
+    }
+
+    @Override
+    public boolean isValid(final CharSequence text, final int offset) {
+      for (int i = 0; i < this.value.length(); ++i) {
+        if (text.charAt(offset + i) != this.value.charAt(i)) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    @Override
+    public SlotEditor newInstance() {
+      // nothing can be entered, so the editor can be shared
+      return this;
+    }
+
+    @Override
+    public String toString() {
+      return this.value;
+    }
+  }
+
+  /**
+   * The editor of a number of characters, that are allowed at each position.
+   * 
+   * @author croesch
+   * @since Date: Oct 18, 2026
+   */
+  private static final class CharEditor implements SlotEditor, Serializable {
+
+    /** generated serial version UID */
+    private static final long serialVersionUID = 4209931720262498843L;
+
+    /** the allowed characters, shared by all editors of this kind */
+    private final BitSet allowed;
+
+    /** the current characters */
+    private final char[] value;
+
+    /**
+     * Constructs an editor without entered characters.
+     * 
+     * @since Date: Oct 18, 2026
+     * @param size the number of characters
+     * @param chars the allowed characters
+     */
+    CharEditor(final int size, final BitSet chars) {
+      this.allowed = chars;
+      this.value = new char[size];
+      Arrays.fill(this.value, PLACEHOLDER);
+    }
+
+    @Override
+    public int getSize() {
+      return this.value.length;
+    }
+
+    @Override
+    public char charAt(final int position) {
+      return this.value[position];
+    }
+
+    @Override
+    public int enterValue(final char c, final int position) {
+      if (position < 0 || position >= getSize()) {
+        return -1;
+      }
+      if (this.allowed.get(c)) {
+        this.value[position] = c;
+        return 1;
+      }
+      final char upper = Character.toUpperCase(c);
+      if (this.allowed.get(upper)) {
+        this.value[position] = upper;
+        return 1;
+      }
+      return -1;
+    }
+
+    @Override
+    public void clear(final int position) {
+      this.value[position] = PLACEHOLDER;
+    }
+
+    @Override
+    public boolean isComplete() {
+      for (final char c : this.value) {
+        if (c == PLACEHOLDER) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    @Override
+    public boolean isValid(final CharSequence text, final int offset) {
+      for (int i = 0; i < this.value.length; ++i) {
+        if (!this.allowed.get(text.charAt(offset + i))) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    @Override
+    public SlotEditor newInstance() {
+      return new CharEditor(this.value.length, this.allowed);
+    }
+
+    @Override
+    public String toString() {
+      return String.valueOf(this.value);
+    }
+  }
+}
@@ -33,4 +33,14 @@ public abstract class ErrorListener {
    * @since Date: Jan 13, 2011
    */
   public abstract void errorStateChanged(boolean error);
+
+  /**
+   * Will be invoked when the validation of the content has been aborted, because it exceeded its limits. The content
+   * then uses a configured state of error instead of the real one. Does nothing by default.
+   * 
+   * @since Date: Oct 18, 2026
+   */
+  public void validationTimedOut() {
+    // nothing to do by default
+  }
 }
@@ -18,9 +18,8 @@
  */
 package com.github.croesch.util;
 
-import java.util.Calendar;
 import java.util.Date;
-import java.util.GregorianCalendar;
+import java.util.TimeZone;
 
 /**
  * An util for date objects, offers special operations on date objects.
@@ -77,7 +76,19 @@ public final class DateUtil {
       // avoid IllegalArgumentException and return directly false
       return false;
     }
-    return getDateWithoutTime().equals(new DateUtil(other).getDateWithoutTime());
+    final TimeZone zone = TimeZone.getDefault();
+    return EpochDay.fromDate(this.date, zone) == EpochDay.fromDate(other, zone);
+  }
+
+  /**
+   * Returns the day of the date as the number of days from 1970-01-01.
+   * 
+   * @since Date: Oct 18, 2026
+   * @return the number of days from 1970-01-01 to the day of the date in the default time zone
+   * @see EpochDay
+   */
+  public long getEpochDay() {
+    return EpochDay.fromDate(this.date, TimeZone.getDefault());
   }
 
   /**
@@ -89,17 +100,8 @@ public final class DateUtil {
   public Date getDateWithoutTime() {
     // cache the calculated value to be able to deliver that a lot of times
     if (this.dateWithoutTime == null) {
-      // put the date into a calendar to be able to fetch fields from
-      final Calendar calHelp = new GregorianCalendar();
-      calHelp.setTime(this.date);
-
-      // build calendar that will create the date object later
-      final Calendar calRet = new GregorianCalendar();
-      // set time to zero
-      calRet.setTimeInMillis(0);
-      // set date information and reset hour - because this might have a value other than zero
-      calRet.set(calHelp.get(Calendar.YEAR), calHelp.get(Calendar.MONTH), calHelp.get(Calendar.DAY_OF_MONTH), 0, 0);
-      this.dateWithoutTime = calRet.getTime();
+      final TimeZone zone = TimeZone.getDefault();
+      this.dateWithoutTime = EpochDay.toDate(EpochDay.fromDate(this.date, zone), 0, zone);
     }
     return new Date(this.dateWithoutTime.getTime());
   }
@@ -0,0 +1,292 @@
+/*
+ * Copyright (C) 2011  Christian Roesch
+ * 
+ * This file is part of crhcomponents.
+ * 
+ * crhcomponents is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * crhcomponents is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with crhcomponents.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.github.croesch.util;
+
+import java.io.Serializable;
+import java.util.TimeZone;
+
+/**
+ * The source of the current day and time for date contents. The {@link #system() system clock} caches the current day
+ * together with the time zone it has been computed in and only computes it again at midnight or when the default time
+ * zone has been changed. Reading the default time zone copies it, so that's done at most once per second and a change
+ * of the default time zone is noticed with that delay. It's shared by all contents that aren't given another clock. A
+ * {@link #fixed(long, TimeZone) fixed clock} makes date dependent behaviour deterministic, i.e. in tests.
+ * 
+ * @author croesch
+ * @since Date: Oct 18, 2026
+ */
+public abstract class DayClock implements Serializable {
+
+  /** generated serial version UID */
+  private static final long serialVersionUID = -6016937946468358627L;
+
+  /** the milliseconds the system clock trusts the time zone its current day has been computed in */
+  static final long ZONE_CHECK_INTERVAL = 1000;
+
+  /**
+   * Constructs a new clock.
+   * 
+   * @since Date: Oct 18, 2026
+   */
+  protected DayClock() {
+    // nothing to initialise
+  }
+
+  /**
+   * Returns the clock that reads the time of the system and the default time zone. It's shared by all its users.
+   * 
+   * @since Date: Oct 18, 2026
+   * @return the clock of the system
+   */
+  public static DayClock system() {
+    return SystemDayClock.INSTANCE;
+  }
+
+  /**
+   * Returns a clock that always returns the given point in time.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param millis the milliseconds since 1970-01-01 00:00 UTC the clock should return
+   * @param zone the time zone the clock should return
+   * @return the clock that is stopped at the given point in time
+   * @throws IllegalArgumentException if the given time zone is <code>null</code>
+   */
+  public static DayClock fixed(final long millis, final TimeZone zone) throws IllegalArgumentException {
+    if (zone == null) {
+      throw new IllegalArgumentException(">null< is not allowed.");
+    }
+    return new FixedDayClock(millis, zone);
+  }
+
+  /**
+   * Returns the current point in time.
+   * 
+   * @since Date: Oct 18, 2026
+   * @return the milliseconds since 1970-01-01 00:00 UTC
+   */
+  public abstract long currentTimeMillis();
+
+  /**
+   * Returns the time zone the current day is determined in.
+   * 
+   * @since Date: Oct 18, 2026
+   * @return the time zone of this clock
+   */
+  public abstract TimeZone getZone();
+
+  /**
+   * Returns the current day.
+   * 
+   * @since Date: Oct 18, 2026
+   * @return the number of days from 1970-01-01 to the current day in the time zone of this clock
+   * @see EpochDay
+   */
+  public long today() {
+    return EpochDay.fromMillis(currentTimeMillis(), getZone());
+  }
+
+  /**
+   * The clock of the system that caches the current day.
+   * 
+   * @author croesch
+   * @since Date: Oct 18, 2026
+   */
+  private static final class SystemDayClock extends DayClock {
+
+    /** generated serial version UID */
+    private static final long serialVersionUID = 4384457153342367208L;
+
+    /** the only instance, shared by all users */
+    private static final SystemDayClock INSTANCE = new SystemDayClock();
+
+    /** the day that has been computed the last time - replaced as a whole, so no lock is needed */
+    private transient volatile Day day = null;
+
+    @Override
+    public long currentTimeMillis() {
+      return System.currentTimeMillis();
+    }
+
+    @Override
+    public TimeZone getZone() {
+      return TimeZone.getDefault();
+    }
+
+    @Override
+    public long today() {
+      final long now = currentTimeMillis();
+      final Day current = this.day;
+      if (current == null || !current.contains(now)) {
+        // midnight has passed
+        return computeDay(now, getZone());
+      }
+      if (now < current.nextZoneCheck) {
+        return current.epochDay;
+      }
+
+      final TimeZone zone = getZone();
+      if (!current.zone.equals(zone)) {
+        return computeDay(now, zone);
+      }
+      this.day = current.checkedAt(now);
+      return current.epochDay;
+    }
+
+    /**
+     * Computes the day of the given point in time in the given time zone and caches it.
+     * 
+     * @since Date: Oct 18, 2026
+     * @param now the milliseconds since 1970-01-01 00:00 UTC
+     * @param zone the current default time zone, not shared with anyone else
+     * @return the number of days from 1970-01-01 to the computed day
+     */
+    private long computeDay(final long now, final TimeZone zone) {
+      final Day next = new Day(zone, EpochDay.fromMillis(now, zone), now);
+      this.day = next;
+      return next.epochDay;
+    }
+
+    /**
+     * Returns the shared instance instead of a deserialised copy.
+     * 
+     * @since Date: Oct 18, 2026
+     * @return the shared clock of the system
+     */
+    private Object readResolve() {
+      return INSTANCE;
+    }
+  }
+
+  /**
+   * A day in a time zone, with the points in time where it starts and ends.
+   * 
+   * @author croesch
+   * @since Date: Oct 18, 2026
+   */
+  private static final class Day {
+
+    /** the time zone the day is computed in, never exposed because time zones are mutable */
+    private final TimeZone zone;
+
+    /** the number of days from 1970-01-01 to the day */
+    private final long epochDay;
+
+    /** the first millisecond of the day */
+    private final long start;
+
+    /** the first millisecond of the following day */
+    private final long end;
+
+    /** the point in time from which the time zone has to be compared with the default time zone again */
+    private final long nextZoneCheck;
+
+    /**
+     * Constructs the given day in the given time zone.
+     * 
+     * @since Date: Oct 18, 2026
+     * @param z the time zone the day is computed in, not shared with anyone else
+     * @param d the number of days from 1970-01-01 to the day
+     * @param now the point in time the time zone has been read
+     */
+    Day(final TimeZone z, final long d, final long now) {
+      this(z, d, EpochDay.toMillis(d, 0, z), EpochDay.toMillis(d + 1, 0, z), now + ZONE_CHECK_INTERVAL);
+    }
+
+    /**
+     * Constructs a day with the given values.
+     * 
+     * @since Date: Oct 18, 2026
+     * @param z the time zone the day is computed in
+     * @param d the number of days from 1970-01-01 to the day
+     * @param s the first millisecond of the day
+     * @param e the first millisecond of the following day
+     * @param check the point in time from which the time zone has to be compared again
+     */
+    private Day(final TimeZone z, final long d, final long s, final long e, final long check) {
+      this.zone = z;
+      this.epochDay = d;
+      this.start = s;
+      this.end = e;
+      this.nextZoneCheck = check;
+    }
+
+    /**
+     * Returns this day, with its time zone confirmed to be the default time zone at the given point in time.
+     * 
+     * @since Date: Oct 18, 2026
+     * @param now the point in time the default time zone has been compared
+     * @return the same day, trusting its time zone for another {@link DayClock#ZONE_CHECK_INTERVAL}
+     */
+    Day checkedAt(final long now) {
+      return new Day(this.zone, this.epochDay, this.start, this.end, now + ZONE_CHECK_INTERVAL);
+    }
+
+    /**
+     * Returns whether the given point in time is part of this day.
+     * 
+     * @since Date: Oct 18, 2026
+     * @param millis the milliseconds since 1970-01-01 00:00 UTC
+     * @return <code>true</code>, if the point in time is part of this day
+     */
+    boolean contains(final long millis) {
+      return millis >= this.start && millis < this.end;
+    }
+  }
+
+  /**
+   * A clock that is stopped at a point in time.
+   * 
+   * @author croesch
+   * @since Date: Oct 18, 2026
+   */
+  private static final class FixedDayClock extends DayClock {
+
+    /** generated serial version UID */
+    private static final long serialVersionUID = -1791306946785063614L;
+
+    /** the point in time of this clock */
+    private final long millis;
+
+    /** the time zone of this clock */
+    private final TimeZone zone;
+
+    /**
+     * Constructs a clock that is stopped at the given point in time.
+     * 
+     * @since Date: Oct 18, 2026
+     * @param m the milliseconds since 1970-01-01 00:00 UTC
+     * @param z the time zone of the clock
+     */
+    FixedDayClock(final long m, final TimeZone z) {
+      this.millis = m;
+      this.zone = (TimeZone) z.clone();
+    }
+
+    @Override
+    public long currentTimeMillis() {
+      return this.millis;
+    }
+
+    @Override
+    public TimeZone getZone() {
+      // time zones are mutable, so don't expose the own one
+      return (TimeZone) this.zone.clone();
+    }
+  }
+}
@@ -0,0 +1,247 @@
+/*
+ * Copyright (C) 2011  Christian Roesch
+ * 
+ * This file is part of crhcomponents.
+ * 
+ * crhcomponents is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * crhcomponents is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with crhcomponents.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.github.croesch.util;
+
+import java.util.Date;
+import java.util.TimeZone;
+
+/**
+ * Date arithmetic with days counted from 1970-01-01, the epoch day <code>0</code>. The dates are calculated in the
+ * proleptic Gregorian calendar with pure integer arithmetic, so no {@link java.util.Calendar} has to be created. The
+ * methods that convert from and to {@link Date} are the only ones that depend on a {@link TimeZone}.
+ * 
+ * @author croesch
+ * @since Date: Oct 18, 2026
+ */
+public final class EpochDay {
+
+  /** the number of milliseconds of a day */
+  public static final long MILLIS_PER_DAY = 24L * 60 * 60 * 1000;
+
+  /** the number of days of a cycle of 400 years */
+  private static final int DAYS_PER_CYCLE = 146097;
+
+  /** the number of days from 0000-03-01 to 1970-01-01 */
+  private static final int DAYS_0000_TO_1970 = 719468;
+
+  /**
+   * Hide constructor of utility class.
+   * 
+   * @since Date: Oct 18, 2026
+   */
+  private EpochDay() {
+    throw new AssertionError("Invocation of utility class constructor.");
+  }
+
+  /**
+   * Returns the epoch day of the given date. The values are lenient like the ones of a lenient
+   * {@link java.util.Calendar}: month <code>13</code> is the January of the next year, day <code>0</code> is the last
+   * day of the previous month.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param year the year
+   * @param month the month (1=January)
+   * @param day the day of the month
+   * @return the number of days from 1970-01-01 to the given date
+   */
+  public static long of(final int year, final int month, final int day) {
+    final long y = year + floorDiv(month - 1, 12);
+    final int m = month - 1 - 12 * (int) floorDiv(month - 1, 12) + 1;
+    return firstOfMonth(y, m) + day - 1;
+  }
+
+  /**
+   * Returns the epoch day of the first day of the given month.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param year the year
+   * @param month the month (1=January), between <code>1</code> and <code>12</code>
+   * @return the number of days from 1970-01-01 to the first day of the month
+   */
+  private static long firstOfMonth(final long year, final int month) {
+    // the year is counted from March, so that the leap day is the last day of a year
+    final long y;
+    if (month <= 2) {
+      y = year - 1;
+    } else {
+      y = year;
+    }
+    final long era = floorDiv(y, 400);
+    final long yearOfEra = y - era * 400;
+    final int shiftedMonth;
+    if (month > 2) {
+      shiftedMonth = month - 3;
+    } else {
+      shiftedMonth = month + 9;
+    }
+    final long dayOfYear = (153 * shiftedMonth + 2) / 5;
+    final long dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+    return era * DAYS_PER_CYCLE + dayOfEra - DAYS_0000_TO_1970;
+  }
+
+  /**
+   * Returns the year of the given epoch day.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param epochDay the number of days from 1970-01-01
+   * @return the year of the day
+   */
+  public static int getYear(final long epochDay) {
+    return (int) decode(epochDay, 0);
+  }
+
+  /**
+   * Returns the month of the given epoch day.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param epochDay the number of days from 1970-01-01
+   * @return the month of the day (1=January)
+   */
+  public static int getMonth(final long epochDay) {
+    return (int) decode(epochDay, 1);
+  }
+
+  /**
+   * Returns the day of the month of the given epoch day.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param epochDay the number of days from 1970-01-01
+   * @return the day of the month
+   */
+  public static int getDayOfMonth(final long epochDay) {
+    return (int) decode(epochDay, 2);
+  }
+
+  /**
+   * Calculates the year, the month or the day of the month of the given epoch day.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param epochDay the number of days from 1970-01-01
+   * @param field <code>0</code> for the year, <code>1</code> for the month, <code>2</code> for the day of the month
+   * @return the value of the field
+   */
+  private static long decode(final long epochDay, final int field) {
+    final long z = epochDay + DAYS_0000_TO_1970;
+    final long era = floorDiv(z, DAYS_PER_CYCLE);
+    final long dayOfEra = z - era * DAYS_PER_CYCLE;
+    final long yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36524 - dayOfEra / (DAYS_PER_CYCLE - 1)) / 365;
+    final long dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+    // the month counted from March
+    final long shiftedMonth = (5 * dayOfYear + 2) / 153;
+    final long month;
+    if (shiftedMonth < 10) {
+      month = shiftedMonth + 3;
+    } else {
+      month = shiftedMonth - 9;
+    }
+    switch (field) {
+      case 0:
+        if (month <= 2) {
+          return yearOfEra + era * 400 + 1;
+        }
+        return yearOfEra + era * 400;
+      case 1:
+        return month;
+      default:
+        return dayOfYear - (153 * shiftedMonth + 2) / 5 + 1;
+    }
+  }
+
+  /**
+   * Returns the epoch day of the given point in time in the given time zone.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param millis the milliseconds since 1970-01-01 00:00 UTC
+   * @param zone the time zone to determine the day in
+   * @return the number of days from 1970-01-01 to the day of the point in time
+   */
+  public static long fromMillis(final long millis, final TimeZone zone) {
+    return floorDiv(millis + zone.getOffset(millis), MILLIS_PER_DAY);
+  }
+
+  /**
+   * Returns the epoch day of the given {@link Date} in the given time zone.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param date the date
+   * @param zone the time zone to determine the day in
+   * @return the number of days from 1970-01-01 to the day of the date
+   */
+  public static long fromDate(final Date date, final TimeZone zone) {
+    return fromMillis(date.getTime(), zone);
+  }
+
+  /**
+   * Returns the point in time of the given time of the given epoch day in the given time zone.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param epochDay the number of days from 1970-01-01
+   * @param millisOfDay the milliseconds since the start of the day
+   * @param zone the time zone the day and the time are given in
+   * @return the milliseconds since 1970-01-01 00:00 UTC
+   */
+  public static long toMillis(final long epochDay, final long millisOfDay, final TimeZone zone) {
+    final long local = epochDay * MILLIS_PER_DAY + millisOfDay;
+    // the offset at the point in time, estimated with the offset at the local time
+    final long estimate = local - zone.getOffset(local);
+    return local - zone.getOffset(estimate);
+  }
+
+  /**
+   * Returns the {@link Date} of the given time of the given epoch day in the given time zone.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param epochDay the number of days from 1970-01-01
+   * @param millisOfDay the milliseconds since the start of the day
+   * @param zone the time zone the day and the time are given in
+   * @return the {@link Date} of the point in time
+   */
+  public static Date toDate(final long epochDay, final long millisOfDay, final TimeZone zone) {
+    return new Date(toMillis(epochDay, millisOfDay, zone));
+  }
+
+  /**
+   * Returns the milliseconds since the start of the day of the given point in time in the given time zone.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param millis the milliseconds since 1970-01-01 00:00 UTC
+   * @param zone the time zone to determine the time in
+   * @return the milliseconds since the start of the day
+   */
+  public static long getMillisOfDay(final long millis, final TimeZone zone) {
+    final long local = millis + zone.getOffset(millis);
+    return local - floorDiv(local, MILLIS_PER_DAY) * MILLIS_PER_DAY;
+  }
+
+  /**
+   * Returns the largest value that is less than or equal to the quotient of the given values.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param x the dividend
+   * @param y the divisor, must be positive
+   * @return the quotient, rounded towards negative infinity
+   */
+  private static long floorDiv(final long x, final long y) {
+    final long q = x / y;
+    if (x % y < 0) {
+      return q - 1;
+    }
+    return q;
+  }
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright (C) 2011  Christian Roesch
+ * 
+ * This file is part of crhcomponents.
+ * 
+ * crhcomponents is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * crhcomponents is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with crhcomponents.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.github.croesch.contents;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.util.Arrays;
+
+import javax.swing.text.BadLocationException;
+import javax.swing.undo.UndoManager;
+
+import org.junit.Test;
+
+import com.github.croesch.DefaultTestCase;
+
+/**
+ * Provides test cases for {@link AutoCompletionContent}
+ * 
+ * @author croesch
+ * @since Date: Oct 18, 2026
+ */
+public class AutoCompletionContentTest extends DefaultTestCase {
+
+  private AutoCompletionContent cont;
+
+  @Override
+  public void setUpDetails() {
+    this.cont = new AutoCompletionContent();
+    this.cont.setIndex(CompletionIndex.build(Arrays.asList("Mayer", "Meier", "Meyer", "Miller", "Schmidt")));
+  }
+
+  /**
+   * Tests that the candidates follow typing and removing characters
+   * 
+   * @since Date: Oct 18, 2026
+   * @throws BadLocationException if something went wrong
+   */
+  @Test
+  public void testGetCompletions() throws BadLocationException {
+    assertThat(this.cont.getCandidateCount()).isEqualTo(5);
+
+    this.cont.insertString(0, "m", null);
+    assertThat(this.cont.getCandidateCount()).isEqualTo(4);
+    this.cont.insertString(1, "E", null);
+    assertThat(this.cont.getCompletions(5)).containsExactly("Meier", "Meyer");
+    this.cont.insertString(2, "y", null);
+    assertThat(this.cont.getCompletions(5)).containsExactly("Meyer");
+    this.cont.insertString(3, "x", null);
+    assertThat(this.cont.getCandidateCount()).isZero();
+
+    this.cont.remove(3, 1);
+    assertThat(this.cont.getCompletions(5)).containsExactly("Meyer");
+    this.cont.remove(2, 1);
+    assertThat(this.cont.getCompletions(1)).containsExactly("Meier");
+
+    this.cont.replace(0, 2, "sch", null);
+    assertThat(this.cont.getCompletions(5)).containsExactly("Schmidt");
+    this.cont.insertString(0, "x", null);
+    assertThat(this.cont.getCandidateCount()).isZero();
+    this.cont.remove(0, 1);
+    assertThat(this.cont.getCompletions(5)).containsExactly("Schmidt");
+  }
+
+  /**
+   * Tests that the candidates are up to date after undo and redo
+   * 
+   * @since Date: Oct 18, 2026
+   * @throws BadLocationException if something went wrong
+   */
+  @Test
+  public void testGetCompletions_Undo() throws BadLocationException {
+    final UndoManager manager = new UndoManager();
+    this.cont.addUndoableEditListener(manager);
+    this.cont.insertString(0, "Mi", null);
+    assertThat(this.cont.getCompletions(5)).containsExactly("Miller");
+    manager.undo();
+    assertThat(this.cont.getCandidateCount()).isEqualTo(5);
+    manager.redo();
+    assertThat(this.cont.getCompletions(5)).containsExactly("Miller");
+  }
+
+  /**
+   * Tests that there are no candidates without an index and that changing the index updates the candidates
+   * 
+   * @since Date: Oct 18, 2026
+   * @throws BadLocationException if something went wrong
+   */
+  @Test
+  public void testSetIndex() throws BadLocationException {
+    this.cont.insertString(0, "M", null);
+    this.cont.setIndex(null);
+    assertThat(this.cont.getIndex()).isNull();
+    assertThat(this.cont.getCandidateCount()).isZero();
+    assertThat(this.cont.getCompletions(5)).isEmpty();
+
+    this.cont.setIndex(CompletionIndex.build(Arrays.asList("Maier", "Schulz")));
+    assertThat(this.cont.getCompletions(5)).containsExactly("Maier");
+  }
+
+  /**
+   * Tests that only entries of the index are valid, if completion is required
+   * 
+   * @since Date: Oct 18, 2026
+   * @throws BadLocationException if something went wrong
+   */
+  @Test
+  public void testSetCompletionRequired() throws BadLocationException {
+    this.cont.insertString(0, "meye", null);
+    assertThat(this.cont.isValid()).isTrue();
+    this.cont.setCompletionRequired(true);
+    assertThat(this.cont.isCompletionRequired()).isTrue();
+    assertThat(this.cont.isValid()).isFalse();
+    this.cont.insertString(4, "r", null);
+    assertThat(this.cont.isValid()).isTrue();
+    this.cont.remove(0, 5);
+    assertThat(this.cont.isValid()).isTrue();
+  }
+}
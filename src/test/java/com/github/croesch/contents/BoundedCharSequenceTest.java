@@ -0,0 +1,87 @@
+/*
+ * Copyright (C) 2011  Christian Roesch
+ * 
+ * This file is part of crhcomponents.
+ * 
+ * crhcomponents is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * crhcomponents is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with crhcomponents.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.github.croesch.contents;
+
+import static org.fest.assertions.Assertions.assertThat;
+import static org.junit.Assert.fail;
+
+import org.junit.Test;
+
+import com.github.croesch.DefaultTestCase;
+
+/**
+ * Provides test cases for {@link BoundedCharSequence}
+ * 
+ * @author croesch
+ * @since Date: Oct 18, 2026
+ */
+public class BoundedCharSequenceTest extends DefaultTestCase {
+
+  /**
+   * Reads all characters of the given sequence.
+   * 
+   * @param seq the sequence to read
+   * @return the number of characters read
+   */
+  private static int readAll(final CharSequence seq) {
+    int count = 0;
+    for (int i = 0; i < seq.length(); ++i) {
+      seq.charAt(i);
+      ++count;
+    }
+    return count;
+  }
+
+  /**
+   * Test method for {@link BoundedCharSequence#charAt(int)} with a limit of steps.
+   */
+  @Test
+  public void testMaxSteps() {
+    final String text = "abcdefghij";
+    assertThat(readAll(new BoundedCharSequence(text, 10, 0))).isEqualTo(10);
+    try {
+      readAll(new BoundedCharSequence(text, 9, 0));
+      fail();
+    } catch (final BoundedCharSequence.LimitExceededException e) {
+      assertThat(e).hasMessage("more than 9 steps");
+    }
+  }
+
+  /**
+   * Test method for {@link BoundedCharSequence#interruptible(CharSequence)}.
+   */
+  @Test
+  public void testInterruptible() {
+    final CharSequence text = new String(new char[4096]);
+    assertThat(readAll(BoundedCharSequence.interruptible(text))).isEqualTo(4096);
+
+    Thread.currentThread().interrupt();
+    try {
+      // not interruptible
+      assertThat(readAll(new BoundedCharSequence(text, 0, 0))).isEqualTo(4096);
+      readAll(BoundedCharSequence.interruptible(text).subSequence(0, 2048));
+      fail();
+    } catch (final BoundedCharSequence.LimitExceededException e) {
+      assertThat(e).hasMessage("interrupted after 1024 steps");
+    } finally {
+      // clear the flag
+      Thread.interrupted();
+    }
+  }
+}
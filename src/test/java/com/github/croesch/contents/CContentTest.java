@@ -21,7 +21,16 @@ package com.github.croesch.contents;
 import static org.fest.assertions.Assertions.assertThat;
 import static org.junit.Assert.fail;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import javax.swing.SwingUtilities;
 import javax.swing.text.BadLocationException;
+import javax.swing.undo.CannotRedoException;
+import javax.swing.undo.CannotUndoException;
 
 import org.junit.Test;
 
@@ -152,6 +161,33 @@ public class CContentTest extends DefaultTestCase {
     assertThat(this.cont.isValidInput(null)).isFalse();
   }
 
+  /**
+   * Tests the {@link CContent#isValidInput(CharSequence)}
+   * 
+   * @since Date: Oct 18, 2026
+   * @throws BadLocationException if something went wrong
+   */
+  @Test
+  public void testIsValidInputCharSequence() throws BadLocationException {
+    assertThat(this.cont.isValidInput((CharSequence) null)).isFalse();
+    assertThat(this.cont.isValidInput(new StringBuilder("text"))).isTrue();
+    this.cont.setMaximumInputLength(3);
+    assertThat(this.cont.isValidInput(new StringBuilder("text"))).isFalse();
+    this.cont.insertString(0, "tex", null);
+    assertThat(this.cont.isValidInput(this.cont.getCharSequence())).isTrue();
+
+    final CContent content = new CContent() {
+      private static final long serialVersionUID = 1L;
+
+      @Override
+      public boolean isValidInput(final String text) {
+        return super.isValidInput(text) && text.startsWith("a");
+      }
+    };
+    assertThat(content.isValidInput(new StringBuilder("abc"))).isTrue();
+    assertThat(content.isValidInput(new StringBuilder("cba"))).isFalse();
+  }
+
   /**
    * Tests the {@link CContent#isErrorsNotifying()} and {@link CContent#setErrorsNotifying(boolean)}
    * 
@@ -465,4 +501,550 @@ public class CContentTest extends DefaultTestCase {
   public void testReplaceIntIntStringAttributeSet_BLE3() throws BadLocationException {
     this.cont.replace(0, 1, "k", null);
   }
+
+  /**
+   * Tests that the rules of a subclass that overrides {@link CContent#isValidInput(String)} are not skipped by the
+   * incremental validation of {@link CContent}.
+   * 
+   * @since Date: Oct 18, 2026
+   * @throws BadLocationException if something went wrong
+   */
+  @Test
+  public void testIsValidChange_SubclassRules() throws BadLocationException {
+    final CContent content = new CContent() {
+      private static final long serialVersionUID = 1L;
+
+      @Override
+      public boolean isValidInput(final String text) {
+        return super.isValidInput(text) && text.indexOf('x') < 0;
+      }
+    };
+    content.setMaximumInputLength(5);
+    content.insertString(0, "ab", null);
+    assertThat(content.isValid()).isTrue();
+    assertThat(content.isValidInput(1, "x")).isFalse();
+    content.insertString(1, "x", null);
+    assertThat(content.isValid()).isFalse();
+    content.remove(1, 1);
+    assertThat(content.isValid()).isTrue();
+  }
+
+  /**
+   * Tests that {@link CContent#isValidChange(boolean, int, int, String, int)} is used to validate changes without
+   * checking the complete text.
+   * 
+   * @since Date: Oct 18, 2026
+   * @throws BadLocationException if something went wrong
+   */
+  @Test
+  public void testIsValidChange() throws BadLocationException {
+    final int[] fullChecks = { 0 };
+    final CContent content = new CContent() {
+      private static final long serialVersionUID = 1L;
+
+      @Override
+      public boolean isValidInput(final String text) {
+        ++fullChecks[0];
+        return text != null && text.matches("[0-9]*");
+      }
+
+      @Override
+      protected Boolean isValidChange(final boolean wasValid,
+                                      final int offs,
+                                      final int removedLength,
+                                      final String inserted,
+                                      final int newLength) {
+        if (inserted != null && !inserted.matches("[0-9]*")) {
+          return Boolean.FALSE;
+        }
+        if (wasValid) {
+          return Boolean.TRUE;
+        }
+        return null;
+      }
+    };
+    this.bool = false;
+    content.addErrorListeners(new ErrorListener() {
+      @Override
+      public void errorStateChanged(final boolean error) {
+        CContentTest.this.bool = error;
+      }
+    });
+
+    content.insertString(0, "1", null);
+    assertThat(fullChecks[0]).isEqualTo(1);
+    content.insertString(1, "2", null);
+    content.insertString(0, "3", null);
+    content.replace(0, 1, "4", null);
+    assertThat(fullChecks[0]).isEqualTo(1);
+    assertThat(this.bool).isFalse();
+
+    content.insertString(1, "a", null);
+    assertThat(fullChecks[0]).isEqualTo(1);
+    assertThat(this.bool).isTrue();
+
+    // the content was invalid, so the complete text has to be checked
+    content.remove(1, 1);
+    assertThat(fullChecks[0]).isEqualTo(2);
+    assertThat(this.bool).isFalse();
+    assertThat(content.getText()).isEqualTo("412");
+  }
+
+  /**
+   * Tests that {@link CContent#runBatch(Runnable)} checks the content only once.
+   * 
+   * @since Date: Oct 18, 2026
+   */
+  @Test
+  public void testRunBatch() {
+    final int[] events = { 0 };
+    this.cont.addErrorListeners(new ErrorListener() {
+      @Override
+      public void errorStateChanged(final boolean error) {
+        ++events[0];
+        CContentTest.this.bool = error;
+      }
+    });
+    assertThat(events[0]).isEqualTo(1);
+    this.cont.setMaximumInputLength(3);
+
+    this.cont.runBatch(new Runnable() {
+      @Override
+      public void run() {
+        try {
+          CContentTest.this.cont.insertString(0, "text", null);
+          assertThat(CContentTest.this.cont.isInEdit()).isTrue();
+          CContentTest.this.cont.remove(0, 2);
+        } catch (final BadLocationException e) {
+          fail();
+        }
+      }
+    });
+    // the content was invalid during the batch, but that isn't visible for the listeners
+    assertThat(events[0]).isEqualTo(1);
+    assertThat(this.cont.isInEdit()).isFalse();
+
+    this.cont.runBatch(new Runnable() {
+      @Override
+      public void run() {
+        try {
+          CContentTest.this.cont.insertString(0, "abc", null);
+          CContentTest.this.cont.runBatch(new Runnable() {
+            @Override
+            public void run() {
+              CContentTest.this.cont.setMaximumInputLength(4);
+              CContentTest.this.cont.setMaximumInputLength(2);
+            }
+          });
+          assertThat(events[0]).isEqualTo(1);
+        } catch (final BadLocationException e) {
+          fail();
+        }
+      }
+    });
+    assertThat(events[0]).isEqualTo(2);
+    assertThat(this.bool).isTrue();
+  }
+
+  /**
+   * Tests that {@link CContent#endEdit()} throws an {@link IllegalStateException}, if there is no edit to end.
+   * 
+   * @since Date: Oct 18, 2026
+   */
+  @Test(expected = IllegalStateException.class)
+  public void testEndEdit_ISE() {
+    this.cont.beginEdit();
+    this.cont.endEdit();
+    this.cont.endEdit();
+  }
+
+  /**
+   * Tests that {@link CContent#setAsynchronousValidation(ExecutorService, int)} checks the text in the background once
+   * after it hasn't changed and informs the listeners on the event dispatch thread.
+   * 
+   * @since Date: Oct 18, 2026
+   * @throws Exception if something went wrong
+   */
+  @Test
+  public void testAsynchronousValidation() throws Exception {
+    final List<String> checked = Collections.synchronizedList(new ArrayList<String>());
+    final List<Boolean> events = Collections.synchronizedList(new ArrayList<Boolean>());
+    final boolean[] onEDT = { true };
+    final CContent content = new CContent() {
+      private static final long serialVersionUID = 1L;
+
+      @Override
+      public boolean isValidInput(final String text) {
+        checked.add(text);
+        return text != null && text.indexOf('x') < 0;
+      }
+    };
+    content.addErrorListeners(new ErrorListener() {
+      @Override
+      public void errorStateChanged(final boolean error) {
+        events.add(Boolean.valueOf(error));
+        onEDT[0] &= events.size() == 1 || SwingUtilities.isEventDispatchThread();
+      }
+    });
+
+    final ExecutorService executor = Executors.newSingleThreadExecutor();
+    try {
+      content.setAsynchronousValidation(executor, 500);
+      assertThat(content.isValidatingAsynchronously()).isTrue();
+      content.insertString(0, "abx", null);
+      content.insertString(3, "c", null);
+      content.insertString(4, "d", null);
+
+      for (int i = 0; i < 100 && events.size() < 2; ++i) {
+        Thread.sleep(50);
+      }
+      assertThat(events).containsExactly(Boolean.FALSE, Boolean.TRUE);
+      assertThat(checked).containsExactly("abxcd");
+      assertThat(onEDT[0]).isTrue();
+
+      content.setAsynchronousValidation(null, 0);
+      assertThat(content.isValidatingAsynchronously()).isFalse();
+      content.remove(2, 1);
+      assertThat(events).containsExactly(Boolean.FALSE, Boolean.TRUE, Boolean.FALSE);
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  /**
+   * Tests that a result of the background check that arrives during an edit isn't lost: the text is checked again when
+   * the edit ends, even if it hasn't changed.
+   * 
+   * @since Date: Oct 18, 2026
+   * @throws Exception if something went wrong
+   */
+  @Test
+  public void testAsynchronousValidation_InEdit() throws Exception {
+    final List<String> checked = Collections.synchronizedList(new ArrayList<String>());
+    final List<Boolean> events = Collections.synchronizedList(new ArrayList<Boolean>());
+    final CContent content = new CContent() {
+      private static final long serialVersionUID = 1L;
+
+      @Override
+      public boolean isValidInput(final String text) {
+        checked.add(text);
+        return text != null && text.indexOf('x') < 0;
+      }
+    };
+    content.addErrorListeners(new ErrorListener() {
+      @Override
+      public void errorStateChanged(final boolean error) {
+        events.add(Boolean.valueOf(error));
+      }
+    });
+
+    final ExecutorService executor = Executors.newSingleThreadExecutor();
+    try {
+      content.setAsynchronousValidation(executor, 50);
+      content.insertString(0, "abx", null);
+      content.beginEdit();
+      for (int i = 0; i < 100 && checked.isEmpty(); ++i) {
+        Thread.sleep(50);
+      }
+      // let the result arrive on the event dispatch thread
+      Thread.sleep(100);
+      SwingUtilities.invokeAndWait(new Runnable() {
+        @Override
+        public void run() {
+          // nothing to do
+        }
+      });
+      assertThat(checked).containsExactly("abx");
+      assertThat(events).containsExactly(Boolean.FALSE);
+
+      content.endEdit();
+      for (int i = 0; i < 100 && events.size() < 2; ++i) {
+        Thread.sleep(50);
+      }
+      assertThat(checked).containsExactly("abx", "abx");
+      assertThat(events).containsExactly(Boolean.FALSE, Boolean.TRUE);
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  /**
+   * Tests that listeners can remove themselves while they are informed.
+   * 
+   * @since Date: Oct 18, 2026
+   * @throws BadLocationException if something went wrong
+   */
+  @Test
+  public void testRemoveErrorListeners_WhileInforming() throws BadLocationException {
+    final int[] calls = { 0 };
+    final ErrorListener[] self = new ErrorListener[1];
+    self[0] = new ErrorListener() {
+      @Override
+      public void errorStateChanged(final boolean error) {
+        ++calls[0];
+        if (error) {
+          CContentTest.this.cont.removeErrorListeners(self[0]);
+        }
+      }
+    };
+    final ErrorListener other = new ErrorListener() {
+      @Override
+      public void errorStateChanged(final boolean error) {
+        CContentTest.this.bool = error;
+      }
+    };
+    this.cont.addErrorListeners(self[0], other);
+    this.cont.setMaximumInputLength(1);
+    this.cont.insertString(0, "ab", null);
+    assertThat(this.bool).isTrue();
+    this.cont.remove(0, 1);
+    assertThat(this.bool).isFalse();
+    assertThat(calls[0]).isEqualTo(2);
+  }
+
+  /**
+   * Tests that {@link CContent#setErrorsCoalescing(boolean)} delivers only the final state after the current event.
+   * 
+   * @since Date: Oct 18, 2026
+   * @throws Exception if something went wrong
+   */
+  @Test
+  public void testSetErrorsCoalescing() throws Exception {
+    final List<Boolean> events = new ArrayList<Boolean>();
+    this.cont.addErrorListeners(new ErrorListener() {
+      @Override
+      public void errorStateChanged(final boolean error) {
+        events.add(Boolean.valueOf(error));
+      }
+    });
+    assertThat(this.cont.isErrorsCoalescing()).isFalse();
+    this.cont.setErrorsCoalescing(true);
+    assertThat(this.cont.isErrorsCoalescing()).isTrue();
+
+    SwingUtilities.invokeAndWait(new Runnable() {
+      @Override
+      public void run() {
+        try {
+          CContentTest.this.cont.setMaximumInputLength(2);
+          CContentTest.this.cont.insertString(0, "abc", null);
+          CContentTest.this.cont.remove(0, 1);
+          CContentTest.this.cont.insertString(0, "a", null);
+        } catch (final BadLocationException e) {
+          fail();
+        }
+      }
+    });
+    // wait for the delivery
+    SwingUtilities.invokeAndWait(new Runnable() {
+      @Override
+      public void run() {
+        // nothing to do
+      }
+    });
+    assertThat(events).containsExactly(Boolean.FALSE, Boolean.TRUE);
+
+    SwingUtilities.invokeAndWait(new Runnable() {
+      @Override
+      public void run() {
+        try {
+          CContentTest.this.cont.remove(0, 1);
+          CContentTest.this.cont.insertString(0, "a", null);
+        } catch (final BadLocationException e) {
+          fail();
+        }
+      }
+    });
+    SwingUtilities.invokeAndWait(new Runnable() {
+      @Override
+      public void run() {
+        // nothing to do
+      }
+    });
+    // the state has toggled, but the final state is the same as before
+    assertThat(events).containsExactly(Boolean.FALSE, Boolean.TRUE);
+
+    this.cont.remove(0, 1);
+    this.cont.setErrorsCoalescing(false);
+    assertThat(events).containsExactly(Boolean.FALSE, Boolean.TRUE, Boolean.FALSE);
+  }
+
+  /**
+   * Tests that {@link CContent#setValidator(Validator)} attaches additional rules to the content.
+   * 
+   * @since Date: Oct 18, 2026
+   * @throws BadLocationException if something went wrong
+   */
+  @Test
+  public void testSetValidator() throws BadLocationException {
+    final List<Boolean> events = new ArrayList<Boolean>();
+    this.cont.addErrorListeners(new ErrorListener() {
+      @Override
+      public void errorStateChanged(final boolean err) {
+        events.add(Boolean.valueOf(err));
+      }
+    });
+    this.cont.insertString(0, "12a", null);
+    assertThat(this.cont.getValidator()).isNull();
+    assertThat(this.cont.isValid()).isTrue();
+
+    final ValidatorChain chain = new ValidatorChain(Validators.charset("0123456789"), Validators.length(0, 4));
+    this.cont.setValidator(chain);
+    assertThat(this.cont.getValidator()).isSameAs(chain);
+    assertThat(this.cont.isValid()).isFalse();
+    this.cont.remove(2, 1);
+    assertThat(this.cont.isValid()).isTrue();
+    this.cont.insertString(2, "345", null);
+    assertThat(this.cont.isValid()).isFalse();
+
+    this.cont.setValidator(null);
+    assertThat(this.cont.isValid()).isTrue();
+    assertThat(events).containsExactly(Boolean.FALSE, Boolean.TRUE, Boolean.FALSE, Boolean.TRUE, Boolean.FALSE);
+  }
+
+  /**
+   * Tests that changes are checked without the complete text, if the attached validator can check them.
+   * 
+   * @since Date: Oct 18, 2026
+   * @throws BadLocationException if something went wrong
+   */
+  @Test
+  public void testSetValidator_Incremental() throws BadLocationException {
+    final Validator charset = Validators.charset("0123456789");
+    final ValidatorChain chain = new ValidatorChain(charset, Validators.length(0, 8));
+    this.cont.setValidator(chain);
+    final long count = chain.getInvocationCount(charset);
+
+    this.cont.insertString(0, "1", null);
+    this.cont.insertString(1, "2", null);
+    this.cont.insertString(2, "a", null);
+    assertThat(chain.getInvocationCount(charset)).isEqualTo(count);
+
+    // the text was invalid, so it can't be decided without the complete text whether it's still invalid
+    this.cont.insertString(3, "345", null);
+    assertThat(chain.getInvocationCount(charset)).isEqualTo(count + 1);
+    this.cont.remove(2, 1);
+    assertThat(chain.getInvocationCount(charset)).isEqualTo(count + 2);
+
+    this.cont.insertString(5, "6", null);
+    assertThat(chain.getInvocationCount(charset)).isEqualTo(count + 2);
+    assertThat(this.cont.getText()).isEqualTo("123456");
+    assertThat(this.cont.isValid()).isTrue();
+  }
+
+  /**
+   * Tests that typing is undone as one run and that undo and redo restore the text.
+   * 
+   * @since Date: Oct 18, 2026
+   * @throws BadLocationException if something went wrong
+   */
+  @Test
+  public void testUndo() throws BadLocationException {
+    this.cont.setUndoLimit(1024);
+    assertThat(this.cont.getUndoLimit()).isEqualTo(1024);
+    assertThat(this.cont.canUndo()).isFalse();
+
+    this.cont.insertString(0, "Hello", null);
+    this.cont.insertString(5, " ", null);
+    this.cont.insertString(6, "w", null);
+    this.cont.insertString(7, "o", null);
+    this.cont.remove(7, 1);
+    this.cont.remove(6, 1);
+    assertThat(this.cont.getText()).isEqualTo("Hello ");
+
+    this.cont.undo();
+    assertThat(this.cont.getText()).isEqualTo("Hello wo");
+    this.cont.undo();
+    assertThat(this.cont.getText()).isEqualTo("Hello");
+    this.cont.undo();
+    assertThat(this.cont.getText()).isEmpty();
+    assertThat(this.cont.canUndo()).isFalse();
+
+    this.cont.redo();
+    this.cont.redo();
+    assertThat(this.cont.getText()).isEqualTo("Hello wo");
+    assertThat(this.cont.canRedo()).isTrue();
+
+    // a new change discards the changes to redo
+    this.cont.insertString(0, ">", null);
+    assertThat(this.cont.canRedo()).isFalse();
+    this.cont.undo();
+    assertThat(this.cont.getText()).isEqualTo("Hello wo");
+  }
+
+  /**
+   * Tests that the changes of an edit are undone together and checked once.
+   * 
+   * @since Date: Oct 18, 2026
+   * @throws BadLocationException if something went wrong
+   */
+  @Test
+  public void testUndo_Edit() throws BadLocationException {
+    // a rule that can't check the changes on their own, so that the complete text is checked
+    final ValidatorChain chain = new ValidatorChain(Validators.regex(".{0,4}"));
+    final Validator rule = chain.getValidators().get(0);
+    this.cont.setValidator(chain);
+    this.cont.setUndoLimit(1024);
+    this.cont.insertString(0, "abc", null);
+    this.cont.replace(0, 2, "xyz", null);
+    assertThat(this.cont.getText()).isEqualTo("xyzc");
+
+    long count = chain.getInvocationCount(rule);
+    this.cont.undo();
+    assertThat(this.cont.getText()).isEqualTo("abc");
+    assertThat(chain.getInvocationCount(rule)).isEqualTo(count + 1);
+
+    count = chain.getInvocationCount(rule);
+    this.cont.redo();
+    assertThat(this.cont.getText()).isEqualTo("xyzc");
+    assertThat(chain.getInvocationCount(rule)).isEqualTo(count + 1);
+  }
+
+  /**
+   * Tests that the oldest changes are discarded, if the records exceed the limit.
+   * 
+   * @since Date: Oct 18, 2026
+   * @throws BadLocationException if something went wrong
+   */
+  @Test
+  public void testUndo_Limit() throws BadLocationException {
+    this.cont.setUndoLimit(2 * UndoLog.RECORD_OVERHEAD + 20);
+    this.cont.insertString(0, "12345", null);
+    this.cont.insertString(5, "67890", null);
+    this.cont.insertString(10, "abcde", null);
+    this.cont.undo();
+    this.cont.undo();
+    assertThat(this.cont.getText()).isEqualTo("12345");
+    assertThat(this.cont.canUndo()).isFalse();
+
+    this.cont.setUndoLimit(0);
+    assertThat(this.cont.getUndoLimit()).isZero();
+    assertThat(this.cont.canRedo()).isFalse();
+  }
+
+  /**
+   * Tests that undo fails, if there is nothing to undo.
+   * 
+   * @since Date: Oct 18, 2026
+   * @throws BadLocationException if something went wrong
+   */
+  @Test(expected = CannotUndoException.class)
+  public void testUndo_CUE() throws BadLocationException {
+    this.cont.insertString(0, "abc", null);
+    this.cont.undo();
+  }
+
+  /**
+   * Tests that redo fails, if there is nothing to redo.
+   * 
+   * @since Date: Oct 18, 2026
+   * @throws BadLocationException if something went wrong
+   */
+  @Test(expected = CannotRedoException.class)
+  public void testRedo_CRE() throws BadLocationException {
+    this.cont.setUndoLimit(1024);
+    this.cont.insertString(0, "abc", null);
+    this.cont.discardAllEdits();
+    assertThat(this.cont.canUndo()).isFalse();
+    this.cont.redo();
+  }
 }
@@ -0,0 +1,122 @@
+/*
+ * Copyright (C) 2011  Christian Roesch
+ * 
+ * This file is part of crhcomponents.
+ * 
+ * crhcomponents is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * crhcomponents is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with crhcomponents.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.github.croesch.contents;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.Test;
+
+import com.github.croesch.DefaultTestCase;
+
+/**
+ * Provides test cases for {@link CompletionIndex}
+ * 
+ * @author croesch
+ * @since Date: Oct 18, 2026
+ */
+public class CompletionIndexTest extends DefaultTestCase {
+
+  private CompletionIndex index;
+
+  @Override
+  public void setUpDetails() {
+    this.index = CompletionIndex.build(Arrays.asList("Miller", "meyer", "Mayer", "Meier", "Meyer", "Me", "Schmidt",
+                                                     "Mayer"));
+  }
+
+  /**
+   * Tests that the entries are sorted ignoring their case and that equal entries are stored once
+   * 
+   * @since Date: Oct 18, 2026
+   */
+  @Test
+  public void testBuild() {
+    assertThat(this.index.size()).isEqualTo(7);
+    assertThat(this.index.get(0)).isEqualTo("Mayer");
+    assertThat(this.index.get(1)).isEqualTo("Me");
+    assertThat(this.index.get(2)).isEqualTo("Meier");
+    assertThat(this.index.get(3)).isEqualTo("Meyer");
+    assertThat(this.index.get(4)).isEqualTo("meyer");
+    assertThat(this.index.get(5)).isEqualTo("Miller");
+    assertThat(this.index.get(6)).isEqualTo("Schmidt");
+
+    assertThat(CompletionIndex.build(Arrays.<String> asList()).size()).isZero();
+  }
+
+  /**
+   * Tests that building an index with <code>null</code> fails
+   * 
+   * @since Date: Oct 18, 2026
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void testBuild_Null() {
+    CompletionIndex.build(Arrays.asList("a", null));
+  }
+
+  /**
+   * Tests that the index can be built by an executor
+   * 
+   * @since Date: Oct 18, 2026
+   * @throws Exception if something went wrong
+   */
+  @Test
+  public void testBuildInBackground() throws Exception {
+    final ExecutorService executor = Executors.newSingleThreadExecutor();
+    try {
+      final CompletionIndex idx = CompletionIndex.buildInBackground(Arrays.asList("b", "a"), executor).get();
+      assertThat(idx.size()).isEqualTo(2);
+      assertThat(idx.get(0)).isEqualTo("a");
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  /**
+   * Tests that the completions start with the prefix, ignoring the case
+   * 
+   * @since Date: Oct 18, 2026
+   */
+  @Test
+  public void testGetCompletions() {
+    assertThat(this.index.getCompletions("me", 10)).containsExactly("Me", "Meier", "Meyer", "meyer");
+    assertThat(this.index.getCompletions("MEY", 10)).containsExactly("Meyer", "meyer");
+    assertThat(this.index.getCompletions("m", 2)).containsExactly("Mayer", "Me");
+    assertThat(this.index.getCompletions("", 10)).hasSize(7);
+    assertThat(this.index.getCompletions("x", 10)).isEmpty();
+    assertThat(this.index.getCompletions("Meyers", 10)).isEmpty();
+    assertThat(this.index.getCompletions("m", 0)).isEmpty();
+  }
+
+  /**
+   * Tests that only entries are contained, ignoring the case
+   * 
+   * @since Date: Oct 18, 2026
+   */
+  @Test
+  public void testContains() {
+    assertThat(this.index.contains("me")).isTrue();
+    assertThat(this.index.contains("SCHMIDT")).isTrue();
+    assertThat(this.index.contains("Schmid")).isFalse();
+    assertThat(this.index.contains("")).isFalse();
+  }
+}
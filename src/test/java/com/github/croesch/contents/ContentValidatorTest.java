@@ -0,0 +1,137 @@
+/*
+ * Copyright (C) 2011  Christian Roesch
+ * 
+ * This file is part of crhcomponents.
+ * 
+ * crhcomponents is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * crhcomponents is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with crhcomponents.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.github.croesch.contents;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.Test;
+
+import com.github.croesch.DefaultTestCase;
+
+/**
+ * Provides test cases for {@link ContentValidator}
+ * 
+ * @author croesch
+ * @since Date: Oct 18, 2026
+ */
+public class ContentValidatorTest extends DefaultTestCase {
+
+  private ContentValidator validator;
+
+  @Override
+  public void setUpDetails() {
+    this.validator = new ContentValidator(new ValidatorChain(Validators.length(0, 5), Validators.regex("[0-9]+")));
+  }
+
+  /**
+   * Tests the constructor with {@code null}
+   * 
+   * @since Date: Oct 18, 2026
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void testContentValidator_IAE() {
+    new ContentValidator(null);
+  }
+
+  /**
+   * Tests the {@link ContentValidator#isValid(CharSequence)}
+   * 
+   * @since Date: Oct 18, 2026
+   */
+  @Test
+  public void testIsValid() {
+    assertThat(this.validator.isValid("123")).isTrue();
+    assertThat(this.validator.isValid(new StringBuilder("12345"))).isTrue();
+    assertThat(this.validator.isValid("123456")).isFalse();
+    assertThat(this.validator.isValid("12a")).isFalse();
+    assertThat(this.validator.isValid(null)).isFalse();
+  }
+
+  /**
+   * Tests the {@link ContentValidator#validate(CharSequence...)} and {@link ContentValidator#validate(Iterable)}
+   * 
+   * @since Date: Oct 18, 2026
+   */
+  @Test
+  public void testValidate() {
+    final BitSet failures = this.validator.validate("1", "x", "22", null, "123456", "0");
+    assertThat(failures.cardinality()).isEqualTo(3);
+    assertThat(failures.get(1)).isTrue();
+    assertThat(failures.get(3)).isTrue();
+    assertThat(failures.get(4)).isTrue();
+    assertThat(this.validator.validate(new ArrayList<String>()).isEmpty()).isTrue();
+  }
+
+  /**
+   * Tests that {@link ContentValidator#validateParallel(List, ExecutorService)} returns the same as a sequential
+   * check
+   * 
+   * @since Date: Oct 18, 2026
+   * @throws InterruptedException if something went wrong
+   */
+  @Test
+  public void testValidateParallel() throws InterruptedException {
+    final List<String> values = new ArrayList<String>();
+    for (int i = 0; i < 20000; ++i) {
+      values.add(i % 7 == 0 ? "x" + i : String.valueOf(i % 1000000));
+    }
+    final ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      final BitSet parallel = this.validator.validateParallel(values, executor);
+      assertThat(parallel).isEqualTo(this.validator.validate(values));
+      assertThat(parallel.cardinality()).isEqualTo(20000 / 7 + 1);
+      assertThat(this.validator.validateParallel(new String[0], executor).isEmpty()).isTrue();
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  /**
+   * Tests that exceptions of a rule are passed to the caller of a parallel check
+   * 
+   * @since Date: Oct 18, 2026
+   * @throws InterruptedException if something went wrong
+   */
+  @Test(expected = UnsupportedOperationException.class)
+  public void testValidateParallel_Exception() throws InterruptedException {
+    final ContentValidator failing = new ContentValidator(new Validator() {
+      @Override
+      public boolean isValid(final CharSequence text) {
+        throw new UnsupportedOperationException();
+      }
+
+      @Override
+      public int getCost() {
+        return 0;
+      }
+    });
+    final ExecutorService executor = Executors.newSingleThreadExecutor();
+    try {
+      failing.validateParallel(new String[] { "a" }, executor);
+    } finally {
+      executor.shutdown();
+    }
+  }
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright (C) 2011  Christian Roesch
+ * 
+ * This file is part of crhcomponents.
+ * 
+ * crhcomponents is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * crhcomponents is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with crhcomponents.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.github.croesch.contents;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.util.Random;
+
+import javax.swing.text.BadLocationException;
+
+import org.junit.Test;
+
+import com.github.croesch.DefaultTestCase;
+import com.github.croesch.listener.ErrorListener;
+
+/**
+ * Provides test cases for {@link DecimalContent}
+ * 
+ * @author croesch
+ * @since Date: Oct 18, 2026
+ */
+public class DecimalContentTest extends DefaultTestCase {
+
+  private DecimalContent cont;
+
+  @Override
+  public void setUpDetails() {
+    this.cont = new DecimalContent(2, ',');
+  }
+
+  /**
+   * Tests the constructor with an invalid scale
+   * 
+   * @since Date: Oct 18, 2026
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void testDecimalContent_IAE() {
+    new DecimalContent(-1);
+  }
+
+  /**
+   * Tests that the unscaled value follows the changes of the text
+   * 
+   * @since Date: Oct 18, 2026
+   * @throws BadLocationException if something went wrong
+   */
+  @Test
+  public void testGetUnscaledValue() throws BadLocationException {
+    assertThat(this.cont.getScale()).isEqualTo(2);
+    assertThat(this.cont.getDecimalSeparator()).isEqualTo(',');
+
+    this.cont.insertString(0, "12", null);
+    assertThat(this.cont.getUnscaledValue()).isEqualTo(1200);
+    this.cont.insertString(2, ",", null);
+    assertThat(this.cont.isValid()).isTrue();
+    assertThat(this.cont.getUnscaledValue()).isEqualTo(1200);
+    this.cont.insertString(3, "5", null);
+    assertThat(this.cont.getUnscaledValue()).isEqualTo(1250);
+    this.cont.insertString(4, "7", null);
+    assertThat(this.cont.getUnscaledValue()).isEqualTo(1257);
+
+    this.cont.insertString(5, "1", null);
+    assertThat(this.cont.isValid()).isFalse();
+    assertThat(this.cont.hasValue()).isFalse();
+    this.cont.remove(5, 1);
+    assertThat(this.cont.isValid()).isTrue();
+    assertThat(this.cont.getUnscaledValue()).isEqualTo(1257);
+
+    assertThat(new DecimalContent(3).isValidInput("1.234")).isTrue();
+  }
+
+  /**
+   * Tests that the validity calculated from the changes is the same as the validity of the complete text.
+   * 
+   * @since Date: Oct 18, 2026
+   * @throws BadLocationException if something went wrong
+   */
+  @Test
+  public void testIsValidChange_Random() throws BadLocationException {
+    final Random random = new Random(42);
+    final String chars = "0123456789,-x";
+    final String[] texts = { "", "1", "-12", "12,5", "-0,05", "12,", "1234567890123456", "-", ",5", "1x" };
+    final boolean[] error = { false };
+    this.cont.addErrorListeners(new ErrorListener() {
+      @Override
+      public void errorStateChanged(final boolean err) {
+        error[0] = err;
+      }
+    });
+    for (int i = 0; i < 2000; ++i) {
+      final String text = texts[random.nextInt(texts.length)];
+      this.cont.replace(0, this.cont.getLength(), text, null);
+      assertThat(error[0]).isEqualTo(!this.cont.isValidInput(text));
+
+      final int offs = random.nextInt(text.length() + 1);
+      final StringBuilder inserted = new StringBuilder();
+      for (int j = random.nextInt(3) + 1; j > 0; --j) {
+        inserted.append(chars.charAt(random.nextInt(chars.length())));
+      }
+      final String newText = text.substring(0, offs) + inserted + text.substring(offs);
+      final boolean valid = this.cont.isValidInput(newText);
+      assertThat(this.cont.isValidInput(offs, inserted.toString())).as(newText).isEqualTo(valid);
+
+      this.cont.insertString(offs, inserted.toString(), null);
+      assertThat(error[0]).as(newText).isEqualTo(!valid);
+      if (this.cont.getLength() > 0) {
+        final int removeOffs = random.nextInt(this.cont.getLength());
+        final int len = random.nextInt(this.cont.getLength() - removeOffs) + 1;
+        this.cont.remove(removeOffs, len);
+        assertThat(error[0]).as(this.cont.getText()).isEqualTo(!this.cont.isValidInput(this.cont.getText()));
+      }
+    }
+  }
+
+  /**
+   * Tests that numbers with many leading zeros are valid.
+   * 
+   * @since Date: Oct 18, 2026
+   * @throws BadLocationException if something went wrong
+   */
+  @Test
+  public void testLeadingZeros() throws BadLocationException {
+    final StringBuilder zeros = new StringBuilder();
+    for (int i = 0; i < 100; ++i) {
+      zeros.append('0');
+    }
+    this.cont.insertString(0, zeros.toString(), null);
+    this.cont.insertString(100, "7,5", null);
+    assertThat(this.cont.isValid()).isTrue();
+    assertThat(this.cont.getUnscaledValue()).isEqualTo(750);
+  }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright (C) 2011  Christian Roesch
+ * 
+ * This file is part of crhcomponents.
+ * 
+ * crhcomponents is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * crhcomponents is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with crhcomponents.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.github.croesch.contents;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import javax.swing.text.BadLocationException;
+
+import org.junit.Test;
+
+import com.github.croesch.DefaultTestCase;
+
+/**
+ * Provides test cases for {@link DocumentCharSequence}
+ * 
+ * @author croesch
+ * @since Date: Oct 18, 2026
+ */
+public class DocumentCharSequenceTest extends DefaultTestCase {
+
+  private CContent cont;
+
+  @Override
+  public void setUpDetails() {
+    this.cont = new CContent();
+  }
+
+  /**
+   * Tests that the sequence contains the text of the document, also if the storage of the document has a gap.
+   * 
+   * @since Date: Oct 18, 2026
+   * @throws BadLocationException if something went wrong
+   */
+  @Test
+  public void testCharAt() throws BadLocationException {
+    this.cont.insertString(0, "hello world", null);
+    // move the gap into the middle of the text
+    this.cont.insertString(5, ",", null);
+    this.cont.insertString(0, ">", null);
+
+    final CharSequence seq = this.cont.getCharSequence();
+    assertThat(seq.length()).isEqualTo(13);
+    final StringBuilder sb = new StringBuilder();
+    for (int i = 0; i < seq.length(); ++i) {
+      sb.append(seq.charAt(i));
+    }
+    assertThat(sb.toString()).isEqualTo(">hello, world");
+    // read backwards, too
+    sb.setLength(0);
+    for (int i = seq.length() - 1; i >= 0; --i) {
+      sb.append(seq.charAt(i));
+    }
+    assertThat(sb.toString()).isEqualTo("dlrow ,olleh>");
+    assertThat(seq.toString()).isEqualTo(">hello, world");
+  }
+
+  /**
+   * Tests {@link DocumentCharSequence#subSequence(int, int)}
+   * 
+   * @since Date: Oct 18, 2026
+   * @throws BadLocationException if something went wrong
+   */
+  @Test
+  public void testSubSequence() throws BadLocationException {
+    this.cont.insertString(0, "hello world", null);
+    this.cont.insertString(6, "big ", null);
+
+    final CharSequence seq = this.cont.getCharSequence().subSequence(4, 11);
+    assertThat(seq.length()).isEqualTo(7);
+    assertThat(seq.toString()).isEqualTo("o big w");
+    assertThat(seq.charAt(2)).isEqualTo('b');
+    assertThat(seq.subSequence(2, 5).toString()).isEqualTo("big");
+    assertThat(seq.subSequence(3, 3).length()).isZero();
+  }
+
+  /**
+   * Tests that the sequence of an empty document is empty.
+   * 
+   * @since Date: Oct 18, 2026
+   */
+  @Test
+  public void testEmpty() {
+    assertThat(this.cont.getCharSequence().length()).isZero();
+    assertThat(this.cont.getCharSequence().toString()).isEmpty();
+  }
+
+  /**
+   * Tests that {@link DocumentCharSequence#charAt(int)} throws an {@link IndexOutOfBoundsException}
+   * 
+   * @since Date: Oct 18, 2026
+   * @throws BadLocationException if something went wrong
+   */
+  @Test(expected = IndexOutOfBoundsException.class)
+  public void testCharAt_IOOBE() throws BadLocationException {
+    this.cont.insertString(0, "abc", null);
+    this.cont.getCharSequence().subSequence(1, 2).charAt(1);
+  }
+
+  /**
+   * Tests that {@link DocumentCharSequence#subSequence(int, int)} throws an {@link IndexOutOfBoundsException}
+   * 
+   * @since Date: Oct 18, 2026
+   * @throws BadLocationException if something went wrong
+   */
+  @Test(expected = IndexOutOfBoundsException.class)
+  public void testSubSequence_IOOBE() throws BadLocationException {
+    this.cont.insertString(0, "abc", null);
+    this.cont.getCharSequence().subSequence(2, 4);
+  }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright (C) 2011  Christian Roesch
+ * 
+ * This file is part of crhcomponents.
+ * 
+ * crhcomponents is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * crhcomponents is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with crhcomponents.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.github.croesch.contents;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import javax.swing.text.BadLocationException;
+import javax.swing.undo.UndoManager;
+
+import org.junit.Test;
+
+import com.github.croesch.DefaultTestCase;
+
+/**
+ * Provides test cases for {@link IntegerContent}
+ * 
+ * @author croesch
+ * @since Date: Oct 18, 2026
+ */
+public class IntegerContentTest extends DefaultTestCase {
+
+  private IntegerContent cont;
+
+  @Override
+  public void setUpDetails() {
+    this.cont = new IntegerContent();
+  }
+
+  /**
+   * Tests that the value follows the changes of the text
+   * 
+   * @since Date: Oct 18, 2026
+   * @throws BadLocationException if something went wrong
+   */
+  @Test
+  public void testGetLongValue() throws BadLocationException {
+    assertThat(this.cont.isValid()).isTrue();
+    assertThat(this.cont.hasValue()).isFalse();
+    assertThat(this.cont.getLongValue()).isZero();
+
+    this.cont.insertString(0, "-", null);
+    assertThat(this.cont.isValid()).isFalse();
+    assertThat(this.cont.hasValue()).isFalse();
+
+    this.cont.insertString(1, "12", null);
+    assertThat(this.cont.isValid()).isTrue();
+    assertThat(this.cont.getLongValue()).isEqualTo(-12);
+
+    this.cont.insertString(2, "5", null);
+    assertThat(this.cont.getLongValue()).isEqualTo(-152);
+    this.cont.remove(0, 1);
+    assertThat(this.cont.getLongValue()).isEqualTo(152);
+    this.cont.replace(0, 3, "7", null);
+    assertThat(this.cont.getLongValue()).isEqualTo(7);
+
+    this.cont.insertString(1, "x", null);
+    assertThat(this.cont.isValid()).isFalse();
+    assertThat(this.cont.hasValue()).isFalse();
+    assertThat(this.cont.getLongValue()).isZero();
+  }
+
+  /**
+   * Tests that the value is up to date after undo and redo
+   * 
+   * @since Date: Oct 18, 2026
+   * @throws BadLocationException if something went wrong
+   */
+  @Test
+  public void testUndo() throws BadLocationException {
+    final UndoManager undo = new UndoManager();
+    this.cont.addUndoableEditListener(undo);
+    this.cont.insertString(0, "42", null);
+    this.cont.insertString(2, "0", null);
+    assertThat(this.cont.getLongValue()).isEqualTo(420);
+    undo.undo();
+    assertThat(this.cont.getLongValue()).isEqualTo(42);
+    undo.redo();
+    assertThat(this.cont.getLongValue()).isEqualTo(420);
+  }
+
+  /**
+   * Tests the {@link IntegerContent#isValidInput(String)}
+   * 
+   * @since Date: Oct 18, 2026
+   * @throws BadLocationException if something went wrong
+   */
+  @Test
+  public void testIsValidInput() throws BadLocationException {
+    assertThat(this.cont.isValidInput("")).isTrue();
+    assertThat(this.cont.isValidInput("123")).isTrue();
+    assertThat(this.cont.isValidInput("1.5")).isFalse();
+    assertThat(this.cont.isValidInput((String) null)).isFalse();
+    this.cont.setMaximumInputLength(2);
+    assertThat(this.cont.isValidInput("123")).isFalse();
+    assertThat(this.cont.isValidInput(0, "12")).isTrue();
+    assertThat(this.cont.getScale()).isZero();
+  }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright (C) 2011  Christian Roesch
+ * 
+ * This file is part of crhcomponents.
+ * 
+ * crhcomponents is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * crhcomponents is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with crhcomponents.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.github.croesch.contents;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import org.junit.Test;
+
+import com.github.croesch.DefaultTestCase;
+
+/**
+ * Provides test cases for {@link NumberParser}
+ * 
+ * @author croesch
+ * @since Date: Oct 18, 2026
+ */
+public class NumberParserTest extends DefaultTestCase {
+
+  /**
+   * Tests the {@link NumberParser#isNumber(CharSequence, int, char)} for integers
+   * 
+   * @since Date: Oct 18, 2026
+   */
+  @Test
+  public void testIsNumber_Integer() {
+    assertThat(NumberParser.isNumber("0", 0, '.')).isTrue();
+    assertThat(NumberParser.isNumber("-42", 0, '.')).isTrue();
+    assertThat(NumberParser.isNumber("9223372036854775807", 0, '.')).isTrue();
+    assertThat(NumberParser.isNumber("-9223372036854775808", 0, '.')).isTrue();
+
+    assertThat(NumberParser.isNumber("", 0, '.')).isFalse();
+    assertThat(NumberParser.isNumber("-", 0, '.')).isFalse();
+    assertThat(NumberParser.isNumber("1.0", 0, '.')).isFalse();
+    assertThat(NumberParser.isNumber("+1", 0, '.')).isFalse();
+    assertThat(NumberParser.isNumber("1-", 0, '.')).isFalse();
+    assertThat(NumberParser.isNumber("9223372036854775808", 0, '.')).isFalse();
+    assertThat(NumberParser.isNumber("-9223372036854775809", 0, '.')).isFalse();
+    assertThat(NumberParser.isNumber("99999999999999999999", 0, '.')).isFalse();
+  }
+
+  /**
+   * Tests the {@link NumberParser#isNumber(CharSequence, int, char)} for decimal numbers
+   * 
+   * @since Date: Oct 18, 2026
+   */
+  @Test
+  public void testIsNumber_Decimal() {
+    assertThat(NumberParser.isNumber("1,25", 2, ',')).isTrue();
+    assertThat(NumberParser.isNumber("1,2", 2, ',')).isTrue();
+    assertThat(NumberParser.isNumber("1,", 2, ',')).isTrue();
+    assertThat(NumberParser.isNumber("-0,01", 2, ',')).isTrue();
+    assertThat(NumberParser.isNumber("92233720368547758,07", 2, ',')).isTrue();
+
+    assertThat(NumberParser.isNumber("1,255", 2, ',')).isFalse();
+    assertThat(NumberParser.isNumber(",5", 2, ',')).isFalse();
+    assertThat(NumberParser.isNumber("1,2,3", 2, ',')).isFalse();
+    assertThat(NumberParser.isNumber("1.25", 2, ',')).isFalse();
+    assertThat(NumberParser.isNumber("92233720368547758,08", 2, ',')).isFalse();
+    assertThat(NumberParser.isNumber("92233720368547759", 2, ',')).isFalse();
+    assertThat(NumberParser.isNumber("1", 19, ',')).isFalse();
+  }
+
+  /**
+   * Parses the given text, that has to be a number, with {@link NumberParser#parse(CharSequence, int, char, long[])}.
+   * 
+   * @param text the text to parse
+   * @param scale the maximum number of digits after the separator
+   * @return the value of the text, multiplied with <code>10^scale</code>
+   */
+  private static long parse(final CharSequence text, final int scale) {
+    final long[] result = new long[2];
+    assertThat(NumberParser.parse(text, scale, '.', result)).isTrue();
+    return result[0];
+  }
+
+  /**
+   * Tests the values returned by {@link NumberParser#parse(CharSequence, int, char, long[])}
+   * 
+   * @since Date: Oct 18, 2026
+   */
+  @Test
+  public void testParse() {
+    assertThat(parse("0", 0)).isZero();
+    assertThat(parse("-42", 0)).isEqualTo(-42);
+    assertThat(parse("9223372036854775807", 0)).isEqualTo(Long.MAX_VALUE);
+    assertThat(parse("-9223372036854775808", 0)).isEqualTo(Long.MIN_VALUE);
+    assertThat(parse("1.25", 2)).isEqualTo(125);
+    assertThat(parse("1.2", 2)).isEqualTo(120);
+    assertThat(parse("-1.", 2)).isEqualTo(-100);
+    assertThat(parse("7", 3)).isEqualTo(7000);
+    assertThat(parse(new StringBuilder("-0.05"), 2)).isEqualTo(-5);
+  }
+
+  /**
+   * Tests the {@link NumberParser#parse(CharSequence, int, char, long[])}
+   * 
+   * @since Date: Oct 18, 2026
+   */
+  @Test
+  public void testParse_Result() {
+    final long[] result = new long[2];
+    assertThat(NumberParser.parse("-1.5", 2, '.', result)).isTrue();
+    assertThat(result[0]).isEqualTo(-150);
+    assertThat(result[1]).isEqualTo(1);
+    assertThat(NumberParser.parse("42", 2, '.', result)).isTrue();
+    assertThat(result[0]).isEqualTo(4200);
+    assertThat(result[1]).isEqualTo(-1);
+    assertThat(NumberParser.parse("0000000000000000000000000000000000000007.", 2, '.', result)).isTrue();
+    assertThat(result[0]).isEqualTo(700);
+    assertThat(result[1]).isZero();
+
+    assertThat(NumberParser.parse("1.234", 2, '.', result)).isFalse();
+    assertThat(result[0]).isEqualTo(700);
+    assertThat(NumberParser.parse("92233720368547758.08", 2, '.', null)).isFalse();
+  }
+}
@@ -0,0 +1,267 @@
+/*
+ * Copyright (C) 2011  Christian Roesch
+ * 
+ * This file is part of crhcomponents.
+ * 
+ * crhcomponents is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * crhcomponents is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with crhcomponents.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.github.croesch.contents;
+
+import static org.fest.assertions.Assertions.assertThat;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import javax.swing.text.BadLocationException;
+import javax.swing.text.Position;
+import javax.swing.text.Segment;
+import javax.swing.text.StringContent;
+import javax.swing.undo.UndoManager;
+import javax.swing.undo.UndoableEdit;
+
+import org.junit.Test;
+
+import com.github.croesch.DefaultTestCase;
+
+/**
+ * Provides test cases for {@link PieceTableContent}
+ * 
+ * @author croesch
+ * @since Date: Oct 18, 2026
+ */
+public class PieceTableContentTest extends DefaultTestCase {
+
+  private PieceTableContent content;
+
+  @Override
+  public void setUpDetails() {
+    this.content = new PieceTableContent();
+  }
+
+  /**
+   * Tests inserting and removing text at random positions, compared with a {@link StringBuilder}
+   * 
+   * @since Date: Oct 18, 2026
+   * @throws BadLocationException if something went wrong
+   */
+  @Test
+  public void testInsertRemove() throws BadLocationException {
+    assertThat(this.content.length()).isEqualTo(1);
+    assertThat(this.content.getString(0, 1)).isEqualTo("\n");
+
+    final StringBuilder expected = new StringBuilder("\n");
+    final Random random = new Random(42);
+    for (int i = 0; i < 2000; ++i) {
+      if (random.nextInt(3) > 0 || expected.length() < 2) {
+        final int where = random.nextInt(expected.length());
+        final String str = Integer.toString(random.nextInt(100000), 36);
+        this.content.insertString(where, str);
+        expected.insert(where, str);
+      } else {
+        final int where = random.nextInt(expected.length() - 1);
+        final int len = random.nextInt(Math.min(10, expected.length() - 1 - where) + 1);
+        this.content.remove(where, len);
+        expected.delete(where, where + len);
+      }
+    }
+    assertThat(this.content.length()).isEqualTo(expected.length());
+    assertThat(this.content.getString(0, expected.length())).isEqualTo(expected.toString());
+    assertThat(this.content.getString(17, 100)).isEqualTo(expected.substring(17, 117));
+
+    final Segment segment = new Segment();
+    this.content.getChars(5, 200, segment);
+    assertThat(segment.toString()).isEqualTo(expected.substring(5, 205));
+  }
+
+  /**
+   * Tests that typing at the same position appends to the same piece
+   * 
+   * @since Date: Oct 18, 2026
+   * @throws BadLocationException if something went wrong
+   */
+  @Test
+  public void testGetPieceCount() throws BadLocationException {
+    for (int i = 0; i < 100; ++i) {
+      this.content.insertString(i, "x");
+    }
+    assertThat(this.content.getPieceCount()).isEqualTo(2);
+    this.content.insertString(50, "y");
+    assertThat(this.content.getPieceCount()).isEqualTo(4);
+  }
+
+  /**
+   * Tests that {@link PieceTableContent#getChars(int, int, Segment)} returns parts of the buffer without copying, if
+   * partial returns are allowed
+   * 
+   * @since Date: Oct 18, 2026
+   * @throws BadLocationException if something went wrong
+   */
+  @Test
+  public void testGetChars_Partial() throws BadLocationException {
+    this.content.insertString(0, "world");
+    this.content.insertString(0, "hello ");
+    final Segment segment = new Segment();
+    segment.setPartialReturn(true);
+    this.content.getChars(0, 11, segment);
+    assertThat(segment.toString()).isEqualTo("hello ");
+    this.content.getChars(6, 5, segment);
+    assertThat(segment.toString()).isEqualTo("world");
+  }
+
+  /**
+   * Tests the bounds of the methods
+   * 
+   * @since Date: Oct 18, 2026
+   */
+  @Test
+  public void testBadLocations() {
+    try {
+      this.content.insertString(1, "x");
+      fail();
+    } catch (final BadLocationException e) {
+      // expected
+    }
+    try {
+      this.content.remove(0, 1);
+      fail();
+    } catch (final BadLocationException e) {
+      // expected
+    }
+    try {
+      this.content.getString(0, 2);
+      fail();
+    } catch (final BadLocationException e) {
+      // expected
+    }
+  }
+
+  /**
+   * Tests that a snapshot isn't affected by later changes
+   * 
+   * @since Date: Oct 18, 2026
+   * @throws BadLocationException if something went wrong
+   */
+  @Test
+  public void testGetSnapshot() throws BadLocationException {
+    this.content.insertString(0, "abcdef");
+    final CharSequence snapshot = this.content.getSnapshot(0, 6);
+    this.content.remove(1, 3);
+    this.content.insertString(1, "xyz");
+    for (int i = 0; i < 100; ++i) {
+      this.content.insertString(0, "grow the buffer");
+    }
+    assertThat(snapshot.toString()).isEqualTo("abcdef");
+    assertThat(snapshot.charAt(3)).isEqualTo('d');
+    assertThat(snapshot.subSequence(2, 5).toString()).isEqualTo("cde");
+    assertThat(this.content.getSnapshot(1500, 5).toString()).isEqualTo("axyze");
+  }
+
+  /**
+   * Tests that positions follow the changes and are restored by undo
+   * 
+   * @since Date: Oct 18, 2026
+   * @throws BadLocationException if something went wrong
+   */
+  @Test
+  public void testPositionsAndUndo() throws BadLocationException {
+    this.content.insertString(0, "0123456789");
+    final Position zero = this.content.createPosition(0);
+    final Position five = this.content.createPosition(5);
+    this.content.insertString(0, "ab");
+    assertThat(zero.getOffset()).isZero();
+    assertThat(five.getOffset()).isEqualTo(7);
+
+    final UndoManager undo = new UndoManager();
+    undo.addEdit(this.content.remove(4, 6));
+    assertThat(this.content.getString(0, 6)).isEqualTo("ab0189");
+    assertThat(five.getOffset()).isEqualTo(4);
+
+    undo.undo();
+    assertThat(this.content.getString(0, 12)).isEqualTo("ab0123456789");
+    assertThat(five.getOffset()).isEqualTo(7);
+    undo.redo();
+    assertThat(this.content.getString(0, 6)).isEqualTo("ab0189");
+  }
+
+  /**
+   * Tests that many positions follow random changes like the positions of a {@link StringContent}
+   * 
+   * @since Date: Oct 18, 2026
+   * @throws BadLocationException if something went wrong
+   */
+  @Test
+  public void testPositions_Random() throws BadLocationException {
+    final StringContent expected = new StringContent();
+    final List<Position> expectedPositions = new ArrayList<Position>();
+    final List<Position> positions = new ArrayList<Position>();
+    final List<UndoableEdit> edits = new ArrayList<UndoableEdit>();
+    final List<UndoableEdit> expectedEdits = new ArrayList<UndoableEdit>();
+    final Random random = new Random(42);
+
+    for (int i = 0; i < 2000; ++i) {
+      final int length = expected.length() - 1;
+      final int action = random.nextInt(10);
+      if (action < 4) {
+        final int offset = random.nextInt(length + 1);
+        final String str = "abc".substring(random.nextInt(3));
+        expectedEdits.add(expected.insertString(offset, str));
+        edits.add(this.content.insertString(offset, str));
+      } else if (action < 7 && length > 0) {
+        final int offset = random.nextInt(length);
+        final int count = random.nextInt(Math.min(5, length - offset) + 1);
+        expectedEdits.add(expected.remove(offset, count));
+        edits.add(this.content.remove(offset, count));
+      } else if (action < 9) {
+        final int offset = random.nextInt(length + 1);
+        expectedPositions.add(expected.createPosition(offset));
+        positions.add(this.content.createPosition(offset));
+      } else if (!edits.isEmpty()) {
+        // undo the last change, that restores the positions of a removed range
+        expectedEdits.remove(expectedEdits.size() - 1).undo();
+        edits.remove(edits.size() - 1).undo();
+      }
+
+      assertThat(this.content.getString(0, this.content.length())).isEqualTo(expected.getString(0, expected.length()));
+      for (int j = 0; j < positions.size(); ++j) {
+        assertThat(positions.get(j).getOffset()).as("position " + j + " after change " + i)
+          .isEqualTo(expectedPositions.get(j).getOffset());
+      }
+    }
+  }
+
+  /**
+   * Tests that a {@link CContent} with this storage keeps its rules
+   * 
+   * @since Date: Oct 18, 2026
+   * @throws BadLocationException if something went wrong
+   */
+  @Test
+  public void testCContent() throws BadLocationException {
+    final RepairableContent cont = new RepairableContent(new PieceTableContent());
+    cont.setMaximumInputLength(5);
+    cont.insertString(0, "abc", null);
+    assertThat(cont.isValid()).isTrue();
+    cont.insertString(1, "xyz", null);
+    assertThat(cont.getText()).isEqualTo("axyzbc");
+    assertThat(cont.isValid()).isFalse();
+    assertThat(cont.getSnapshot().toString()).isEqualTo("axyzbc");
+    cont.remove(0, 1);
+    assertThat(cont.isValid()).isTrue();
+    assertThat(cont.getDefaultRootElement().getElementCount()).isEqualTo(1);
+    cont.insertString(2, "\n", null);
+    assertThat(cont.getDefaultRootElement().getElementCount()).isEqualTo(2);
+  }
+}
@@ -0,0 +1,219 @@
+/*
+ * Copyright (C) 2011  Christian Roesch
+ * 
+ * This file is part of crhcomponents.
+ * 
+ * crhcomponents is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * crhcomponents is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with crhcomponents.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.github.croesch.contents;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import javax.swing.text.BadLocationException;
+
+import org.junit.Test;
+
+import com.github.croesch.DefaultTestCase;
+import com.github.croesch.listener.ErrorListener;
+
+/**
+ * Provides test cases for {@link RegexContent}
+ * 
+ * @author croesch
+ * @since Date: Oct 18, 2026
+ */
+public class RegexContentTest extends DefaultTestCase {
+
+  private RegexContent cont;
+
+  private boolean error;
+
+  @Override
+  public void setUpDetails() {
+    this.cont = new RegexContent("[0-9]{4}");
+    this.error = false;
+    this.cont.addErrorListeners(new ErrorListener() {
+      @Override
+      public void errorStateChanged(final boolean err) {
+        RegexContentTest.this.error = err;
+      }
+    });
+  }
+
+  /**
+   * Tests the {@link RegexContent#isValidInput(String)}
+   * 
+   * @since Date: Oct 18, 2026
+   */
+  @Test
+  public void testIsValidInputString() {
+    assertThat(this.cont.isValidInput("1234")).isTrue();
+    assertThat(this.cont.isValidInput("123")).isFalse();
+    assertThat(this.cont.isValidInput("12345")).isFalse();
+    assertThat(this.cont.isValidInput("12a4")).isFalse();
+    assertThat(this.cont.isValidInput("")).isFalse();
+  }
+
+  /**
+   * Tests the {@link RegexContent#setRegularExpression(String)}
+   * 
+   * @since Date: Oct 18, 2026
+   * @throws BadLocationException if something went wrong
+   */
+  @Test
+  public void testSetRegularExpression() throws BadLocationException {
+    assertThat(this.error).isTrue();
+    this.cont.insertString(0, "12", null);
+    assertThat(this.error).isTrue();
+    this.cont.insertString(2, "34", null);
+    assertThat(this.error).isFalse();
+
+    this.cont.setRegularExpression("[a-z]*");
+    assertThat(this.cont.getRegularExpression()).isEqualTo("[a-z]*");
+    assertThat(this.error).isTrue();
+    assertThat(this.cont.isValidInput("abc")).isTrue();
+    assertThat(this.cont.isValidInput("1234")).isFalse();
+  }
+
+  /**
+   * Tests the {@link RegexContent#setAcceptingPrefixes(boolean)}
+   * 
+   * @since Date: Oct 18, 2026
+   * @throws BadLocationException if something went wrong
+   */
+  @Test
+  public void testSetAcceptingPrefixes() throws BadLocationException {
+    assertThat(this.cont.isAcceptingPrefixes()).isFalse();
+    this.cont.insertString(0, "12", null);
+    assertThat(this.error).isTrue();
+
+    this.cont.setAcceptingPrefixes(true);
+    assertThat(this.cont.isAcceptingPrefixes()).isTrue();
+    assertThat(this.error).isFalse();
+    assertThat(this.cont.isValidInput("")).isTrue();
+    assertThat(this.cont.isValidInput("123")).isTrue();
+    assertThat(this.cont.isValidInput("1234")).isTrue();
+    assertThat(this.cont.isValidInput("12345")).isFalse();
+    assertThat(this.cont.isValidInput("1a")).isFalse();
+
+    this.cont.insertString(2, "x", null);
+    assertThat(this.error).isTrue();
+    this.cont.remove(2, 1);
+    assertThat(this.error).isFalse();
+
+    this.cont.setAcceptingPrefixes(false);
+    assertThat(this.error).isTrue();
+  }
+
+  /**
+   * Tests that contents with the same regular expression share the compiled pattern.
+   * 
+   * @since Date: Oct 18, 2026
+   */
+  @Test
+  public void testPatternCache() {
+    assertThat(PatternCache.getPattern("[0-9]{4}")).isSameAs(PatternCache.getPattern("[0-9]{4}"));
+    for (int i = 0; i < 1000; ++i) {
+      PatternCache.getPattern("[a-z]{" + i + "}");
+    }
+    assertThat(PatternCache.size()).isLessThanOrEqualTo(128);
+    assertThat(PatternCache.getPattern("[a-z]{999}").pattern()).isEqualTo("[a-z]{999}");
+  }
+
+  /**
+   * Tests that matching with catastrophic backtracking is aborted, if limits are set.
+   * 
+   * @since Date: Oct 18, 2026
+   * @throws BadLocationException if something went wrong
+   */
+  @Test
+  public void testMatchingLimits() throws BadLocationException {
+    final int[] timeouts = { 0 };
+    this.cont.addErrorListeners(new ErrorListener() {
+      @Override
+      public void errorStateChanged(final boolean err) {
+        // not interesting here
+      }
+
+      @Override
+      public void validationTimedOut() {
+        ++timeouts[0];
+      }
+    });
+    this.cont.setRegularExpression("(a+)+b");
+    assertThat(this.cont.getMaximumMatchingSteps()).isZero();
+    this.cont.setMaximumMatchingSteps(-1);
+    assertThat(this.cont.getMaximumMatchingSteps()).isZero();
+    this.cont.setMaximumMatchingSteps(10000);
+    assertThat(this.cont.getMaximumMatchingSteps()).isEqualTo(10000);
+
+    this.cont.insertString(0, "aaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa", null);
+    assertThat(timeouts[0]).isEqualTo(1);
+    assertThat(this.error).isTrue();
+    assertThat(this.cont.isValidInput("aab")).isTrue();
+    assertThat(timeouts[0]).isEqualTo(1);
+    // queries don't inform the listeners
+    assertThat(this.cont.isValid()).isFalse();
+    assertThat(this.cont.isValidInput("aaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa")).isFalse();
+    assertThat(timeouts[0]).isEqualTo(1);
+
+    this.cont.setValidIfTimedOut(true);
+    assertThat(this.cont.isValidIfTimedOut()).isTrue();
+    this.cont.insertString(0, "a", null);
+    assertThat(timeouts[0]).isEqualTo(2);
+    assertThat(this.error).isFalse();
+
+    this.cont.setMaximumMatchingSteps(0);
+    this.cont.setMaximumMatchingTime(1000);
+    assertThat(this.cont.getMaximumMatchingTime()).isEqualTo(1000);
+    this.cont.setValidIfTimedOut(false);
+    this.cont.insertString(0, "a", null);
+    assertThat(timeouts[0]).isEqualTo(3);
+    assertThat(this.error).isTrue();
+  }
+
+  /**
+   * Tests that the rules of an attached validator that are cheaper than the regular expression are checked first.
+   * 
+   * @since Date: Oct 18, 2026
+   * @throws BadLocationException if something went wrong
+   */
+  @Test
+  public void testSetValidator_Cost() throws BadLocationException {
+    final int[] timeouts = { 0 };
+    this.cont.addErrorListeners(new ErrorListener() {
+      @Override
+      public void errorStateChanged(final boolean err) {
+        // not interesting here
+      }
+
+      @Override
+      public void validationTimedOut() {
+        ++timeouts[0];
+      }
+    });
+    this.cont.setRegularExpression("(a+)+b");
+    this.cont.setMaximumMatchingSteps(10000);
+
+    // the cheap rule fails, so the regular expression isn't matched
+    this.cont.setValidator(Validators.length(0, 10));
+    this.cont.insertString(0, "aaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa", null);
+    assertThat(this.error).isTrue();
+    assertThat(timeouts[0]).isZero();
+
+    this.cont.setValidator(Validators.length(0, 50));
+    assertThat(this.error).isTrue();
+    assertThat(timeouts[0]).isEqualTo(1);
+  }
+}
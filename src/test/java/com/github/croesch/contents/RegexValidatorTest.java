@@ -0,0 +1,105 @@
+/*
+ * Copyright (C) 2011  Christian Roesch
+ * 
+ * This file is part of crhcomponents.
+ * 
+ * crhcomponents is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * crhcomponents is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with crhcomponents.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.github.croesch.contents;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.Test;
+
+import com.github.croesch.DefaultTestCase;
+
+/**
+ * Provides test cases for {@link RegexValidator}
+ * 
+ * @author croesch
+ * @since Date: Oct 18, 2026
+ */
+public class RegexValidatorTest extends DefaultTestCase {
+
+  /**
+   * Tests that matching with catastrophic backtracking is aborted, if limits are set.
+   * 
+   * @since Date: Oct 18, 2026
+   */
+  @Test
+  public void testMatches_Limits() {
+    final String text = "aaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa";
+    final RegexValidator steps = new RegexValidator(PatternCache.getPattern("(a+)+b"), false, 10000, 0);
+    assertThat(steps.matches(text)).isNull();
+    assertThat(steps.isValid(text)).isFalse();
+    assertThat(steps.matches("aab")).isTrue();
+    assertThat(steps.matches("aa")).isFalse();
+
+    final RegexValidator time = new RegexValidator(PatternCache.getPattern("(a+)+b"), false, 0, 1000);
+    assertThat(time.matches(text)).isNull();
+    assertThat(time.isValid("aab")).isTrue();
+  }
+
+  /**
+   * Tests that prefixes are accepted within the limits of matching.
+   * 
+   * @since Date: Oct 18, 2026
+   */
+  @Test
+  public void testMatches_Prefixes() {
+    final RegexValidator v = new RegexValidator(PatternCache.getPattern("[0-9]{4}"), true, 100, 0);
+    assertThat(v.matches("12")).isTrue();
+    assertThat(v.matches("1234")).isTrue();
+    assertThat(v.matches("12345")).isFalse();
+    assertThat(v.toString()).isEqualTo("regex[[0-9]{4}]");
+  }
+
+  /**
+   * Tests that the rule can be checked by several threads at the same time.
+   * 
+   * @since Date: Oct 18, 2026
+   * @throws Exception if something went wrong
+   */
+  @Test
+  public void testIsValid_Threads() throws Exception {
+    final RegexValidator v = new RegexValidator(PatternCache.getPattern("[0-9]+"), false);
+    final ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      final Future<?>[] futures = new Future<?>[4];
+      for (int t = 0; t < futures.length; ++t) {
+        final String valid = String.valueOf(t);
+        futures[t] = executor.submit(new Callable<Boolean>() {
+          @Override
+          public Boolean call() {
+            boolean ok = true;
+            for (int i = 0; i < 10000; ++i) {
+              ok &= v.isValid(valid) && !v.isValid(valid + "x");
+            }
+            return Boolean.valueOf(ok);
+          }
+        });
+      }
+      for (final Future<?> f : futures) {
+        assertThat(f.get()).isEqualTo(Boolean.TRUE);
+      }
+    } finally {
+      executor.shutdown();
+    }
+  }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright (C) 2011  Christian Roesch
+ * 
+ * This file is part of crhcomponents.
+ * 
+ * crhcomponents is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * crhcomponents is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with crhcomponents.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.github.croesch.contents;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.util.Locale;
+
+import javax.swing.text.BadLocationException;
+
+import org.junit.Test;
+
+import com.github.croesch.DefaultTestCase;
+
+/**
+ * Provides test cases for {@link RepairStrategies}
+ * 
+ * @author croesch
+ * @since Date: Oct 18, 2026
+ */
+public class RepairStrategiesTest extends DefaultTestCase {
+
+  private CContent cont;
+
+  @Override
+  public void setUpDetails() {
+    this.cont = new CContent();
+  }
+
+  /**
+   * Tests the {@link RepairStrategies#truncate()}
+   * 
+   * @since Date: Oct 18, 2026
+   * @throws BadLocationException if something went wrong
+   */
+  @Test
+  public void testTruncate() throws BadLocationException {
+    final RepairStrategy s = RepairStrategies.truncate();
+    assertThat(s.repair(this.cont, 0, "abcdef")).isEqualTo("abcdef");
+    this.cont.setMaximumInputLength(5);
+    assertThat(s.repair(this.cont, 0, "abcdef")).isEqualTo("abcde");
+    this.cont.insertString(0, "xyz", null);
+    assertThat(s.repair(this.cont, 1, "abcdef")).isEqualTo("ab");
+    assertThat(s.repair(this.cont, 1, "a")).isEqualTo("a");
+    this.cont.insertString(0, "xyz", null);
+    assertThat(s.repair(this.cont, 1, "abcdef")).isEmpty();
+  }
+
+  /**
+   * Tests the {@link RepairStrategies#strip(CharSequence)}
+   * 
+   * @since Date: Oct 18, 2026
+   */
+  @Test
+  public void testStrip() {
+    final RepairStrategy s = RepairStrategies.strip("0123456789");
+    final String digits = "0815";
+    assertThat(s.repair(this.cont, 0, digits)).isSameAs(digits);
+    assertThat(s.repair(this.cont, 0, "+49 (0) 123-456")).isEqualTo("490123456");
+    assertThat(s.repair(this.cont, 0, "abc")).isEmpty();
+  }
+
+  /**
+   * Tests the {@link RepairStrategies#upperCase(Locale)} and {@link RepairStrategies#lowerCase(Locale)}
+   * 
+   * @since Date: Oct 18, 2026
+   */
+  @Test
+  public void testCase() {
+    assertThat(RepairStrategies.upperCase(Locale.GERMAN).repair(this.cont, 0, "abc1")).isEqualTo("ABC1");
+    assertThat(RepairStrategies.lowerCase(Locale.GERMAN).repair(this.cont, 0, "ABC1")).isEqualTo("abc1");
+  }
+
+  /**
+   * Tests the {@link RepairStrategies#chain(RepairStrategy...)}
+   * 
+   * @since Date: Oct 18, 2026
+   */
+  @Test
+  public void testChain() {
+    this.cont.setMaximumInputLength(4);
+    final RepairStrategy s = RepairStrategies.chain(RepairStrategies.strip("abcdefABCDEF"),
+                                                    RepairStrategies.upperCase(Locale.ENGLISH),
+                                                    RepairStrategies.truncate());
+    assertThat(s.repair(this.cont, 0, "a-b-c-d-e")).isEqualTo("ABCD");
+    assertThat(RepairStrategies.chain().repair(this.cont, 0, "a-b")).isEqualTo("a-b");
+  }
+
+  /**
+   * Tests the {@link RepairStrategies#chain(RepairStrategy...)} with {@code null}
+   * 
+   * @since Date: Oct 18, 2026
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void testChain_IAE() {
+    RepairStrategies.chain(RepairStrategies.truncate(), null);
+  }
+}
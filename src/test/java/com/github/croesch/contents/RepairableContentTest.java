@@ -20,6 +20,10 @@ package com.github.croesch.contents;
 
 import static org.fest.assertions.Assertions.assertThat;
 
+import java.util.Locale;
+
+import javax.swing.event.DocumentEvent;
+import javax.swing.event.DocumentListener;
 import javax.swing.text.BadLocationException;
 
 import org.junit.Test;
@@ -296,4 +300,78 @@ public class RepairableContentTest extends DefaultTestCase {
     this.cont.setAutoRepairContent(false);
     assertThat(this.cont.isAutoRepairContent()).isFalse();
   }
+
+  /**
+   * Tests that the content is repaired only once at the end of an edit.
+   * 
+   * @since Date: Oct 18, 2026
+   * @throws BadLocationException if something went wrong
+   */
+  @Test
+  public void testEdit_AutoRepair() throws BadLocationException {
+    this.cont.setAutoRepairContent(true);
+    this.cont.setMaximumInputLength(5);
+
+    this.cont.beginEdit();
+    this.cont.insertString(0, "abc", null);
+    this.cont.insertString(3, "defgh", null);
+    assertThat(this.cont.getText()).isEqualTo("abcdefgh");
+    this.cont.remove(0, 1);
+    assertThat(this.cont.getText()).isEqualTo("bcdefgh");
+    this.cont.endEdit();
+
+    assertThat(this.cont.getText()).isEqualTo("bcdef");
+    assertThat(this.cont.isValid()).isTrue();
+  }
+
+  /**
+   * Tests that a {@link RepairStrategy} repairs the text before it is inserted, so that the document changes only once.
+   * 
+   * @since Date: Oct 18, 2026
+   * @throws BadLocationException if something went wrong
+   */
+  @Test
+  public void testSetRepairStrategy() throws BadLocationException {
+    final int[] events = new int[1];
+    this.cont.addDocumentListener(new DocumentListener() {
+      @Override
+      public void removeUpdate(final DocumentEvent e) {
+        ++events[0];
+      }
+
+      @Override
+      public void insertUpdate(final DocumentEvent e) {
+        ++events[0];
+      }
+
+      @Override
+      public void changedUpdate(final DocumentEvent e) {
+        ++events[0];
+      }
+    });
+    assertThat(this.cont.getRepairStrategy()).isNull();
+    this.cont.setRepairStrategy(RepairStrategies.chain(RepairStrategies.upperCase(Locale.ENGLISH),
+                                                       RepairStrategies.truncate()));
+    this.cont.setMaximumInputLength(5);
+
+    // the strategy is only used if the content is repaired automatically
+    this.cont.insertString(0, "abcdefg", null);
+    assertThat(this.cont.getText()).isEqualTo("abcdefg");
+    this.cont.remove(0, 7);
+    events[0] = 0;
+
+    this.cont.setAutoRepairContent(true);
+    this.cont.insertString(0, "abc", null);
+    this.cont.insertString(1, "defgh", null);
+    assertThat(this.cont.getText()).isEqualTo("ADEBC");
+    assertThat(events[0]).isEqualTo(2);
+    assertThat(this.cont.isValid()).isTrue();
+
+    this.cont.replace(0, 2, "xyz", null);
+    assertThat(this.cont.getText()).isEqualTo("XYEBC");
+
+    this.cont.setRepairStrategy(null);
+    this.cont.insertString(0, "x", null);
+    assertThat(this.cont.getText()).isEqualTo("xXYEB");
+  }
 }
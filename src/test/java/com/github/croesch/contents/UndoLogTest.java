@@ -0,0 +1,127 @@
+/*
+ * Copyright (C) 2011  Christian Roesch
+ * 
+ * This file is part of crhcomponents.
+ * 
+ * crhcomponents is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * crhcomponents is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with crhcomponents.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.github.croesch.contents;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import org.junit.Test;
+
+import com.github.croesch.DefaultTestCase;
+
+/**
+ * Provides test cases for {@link UndoLog}
+ * 
+ * @author croesch
+ * @since Date: Oct 18, 2026
+ */
+public class UndoLogTest extends DefaultTestCase {
+
+  private UndoLog log;
+
+  @Override
+  public void setUpDetails() {
+    this.log = new UndoLog(10000);
+  }
+
+  /**
+   * Tests that single characters are coalesced into runs
+   * 
+   * @since Date: Oct 18, 2026
+   */
+  @Test
+  public void testRecord_Coalescing() {
+    this.log.record(true, 0, "a", false);
+    this.log.record(true, 1, "b", false);
+    this.log.record(true, 2, "c", false);
+    assertThat(this.log.getWeight()).isEqualTo(UndoLog.RECORD_OVERHEAD + 6);
+
+    // backspace
+    this.log.record(false, 2, "c", false);
+    this.log.record(false, 1, "b", false);
+    // typing at another place
+    this.log.record(true, 0, "x", false);
+    this.log.record(true, 1, "y", false);
+
+    UndoLog.Record r = this.log.nextUndo();
+    assertThat(r.isInsert()).isTrue();
+    assertThat(r.getOffset()).isZero();
+    assertThat(r.getText()).isEqualTo("xy");
+    r = this.log.nextUndo();
+    assertThat(r.isInsert()).isFalse();
+    assertThat(r.getOffset()).isEqualTo(1);
+    assertThat(r.getText()).isEqualTo("bc");
+    r = this.log.nextUndo();
+    assertThat(r.getText()).isEqualTo("abc");
+    assertThat(this.log.canUndo()).isFalse();
+    assertThat(this.log.canRedo()).isTrue();
+  }
+
+  /**
+   * Tests that text inserted at once isn't coalesced
+   * 
+   * @since Date: Oct 18, 2026
+   */
+  @Test
+  public void testRecord_Paste() {
+    this.log.record(true, 0, "ab", false);
+    this.log.record(true, 2, "c", false);
+    assertThat(this.log.nextUndo().getText()).isEqualTo("c");
+    assertThat(this.log.nextUndo().getText()).isEqualTo("ab");
+  }
+
+  /**
+   * Tests that the records of an edit form a group
+   * 
+   * @since Date: Oct 18, 2026
+   */
+  @Test
+  public void testRecord_Group() {
+    this.log.record(true, 0, "abc", false);
+    this.log.record(false, 0, "ab", true);
+    this.log.record(true, 0, "x", true);
+    this.log.closeGroup();
+
+    assertThat(this.log.nextUndo().getText()).isEqualTo("x");
+    assertThat(this.log.hasMoreUndoInGroup()).isTrue();
+    assertThat(this.log.nextUndo().getText()).isEqualTo("ab");
+    assertThat(this.log.hasMoreUndoInGroup()).isFalse();
+
+    assertThat(this.log.nextRedo().getText()).isEqualTo("ab");
+    assertThat(this.log.hasMoreRedoInGroup()).isTrue();
+    assertThat(this.log.nextRedo().getText()).isEqualTo("x");
+    assertThat(this.log.hasMoreRedoInGroup()).isFalse();
+  }
+
+  /**
+   * Tests that the oldest groups are evicted
+   * 
+   * @since Date: Oct 18, 2026
+   */
+  @Test
+  public void testRecord_Evict() {
+    this.log = new UndoLog(3 * UndoLog.RECORD_OVERHEAD);
+    this.log.record(true, 0, "a", true);
+    this.log.record(true, 1, "bc", true);
+    this.log.closeGroup();
+    this.log.record(true, 3, "de", false);
+    assertThat(this.log.getWeight()).isEqualTo(UndoLog.RECORD_OVERHEAD + 4);
+    assertThat(this.log.nextUndo().getText()).isEqualTo("de");
+    assertThat(this.log.canUndo()).isFalse();
+  }
+}
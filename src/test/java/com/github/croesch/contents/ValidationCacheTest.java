@@ -0,0 +1,169 @@
+/*
+ * Copyright (C) 2011  Christian Roesch
+ * 
+ * This file is part of crhcomponents.
+ * 
+ * crhcomponents is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * crhcomponents is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with crhcomponents.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.github.croesch.contents;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import javax.swing.text.BadLocationException;
+
+import org.junit.Test;
+
+import com.github.croesch.DefaultTestCase;
+
+/**
+ * Provides test cases for {@link ValidationCache}
+ * 
+ * @author croesch
+ * @since Date: Oct 18, 2026
+ */
+public class ValidationCacheTest extends DefaultTestCase {
+
+  private ValidationCache cache;
+
+  @Override
+  public void setUpDetails() {
+    this.cache = new ValidationCache(1000, 100000);
+  }
+
+  /**
+   * Tests the constructor with invalid limits
+   * 
+   * @since Date: Oct 18, 2026
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void testValidationCache_IAE() {
+    new ValidationCache(0, 10);
+  }
+
+  /**
+   * Tests storing and looking up results
+   * 
+   * @since Date: Oct 18, 2026
+   */
+  @Test
+  public void testGetPut() {
+    assertThat(this.cache.get("a", "text")).isNull();
+    this.cache.put("a", new StringBuilder("text"), true);
+    this.cache.put("b", "text", false);
+
+    assertThat(this.cache.get("a", new StringBuilder("text"))).isTrue();
+    assertThat(this.cache.get("b", "text")).isFalse();
+    assertThat(this.cache.get("a", "texts")).isNull();
+    assertThat(this.cache.size()).isEqualTo(2);
+    assertThat(this.cache.getWeight()).isEqualTo(8);
+    assertThat(this.cache.getHitCount()).isEqualTo(2);
+    assertThat(this.cache.getMissCount()).isEqualTo(2);
+
+    this.cache.clear();
+    assertThat(this.cache.size()).isZero();
+    assertThat(this.cache.getWeight()).isZero();
+    assertThat(this.cache.get("a", "text")).isNull();
+  }
+
+  /**
+   * Tests that the limits of the cache are kept
+   * 
+   * @since Date: Oct 18, 2026
+   */
+  @Test
+  public void testEviction() {
+    final ValidationCache small = new ValidationCache(32, 1000);
+    for (int i = 0; i < 500; ++i) {
+      small.put("a", String.valueOf(i), true);
+    }
+    assertThat(small.size()).isLessThanOrEqualTo(32);
+    assertThat(small.getEvictionCount()).isEqualTo(500 - small.size());
+
+    final ValidationCache light = new ValidationCache(1000, 160);
+    for (int i = 0; i < 500; ++i) {
+      light.put("a", "text number " + i, true);
+    }
+    assertThat(light.getWeight()).isLessThanOrEqualTo(160);
+    assertThat(light.getEvictionCount()).isEqualTo(500 - light.size());
+  }
+
+  /**
+   * Tests that contents with the same rules share their results
+   * 
+   * @since Date: Oct 18, 2026
+   * @throws BadLocationException if something went wrong
+   */
+  @Test
+  public void testSharedByContents() throws BadLocationException {
+    final RegexContent first = new RegexContent("[0-9]{4}");
+    final RegexContent second = new RegexContent("[0-9]{4}");
+    final RegexContent other = new RegexContent("[0-9]{3}");
+    first.setValidationCache(this.cache);
+    second.setValidationCache(this.cache);
+    other.setValidationCache(this.cache);
+    assertThat(first.getValidationCache()).isSameAs(this.cache);
+
+    first.insertString(0, "1234", null);
+    assertThat(first.isValid()).isTrue();
+    final long hits = this.cache.getHitCount();
+    second.insertString(0, "1234", null);
+    assertThat(second.isValid()).isTrue();
+    assertThat(this.cache.getHitCount()).isGreaterThan(hits);
+
+    other.insertString(0, "1234", null);
+    assertThat(other.isValid()).isFalse();
+
+    second.setAcceptingPrefixes(true);
+    second.remove(2, 2);
+    assertThat(second.isValid()).isTrue();
+    first.remove(2, 2);
+    assertThat(first.isValid()).isFalse();
+  }
+
+  /**
+   * Tests that results of aborted checks aren't stored
+   * 
+   * @since Date: Oct 18, 2026
+   * @throws BadLocationException if something went wrong
+   */
+  @Test
+  public void testTimedOutNotCached() throws BadLocationException {
+    final RegexContent limited = new RegexContent("(a|aa)+b");
+    limited.setValidationCache(this.cache);
+    limited.setMaximumMatchingSteps(100);
+    limited.insertString(0, "aaaaaaaaaaaaaaaaaaaaaaaaaaaaaac", null);
+    assertThat(limited.isValid()).isFalse();
+    assertThat(this.cache.size()).isZero();
+
+    limited.setMaximumMatchingSteps(0);
+    assertThat(limited.isValid()).isFalse();
+    assertThat(this.cache.size()).isEqualTo(1);
+  }
+
+  /**
+   * Tests that contents without rules of their own don't use the cache
+   * 
+   * @since Date: Oct 18, 2026
+   * @throws BadLocationException if something went wrong
+   */
+  @Test
+  public void testNoKey() throws BadLocationException {
+    final CContent content = new CContent();
+    content.setValidationCache(this.cache);
+    content.insertString(0, "text", null);
+    assertThat(content.isValid()).isTrue();
+    assertThat(this.cache.size()).isZero();
+    assertThat(this.cache.getMissCount()).isZero();
+  }
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright (C) 2011  Christian Roesch
+ * 
+ * This file is part of crhcomponents.
+ * 
+ * crhcomponents is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * crhcomponents is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with crhcomponents.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.github.croesch.contents;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import com.github.croesch.DefaultTestCase;
+
+/**
+ * Provides test cases for {@link ValidatorChain}
+ * 
+ * @author croesch
+ * @since Date: Oct 18, 2026
+ */
+public class ValidatorChainTest extends DefaultTestCase {
+
+  private List<String> calls;
+
+  @Override
+  public void setUpDetails() {
+    this.calls = new ArrayList<String>();
+  }
+
+  /**
+   * Creates a rule that records its checks.
+   * 
+   * @param name the name of the rule
+   * @param cost the cost of the rule
+   * @param valid the result of the rule
+   * @return the rule
+   */
+  private Validator rule(final String name, final int cost, final boolean valid) {
+    return new Validator() {
+      @Override
+      public boolean isValid(final CharSequence text) {
+        ValidatorChainTest.this.calls.add(name);
+        return valid;
+      }
+
+      @Override
+      public int getCost() {
+        return cost;
+      }
+    };
+  }
+
+  /**
+   * Tests that cheap rules are checked first and that the check stops with the first failure
+   * 
+   * @since Date: Oct 18, 2026
+   */
+  @Test
+  public void testIsValid_Order() {
+    final Validator expensive = rule("expensive", 100, true);
+    final Validator cheap = rule("cheap", 0, true);
+    final Validator medium = rule("medium", 10, true);
+    final ValidatorChain chain = new ValidatorChain(expensive, cheap, medium);
+    assertThat(chain.getValidators()).containsExactly(cheap, medium, expensive);
+
+    assertThat(chain.isValid("text")).isTrue();
+    assertThat(this.calls).containsExactly("cheap", "medium", "expensive");
+    assertThat(chain.getCost()).isEqualTo(110);
+
+    this.calls.clear();
+    final Validator failing = rule("failing", 10, false);
+    chain.add(failing);
+    assertThat(chain.getValidators()).containsExactly(cheap, medium, failing, expensive);
+    assertThat(chain.isValid("text")).isFalse();
+    assertThat(this.calls).containsExactly("cheap", "medium", "failing");
+
+    assertThat(chain.remove(failing)).isTrue();
+    assertThat(chain.remove(failing)).isFalse();
+    assertThat(chain.isValid("text")).isTrue();
+    assertThat(new ValidatorChain().isValid("text")).isTrue();
+  }
+
+  /**
+   * Tests that a change is only decided without the complete text, if all rules can decide it
+   * 
+   * @since Date: Oct 18, 2026
+   */
+  @Test
+  public void testIsValidChange() {
+    final ValidatorChain chain = new ValidatorChain(Validators.charset("0123456789"), Validators.length(0, 4));
+    assertThat(chain.isValidChange(true, 0, 0, "12", 4)).isTrue();
+    assertThat(chain.isValidChange(true, 0, 0, "12", 5)).isFalse();
+    assertThat(chain.isValidChange(true, 0, 0, "1a", 4)).isFalse();
+    assertThat(chain.isValidChange(false, 0, 0, "1a", 4)).isFalse();
+    // removing characters may have removed invalid characters
+    assertThat(chain.isValidChange(false, 0, 1, null, 3)).isNull();
+    assertThat(chain.isValidChange(true, 0, 1, null, 3)).isTrue();
+
+    chain.add(rule("complete", 100, true));
+    assertThat(chain.isValidChange(true, 0, 0, "12", 4)).isNull();
+    assertThat(chain.isValidChange(true, 0, 0, "12", 5)).isFalse();
+    assertThat(this.calls).isEmpty();
+  }
+
+  /**
+   * Tests the statistics of the rules
+   * 
+   * @since Date: Oct 18, 2026
+   */
+  @Test
+  public void testStatistics() {
+    final Validator length = Validators.length(0, 4);
+    final Validator regex = Validators.regex("[0-9]+");
+    final ValidatorChain chain = new ValidatorChain(regex, length);
+
+    assertThat(chain.isValid("12")).isTrue();
+    assertThat(chain.isValid("12345")).isFalse();
+    assertThat(chain.isValid("ab")).isFalse();
+
+    assertThat(chain.getInvocationCount(length)).isEqualTo(3);
+    assertThat(chain.getFailureCount(length)).isEqualTo(1);
+    assertThat(chain.getInvocationCount(regex)).isEqualTo(2);
+    assertThat(chain.getFailureCount(regex)).isEqualTo(1);
+    assertThat(chain.getTotalTime(regex)).isGreaterThanOrEqualTo(0);
+    assertThat(chain.toString()).contains("invocations=2");
+
+    chain.resetStatistics();
+    assertThat(chain.getInvocationCount(length)).isZero();
+    assertThat(chain.getFailureCount(regex)).isZero();
+    assertThat(chain.getTotalTime(regex)).isZero();
+  }
+
+  /**
+   * Tests the statistics of a rule that isn't part of the chain
+   * 
+   * @since Date: Oct 18, 2026
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void testGetInvocationCount_IAE() {
+    new ValidatorChain().getInvocationCount(Validators.length(0, 1));
+  }
+
+  /**
+   * Tests adding {@code null}
+   * 
+   * @since Date: Oct 18, 2026
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void testAdd_IAE() {
+    new ValidatorChain().add(null);
+  }
+}
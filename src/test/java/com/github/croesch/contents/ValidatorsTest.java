@@ -0,0 +1,96 @@
+/*
+ * Copyright (C) 2011  Christian Roesch
+ * 
+ * This file is part of crhcomponents.
+ * 
+ * crhcomponents is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * crhcomponents is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with crhcomponents.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.github.croesch.contents;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import org.junit.Test;
+
+import com.github.croesch.DefaultTestCase;
+
+/**
+ * Provides test cases for {@link Validators}
+ * 
+ * @author croesch
+ * @since Date: Oct 18, 2026
+ */
+public class ValidatorsTest extends DefaultTestCase {
+
+  /**
+   * Tests the {@link Validators#length(int, int)}
+   * 
+   * @since Date: Oct 18, 2026
+   */
+  @Test
+  public void testLength() {
+    final Validator v = Validators.length(2, 4);
+    assertThat(v.isValid("a")).isFalse();
+    assertThat(v.isValid("ab")).isTrue();
+    assertThat(v.isValid("abcd")).isTrue();
+    assertThat(v.isValid("abcde")).isFalse();
+    assertThat(Validators.length(0, 0).isValid("abcdefghijklmnopqrstuvwxyz")).isTrue();
+    assertThat(v.getCost()).isEqualTo(Validators.COST_CONSTANT);
+  }
+
+  /**
+   * Tests the {@link Validators#regex(String)}
+   * 
+   * @since Date: Oct 18, 2026
+   */
+  @Test
+  public void testRegex() {
+    final Validator v = Validators.regex("[a-c]+");
+    assertThat(v.isValid("abc")).isTrue();
+    assertThat(v.isValid("abcd")).isFalse();
+    assertThat(v.isValid(new StringBuilder("cab"))).isTrue();
+    assertThat(v.getCost()).isEqualTo(Validators.COST_REGEX);
+
+    final Validator prefixes = Validators.regex("[0-9]{4}", true);
+    assertThat(prefixes.isValid("12")).isTrue();
+    assertThat(prefixes.isValid("1234")).isTrue();
+    assertThat(prefixes.isValid("12345")).isFalse();
+    assertThat(prefixes.isValid("1a")).isFalse();
+  }
+
+  /**
+   * Tests the {@link Validators#regex(String)} with {@code null}
+   * 
+   * @since Date: Oct 18, 2026
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void testRegex_IAE() {
+    Validators.regex(null);
+  }
+
+  /**
+   * Tests the {@link Validators#charset(CharSequence)}
+   * 
+   * @since Date: Oct 18, 2026
+   */
+  @Test
+  public void testCharset() {
+    final Validator v = Validators.charset("0123456789-");
+    assertThat(v.isValid("")).isTrue();
+    assertThat(v.isValid("12-34")).isTrue();
+    assertThat(v.isValid("12 34")).isFalse();
+    assertThat(v.isValid("€")).isFalse();
+    assertThat(Validators.charset("€").isValid("€€")).isTrue();
+    assertThat(v.getCost()).isEqualTo(Validators.COST_LINEAR);
+  }
+}
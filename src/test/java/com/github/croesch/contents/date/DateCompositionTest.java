@@ -27,7 +27,6 @@ import java.util.Locale;
 import org.junit.Test;
 
 import com.github.croesch.DefaultTestCase;
-import com.github.croesch.contents.date.DateContent.MODE;
 
 /**
  * Provides test methods for {@link DateComposition}.
@@ -38,10 +37,10 @@ import com.github.croesch.contents.date.DateContent.MODE;
 public class DateCompositionTest extends DefaultTestCase {
 
   /**
-   * Test method for {@link DateComposition#getComposition(Locale, MODE)}.
+   * Test method for {@link DateComposition#getLayout(Locale)}.
    */
   @Test
-  public final void testGetComposition_D_Point_M_POINT_Y() {
+  public final void testGetLayout_D_Point_M_POINT_Y() {
     final List<Locale> locales = new ArrayList<Locale>();
     locales.add(new Locale("mk"));
     locales.add(new Locale("no", "NO", ""));
@@ -84,23 +83,15 @@ public class DateCompositionTest extends DefaultTestCase {
       System.out.print("\t" + loc.getDisplayName());
       System.out.println(" (\"" + loc.getLanguage() + "\", \"" + loc.getCountry() + "\", \"" + loc.getVariant() + "\")");
 
-      List<IDateLazyPartEditor> list = DateComposition.getComposition(loc, MODE.LAZY);
-      assertThat(list).hasSize(5);
-      assertThat(list).containsExactly(new DateLazyDayEditor(), new DateSepEditor("."), new DateLazyMonEditor(),
-                                       new DateSepEditor("."), new DateLazyYearEditor());
-
-      list = DateComposition.getComposition(loc, MODE.LAZY, 24, 12, 1976);
-      assertThat(list).hasSize(5);
-      assertThat(list).containsExactly(new DateLazyDayEditor(24), new DateSepEditor("."), new DateLazyMonEditor(12),
-                                       new DateSepEditor("."), new DateLazyYearEditor(1976));
+      assertThat(DateComposition.getLayout(loc)).isEqualTo("2.1.3");
     }
   }
 
   /**
-   * Test method for {@link DateComposition#getComposition(Locale, MODE)}.
+   * Test method for {@link DateComposition#getLayout(Locale)}.
    */
   @Test
-  public final void testGetComposition_Y_Slash_M_Slash_D() {
+  public final void testGetLayout_Y_Slash_M_Slash_D() {
     final List<Locale> locales = new ArrayList<Locale>();
     locales.add(new Locale("ja", "JP", ""));
     locales.add(new Locale("zh", "TW", ""));
@@ -115,23 +106,15 @@ public class DateCompositionTest extends DefaultTestCase {
       System.out.print("\t" + loc.getDisplayName());
       System.out.println(" (\"" + loc.getLanguage() + "\", \"" + loc.getCountry() + "\", \"" + loc.getVariant() + "\")");
 
-      List<IDateLazyPartEditor> list = DateComposition.getComposition(loc, MODE.LAZY);
-      assertThat(list).hasSize(5);
-      assertThat(list).containsExactly(new DateLazyYearEditor(), new DateSepEditor("/"), new DateLazyMonEditor(),
-                                       new DateSepEditor("/"), new DateLazyDayEditor());
-
-      list = DateComposition.getComposition(loc, MODE.LAZY, 3, 4, 1705);
-      assertThat(list).hasSize(5);
-      assertThat(list).containsExactly(new DateLazyYearEditor(1705), new DateSepEditor("/"), new DateLazyMonEditor(4),
-                                       new DateSepEditor("/"), new DateLazyDayEditor(3));
+      assertThat(DateComposition.getLayout(loc)).isEqualTo("3/1/2");
     }
   }
 
   /**
-   * Test method for {@link DateComposition#getComposition(Locale, MODE)}.
+   * Test method for {@link DateComposition#getLayout(Locale)}.
    */
   @Test
-  public final void testGetComposition_D_Slash_M_Slash_Y() {
+  public final void testGetLayout_D_Slash_M_Slash_Y() {
     final List<Locale> locales = new ArrayList<Locale>();
     locales.add(new Locale("es", "PE", ""));
     locales.add(new Locale("es", "GT", ""));
@@ -200,23 +183,15 @@ public class DateCompositionTest extends DefaultTestCase {
       System.out.print("\t" + loc.getDisplayName());
       System.out.println(" (\"" + loc.getLanguage() + "\", \"" + loc.getCountry() + "\", \"" + loc.getVariant() + "\")");
 
-      List<IDateLazyPartEditor> list = DateComposition.getComposition(loc, MODE.LAZY);
-      assertThat(list).hasSize(5);
-      assertThat(list).containsExactly(new DateLazyDayEditor(), new DateSepEditor("/"), new DateLazyMonEditor(),
-                                       new DateSepEditor("/"), new DateLazyYearEditor());
-
-      list = DateComposition.getComposition(loc, MODE.LAZY, 31, 3, 2090);
-      assertThat(list).hasSize(5);
-      assertThat(list).containsExactly(new DateLazyDayEditor(31), new DateSepEditor("/"), new DateLazyMonEditor(3),
-                                       new DateSepEditor("/"), new DateLazyYearEditor(2090));
+      assertThat(DateComposition.getLayout(loc)).isEqualTo("2/1/3");
     }
   }
 
   /**
-   * Test method for {@link DateComposition#getComposition(Locale, MODE)}.
+   * Test method for {@link DateComposition#getLayout(Locale)}.
    */
   @Test
-  public final void testGetComposition_M_Slash_D_Slash_Y() {
+  public final void testGetLayout_M_Slash_D_Slash_Y() {
     final List<Locale> locales = new ArrayList<Locale>();
     locales.add(new Locale("en", "", ""));
     locales.add(new Locale("es", "PA", ""));
@@ -231,23 +206,15 @@ public class DateCompositionTest extends DefaultTestCase {
       System.out.print("\t" + loc.getDisplayName());
       System.out.println(" (\"" + loc.getLanguage() + "\", \"" + loc.getCountry() + "\", \"" + loc.getVariant() + "\")");
 
-      List<IDateLazyPartEditor> list = DateComposition.getComposition(loc, MODE.LAZY);
-      assertThat(list).hasSize(5);
-      assertThat(list).containsExactly(new DateLazyMonEditor(), new DateSepEditor("/"), new DateLazyDayEditor(),
-                                       new DateSepEditor("/"), new DateLazyYearEditor());
-
-      list = DateComposition.getComposition(loc, MODE.LAZY, 3, 2, 1);
-      assertThat(list).hasSize(5);
-      assertThat(list).containsExactly(new DateLazyMonEditor(2), new DateSepEditor("/"), new DateLazyDayEditor(03),
-                                       new DateSepEditor("/"), new DateLazyYearEditor(00001));
+      assertThat(DateComposition.getLayout(loc)).isEqualTo("1/2/3");
     }
   }
 
   /**
-   * Test method for {@link DateComposition#getComposition(Locale, MODE)}.
+   * Test method for {@link DateComposition#getLayout(Locale)}.
    */
   @Test
-  public final void testGetComposition_Y_Minus_M_Minus_D() {
+  public final void testGetLayout_Y_Minus_M_Minus_D() {
     final List<Locale> locales = new ArrayList<Locale>();
     locales.add(new Locale("ja", "JP", "JP"));
     locales.add(new Locale("sr", "BA", ""));
@@ -270,23 +237,15 @@ public class DateCompositionTest extends DefaultTestCase {
       System.out.print("\t" + loc.getDisplayName());
       System.out.println(" (\"" + loc.getLanguage() + "\", \"" + loc.getCountry() + "\", \"" + loc.getVariant() + "\")");
 
-      List<IDateLazyPartEditor> list = DateComposition.getComposition(loc, MODE.LAZY);
-      assertThat(list).hasSize(5);
-      assertThat(list).containsExactly(new DateLazyYearEditor(), new DateSepEditor("-"), new DateLazyMonEditor(),
-                                       new DateSepEditor("-"), new DateLazyDayEditor());
-
-      list = DateComposition.getComposition(loc, MODE.LAZY, 18, 11, 1975);
-      assertThat(list).hasSize(5);
-      assertThat(list).containsExactly(new DateLazyYearEditor(1975), new DateSepEditor("-"), new DateLazyMonEditor(11),
-                                       new DateSepEditor("-"), new DateLazyDayEditor(18));
+      assertThat(DateComposition.getLayout(loc)).isEqualTo("3-1-2");
     }
   }
 
   /**
-   * Test method for {@link DateComposition#getComposition(Locale, MODE)}.
+   * Test method for {@link DateComposition#getLayout(Locale)}.
    */
   @Test
-  public final void testGetComposition_Y_Point_M_Point_D_Point() {
+  public final void testGetLayout_Y_Point_M_Point_D_Point() {
     final List<Locale> locales = new ArrayList<Locale>();
     locales.add(new Locale("hu", "", ""));
     locales.add(new Locale("hu", "HU", ""));
@@ -296,23 +255,15 @@ public class DateCompositionTest extends DefaultTestCase {
       System.out.print("\t" + loc.getDisplayName());
       System.out.println(" (\"" + loc.getLanguage() + "\", \"" + loc.getCountry() + "\", \"" + loc.getVariant() + "\")");
 
-      List<IDateLazyPartEditor> list = DateComposition.getComposition(loc, MODE.LAZY);
-      assertThat(list).hasSize(6);
-      assertThat(list).containsExactly(new DateLazyYearEditor(), new DateSepEditor("."), new DateLazyMonEditor(),
-                                       new DateSepEditor("."), new DateLazyDayEditor(), new DateSepEditor("."));
-
-      list = DateComposition.getComposition(loc, MODE.LAZY, 29, 1, 2014);
-      assertThat(list).hasSize(6);
-      assertThat(list).containsExactly(new DateLazyYearEditor(2014), new DateSepEditor("."), new DateLazyMonEditor(1),
-                                       new DateSepEditor("."), new DateLazyDayEditor(29), new DateSepEditor("."));
+      assertThat(DateComposition.getLayout(loc)).isEqualTo("3.1.2.");
     }
   }
 
   /**
-   * Test method for {@link DateComposition#getComposition(Locale, MODE)}.
+   * Test method for {@link DateComposition#getLayout(Locale)}.
    */
   @Test
-  public final void testGetComposition_D_Minus_M_Minus_Y() {
+  public final void testGetLayout_D_Minus_M_Minus_Y() {
     final List<Locale> locales = new ArrayList<Locale>();
     locales.add(new Locale("pt", "PT", ""));
     locales.add(new Locale("nl", "", ""));
@@ -328,23 +279,15 @@ public class DateCompositionTest extends DefaultTestCase {
       System.out.print("\t" + loc.getDisplayName());
       System.out.println(" (\"" + loc.getLanguage() + "\", \"" + loc.getCountry() + "\", \"" + loc.getVariant() + "\")");
 
-      List<IDateLazyPartEditor> list = DateComposition.getComposition(loc, MODE.LAZY);
-      assertThat(list).hasSize(5);
-      assertThat(list).containsExactly(new DateLazyDayEditor(), new DateSepEditor("-"), new DateLazyMonEditor(),
-                                       new DateSepEditor("-"), new DateLazyYearEditor());
-
-      list = DateComposition.getComposition(loc, MODE.LAZY, 27, 5, -1);
-      assertThat(list).hasSize(5);
-      assertThat(list).containsExactly(new DateLazyDayEditor(27), new DateSepEditor("-"), new DateLazyMonEditor(5),
-                                       new DateSepEditor("-"), new DateLazyYearEditor());
+      assertThat(DateComposition.getLayout(loc)).isEqualTo("2-1-3");
     }
   }
 
   /**
-   * Test method for {@link DateComposition#getComposition(Locale, MODE)}.
+   * Test method for {@link DateComposition#getLayout(Locale)}.
    */
   @Test
-  public final void testGetComposition_D_Point_M_Point_Y_Point() {
+  public final void testGetLayout_D_Point_M_Point_Y_Point() {
     final List<Locale> locales = new ArrayList<Locale>();
     locales.add(new Locale("sr", "CS", ""));
     locales.add(new Locale("sr", "RS", ""));
@@ -357,23 +300,15 @@ public class DateCompositionTest extends DefaultTestCase {
       System.out.print("\t" + loc.getDisplayName());
       System.out.println(" (\"" + loc.getLanguage() + "\", \"" + loc.getCountry() + "\", \"" + loc.getVariant() + "\")");
 
-      List<IDateLazyPartEditor> list = DateComposition.getComposition(loc, MODE.LAZY);
-      assertThat(list).hasSize(6);
-      assertThat(list).containsExactly(new DateLazyDayEditor(), new DateSepEditor("."), new DateLazyMonEditor(),
-                                       new DateSepEditor("."), new DateLazyYearEditor(), new DateSepEditor("."));
-
-      list = DateComposition.getComposition(loc, MODE.LAZY, 19, 7, 1804);
-      assertThat(list).hasSize(6);
-      assertThat(list).containsExactly(new DateLazyDayEditor(19), new DateSepEditor("."), new DateLazyMonEditor(7),
-                                       new DateSepEditor("."), new DateLazyYearEditor(1804), new DateSepEditor("."));
+      assertThat(DateComposition.getLayout(loc)).isEqualTo("2.1.3.");
     }
   }
 
   /**
-   * Test method for {@link DateComposition#getComposition(Locale, MODE)}.
+   * Test method for {@link DateComposition#getLayout(Locale)}.
    */
   @Test
-  public final void testGetComposition_Y_Point_M_Point_D() {
+  public final void testGetLayout_Y_Point_M_Point_D() {
     final List<Locale> locales = new ArrayList<Locale>();
     locales.add(new Locale("lt", "", ""));
     locales.add(new Locale("lt", "LT", ""));
@@ -384,23 +319,15 @@ public class DateCompositionTest extends DefaultTestCase {
       System.out.print("\t" + loc.getDisplayName());
       System.out.println(" (\"" + loc.getLanguage() + "\", \"" + loc.getCountry() + "\", \"" + loc.getVariant() + "\")");
 
-      List<IDateLazyPartEditor> list = DateComposition.getComposition(loc, MODE.LAZY);
-      assertThat(list).hasSize(5);
-      assertThat(list).containsExactly(new DateLazyYearEditor(), new DateSepEditor("."), new DateLazyMonEditor(),
-                                       new DateSepEditor("."), new DateLazyDayEditor());
-
-      list = DateComposition.getComposition(loc, MODE.LAZY, 22, 8, 1795);
-      assertThat(list).hasSize(5);
-      assertThat(list).containsExactly(new DateLazyYearEditor(1795), new DateSepEditor("."), new DateLazyMonEditor(8),
-                                       new DateSepEditor("."), new DateLazyDayEditor(22));
+      assertThat(DateComposition.getLayout(loc)).isEqualTo("3.1.2");
     }
   }
 
   /**
-   * Test method for {@link DateComposition#getComposition(Locale, MODE)}.
+   * Test method for {@link DateComposition#getLayout(Locale)}.
    */
   @Test
-  public final void testGetComposition_Y_Point_D_Point_M() {
+  public final void testGetLayout_Y_Point_D_Point_M() {
     final List<Locale> locales = new ArrayList<Locale>();
     locales.add(new Locale("lv", "LV", ""));
     locales.add(new Locale("lv", "", ""));
@@ -410,23 +337,15 @@ public class DateCompositionTest extends DefaultTestCase {
       System.out.print("\t" + loc.getDisplayName());
       System.out.println(" (\"" + loc.getLanguage() + "\", \"" + loc.getCountry() + "\", \"" + loc.getVariant() + "\")");
 
-      List<IDateLazyPartEditor> list = DateComposition.getComposition(loc, MODE.LAZY);
-      assertThat(list).hasSize(5);
-      assertThat(list).containsExactly(new DateLazyYearEditor(), new DateSepEditor("."), new DateLazyDayEditor(),
-                                       new DateSepEditor("."), new DateLazyMonEditor());
-
-      list = DateComposition.getComposition(loc, MODE.LAZY, 30, 11, 1997);
-      assertThat(list).hasSize(5);
-      assertThat(list).containsExactly(new DateLazyYearEditor(1997), new DateSepEditor("."), new DateLazyDayEditor(30),
-                                       new DateSepEditor("."), new DateLazyMonEditor(11));
+      assertThat(DateComposition.getLayout(loc)).isEqualTo("3.2.1");
     }
   }
 
   /**
-   * Test method for {@link DateComposition#getComposition(Locale, MODE)}.
+   * Test method for {@link DateComposition#getLayout(Locale)}.
    */
   @Test
-  public final void testGetComposition_M_Minus_D_Minus_Y() {
+  public final void testGetLayout_M_Minus_D_Minus_Y() {
     final List<Locale> locales = new ArrayList<Locale>();
     locales.add(new Locale("es", "NI", ""));
     locales.add(new Locale("es", "SV", ""));
@@ -438,23 +357,15 @@ public class DateCompositionTest extends DefaultTestCase {
       System.out.print("\t" + loc.getDisplayName());
       System.out.println(" (\"" + loc.getLanguage() + "\", \"" + loc.getCountry() + "\", \"" + loc.getVariant() + "\")");
 
-      List<IDateLazyPartEditor> list = DateComposition.getComposition(loc, MODE.LAZY);
-      assertThat(list).hasSize(5);
-      assertThat(list).containsExactly(new DateLazyMonEditor(), new DateSepEditor("-"), new DateLazyDayEditor(),
-                                       new DateSepEditor("-"), new DateLazyYearEditor());
-
-      list = DateComposition.getComposition(loc, MODE.LAZY, 31, 10, 2009);
-      assertThat(list).hasSize(5);
-      assertThat(list).containsExactly(new DateLazyMonEditor(10), new DateSepEditor("-"), new DateLazyDayEditor(31),
-                                       new DateSepEditor("-"), new DateLazyYearEditor(2009));
+      assertThat(DateComposition.getLayout(loc)).isEqualTo("1-2-3");
     }
   }
 
   /**
-   * Test method for {@link DateComposition#getComposition(Locale, MODE)}.
+   * Test method for {@link DateComposition#getLayout(Locale)}.
    */
   @Test
-  public final void testGetComposition_Y_Point_Space_M_Point_Space_D() {
+  public final void testGetLayout_Y_Point_Space_M_Point_Space_D() {
     final List<Locale> locales = new ArrayList<Locale>();
     locales.add(new Locale("ko", "", ""));
     locales.add(new Locale("ko", "KR", ""));
@@ -464,25 +375,15 @@ public class DateCompositionTest extends DefaultTestCase {
       System.out.print("\t" + loc.getDisplayName());
       System.out.println(" (\"" + loc.getLanguage() + "\", \"" + loc.getCountry() + "\", \"" + loc.getVariant() + "\")");
 
-      List<IDateLazyPartEditor> list = DateComposition.getComposition(loc, MODE.LAZY);
-      assertThat(list).hasSize(7);
-      assertThat(list).containsExactly(new DateLazyYearEditor(), new DateSepEditor("."), new DateSepEditor(" "),
-                                       new DateLazyMonEditor(), new DateSepEditor("."), new DateSepEditor(" "),
-                                       new DateLazyDayEditor());
-
-      list = DateComposition.getComposition(loc, MODE.LAZY, 21, 1, 2023);
-      assertThat(list).hasSize(7);
-      assertThat(list).containsExactly(new DateLazyYearEditor(2023), new DateSepEditor("."), new DateSepEditor(" "),
-                                       new DateLazyMonEditor(1), new DateSepEditor("."), new DateSepEditor(" "),
-                                       new DateLazyDayEditor(21));
+      assertThat(DateComposition.getLayout(loc)).isEqualTo("3. 1. 2");
     }
   }
 
   /**
-   * Test method for {@link DateComposition#getComposition(Locale, MODE)}.
+   * Test method for {@link DateComposition#getLayout(Locale)}.
    */
   @Test
-  public final void testGetComposition_Y_X_M_X_D_X() {
+  public final void testGetLayout_Y_X_M_X_D_X() {
     final List<Locale> locales = new ArrayList<Locale>();
     locales.add(new Locale("zh", "HK", ""));
 
@@ -491,13 +392,23 @@ public class DateCompositionTest extends DefaultTestCase {
       System.out.print("\t" + loc.getDisplayName());
       System.out.println(" (\"" + loc.getLanguage() + "\", \"" + loc.getCountry() + "\", \"" + loc.getVariant() + "\")");
 
-      List<IDateLazyPartEditor> list = DateComposition.getComposition(loc, MODE.LAZY);
-      assertThat(list).hasSize(6);
-      assertThat(list).contains(new DateLazyYearEditor(), new DateLazyMonEditor(), new DateLazyDayEditor());
-
-      list = DateComposition.getComposition(loc, MODE.LAZY, 5, 7, 2011);
-      assertThat(list).hasSize(6);
-      assertThat(list).contains(new DateLazyYearEditor(2011), new DateLazyMonEditor(7), new DateLazyDayEditor(5));
+      final String layout = DateComposition.getLayout(loc);
+      assertThat(layout.length()).isEqualTo(6);
+      assertThat(layout).contains("3");
+      assertThat(layout).contains("1");
+      assertThat(layout).contains("2");
     }
   }
+
+  /**
+   * Tests that the layout of each locale is computed once.
+   * 
+   * @since Date: Oct 18, 2026
+   */
+  @Test
+  public final void testGetLayout_Cached() {
+    DateComposition.warmUp(Locale.GERMAN, Locale.CANADA);
+    assertThat(DateComposition.getLayout(Locale.GERMAN)).isEqualTo("2.1.3");
+    assertThat(DateComposition.getLayout(Locale.GERMAN)).isSameAs(DateComposition.getLayout(Locale.GERMAN));
+  }
 }
@@ -24,17 +24,25 @@ import static org.fest.assertions.Assertions.assertThat;
 import java.io.InputStreamReader;
 import java.text.DateFormat;
 import java.text.SimpleDateFormat;
+import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.Date;
 import java.util.GregorianCalendar;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 
+import javax.swing.JTextField;
+import javax.swing.event.DocumentEvent;
+import javax.swing.event.DocumentListener;
 import javax.swing.text.BadLocationException;
 
+import org.fest.swing.edt.GuiActionRunner;
+import org.fest.swing.edt.GuiQuery;
 import org.junit.Test;
 
 import com.github.croesch.DefaultTestCase;
+import com.github.croesch.util.EpochDay;
 import com.github.croesch.util.Util;
 
 /**
@@ -693,4 +701,163 @@ public class DateLazyContentTest extends DefaultTestCase {
     this.content.remove(0, this.content.getLength());
     assertThat(this.content.getDateWithoutTimeOrNull()).isNull();
   }
+
+  /**
+   * Records the events of the content, each as the type of the event (-, + or ~), its offset and its length.
+   * 
+   * @since Date: Oct 18, 2026
+   * @return the list that receives the events
+   */
+  private List<String> recordEvents() {
+    final List<String> events = new ArrayList<String>();
+    this.content.addDocumentListener(new DocumentListener() {
+      @Override
+      public void removeUpdate(final DocumentEvent e) {
+        events.add("-" + e.getOffset() + ":" + e.getLength());
+      }
+
+      @Override
+      public void insertUpdate(final DocumentEvent e) {
+        events.add("+" + e.getOffset() + ":" + e.getLength());
+      }
+
+      @Override
+      public void changedUpdate(final DocumentEvent e) {
+        events.add("~" + e.getOffset() + ":" + e.getLength());
+      }
+    });
+    return events;
+  }
+
+  /**
+   * Tests that entering a character only replaces the characters of the text that have changed.
+   * 
+   * @since Date: Oct 18, 2026
+   * @throws BadLocationException if something went wrong
+   */
+  @Test
+  public void testInsertString_MinimalChange() throws BadLocationException {
+    this.content.insertString(0, "22.11.1944", null);
+    final List<String> events = recordEvents();
+
+    // the replaced character is removed and inserted, there's no event for replacing text
+    this.content.insertString(1, "3", null);
+    assertThat(this.content.getText()).isEqualTo("23.11.1944");
+    assertThat(events).containsExactly("-1:1", "+1:1");
+
+    // entering the character that is already there doesn't change the text
+    events.clear();
+    this.content.insertString(0, "2", null);
+    assertThat(this.content.getText()).isEqualTo("23.11.1944");
+    assertThat(events).isEmpty();
+
+    events.clear();
+    this.content.insertString(4, "2", null);
+    assertThat(this.content.getText()).isEqualTo("23.12.1944");
+    assertThat(events).containsExactly("-4:1", "+4:1");
+  }
+
+  /**
+   * Tests that a pasted text is entered completely before the text of the document is updated once.
+   * 
+   * @since Date: Oct 18, 2026
+   * @throws BadLocationException if something went wrong
+   */
+  @Test
+  public void testInsertString_Paste() throws BadLocationException {
+    final List<String> events = recordEvents();
+
+    this.content.insertString(0, "15.03.2024", null);
+    assertThat(this.content.getText()).isEqualTo("15.03.2024");
+    assertThat(events).containsExactly("+0:10");
+
+    events.clear();
+    this.content.insertString(0, "xy", null);
+    assertThat(events).isEmpty();
+  }
+
+  /**
+   * Tests that a pasted text continues at the position of the cursor after each character.
+   * 
+   * @since Date: Oct 18, 2026
+   */
+  @Test
+  public void testInsertString_PasteWithTextComponent() {
+    final int caret = GuiActionRunner.execute(new GuiQuery<Integer>() {
+      @Override
+      protected Integer executeInEDT() throws BadLocationException {
+        final JTextField field = new JTextField();
+        DateLazyContentTest.this.content = new DateLazyContent(field, Locale.GERMAN,
+                                                               DateLazyContentTest.this.specCharMapEmpty);
+        field.setDocument(DateLazyContentTest.this.content);
+
+        DateLazyContentTest.this.content.insertString(0, "2411", null);
+        return field.getCaretPosition();
+      }
+    });
+    assertThat(this.content.getText()).startsWith("24.11.");
+    assertThat(caret).isEqualTo(5);
+  }
+
+  /**
+   * Tests that the date can be read and set as epoch day.
+   * 
+   * @since Date: Oct 18, 2026
+   * @throws BadLocationException if something went wrong
+   */
+  @Test
+  public void testGetSetEpochDay() throws BadLocationException {
+    this.content.insertString(0, "22.11.1944", null);
+    assertThat(this.content.getEpochDay()).isEqualTo(EpochDay.of(1944, 11, 22));
+
+    this.content.setEpochDay(EpochDay.of(2002, 12, 6));
+    assertThat(this.content.getText()).isEmpty();
+    assertThat(this.content.getDateContent()).isEqualTo("06.12.2002");
+    assertDateHasValues(this.content.getDate(), 6, 12, 2002);
+    assertDateHasValues(this.content.getDateWithoutTime(), 6, 12, 2002);
+  }
+
+  /**
+   * Tests that the parts of the date can be read as they have been entered.
+   * 
+   * @since Date: Oct 18, 2026
+   * @throws BadLocationException if something went wrong
+   */
+  @Test
+  public void testGetParts() throws BadLocationException {
+    this.content.insertString(0, "31.02.1903", null);
+    assertThat(this.content.getDay()).isEqualTo(31);
+    assertThat(this.content.getMonth()).isEqualTo(2);
+    assertThat(this.content.getYear()).isEqualTo(1903);
+    assertThat(this.content.getEpochDay()).isEqualTo(EpochDay.of(1903, 3, 3));
+  }
+
+  /**
+   * Tests that the date is read from the text restored by undo and redo.
+   * 
+   * @since Date: Oct 18, 2026
+   * @throws BadLocationException if something went wrong
+   */
+  @Test
+  public void testUndoRedo() throws BadLocationException {
+    this.content.setUndoLimit(1024);
+    this.content.insertString(0, "22.11.1944", null);
+    this.content.insertString(1, "3", null);
+    assertThat(this.content.getText()).isEqualTo("23.11.1944");
+
+    this.content.undo();
+    assertThat(this.content.getText()).isEqualTo("22.11.1944");
+    assertThat(this.content.getDay()).isEqualTo(22);
+    // the next character is entered into the restored date
+    this.content.insertString(4, "2", null);
+    assertThat(this.content.getText()).isEqualTo("22.12.1944");
+    assertThat(this.content.getDateContent()).isEqualTo("22.12.1944");
+
+    this.content.undo();
+    this.content.undo();
+    assertThat(this.content.getText()).isEmpty();
+    this.content.redo();
+    assertThat(this.content.getText()).isEqualTo("22.11.1944");
+    assertThat(this.content.getEpochDay()).isEqualTo(EpochDay.of(1944, 11, 22));
+  }
 }
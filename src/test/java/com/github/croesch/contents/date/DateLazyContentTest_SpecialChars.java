@@ -20,18 +20,29 @@ package com.github.croesch.contents.date;
 
 import static org.fest.assertions.Assertions.assertThat;
 
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
 import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.URISyntaxException;
 import java.util.Calendar;
 import java.util.Date;
 import java.util.GregorianCalendar;
 import java.util.Locale;
 import java.util.Map;
+import java.util.TimeZone;
+import java.util.concurrent.TimeUnit;
 
 import javax.swing.text.BadLocationException;
 
 import org.junit.Test;
 
 import com.github.croesch.DefaultTestCase;
+import com.github.croesch.util.DayClock;
+import com.github.croesch.util.EpochDay;
 
 /**
  * Provides tests for the special chars defined in the special chars file.
@@ -402,4 +413,144 @@ public class DateLazyContentTest_SpecialChars extends DefaultTestCase {
     content.insertString(0, "NNNNNNNNNNNNNNNNNNNNNNNNNN", null);
     assertThat(content.getText()).isEqualTo("01.01." + year);
   }
+
+  /**
+   * Tests that the special characters are relative to the day of the clock of the content.
+   * 
+   * @since Date: Oct 18, 2026
+   */
+  @Test
+  public void testDayClock() throws BadLocationException {
+    final TimeZone zone = TimeZone.getTimeZone("UTC");
+    final DayClock clock = DayClock.fixed(EpochDay.toMillis(EpochDay.of(2011, 12, 31), 1000, zone), zone);
+    final DateContent content = DateContent.createDateContent(DateContent.MODE.LAZY, null, Locale.GERMAN, clock);
+    assertThat(content.getDateContent()).isEqualTo("31.12.2011");
+
+    content.insertString(0, "12.03.1903", null);
+    content.insertString(0, "d", null);
+    assertThat(content.getText()).isEqualTo("31.12.2011");
+
+    content.insertString(0, "m", null);
+    assertThat(content.getText()).isEqualTo("01.01.2012");
+
+    content.insertString(0, "N", null);
+    assertThat(content.getText()).isEqualTo("01.01.2012");
+
+    content.insertString(0, "y", null);
+    assertThat(content.getText()).isEqualTo("30.12.2011");
+
+    assertThat(content.getDate().getTime()).isEqualTo(EpochDay.toMillis(EpochDay.of(2011, 12, 30), 1000, zone));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testDayClock_IAE() {
+    DateContent.createDateContent(DateContent.MODE.LAZY, null, Locale.GERMAN, null);
+  }
+
+  @Test
+  public void testLoadSpecialChars() throws Exception {
+    final File file = File.createTempFile("datechars", ".cfg");
+    file.deleteOnExit();
+    writeTo(file, "q|c1903|c3|c12");
+    try {
+      final DateContent content = DateContent.createDateContent(DateContent.MODE.LAZY, null, Locale.GERMAN);
+      assertThat(DateContent.loadSpecialChars(file)).isTrue();
+
+      content.insertString(0, "q", null);
+      assertThat(content.getText()).isEqualTo("12.03.1903");
+
+      // the table has been swapped: the special chars of the default config are gone
+      content.insertString(0, "+", null);
+      assertThat(content.getText()).isEqualTo("12.03.1903");
+
+      assertThat(DateContent.loadSpecialChars(new File(file.getPath() + ".missing"))).isFalse();
+      content.insertString(0, "q", null);
+      assertThat(content.getText()).isEqualTo("12.03.1903");
+    } finally {
+      restoreDefaultSpecialChars();
+    }
+  }
+
+  @Test
+  public void testLoadSpecialChars_UTF8() throws Exception {
+    final File file = File.createTempFile("datechars", ".cfg");
+    file.deleteOnExit();
+    writeTo(file, "\u00e4|c1903|c3|c12");
+    try {
+      final DateContent content = DateContent.createDateContent(DateContent.MODE.LAZY, null, Locale.GERMAN);
+      assertThat(DateContent.loadSpecialChars(file)).isTrue();
+
+      content.insertString(0, "\u00e4", null);
+      assertThat(content.getText()).isEqualTo("12.03.1903");
+
+      // a file that isn't UTF-8 can't be read completely, so the current special chars are kept
+      final OutputStream out = new FileOutputStream(file);
+      try {
+        out.write("q|c1904|c4|c13\n\u00e4|c1905|c5|c14".getBytes("ISO-8859-1"));
+      } finally {
+        out.close();
+      }
+      assertThat(DateContent.loadSpecialChars(file)).isFalse();
+      content.insertString(0, "q", null);
+      assertThat(content.getText()).isEqualTo("12.03.1903");
+      content.insertString(0, "\u00e4", null);
+      assertThat(content.getText()).isEqualTo("12.03.1903");
+    } finally {
+      restoreDefaultSpecialChars();
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testLoadSpecialChars_IAE() {
+    DateContent.loadSpecialChars(null);
+  }
+
+  @Test
+  public void testWatchSpecialChars() throws Exception {
+    final File file = File.createTempFile("datechars", ".cfg");
+    file.deleteOnExit();
+    final DateSpecialCharWatcher watcher = new DateSpecialCharWatcher(file);
+    try {
+      final DateContent content = DateContent.createDateContent(DateContent.MODE.LAZY, null, Locale.GERMAN);
+      content.insertString(0, "12.03.1903", null);
+
+      writeTo(file, "q|c1904|c4|c13");
+      watcher.run();
+      content.insertString(0, "q", null);
+      assertThat(content.getText()).isEqualTo("13.04.1904");
+
+      writeTo(file, "q|c1905|c5|c14 # changed");
+      assertThat(file.setLastModified(file.lastModified() + 2000)).isTrue();
+      watcher.run();
+      content.insertString(0, "q", null);
+      assertThat(content.getText()).isEqualTo("14.05.1905");
+
+      // unchanged file isn't loaded again
+      restoreDefaultSpecialChars();
+      watcher.run();
+      content.insertString(0, "q", null);
+      assertThat(content.getText()).isEqualTo("14.05.1905");
+    } finally {
+      restoreDefaultSpecialChars();
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testWatchSpecialChars_IAE() {
+    DateContent.watchSpecialChars(null, null, 1, TimeUnit.SECONDS);
+  }
+
+  private static void writeTo(final File file, final String text) throws IOException {
+    final Writer writer = new OutputStreamWriter(new FileOutputStream(file), "UTF-8");
+    try {
+      writer.write(text);
+    } finally {
+      writer.close();
+    }
+  }
+
+  private static void restoreDefaultSpecialChars() throws URISyntaxException {
+    assertThat(DateContent.loadSpecialChars(new File(DateContent.class.getClassLoader().getResource("datechars.cfg")
+      .toURI()))).isTrue();
+  }
 }
@@ -0,0 +1,193 @@
+/*
+ * Copyright (C) 2011  Christian Roesch
+ * 
+ * This file is part of crhcomponents.
+ * 
+ * crhcomponents is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * crhcomponents is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with crhcomponents.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.github.croesch.contents.date;
+
+import static org.fest.assertions.Assertions.assertThat;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.StringReader;
+import java.text.ParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.Test;
+
+import com.github.croesch.DefaultTestCase;
+import com.github.croesch.util.EpochDay;
+
+/**
+ * Provides test cases for {@link DateLazyParser}.
+ * 
+ * @author croesch
+ * @since Date: Oct 18, 2026
+ */
+public class DateLazyParserTest extends DefaultTestCase {
+
+  private static final long REFERENCE_DAY = EpochDay.of(2011, 3, 12);
+
+  private final Map<String, DateSpecialChar> specCharMap = DateSpecialCharInterpreter.createFrom(new InputStreamReader(DateContent.class.getClassLoader()
+                                                                                                                                        .getResourceAsStream("datechars.cfg")))
+                                                                                     .getSpecialCharsMap();
+
+  private final DateLazyParser parser = new DateLazyParser(Locale.GERMAN, this.specCharMap);
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testConstructor_IAE() {
+    new DateLazyParser(null);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testConstructor_IAE2() {
+    new DateLazyParser(Locale.GERMAN, (Map<String, DateSpecialChar>) null);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testConstructor_IAE3() throws IOException {
+    new DateLazyParser(Locale.GERMAN, (Reader) null);
+  }
+
+  @Test
+  public void testConstructor_Reader() throws IOException, ParseException {
+    final DateLazyParser p = new DateLazyParser(Locale.GERMAN, new StringReader("# import\nq|c1903|c3|c12"));
+    assertThat(p.parse("q", REFERENCE_DAY)).isEqualTo(EpochDay.of(1903, 3, 12));
+    try {
+      p.parse("+", REFERENCE_DAY);
+      fail();
+    } catch (final ParseException e) {
+      assertThat(e.getErrorOffset()).isEqualTo(0);
+    }
+  }
+
+  @Test
+  public void testParse() throws ParseException {
+    assertThat(this.parser.parse("15", REFERENCE_DAY)).isEqualTo(EpochDay.of(2011, 3, 15));
+    assertThat(this.parser.parse("1503", REFERENCE_DAY)).isEqualTo(EpochDay.of(2011, 3, 15));
+    assertThat(this.parser.parse("150411", REFERENCE_DAY)).isEqualTo(EpochDay.of(2011, 4, 15));
+    assertThat(this.parser.parse("15.04.1999", REFERENCE_DAY)).isEqualTo(EpochDay.of(1999, 4, 15));
+    assertThat(this.parser.parse("29022012", REFERENCE_DAY)).isEqualTo(EpochDay.of(2012, 2, 29));
+  }
+
+  @Test
+  public void testParse_SpecialChars() throws ParseException {
+    assertThat(this.parser.parse("d", REFERENCE_DAY)).isEqualTo(REFERENCE_DAY);
+    assertThat(this.parser.parse("+", REFERENCE_DAY)).isEqualTo(REFERENCE_DAY + 1);
+    assertThat(this.parser.parse("m", REFERENCE_DAY)).isEqualTo(REFERENCE_DAY + 1);
+    assertThat(this.parser.parse("y", REFERENCE_DAY)).isEqualTo(REFERENCE_DAY - 1);
+    assertThat(this.parser.parse("---", REFERENCE_DAY)).isEqualTo(REFERENCE_DAY - 3);
+    assertThat(this.parser.parse("N", REFERENCE_DAY)).isEqualTo(EpochDay.of(2012, 1, 1));
+    assertThat(this.parser.parse("20+", REFERENCE_DAY)).isEqualTo(EpochDay.of(2011, 3, 21));
+  }
+
+  @Test
+  public void testParse_Invalid() {
+    assertParseError("", 0);
+    assertParseError(null, 0);
+    assertParseError("x", 0);
+    assertParseError("15x", 2);
+    assertParseError("3102", 4);
+    assertParseError("2902", 4);
+    assertParseError("00", 2);
+  }
+
+  private void assertParseError(final String input, final int offset) {
+    try {
+      this.parser.parse(input, REFERENCE_DAY);
+      fail();
+    } catch (final ParseException e) {
+      assertThat(e.getErrorOffset()).isEqualTo(offset);
+    }
+  }
+
+  @Test
+  public void testParse_UnknownSpecialChars() throws ParseException {
+    final DateLazyParser p = new DateLazyParser(Locale.GERMAN, new HashMap<String, DateSpecialChar>());
+    assertThat(p.parse("15", REFERENCE_DAY)).isEqualTo(EpochDay.of(2011, 3, 15));
+    try {
+      p.parse("+", REFERENCE_DAY);
+      fail();
+    } catch (final ParseException e) {
+      assertThat(e.getErrorOffset()).isEqualTo(0);
+    }
+  }
+
+  @Test
+  public void testParse_Locale() throws ParseException {
+    final DateLazyParser p = new DateLazyParser(Locale.CANADA, this.specCharMap);
+    assertThat(p.parse("15/04/1999", REFERENCE_DAY)).isEqualTo(EpochDay.of(1999, 4, 15));
+  }
+
+  @Test
+  public void testParseAll() {
+    final DateParseResult result = this.parser.parseAll(new String[] { "15", "x", "+", null, "3102", "01.01.1970" },
+                                                        REFERENCE_DAY);
+    assertThat(result.size()).isEqualTo(6);
+    assertThat(result.getEpochDays()).isEqualTo(new long[] { EpochDay.of(2011, 3, 15), 0, REFERENCE_DAY + 1, 0, 0, 0 });
+    assertThat(result.getErrors().cardinality()).isEqualTo(3);
+    assertThat(result.isValid(0)).isTrue();
+    assertThat(result.isValid(1)).isFalse();
+    assertThat(result.isValid(2)).isTrue();
+    assertThat(result.isValid(3)).isFalse();
+    assertThat(result.isValid(4)).isFalse();
+    assertThat(result.isValid(5)).isTrue();
+    assertThat(result.getEpochDay(5)).isEqualTo(0);
+
+    assertThat(this.parser.parseAll(new ArrayList<String>(), REFERENCE_DAY).size()).isEqualTo(0);
+  }
+
+  @Test
+  public void testParseParallel() throws InterruptedException {
+    final List<String> inputs = new ArrayList<String>();
+    for (int i = 0; i < 10000; ++i) {
+      if (i % 7 == 0) {
+        inputs.add("x" + i);
+      } else {
+        inputs.add(String.format("%02d%02d%04d", i % 28 + 1, i % 12 + 1, 1900 + i % 200));
+      }
+    }
+
+    final ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      final DateParseResult parallel = this.parser.parseParallel(inputs, REFERENCE_DAY, executor);
+      final DateParseResult sequential = this.parser.parseAll(inputs, REFERENCE_DAY);
+
+      assertThat(parallel.size()).isEqualTo(inputs.size());
+      assertThat(Arrays.equals(parallel.getEpochDays(), sequential.getEpochDays())).isTrue();
+      assertThat(parallel.getErrors()).isEqualTo(sequential.getErrors());
+      for (int i = 0; i < inputs.size(); ++i) {
+        assertThat(parallel.isValid(i)).isEqualTo(i % 7 != 0);
+        if (i % 7 != 0) {
+          assertThat(parallel.getEpochDay(i)).isEqualTo(EpochDay.of(1900 + i % 200, i % 12 + 1, i % 28 + 1));
+        }
+      }
+
+      assertThat(this.parser.parseParallel(new String[0], REFERENCE_DAY, executor).size()).isEqualTo(0);
+    } finally {
+      executor.shutdown();
+    }
+  }
+}
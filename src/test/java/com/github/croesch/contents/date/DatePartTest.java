@@ -0,0 +1,113 @@
+/*
+ * Copyright (C) 2011  Christian Roesch
+ * 
+ * This file is part of crhcomponents.
+ * 
+ * crhcomponents is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * crhcomponents is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with crhcomponents.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.github.croesch.contents.date;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import org.junit.Test;
+
+import com.github.croesch.DefaultTestCase;
+
+/**
+ * Provides test methods for {@link DatePart}.
+ * 
+ * @author croesch
+ * @since Date: Oct 18, 2026
+ */
+public class DatePartTest extends DefaultTestCase {
+
+  private static final int DATE = 19441122;
+
+  /**
+   * Tests that each part reads and writes only its own digits.
+   * 
+   * @since Date: Oct 18, 2026
+   */
+  @Test
+  public final void testGetWith() {
+    assertThat(DatePart.YEAR.get(DATE)).isEqualTo(1944);
+    assertThat(DatePart.MONTH.get(DATE)).isEqualTo(11);
+    assertThat(DatePart.DAY.get(DATE)).isEqualTo(22);
+
+    assertThat(DatePart.YEAR.with(DATE, 3)).isEqualTo(31122);
+    assertThat(DatePart.MONTH.with(DATE, 2)).isEqualTo(19440222);
+    assertThat(DatePart.DAY.with(DATE, 9)).isEqualTo(19441109);
+
+    assertThat(DatePart.DAY.withValid(DATE, 32, 20110304)).isEqualTo(19441104);
+    assertThat(DatePart.MONTH.withValid(DATE, 0, 20110304)).isEqualTo(19440322);
+    assertThat(DatePart.YEAR.withValid(DATE, 2012, 20110304)).isEqualTo(20121122);
+  }
+
+  /**
+   * Tests that the digits of each part are copied with leading zeros.
+   * 
+   * @since Date: Oct 18, 2026
+   */
+  @Test
+  public final void testGetChars() {
+    final char[] chars = new char[8];
+    DatePart.YEAR.getChars(70102, chars, 0);
+    DatePart.MONTH.getChars(70102, chars, 4);
+    DatePart.DAY.getChars(70102, chars, 6);
+    assertThat(String.valueOf(chars)).isEqualTo("00070102");
+  }
+
+  /**
+   * Tests that the characters are entered like the editors of the parts do.
+   * 
+   * @since Date: Oct 18, 2026
+   */
+  @Test
+  public final void testEnter() {
+    assertThat(DatePart.DAY.getAdvance('5', 0)).isEqualTo(2);
+    assertThat(DatePart.DAY.enter(DATE, '5', 0)).isEqualTo(19441125);
+    assertThat(DatePart.DAY.getAdvance('3', 0)).isEqualTo(1);
+    assertThat(DatePart.DAY.enter(DATE, '3', 0)).isEqualTo(19441132);
+    assertThat(DatePart.DAY.getAdvance('x', 0)).isEqualTo(-1);
+    assertThat(DatePart.DAY.getAdvance('1', 2)).isEqualTo(-1);
+
+    assertThat(DatePart.MONTH.getAdvance('2', 0)).isEqualTo(2);
+    assertThat(DatePart.MONTH.enter(DATE, '2', 0)).isEqualTo(19441222);
+    assertThat(DatePart.MONTH.enter(DATE, '0', 0)).isEqualTo(19440122);
+
+    assertThat(DatePart.YEAR.getAdvance('1', 0)).isEqualTo(1);
+    int fields = DatePart.YEAR.enter(DATE, '1', 0);
+    assertThat(DatePart.YEAR.get(fields)).isEqualTo(1941);
+    fields = DatePart.YEAR.enter(fields, '2', 1);
+    assertThat(DatePart.YEAR.get(fields)).isEqualTo(2012);
+    fields = DatePart.YEAR.enter(fields, '3', 2);
+    assertThat(DatePart.YEAR.get(fields)).isEqualTo(1123);
+    fields = DatePart.YEAR.enter(fields, '4', 3);
+    assertThat(DatePart.YEAR.get(fields)).isEqualTo(1234);
+    assertThat(DatePart.YEAR.getAdvance('4', 4)).isEqualTo(-1);
+  }
+
+  /**
+   * Tests that the markers of the layout are mapped to their parts.
+   * 
+   * @since Date: Oct 18, 2026
+   */
+  @Test
+  public final void testForMarker() {
+    for (final DatePart part : DatePart.values()) {
+      assertThat(DatePart.forMarker(part.getMarker())).isSameAs(part);
+    }
+    assertThat(DatePart.forMarker('.')).isNull();
+  }
+}
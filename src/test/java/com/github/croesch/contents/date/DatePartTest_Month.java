@@ -0,0 +1,276 @@
+/*
+ * Copyright (C) 2011  Christian Roesch
+ * 
+ * This file is part of crhcomponents.
+ * 
+ * crhcomponents is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * crhcomponents is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with crhcomponents.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.github.croesch.contents.date;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.util.Calendar;
+
+import org.junit.Test;
+
+import com.github.croesch.DefaultTestCase;
+
+/**
+ * Test methods for editing the month of a date with {@link DatePart#MONTH}
+ * 
+ * @author croesch
+ * @since Date: Jul 2, 2011
+ */
+public class DatePartTest_Month extends DefaultTestCase {
+
+  /** the values of the edited date as <code>yyyymmdd</code> */
+  private int fields;
+
+  /**
+   * Sets the month of the edited date to the current month
+   * 
+   * @since Date: Oct 18, 2026
+   */
+  @Override
+  public void setUpDetails() {
+    create(0);
+  }
+
+  /**
+   * Sets the month of the edited date, the current month is used if the given value is invalid.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param initial the month to start with
+   */
+  private void create(final int initial) {
+    final int defaults = DatePart.MONTH.with(0, Calendar.getInstance().get(Calendar.MONTH) + 1);
+    this.fields = DatePart.MONTH.withValid(0, initial, defaults);
+  }
+
+  /**
+   * Enters the given character like the content does, the date is only changed if the character is accepted.
+   * 
+   * @since Date: Oct 18, 2026
+   * @param c the character to enter
+   * @param position the position in the month
+   * @return the number of positions to advance or <code>-1</code>, if the character isn't accepted
+   */
+  private int enterValue(final char c, final int position) {
+    final int advance = DatePart.MONTH.getAdvance(c, position);
+    if (advance >= 0) {
+      this.fields = DatePart.MONTH.enter(this.fields, c, position);
+    }
+    return advance;
+  }
+
+  /**
+   * Returns the digits of the month of the edited date.
+   * 
+   * @since Date: Oct 18, 2026
+   * @return the digits of the month
+   */
+  private String getValue() {
+    final char[] value = new char[DatePart.MONTH.getSize()];
+    DatePart.MONTH.getChars(this.fields, value, 0);
+    return String.valueOf(value);
+  }
+
+  /**
+   * Test method for {@link DatePart#withValid(int, int, int)}.
+   */
+  @Test
+  public final void testWithValid() {
+    final int month = Calendar.getInstance().get(Calendar.MONTH) + 1;
+    assertThat(getValue()).isEqualTo(String.format("%02d", month));
+
+    create(0);
+    assertThat(getValue()).isEqualTo(String.format("%02d", month));
+
+    create(12);
+    assertThat(getValue()).isEqualTo("12");
+
+    create(10);
+    assertThat(getValue()).isEqualTo("10");
+
+    create(02);
+    assertThat(getValue()).isEqualTo("02");
+
+    create(3);
+    assertThat(getValue()).isEqualTo("03");
+
+    create(1);
+    assertThat(getValue()).isEqualTo("01");
+
+    create(9);
+    assertThat(getValue()).isEqualTo("09");
+
+    create(0);
+    assertThat(getValue()).isEqualTo(String.format("%02d", month));
+
+    create(32);
+    assertThat(getValue()).isEqualTo(String.format("%02d", month));
+
+    create(132);
+    assertThat(getValue()).isEqualTo(String.format("%02d", month));
+
+    create(-7);
+    assertThat(getValue()).isEqualTo(String.format("%02d", month));
+  }
+
+  /**
+   * Test method for {@link DatePart#getSize()}.
+   */
+  @Test
+  public final void testGetSize() {
+    assertThat(DatePart.MONTH.getSize()).isEqualTo(2);
+  }
+
+  /**
+   * Test method for {@link DatePart#enter(int, char, int)}.
+   */
+  @Test
+  public final void testEnterValue_SingleCharacter_First() {
+    assertThat(enterValue('0', 0)).isEqualTo(1);
+    assertThat(getValue().charAt(0)).isEqualTo('0');
+
+    assertThat(enterValue('1', 0)).isEqualTo(1);
+    assertThat(getValue().charAt(0)).isEqualTo('1');
+
+    assertThat(enterValue('2', 0)).isEqualTo(2);
+    assertThat(getValue().charAt(1)).isEqualTo('2');
+
+    assertThat(enterValue('3', 0)).isEqualTo(2);
+    assertThat(getValue().charAt(1)).isEqualTo('3');
+
+    assertThat(enterValue('4', 0)).isEqualTo(2);
+    assertThat(getValue().charAt(1)).isEqualTo('4');
+
+    assertThat(enterValue('5', 0)).isEqualTo(2);
+    assertThat(getValue().charAt(1)).isEqualTo('5');
+
+    assertThat(enterValue('6', 0)).isEqualTo(2);
+    assertThat(getValue().charAt(1)).isEqualTo('6');
+
+    assertThat(enterValue('7', 0)).isEqualTo(2);
+    assertThat(getValue().charAt(1)).isEqualTo('7');
+
+    assertThat(enterValue('8', 0)).isEqualTo(2);
+    assertThat(getValue().charAt(1)).isEqualTo('8');
+
+    assertThat(enterValue('9', 0)).isEqualTo(2);
+    assertThat(getValue().charAt(1)).isEqualTo('9');
+
+    assertThat(enterValue('a', 0)).isEqualTo(-1);
+    assertThat(getValue().charAt(1)).isEqualTo('9');
+
+    assertThat(enterValue('b', 0)).isEqualTo(-1);
+    assertThat(getValue().charAt(1)).isEqualTo('9');
+
+  }
+
+  /**
+   * Test method for {@link DatePart#enter(int, char, int)}.
+   */
+  @Test
+  public final void testEnterValue_SingleCharacter_Second() {
+    assertThat(enterValue('0', 1)).isEqualTo(1);
+    assertThat(getValue().charAt(1)).isEqualTo('0');
+
+    assertThat(enterValue('1', 1)).isEqualTo(1);
+    assertThat(getValue().charAt(1)).isEqualTo('1');
+
+    assertThat(enterValue('2', 1)).isEqualTo(1);
+    assertThat(getValue().charAt(1)).isEqualTo('2');
+
+    assertThat(enterValue('3', 1)).isEqualTo(1);
+    assertThat(getValue().charAt(1)).isEqualTo('3');
+
+    assertThat(enterValue('4', 1)).isEqualTo(1);
+    assertThat(getValue().charAt(1)).isEqualTo('4');
+
+    assertThat(enterValue('5', 1)).isEqualTo(1);
+    assertThat(getValue().charAt(1)).isEqualTo('5');
+
+    assertThat(enterValue('6', 1)).isEqualTo(1);
+    assertThat(getValue().charAt(1)).isEqualTo('6');
+
+    assertThat(enterValue('7', 1)).isEqualTo(1);
+    assertThat(getValue().charAt(1)).isEqualTo('7');
+
+    assertThat(enterValue('8', 1)).isEqualTo(1);
+    assertThat(getValue().charAt(1)).isEqualTo('8');
+
+    assertThat(enterValue('9', 1)).isEqualTo(1);
+    assertThat(getValue().charAt(1)).isEqualTo('9');
+
+    assertThat(enterValue('a', 1)).isEqualTo(-1);
+    assertThat(getValue().charAt(1)).isEqualTo('9');
+
+    assertThat(enterValue('b', 1)).isEqualTo(-1);
+    assertThat(getValue().charAt(1)).isEqualTo('9');
+  }
+
+  /**
+   * Test method for {@link DatePart#enter(int, char, int)}.
+   */
+  @Test
+  public final void testEnterValue_SingleCharacter_Invalid() {
+    final String val = getValue();
+    assertThat(enterValue('0', -1)).isEqualTo(-1);
+    assertThat(getValue()).isEqualTo(val);
+    assertThat(enterValue('1', -1)).isEqualTo(-1);
+    assertThat(getValue()).isEqualTo(val);
+    assertThat(enterValue('2', 2)).isEqualTo(-1);
+    assertThat(getValue()).isEqualTo(val);
+    assertThat(enterValue('3', 2)).isEqualTo(-1);
+    assertThat(getValue()).isEqualTo(val);
+    assertThat(enterValue('4', 3)).isEqualTo(-1);
+    assertThat(getValue()).isEqualTo(val);
+    assertThat(enterValue('5', 3)).isEqualTo(-1);
+    assertThat(getValue()).isEqualTo(val);
+    assertThat(enterValue('6', -2)).isEqualTo(-1);
+    assertThat(getValue()).isEqualTo(val);
+    assertThat(enterValue('7', -2)).isEqualTo(-1);
+    assertThat(getValue()).isEqualTo(val);
+    assertThat(enterValue('8', -3)).isEqualTo(-1);
+    assertThat(getValue()).isEqualTo(val);
+    assertThat(enterValue('9', -3)).isEqualTo(-1);
+    assertThat(getValue()).isEqualTo(val);
+    assertThat(enterValue('a', 10)).isEqualTo(-1);
+    assertThat(getValue()).isEqualTo(val);
+    assertThat(enterValue('b', 11)).isEqualTo(-1);
+    assertThat(getValue()).isEqualTo(val);
+    assertThat(enterValue('?', 1)).isEqualTo(-1);
+    assertThat(getValue()).isEqualTo(val);
+    assertThat(enterValue('?', 0)).isEqualTo(-1);
+    assertThat(getValue()).isEqualTo(val);
+    assertThat(enterValue('+', 1)).isEqualTo(-1);
+    assertThat(getValue()).isEqualTo(val);
+    assertThat(enterValue('+', 0)).isEqualTo(-1);
+    assertThat(getValue()).isEqualTo(val);
+  }
+
+  /**
+   * Test method for {@link DatePart#enter(int, char, int)}.
+   */
+  @Test
+  public final void testEnterValue_Nothing() {
+    assertThat(enterValue(' ', 0)).isEqualTo(-1);
+    assertThat(enterValue(' ', 1)).isEqualTo(-1);
+    assertThat(enterValue('\n', 2)).isEqualTo(-1);
+    assertThat(enterValue('\t', 7)).isEqualTo(-1);
+    assertThat(enterValue('\n', 0)).isEqualTo(-1);
+    assertThat(enterValue('\n', 3)).isEqualTo(-1);
+  }
+}
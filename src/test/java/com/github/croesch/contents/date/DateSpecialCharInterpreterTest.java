@@ -19,7 +19,11 @@
 package com.github.croesch.contents.date;
 
 import static org.fest.assertions.Assertions.assertThat;
+import static org.junit.Assert.fail;
 
+import java.io.FilterReader;
+import java.io.IOException;
+import java.io.Reader;
 import java.io.StringReader;
 
 import org.junit.Test;
@@ -47,6 +51,34 @@ public class DateSpecialCharInterpreterTest extends DefaultTestCase {
     DateSpecialCharInterpreter.createFrom(null);
   }
 
+  /**
+   * Test method for {@link DateSpecialCharInterpreter#readFrom(Reader)}
+   */
+  @Test
+  public void testReadFrom() throws IOException {
+    assertThat(DateSpecialCharInterpreter.readFrom(new StringReader("t|o0|o0|o0")).getSpecialCharsMap()).hasSize(1);
+
+    final Reader failing = new FilterReader(new StringReader("t|o0|o0|o0\nm|o0|o0|o1")) {
+      @Override
+      public int read(final char[] cbuf, final int off, final int len) throws IOException {
+        throw new IOException("broken");
+      }
+    };
+    // createFrom swallows the failure, readFrom reports it
+    assertThat(DateSpecialCharInterpreter.createFrom(failing).getSpecialCharsMap()).isEmpty();
+    try {
+      DateSpecialCharInterpreter.readFrom(failing);
+      fail();
+    } catch (final IOException e) {
+      assertThat(e).hasMessage("broken");
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testReadFrom_IAE() throws IOException {
+    DateSpecialCharInterpreter.readFrom(null);
+  }
+
   /**
    * Test method for {@link DateSpecialCharInterpreter#getSpecialCharsMap()}
    */
@@ -215,4 +247,50 @@ public class DateSpecialCharInterpreterTest extends DefaultTestCase {
     assertThat(interpreter.getSpecialCharsMap()).isNotEmpty();
     assertThat(interpreter.getSpecialCharsMap().values()).containsOnly(sc1, sc2, sc3);
   }
+
+  /**
+   * Test method for {@link DateSpecialCharInterpreter#parseLine(String)}
+   */
+  @Test
+  public void testParseLine() {
+    assertThat(DateSpecialCharInterpreter.parseLine("")).isNull();
+    assertThat(DateSpecialCharInterpreter.parseLine("a")).isNull();
+    assertThat(DateSpecialCharInterpreter.parseLine("a|c1|i1")).isNull();
+    assertThat(DateSpecialCharInterpreter.parseLine("a|c1|i1|o1|")).isNull();
+    assertThat(DateSpecialCharInterpreter.parseLine("a|c1|i1|o1 ")).isNull();
+    assertThat(DateSpecialCharInterpreter.parseLine("a|c|i1|o1")).isNull();
+    assertThat(DateSpecialCharInterpreter.parseLine("a|c-|i1|o1")).isNull();
+    assertThat(DateSpecialCharInterpreter.parseLine("a|c1-|i1|o1")).isNull();
+    assertThat(DateSpecialCharInterpreter.parseLine("a|c 1|i1|o1")).isNull();
+    assertThat(DateSpecialCharInterpreter.parseLine("a|c2147483648|i1|o1")).isNull();
+    assertThat(DateSpecialCharInterpreter.parseLine("a|c-2147483649|i1|o1")).isNull();
+
+    assertThat(DateSpecialCharInterpreter.parseLine("a|c2147483647|i-2147483648|"))
+      .isEqualTo(new DateSpecialChar('a',
+                                     ModificationType.CONSTANT,
+                                     Integer.MAX_VALUE,
+                                     ModificationType.INCREMENT,
+                                     Integer.MIN_VALUE,
+                                     ModificationType.INCREMENT,
+                                     0));
+    assertThat(DateSpecialCharInterpreter.parseLine("|||o007|"))
+      .isEqualTo(new DateSpecialChar('|',
+                                     ModificationType.INCREMENT,
+                                     0,
+                                     ModificationType.OFFSET,
+                                     7,
+                                     ModificationType.INCREMENT,
+                                     0));
+  }
+
+  /**
+   * Test method for {@link DateSpecialCharInterpreter#createFrom(java.io.Reader)} with a number that doesn't fit into
+   * an int, that was accepted by the syntax but couldn't be parsed.
+   */
+  @Test
+  public void testCreate_Overflow() {
+    final DateSpecialCharInterpreter interpreter = DateSpecialCharInterpreter.createFrom(new StringReader("a|c1|i99999999999|o1\nb|c1|i2|o3"));
+    assertThat(interpreter.getSpecialCharsMap()).hasSize(1);
+    assertThat(interpreter.getSpecialCharsMap().get("b")).isNotNull();
+  }
 }
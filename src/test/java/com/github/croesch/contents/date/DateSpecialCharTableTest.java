@@ -0,0 +1,95 @@
+/*
+ * Copyright (C) 2011  Christian Roesch
+ * 
+ * This file is part of crhcomponents.
+ * 
+ * crhcomponents is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * crhcomponents is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with crhcomponents.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.github.croesch.contents.date;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Test;
+
+import com.github.croesch.DefaultTestCase;
+
+/**
+ * Provides test methods for {@link DateSpecialCharTable}.
+ * 
+ * @author croesch
+ * @since Date: Oct 18, 2026
+ */
+public class DateSpecialCharTableTest extends DefaultTestCase {
+
+  private static DateSpecialChar create(final char c) {
+    return new DateSpecialChar(c, ModificationType.OFFSET, 0, ModificationType.OFFSET, 0, ModificationType.OFFSET, 0);
+  }
+
+  /**
+   * Tests that ASCII and other characters are found in the table.
+   * 
+   * @since Date: Oct 18, 2026
+   */
+  @Test
+  public final void testGet() {
+    final Map<String, DateSpecialChar> map = new HashMap<String, DateSpecialChar>();
+    final DateSpecialChar t = create('t');
+    final DateSpecialChar umlaut = create('\u00fc');
+    final DateSpecialChar euro = create('\u20ac');
+    map.put("t", t);
+    map.put("\u00fc", umlaut);
+    map.put("\u20ac", euro);
+    map.put("invalid", create('i'));
+
+    final DateSpecialCharTable table = DateSpecialCharTable.of(map);
+    assertThat(table.size()).isEqualTo(3);
+    assertThat(table.get('t')).isSameAs(t);
+    assertThat(table.get('\u00fc')).isSameAs(umlaut);
+    assertThat(table.get('\u20ac')).isSameAs(euro);
+    assertThat(table.get('T')).isNull();
+    assertThat(table.get('i')).isNull();
+    assertThat(table.get('\u00e4')).isNull();
+    assertThat(table.get('\uffff')).isNull();
+
+    // the table isn't changed with the map
+    map.put("T", t);
+    assertThat(table.get('T')).isNull();
+  }
+
+  /**
+   * Tests that the empty table doesn't contain special characters.
+   * 
+   * @since Date: Oct 18, 2026
+   */
+  @Test
+  public final void testEmpty() {
+    assertThat(DateSpecialCharTable.EMPTY.size()).isZero();
+    assertThat(DateSpecialCharTable.EMPTY.get('+')).isNull();
+    assertThat(DateSpecialCharTable.EMPTY.get('\u00fc')).isNull();
+    assertThat(DateSpecialCharTable.of(new HashMap<String, DateSpecialChar>()).size()).isZero();
+  }
+
+  /**
+   * Tests that a table can't be created from <code>null</code>.
+   * 
+   * @since Date: Oct 18, 2026
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public final void testOf_IAE() {
+    DateSpecialCharTable.of(null);
+  }
+}
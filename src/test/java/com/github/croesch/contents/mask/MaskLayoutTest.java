@@ -0,0 +1,139 @@
+/*
+ * Copyright (C) 2011  Christian Roesch
+ * 
+ * This file is part of crhcomponents.
+ * 
+ * crhcomponents is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * crhcomponents is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with crhcomponents.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.github.croesch.contents.mask;
+
+import static org.fest.assertions.Assertions.assertThat;
+import static org.junit.Assert.fail;
+
+import java.util.Locale;
+
+import org.junit.Test;
+
+import com.github.croesch.DefaultTestCase;
+
+/**
+ * Provides test cases for {@link MaskLayout}
+ * 
+ * @author croesch
+ * @since Date: Oct 18, 2026
+ */
+public class MaskLayoutTest extends DefaultTestCase {
+
+  /**
+   * Tests the {@link MaskLayout#parse(String)}
+   * 
+   * @since Date: Oct 18, 2026
+   */
+  @Test
+  public void testParse() {
+    final MaskLayout time = MaskLayout.parse("##:##");
+    assertThat(time.getSlotCount()).isEqualTo(3);
+    assertThat(time.getLength()).isEqualTo(5);
+    assertThat(time.toString()).isEqualTo("__:__");
+    assertThat(MaskLayout.parse("##:##")).isSameAs(time);
+
+    final MaskLayout iban = MaskLayout.parse("AA## ****");
+    assertThat(iban.getSlotCount()).isEqualTo(4);
+    assertThat(iban.getSlotStart(3)).isEqualTo(5);
+
+    final MaskLayout escaped = MaskLayout.parse("\\#-#");
+    assertThat(escaped.getSlotCount()).isEqualTo(2);
+    assertThat(escaped.toString()).isEqualTo("#-_");
+  }
+
+  /**
+   * Tests the {@link MaskLayout#parse(String)} with invalid patterns
+   * 
+   * @since Date: Oct 18, 2026
+   */
+  @Test
+  public void testParse_IAE() {
+    try {
+      MaskLayout.parse("");
+      fail();
+    } catch (final IllegalArgumentException e) {
+      // expected
+    }
+    try {
+      MaskLayout.parse("##\\");
+      fail();
+    } catch (final IllegalArgumentException e) {
+      // expected
+    }
+  }
+
+  /**
+   * Tests the {@link MaskLayout#getSlotAt(int)}
+   * 
+   * @since Date: Oct 18, 2026
+   */
+  @Test
+  public void testGetSlotAt() {
+    final MaskLayout layout = MaskLayout.parse("(###) ###-####");
+    assertThat(layout.getSlotAt(-1)).isEqualTo(-1);
+    assertThat(layout.getSlotAt(0)).isZero();
+    assertThat(layout.getSlotAt(1)).isEqualTo(1);
+    assertThat(layout.getSlotAt(3)).isEqualTo(1);
+    assertThat(layout.getSlotAt(4)).isEqualTo(2);
+    assertThat(layout.getSlotAt(13)).isEqualTo(5);
+    assertThat(layout.getSlotAt(14)).isEqualTo(-1);
+  }
+
+  /**
+   * Tests the {@link MaskLayout#isValid(CharSequence)}
+   * 
+   * @since Date: Oct 18, 2026
+   */
+  @Test
+  public void testIsValid() {
+    final MaskLayout layout = MaskLayout.parse("AA##-*");
+    assertThat(layout.isValid("DE12-X")).isTrue();
+    assertThat(layout.isValid("DE12-5")).isTrue();
+    assertThat(layout.isValid("de12-5")).isFalse();
+    assertThat(layout.isValid("DE12+5")).isFalse();
+    assertThat(layout.isValid("DE1_-5")).isFalse();
+    assertThat(layout.isValid("DE12-")).isFalse();
+    assertThat(layout.isValid(null)).isFalse();
+  }
+
+  /**
+   * Tests that {@link MaskLayout#getLayout(MaskLayout.Factory, Locale)} creates each layout only once
+   * 
+   * @since Date: Oct 18, 2026
+   */
+  @Test
+  public void testGetLayout() {
+    final int[] created = new int[1];
+    final MaskLayout.Factory postalCodes = new MaskLayout.Factory() {
+      @Override
+      public MaskLayout createLayout(final Locale locale) {
+        ++created[0];
+        if (Locale.UK.equals(locale)) {
+          return MaskLayout.parse("**** ***");
+        }
+        return MaskLayout.parse("#####");
+      }
+    };
+    final MaskLayout german = MaskLayout.getLayout(postalCodes, Locale.GERMANY);
+    assertThat(german.getLength()).isEqualTo(5);
+    assertThat(MaskLayout.getLayout(postalCodes, Locale.GERMANY)).isSameAs(german);
+    assertThat(MaskLayout.getLayout(postalCodes, Locale.UK).getLength()).isEqualTo(8);
+    assertThat(created[0]).isEqualTo(2);
+  }
+}
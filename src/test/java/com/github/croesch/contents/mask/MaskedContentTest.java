@@ -0,0 +1,200 @@
+/*
+ * Copyright (C) 2011  Christian Roesch
+ * 
+ * This file is part of crhcomponents.
+ * 
+ * crhcomponents is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * crhcomponents is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with crhcomponents.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.github.croesch.contents.mask;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import javax.swing.event.DocumentEvent;
+import javax.swing.event.DocumentListener;
+import javax.swing.text.BadLocationException;
+
+import org.junit.Test;
+
+import com.github.croesch.DefaultTestCase;
+import com.github.croesch.listener.ErrorListener;
+
+/**
+ * Provides test cases for {@link MaskedContent}
+ * 
+ * @author croesch
+ * @since Date: Oct 18, 2026
+ */
+public class MaskedContentTest extends DefaultTestCase {
+
+  private MaskedContent cont;
+
+  private boolean error;
+
+  @Override
+  public void setUpDetails() {
+    this.cont = new MaskedContent(MaskLayout.parse("##:##"));
+    this.error = false;
+    this.cont.addErrorListeners(new ErrorListener() {
+      @Override
+      public void errorStateChanged(final boolean err) {
+        MaskedContentTest.this.error = err;
+      }
+    });
+  }
+
+  /**
+   * Tests typing into the content
+   * 
+   * @since Date: Oct 18, 2026
+   * @throws BadLocationException if something went wrong
+   */
+  @Test
+  public void testInsertString() throws BadLocationException {
+    assertThat(this.cont.getText()).isEqualTo("__:__");
+    assertThat(this.error).isTrue();
+
+    this.cont.insertString(0, "1", null);
+    this.cont.insertString(1, "2", null);
+    assertThat(this.cont.getText()).isEqualTo("12:__");
+    // the separator is skipped
+    this.cont.insertString(2, "3", null);
+    assertThat(this.cont.getText()).isEqualTo("12:3_");
+    this.cont.insertString(4, "x", null);
+    assertThat(this.cont.getText()).isEqualTo("12:3_");
+    assertThat(this.error).isTrue();
+    this.cont.insertString(4, "4", null);
+    assertThat(this.cont.getText()).isEqualTo("12:34");
+    assertThat(this.error).isFalse();
+    assertThat(this.cont.isComplete()).isTrue();
+    assertThat(this.cont.getSlotValue(2)).isEqualTo("34");
+
+    // nothing can be entered behind the mask
+    this.cont.insertString(5, "5", null);
+    assertThat(this.cont.getText()).isEqualTo("12:34");
+  }
+
+  /**
+   * Tests that pasted text is entered character by character
+   * 
+   * @since Date: Oct 18, 2026
+   * @throws BadLocationException if something went wrong
+   */
+  @Test
+  public void testInsertString_Paste() throws BadLocationException {
+    this.cont.insertString(0, "0930", null);
+    assertThat(this.cont.getText()).isEqualTo("09:30");
+    assertThat(this.error).isFalse();
+    this.cont.insertString(0, "11:45", null);
+    assertThat(this.cont.getText()).isEqualTo("11:45");
+  }
+
+  /**
+   * Tests that removing characters replaces them with placeholders
+   * 
+   * @since Date: Oct 18, 2026
+   * @throws BadLocationException if something went wrong
+   */
+  @Test
+  public void testRemove() throws BadLocationException {
+    this.cont.insertString(0, "1234", null);
+    this.cont.remove(1, 3);
+    assertThat(this.cont.getText()).isEqualTo("1_:_4");
+    assertThat(this.error).isTrue();
+    assertThat(this.cont.getSlotValue(0)).isEqualTo("1_");
+
+    this.cont.replace(0, 5, "0815", null);
+    assertThat(this.cont.getText()).isEqualTo("08:15");
+    assertThat(this.error).isFalse();
+  }
+
+  /**
+   * Tests that only changed characters are replaced in the document
+   * 
+   * @since Date: Oct 18, 2026
+   * @throws BadLocationException if something went wrong
+   */
+  @Test
+  public void testInPlaceUpdate() throws BadLocationException {
+    this.cont.insertString(0, "1234", null);
+    final StringBuilder events = new StringBuilder();
+    this.cont.addDocumentListener(new DocumentListener() {
+      @Override
+      public void removeUpdate(final DocumentEvent e) {
+        events.append("-").append(e.getOffset()).append(',').append(e.getLength()).append(' ');
+      }
+
+      @Override
+      public void insertUpdate(final DocumentEvent e) {
+        events.append("+").append(e.getOffset()).append(',').append(e.getLength()).append(' ');
+      }
+
+      @Override
+      public void changedUpdate(final DocumentEvent e) {
+        // not of interest
+      }
+    });
+    this.cont.insertString(3, "9", null);
+    assertThat(events.toString()).isEqualTo("-3,1 +3,1 ");
+    events.setLength(0);
+    this.cont.insertString(4, "4", null);
+    assertThat(events.toString()).isEmpty();
+  }
+
+  /**
+   * Tests the {@link MaskedContent#isValidInput(String)}
+   * 
+   * @since Date: Oct 18, 2026
+   */
+  @Test
+  public void testIsValidInput() {
+    assertThat(this.cont.isValidInput("12:34")).isTrue();
+    assertThat(this.cont.isValidInput("12:3_")).isFalse();
+    assertThat(this.cont.isValidInput("1234")).isFalse();
+    assertThat(this.cont.isValidInput((String) null)).isFalse();
+  }
+
+  /**
+   * Tests that the editors show the restored characters after undo and redo
+   * 
+   * @since Date: Oct 18, 2026
+   * @throws BadLocationException if something went wrong
+   */
+  @Test
+  public void testUndoRedo() throws BadLocationException {
+    this.cont.setUndoLimit(1024);
+    this.cont.insertString(0, "1234", null);
+    this.cont.insertString(1, "9", null);
+    assertThat(this.cont.getText()).isEqualTo("19:34");
+
+    this.cont.undo();
+    assertThat(this.cont.getText()).isEqualTo("12:34");
+    assertThat(this.cont.getSlotValue(0)).isEqualTo("12");
+    // the next character is entered into the restored slot
+    this.cont.insertString(4, "5", null);
+    assertThat(this.cont.getText()).isEqualTo("12:35");
+    this.cont.undo();
+
+    this.cont.undo();
+    assertThat(this.cont.getText()).isEqualTo("__:__");
+    assertThat(this.cont.getSlotValue(0)).isEqualTo("__");
+    assertThat(this.cont.isComplete()).isFalse();
+    assertThat(this.error).isTrue();
+
+    this.cont.redo();
+    assertThat(this.cont.getText()).isEqualTo("12:34");
+    assertThat(this.cont.getSlotValue(2)).isEqualTo("34");
+    assertThat(this.cont.isComplete()).isTrue();
+    assertThat(this.error).isFalse();
+  }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright (C) 2011  Christian Roesch
+ * 
+ * This file is part of crhcomponents.
+ * 
+ * crhcomponents is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * crhcomponents is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with crhcomponents.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.github.croesch.contents.mask;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import org.junit.Test;
+
+import com.github.croesch.DefaultTestCase;
+
+/**
+ * Provides test cases for {@link SlotEditors}
+ * 
+ * @author croesch
+ * @since Date: Oct 18, 2026
+ */
+public class SlotEditorsTest extends DefaultTestCase {
+
+  /**
+   * Tests the {@link SlotEditors#literal(String)}
+   * 
+   * @since Date: Oct 18, 2026
+   */
+  @Test
+  public void testLiteral() {
+    final SlotEditor editor = SlotEditors.literal(" - ");
+    assertThat(editor.getSize()).isEqualTo(3);
+    assertThat(editor.enterValue('-', 1)).isEqualTo(1);
+    assertThat(editor.enterValue('-', 0)).isEqualTo(-1);
+    assertThat(editor.enterValue(' ', 3)).isEqualTo(-1);
+    editor.clear(1);
+    assertThat(editor.charAt(1)).isEqualTo('-');
+    assertThat(editor.isComplete()).isTrue();
+    assertThat(editor.isValid("x - ", 1)).isTrue();
+    assertThat(editor.isValid("x -", 0)).isFalse();
+    assertThat(editor.newInstance()).isSameAs(editor);
+  }
+
+  /**
+   * Tests the {@link SlotEditors#digits(int)}
+   * 
+   * @since Date: Oct 18, 2026
+   */
+  @Test
+  public void testDigits() {
+    final SlotEditor editor = SlotEditors.digits(2);
+    assertThat(editor.charAt(0)).isEqualTo(SlotEditors.PLACEHOLDER);
+    assertThat(editor.isComplete()).isFalse();
+    assertThat(editor.enterValue('x', 0)).isEqualTo(-1);
+    assertThat(editor.enterValue('4', 0)).isEqualTo(1);
+    assertThat(editor.enterValue('2', 1)).isEqualTo(1);
+    assertThat(editor.enterValue('2', 2)).isEqualTo(-1);
+    assertThat(editor.toString()).isEqualTo("42");
+    assertThat(editor.isComplete()).isTrue();
+    editor.clear(0);
+    assertThat(editor.toString()).isEqualTo("_2");
+
+    final SlotEditor other = editor.newInstance();
+    assertThat(other).isNotSameAs(editor);
+    assertThat(other.toString()).isEqualTo("__");
+  }
+
+  /**
+   * Tests the {@link SlotEditors#letters(int)}, {@link SlotEditors#alphanumerics(int)} and
+   * {@link SlotEditors#chars(int, CharSequence)}
+   * 
+   * @since Date: Oct 18, 2026
+   */
+  @Test
+  public void testChars() {
+    final SlotEditor letters = SlotEditors.letters(2);
+    assertThat(letters.enterValue('d', 0)).isEqualTo(1);
+    assertThat(letters.enterValue('1', 1)).isEqualTo(-1);
+    assertThat(letters.charAt(0)).isEqualTo('D');
+
+    final SlotEditor alphanumerics = SlotEditors.alphanumerics(1);
+    assertThat(alphanumerics.enterValue('1', 0)).isEqualTo(1);
+    assertThat(alphanumerics.enterValue('z', 0)).isEqualTo(1);
+    assertThat(alphanumerics.charAt(0)).isEqualTo('Z');
+
+    final SlotEditor hex = SlotEditors.chars(1, "0123456789abcdef");
+    assertThat(hex.enterValue('B', 0)).isEqualTo(-1);
+    assertThat(hex.enterValue('b', 0)).isEqualTo(1);
+  }
+
+  /**
+   * Tests the {@link SlotEditors#chars(int, CharSequence)} with an invalid size
+   * 
+   * @since Date: Oct 18, 2026
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void testChars_IAE() {
+    SlotEditors.chars(0, "abc");
+  }
+}
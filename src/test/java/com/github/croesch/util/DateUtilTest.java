@@ -23,6 +23,7 @@ import static org.fest.assertions.Assertions.assertThat;
 import java.util.Calendar;
 import java.util.Date;
 import java.util.GregorianCalendar;
+import java.util.TimeZone;
 
 import org.junit.Test;
 
@@ -154,4 +155,19 @@ public class DateUtilTest extends DefaultTestCase {
     assertThat(this.util.isEqualTo(cal.getTime())).isFalse();
     assertThat(this.util.isEqualIgnoreTimeTo(cal.getTime())).isFalse();
   }
+
+  /**
+   * Tests that the epoch day is the day of the date without time.
+   * 
+   * @since Date: Oct 18, 2026
+   */
+  @Test
+  public void testGetEpochDay() {
+    final Calendar cal = new GregorianCalendar();
+    cal.set(2011, Calendar.SEPTEMBER, 11, 23, 59);
+    this.util = new DateUtil(cal.getTime());
+    assertThat(this.util.getEpochDay()).isEqualTo(EpochDay.of(2011, 9, 11));
+    assertThat(EpochDay.toDate(this.util.getEpochDay(), 0, TimeZone.getDefault()))
+      .isEqualTo(this.util.getDateWithoutTime());
+  }
 }
@@ -0,0 +1,117 @@
+/*
+ * Copyright (C) 2011  Christian Roesch
+ * 
+ * This file is part of crhcomponents.
+ * 
+ * crhcomponents is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * crhcomponents is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with crhcomponents.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.github.croesch.util;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.TimeZone;
+
+import org.junit.Test;
+
+import com.github.croesch.DefaultTestCase;
+
+/**
+ * Test methods for {@link DayClock}
+ * 
+ * @author croesch
+ * @since Date: Oct 18, 2026
+ */
+public class DayClockTest extends DefaultTestCase {
+
+  @Test
+  public void testFixed() {
+    final TimeZone zone = TimeZone.getTimeZone("GMT+02:00");
+    // 2011-03-12 23:30 UTC is already the 13th in GMT+2
+    final long millis = EpochDay.toMillis(EpochDay.of(2011, 3, 12), 23 * 60 * 60 * 1000L + 30 * 60 * 1000L,
+                                          TimeZone.getTimeZone("UTC"));
+    final DayClock clock = DayClock.fixed(millis, zone);
+
+    assertThat(clock.currentTimeMillis()).isEqualTo(millis);
+    assertThat(clock.getZone()).isEqualTo(zone);
+    assertThat(clock.today()).isEqualTo(EpochDay.of(2011, 3, 13));
+
+    // the time zone of the clock can't be changed from outside
+    zone.setRawOffset(0);
+    clock.getZone().setRawOffset(0);
+    assertThat(clock.today()).isEqualTo(EpochDay.of(2011, 3, 13));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testFixed_IAE() {
+    DayClock.fixed(0, null);
+  }
+
+  @Test
+  public void testSystem() {
+    final DayClock clock = DayClock.system();
+    assertThat(DayClock.system()).isSameAs(clock);
+
+    final long before = EpochDay.fromMillis(System.currentTimeMillis(), TimeZone.getDefault());
+    final long today = clock.today();
+    final long after = EpochDay.fromMillis(System.currentTimeMillis(), TimeZone.getDefault());
+    assertThat(today).isGreaterThanOrEqualTo(before).isLessThanOrEqualTo(after);
+    assertThat(clock.today()).isGreaterThanOrEqualTo(today).isLessThanOrEqualTo(today + 1);
+  }
+
+  /**
+   * Tests that the cached day of the system clock is computed again, if the default time zone is changed. The change is
+   * noticed within {@link DayClock#ZONE_CHECK_INTERVAL}.
+   * 
+   * @since Date: Oct 18, 2026
+   */
+  @Test
+  public void testSystem_TimeZoneChanged() throws InterruptedException {
+    final TimeZone original = TimeZone.getDefault();
+    try {
+      final long now = System.currentTimeMillis();
+      final TimeZone east = TimeZone.getTimeZone("Etc/GMT-14");
+      final TimeZone west = TimeZone.getTimeZone("Etc/GMT+12");
+      // the days in the two zones always differ by one or two
+      TimeZone.setDefault(east);
+      Thread.sleep(DayClock.ZONE_CHECK_INTERVAL + 1);
+      final long eastDay = DayClock.system().today();
+      TimeZone.setDefault(west);
+      Thread.sleep(DayClock.ZONE_CHECK_INTERVAL + 1);
+      final long westDay = DayClock.system().today();
+
+      assertThat(eastDay).isGreaterThan(westDay);
+      assertThat(eastDay).isGreaterThanOrEqualTo(EpochDay.fromMillis(now, east));
+      assertThat(westDay).isGreaterThanOrEqualTo(EpochDay.fromMillis(now, west));
+    } finally {
+      TimeZone.setDefault(original);
+    }
+  }
+
+  @Test
+  public void testSerialization() throws Exception {
+    final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    final ObjectOutputStream out = new ObjectOutputStream(bytes);
+    out.writeObject(DayClock.system());
+    out.writeObject(DayClock.fixed(1000, TimeZone.getTimeZone("UTC")));
+    out.close();
+
+    final ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+    assertThat(in.readObject()).isSameAs(DayClock.system());
+    assertThat(((DayClock) in.readObject()).currentTimeMillis()).isEqualTo(1000);
+  }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright (C) 2011  Christian Roesch
+ * 
+ * This file is part of crhcomponents.
+ * 
+ * crhcomponents is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * crhcomponents is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with crhcomponents.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.github.croesch.util;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.util.Calendar;
+import java.util.Date;
+import java.util.GregorianCalendar;
+import java.util.TimeZone;
+
+import org.junit.Test;
+
+import com.github.croesch.DefaultTestCase;
+
+/**
+ * Test methods for {@link EpochDay}
+ * 
+ * @author croesch
+ * @since Date: Oct 18, 2026
+ */
+public class EpochDayTest extends DefaultTestCase {
+
+  private final TimeZone utc = TimeZone.getTimeZone("UTC");
+
+  /**
+   * Tests that the epoch days are the same as calculated by a {@link GregorianCalendar}.
+   * 
+   * @since Date: Oct 18, 2026
+   */
+  @Test
+  public void testOf() {
+    assertThat(EpochDay.of(1970, 1, 1)).isZero();
+    assertThat(EpochDay.of(1969, 12, 31)).isEqualTo(-1);
+    assertThat(EpochDay.of(2000, 3, 1)).isEqualTo(11017);
+
+    final Calendar cal = new GregorianCalendar(this.utc);
+    cal.clear();
+    cal.set(1600, Calendar.JANUARY, 1);
+    final long first = EpochDay.of(1600, 1, 1);
+    for (long day = first; day < first + 800 * 366; ++day) {
+      assertThat(EpochDay.of(cal.get(Calendar.YEAR), cal.get(Calendar.MONTH) + 1, cal.get(Calendar.DAY_OF_MONTH)))
+        .isEqualTo(day);
+      assertThat(EpochDay.getYear(day)).isEqualTo(cal.get(Calendar.YEAR));
+      assertThat(EpochDay.getMonth(day)).isEqualTo(cal.get(Calendar.MONTH) + 1);
+      assertThat(EpochDay.getDayOfMonth(day)).isEqualTo(cal.get(Calendar.DAY_OF_MONTH));
+      assertThat(cal.getTimeInMillis()).isEqualTo(day * EpochDay.MILLIS_PER_DAY);
+      cal.add(Calendar.DAY_OF_MONTH, 1);
+    }
+  }
+
+  /**
+   * Tests that values out of their ranges are treated like a lenient calendar does.
+   * 
+   * @since Date: Oct 18, 2026
+   */
+  @Test
+  public void testOf_Lenient() {
+    assertThat(EpochDay.of(2011, 13, 1)).isEqualTo(EpochDay.of(2012, 1, 1));
+    assertThat(EpochDay.of(2011, 0, 1)).isEqualTo(EpochDay.of(2010, 12, 1));
+    assertThat(EpochDay.of(2011, -12, 1)).isEqualTo(EpochDay.of(2009, 12, 1));
+    assertThat(EpochDay.of(2011, 3, 0)).isEqualTo(EpochDay.of(2011, 2, 28));
+    assertThat(EpochDay.of(2012, 2, 30)).isEqualTo(EpochDay.of(2012, 3, 1));
+    assertThat(EpochDay.of(2012, 1, 366)).isEqualTo(EpochDay.of(2012, 12, 31));
+  }
+
+  /**
+   * Tests the conversion from and to points in time.
+   * 
+   * @since Date: Oct 18, 2026
+   */
+  @Test
+  public void testMillis() {
+    final TimeZone berlin = TimeZone.getTimeZone("Europe/Berlin");
+    final long day = EpochDay.of(2011, 3, 27);
+    // the clocks have been changed at 2:00 that day
+    final long noon = EpochDay.toMillis(day, 12 * 60 * 60 * 1000, berlin);
+    assertThat(noon).isEqualTo(day * EpochDay.MILLIS_PER_DAY + 10 * 60 * 60 * 1000);
+    assertThat(EpochDay.fromMillis(noon, berlin)).isEqualTo(day);
+    assertThat(EpochDay.getMillisOfDay(noon, berlin)).isEqualTo(12 * 60 * 60 * 1000);
+
+    final long midnight = EpochDay.toMillis(day, 0, berlin);
+    assertThat(midnight).isEqualTo(day * EpochDay.MILLIS_PER_DAY - 60 * 60 * 1000);
+    assertThat(EpochDay.fromDate(new Date(midnight), berlin)).isEqualTo(day);
+    assertThat(EpochDay.fromDate(new Date(midnight - 1), berlin)).isEqualTo(day - 1);
+    assertThat(EpochDay.toDate(day, 0, this.utc).getTime()).isEqualTo(day * EpochDay.MILLIS_PER_DAY);
+
+    assertThat(EpochDay.fromMillis(-1, this.utc)).isEqualTo(-1);
+    assertThat(EpochDay.getMillisOfDay(-1, this.utc)).isEqualTo(EpochDay.MILLIS_PER_DAY - 1);
+  }
+}